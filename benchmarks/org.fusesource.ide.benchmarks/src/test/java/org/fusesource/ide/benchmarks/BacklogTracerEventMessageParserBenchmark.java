@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.fusesource.ide.jmx.commons.backlogtracermessage.BacklogTracerEventMessage;
+import org.fusesource.ide.jmx.commons.backlogtracermessage.BacklogTracerEventMessageParser;
+import org.fusesource.ide.jmx.commons.backlogtracermessage.BacklogTracerEventMessages;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * measures parsing the xml dumps of the backlog tracer, which the debugger
+ * does for every suspended exchange and the message view for every refresh.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BacklogTracerEventMessageParserBenchmark {
+
+	private static final int HEADERS_PER_MESSAGE = 12;
+
+	@State(Scope.Benchmark)
+	public static class MessagesDump {
+
+		@Param({ "1", "100", "1000" })
+		public int messageCount;
+
+		String xml;
+
+		@Setup
+		public void setUp() {
+			StringBuilder messages = new StringBuilder("<backlogTracerEventMessages>\n");
+			for (int i = 1; i <= messageCount; i++) {
+				appendMessage(messages, i);
+			}
+			xml = messages.append("</backlogTracerEventMessages>\n").toString();
+		}
+	}
+
+	private final BacklogTracerEventMessageParser parser = new BacklogTracerEventMessageParser();
+	private String messageDump;
+
+	@Setup
+	public void setUp() {
+		StringBuilder message = new StringBuilder();
+		appendMessage(message, 1);
+		messageDump = message.toString();
+	}
+
+	private static void appendMessage(StringBuilder xml, int uid) {
+		String exchangeId = "ID-benchmark-host-40000-1459523299086-0-" + uid;
+		xml.append("  <backlogTracerEventMessage>\n")
+			.append("    <uid>").append(uid).append("</uid>\n")
+			.append("    <timestamp>2016-04-01T17:09:44.635+0200</timestamp>\n")
+			.append("    <routeId>_route1</routeId>\n")
+			.append("    <toNode>_to").append(uid).append("</toNode>\n")
+			.append("    <exchangeId>").append(exchangeId).append("</exchangeId>\n")
+			.append("    <message exchangeId=\"").append(exchangeId).append("\">\n")
+			.append("      <headers>\n");
+		for (int header = 1; header <= HEADERS_PER_MESSAGE; header++) {
+			xml.append("        <header key=\"header").append(header).append("\" type=\"java.lang.String\">value ")
+				.append(header).append(" of message ").append(uid).append("</header>\n");
+		}
+		xml.append("      </headers>\n")
+			.append("      <body type=\"java.lang.String\">&lt;?xml version=&quot;1.0&quot; encoding=&quot;UTF-8&quot;?&gt;\n")
+			.append("&lt;order id=&quot;").append(uid).append("&quot;&gt;&lt;customer&gt;benchmark&lt;/customer&gt;&lt;/order&gt;\n")
+			.append("</body>\n")
+			.append("    </message>\n")
+			.append("  </backlogTracerEventMessage>\n");
+	}
+
+	@Benchmark
+	public BacklogTracerEventMessages getBacklogTracerEventMessages(MessagesDump dump) {
+		return parser.getBacklogTracerEventMessages(dump.xml);
+	}
+
+	@Benchmark
+	public BacklogTracerEventMessage getBacklogTracerEventMessage() {
+		return parser.getBacklogTracerEventMessage(messageDump);
+	}
+}
@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.fusesource.ide.camel.model.service.core.model.AbstractCamelModelElement;
+import org.fusesource.ide.camel.validation.diagram.BasicNodeValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * measures validating every node of a camel file, as done when the file is
+ * opened in the editor. Without a resource no markers are created, so only
+ * the validation itself is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BasicNodeValidatorBenchmark {
+
+	@Param({ "10", "100", "1000", "5000" })
+	public int routeSize;
+
+	private final BasicNodeValidator validator = new BasicNodeValidator();
+	private final List<AbstractCamelModelElement> nodes = new ArrayList<>();
+
+	@Setup
+	public void setUp() {
+		nodes.clear();
+		collectNodes(RouteFixtures.loadCamelFile(RouteFixtures.generateCamelXml(routeSize)).getRouteContainer());
+	}
+
+	private void collectNodes(AbstractCamelModelElement element) {
+		nodes.add(element);
+		if (element.getChildElements() != null) {
+			for (AbstractCamelModelElement child : element.getChildElements()) {
+				collectNodes(child);
+			}
+		}
+	}
+
+	@Benchmark
+	public void validateAllNodes(Blackhole blackhole) {
+		for (AbstractCamelModelElement node : nodes) {
+			blackhole.consume(validator.validate(node));
+		}
+	}
+}
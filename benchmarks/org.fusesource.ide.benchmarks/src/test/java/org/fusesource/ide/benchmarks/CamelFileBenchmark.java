@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.fusesource.ide.camel.model.service.core.io.CamelIOHandler;
+import org.fusesource.ide.camel.model.service.core.model.AbstractCamelModelElement;
+import org.fusesource.ide.camel.model.service.core.model.CamelFile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * measures loading, serializing and searching camel files of growing size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CamelFileBenchmark {
+
+	// defaults of the xml core formatting preferences, the plugin isn't started outside of a running platform
+	private static final int DEFAULT_LINE_WIDTH = 72;
+	private static final int DEFAULT_INDENTATION = 4;
+
+	@Param({ "10", "100", "1000", "5000" })
+	public int routeSize;
+
+	private String xml;
+	private CamelFile camelFile;
+	private AbstractCamelModelElement firstLog;
+	private String lastNodeId;
+
+	@Setup
+	public void setUp() {
+		xml = RouteFixtures.generateCamelXml(routeSize);
+		camelFile = RouteFixtures.loadCamelFile(xml);
+		firstLog = camelFile.getRouteContainer().findNode("_log1");
+		List<AbstractCamelModelElement> routes = camelFile.getRouteContainer().getChildElements();
+		List<AbstractCamelModelElement> lastRouteNodes = routes.get(routes.size() - 1).getChildElements();
+		lastNodeId = lastRouteNodes.get(lastRouteNodes.size() - 1).getId();
+	}
+
+	@Benchmark
+	public CamelFile loadCamelModel() {
+		return new CamelIOHandler().loadCamelModel(xml, new NullProgressMonitor(), new CamelFile(null));
+	}
+
+	@Benchmark
+	public String getDocumentAsXML() {
+		return camelFile.getDocumentAsXML(DEFAULT_LINE_WIDTH, DEFAULT_INDENTATION);
+	}
+
+	@Benchmark
+	public AbstractCamelModelElement findLastNode() {
+		return camelFile.getRouteContainer().findNode(lastNodeId);
+	}
+
+	@Benchmark
+	public String getNewID() {
+		return firstLog.getNewID();
+	}
+}
@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+
+import org.jboss.tools.fuse.transformation.core.dozer.DozerMapperConfiguration;
+
+/**
+ * generates dozer configurations mapping the fields of an order with
+ * {@value #LINES} lines of {@value #FIELDS_PER_LINE} fields each onto
+ * another order.
+ */
+final class DozerFixtures {
+
+	static final int LINES = 16;
+	static final int FIELDS_PER_LINE = 16;
+
+	private DozerFixtures() {
+		// util class
+	}
+
+	/**
+	 * @param mappedFields	the number of field mappings, at most {@value #LINES} * {@value #FIELDS_PER_LINE}
+	 * @return	the dozer configuration
+	 */
+	static byte[] generateConfig(int mappedFields) {
+		StringBuilder xml = new StringBuilder(mappedFields * 80);
+		xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n")
+			.append("<mappings xmlns=\"").append(DozerMapperConfiguration.DOZER_6_1_XMLNS).append("\"")
+			.append(" xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"")
+			.append(" xsi:schemaLocation=\"").append(DozerMapperConfiguration.DOZER_6_1_XMLNS).append(' ')
+			.append(DozerMapperConfiguration.DOZER_6_1_SCHEMA_LOC).append("\">\n")
+			.append("    <mapping>\n")
+			.append("        <class-a>").append(Order.class.getName()).append("</class-a>\n")
+			.append("        <class-b>").append(Order.class.getName()).append("</class-b>\n");
+		for (int i = 0; i < mappedFields; i++) {
+			String field = fieldPath(i);
+			xml.append("        <field>\n")
+				.append("            <a>").append(field).append("</a>\n")
+				.append("            <b>").append(field).append("</b>\n")
+				.append("        </field>\n");
+		}
+		xml.append("    </mapping>\n")
+			.append("</mappings>\n");
+		return xml.toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * @param index	the index of a field of the order
+	 * @return	the path of the field in the order model
+	 */
+	static String fieldPath(int index) {
+		return String.format("l%02d.f%02d", index / FIELDS_PER_LINE, index % FIELDS_PER_LINE);
+	}
+
+	static class Order {
+		Line l00;
+		Line l01;
+		Line l02;
+		Line l03;
+		Line l04;
+		Line l05;
+		Line l06;
+		Line l07;
+		Line l08;
+		Line l09;
+		Line l10;
+		Line l11;
+		Line l12;
+		Line l13;
+		Line l14;
+		Line l15;
+	}
+
+	static class Line {
+		String f00;
+		String f01;
+		String f02;
+		String f03;
+		String f04;
+		String f05;
+		String f06;
+		String f07;
+		String f08;
+		String f09;
+		String f10;
+		String f11;
+		String f12;
+		String f13;
+		String f14;
+		String f15;
+	}
+}
@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.bind.JAXBException;
+
+import org.jboss.tools.fuse.transformation.core.MappingOperation;
+import org.jboss.tools.fuse.transformation.core.dozer.DozerMapperConfiguration;
+import org.jboss.tools.fuse.transformation.core.model.Model;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * measures looking up the mappings of source fields, once on a freshly loaded
+ * configuration, which builds the mapping index, and then for every mapped
+ * field of a configuration in use, as the transformation editor does when
+ * painting the source tree.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DozerMapperConfigurationBenchmark {
+
+	@Param({ "16", "64", "256" })
+	public int mappedFields;
+
+	private final ClassLoader loader = DozerFixtures.class.getClassLoader();
+	private byte[] config;
+	private DozerMapperConfiguration loadedConfig;
+	private final List<Model> sources = new ArrayList<>();
+
+	@Setup
+	public void setUp() throws JAXBException {
+		config = DozerFixtures.generateConfig(mappedFields);
+		loadedConfig = loadConfig();
+		sources.clear();
+		for (int i = 0; i < mappedFields; i++) {
+			sources.add(loadedConfig.getSourceModel().get(DozerFixtures.fieldPath(i)));
+		}
+		if (loadedConfig.getMappingsForSource(sources.get(mappedFields - 1)).size() != 1) {
+			throw new IllegalStateException("Unexpected mappings in the generated configuration");
+		}
+	}
+
+	private DozerMapperConfiguration loadConfig() throws JAXBException {
+		return DozerMapperConfiguration.loadConfig(new ByteArrayInputStream(config), loader);
+	}
+
+	@Benchmark
+	public List<MappingOperation<?, ?>> loadConfigAndGetMappingsForSource() throws JAXBException {
+		DozerMapperConfiguration dozerConfig = loadConfig();
+		return dozerConfig.getMappingsForSource(dozerConfig.getSourceModel().get(DozerFixtures.fieldPath(mappedFields - 1)));
+	}
+
+	@Benchmark
+	public void getMappingsForSource(Blackhole blackhole) {
+		for (Model source : sources) {
+			blackhole.consume(loadedConfig.getMappingsForSource(source));
+		}
+	}
+}
@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.fusesource.ide.camel.model.service.core.catalog.Parameter;
+import org.fusesource.ide.camel.model.service.core.catalog.components.Component;
+import org.fusesource.ide.camel.model.service.core.model.AbstractCamelModelElement;
+import org.fusesource.ide.camel.model.service.core.util.PropertiesUtils;
+import org.fusesource.ide.camel.model.service.internal.BenchmarkCatalogs;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * measures reading all properties of an endpoint from its uri, as the
+ * properties view and the validation do, for uris setting every option of
+ * the component.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PropertiesUtilsBenchmark {
+
+	@Param({ "file:target/outbox", "sftp:admin@localhost:2222/outbox", "timer:tick" })
+	public String endpoint;
+
+	private AbstractCamelModelElement element;
+	private Component component;
+	private List<Parameter> parameters;
+
+	@Setup
+	public void setUp() {
+		String scheme = endpoint.substring(0, endpoint.indexOf(':'));
+		component = BenchmarkCatalogs.getDefaultCamelModel().getComponent(scheme);
+		parameters = component.getParameters();
+		StringBuilder uri = new StringBuilder(endpoint);
+		char separator = '?';
+		for (Parameter parameter : parameters) {
+			if ("parameter".equalsIgnoreCase(parameter.getKind())) {
+				uri.append(separator).append(parameter.getName()).append('=').append(sampleValue(parameter));
+				separator = '&';
+			}
+		}
+		element = RouteFixtures.loadCamelFile(RouteFixtures.generateCamelXml(uri.toString())).getRouteContainer().findNode("_to1");
+	}
+
+	private static String sampleValue(Parameter parameter) {
+		if ("boolean".equalsIgnoreCase(parameter.getType())) {
+			return "true";
+		} else if ("integer".equalsIgnoreCase(parameter.getType()) || "number".equalsIgnoreCase(parameter.getType())) {
+			return "42";
+		}
+		return "value-of-" + parameter.getName();
+	}
+
+	@Benchmark
+	public void getPropertyFromUri(Blackhole blackhole) {
+		for (Parameter parameter : parameters) {
+			blackhole.consume(PropertiesUtils.getPropertyFromUri(element, parameter, component));
+		}
+	}
+}
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.benchmarks;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.fusesource.ide.camel.model.service.core.io.CamelIOHandler;
+import org.fusesource.ide.camel.model.service.core.model.CamelFile;
+import org.fusesource.ide.camel.model.service.internal.BenchmarkCatalogs;
+
+/**
+ * generates spring camel files of any size. The routes use the ids the editor
+ * gives to new nodes and cycle through log, setHeader and to nodes, so every
+ * node is valid and the files look like the ones users draw in the editor.
+ */
+final class RouteFixtures {
+
+	static final int NODES_PER_ROUTE = 50;
+
+	private RouteFixtures() {
+		// util class
+	}
+
+	/**
+	 * @param nodeCount	the number of nodes of all routes, not counting the from nodes
+	 * @return	the xml of the camel file
+	 */
+	static String generateCamelXml(int nodeCount) {
+		StringBuilder xml = new StringBuilder(nodeCount * 120);
+		appendHeader(xml);
+		int logs = 0;
+		int setHeaders = 0;
+		int tos = 0;
+		for (int node = 0; node < nodeCount; node++) {
+			if (node % NODES_PER_ROUTE == 0) {
+				int route = node / NODES_PER_ROUTE + 1;
+				if (route > 1) {
+					xml.append("        </route>\n");
+				}
+				xml.append("        <route id=\"_route").append(route).append("\">\n")
+					.append("            <from id=\"_from").append(route).append("\" uri=\"direct:route").append(route).append("\"/>\n");
+			}
+			switch (node % 3) {
+			case 0:
+				logs++;
+				xml.append("            <log id=\"_log").append(logs).append("\" message=\"step ").append(node).append(" of ${body}\"/>\n");
+				break;
+			case 1:
+				setHeaders++;
+				xml.append("            <setHeader headerName=\"header").append(setHeaders).append("\" id=\"_setHeader").append(setHeaders).append("\">\n")
+					.append("                <constant>value").append(setHeaders).append("</constant>\n")
+					.append("            </setHeader>\n");
+				break;
+			default:
+				tos++;
+				xml.append("            <to id=\"_to").append(tos).append("\" uri=\"mock:step").append(tos).append("\"/>\n");
+				break;
+			}
+		}
+		if (nodeCount > 0) {
+			xml.append("        </route>\n");
+		}
+		appendFooter(xml);
+		return xml.toString();
+	}
+
+	/**
+	 * @param toUri	the uri of the only to node, with the id _to1
+	 * @return	the xml of a camel file with a single route
+	 */
+	static String generateCamelXml(String toUri) {
+		StringBuilder xml = new StringBuilder();
+		appendHeader(xml);
+		xml.append("        <route id=\"_route1\">\n")
+			.append("            <from id=\"_from1\" uri=\"direct:route1\"/>\n")
+			.append("            <to id=\"_to1\" uri=\"").append(toUri.replace("&", "&amp;")).append("\"/>\n")
+			.append("        </route>\n");
+		appendFooter(xml);
+		return xml.toString();
+	}
+
+	private static void appendHeader(StringBuilder xml) {
+		xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+			.append("<beans xmlns=\"http://www.springframework.org/schema/beans\"\n")
+			.append("    xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"\n")
+			.append("    xsi:schemaLocation=\"http://www.springframework.org/schema/beans http://www.springframework.org/schema/beans/spring-beans.xsd")
+			.append("        http://camel.apache.org/schema/spring http://camel.apache.org/schema/spring/camel-spring.xsd\">\n")
+			.append("    <camelContext id=\"_camelContext1\" xmlns=\"http://camel.apache.org/schema/spring\">\n");
+	}
+
+	private static void appendFooter(StringBuilder xml) {
+		xml.append("    </camelContext>\n")
+			.append("</beans>\n");
+	}
+
+	/**
+	 * loads a camel file without a resource, as there is no workspace
+	 *
+	 * @param xml	the xml of the camel file
+	 * @return	the loaded camel file
+	 */
+	static CamelFile loadCamelFile(String xml) {
+		BenchmarkCatalogs.seedCatalogCache();
+		CamelFile camelFile = new CamelIOHandler().loadCamelModel(xml, new NullProgressMonitor(), new CamelFile(null));
+		if (camelFile == null || camelFile.getRouteContainer() == null) {
+			throw new IllegalStateException("Unable to load the generated camel file");
+		}
+		return camelFile;
+	}
+}
@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+
+import org.fusesource.ide.foundation.core.xml.namespace.BlueprintNamespaceHandler;
+import org.fusesource.ide.foundation.core.xml.namespace.SpringNamespaceHandler;
+import org.fusesource.ide.foundation.core.xml.namespace.XmlNamespaceSniffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * compares the bounded namespace sniffing of the content describers with a
+ * complete SAX parse, which is what they did before, for a Camel file, a
+ * WSDL and a large data file without any Camel namespace.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class XmlNamespaceSnifferBenchmark {
+
+	private static final Set<String> CAMEL_NAMESPACES = new HashSet<>(Arrays.asList(
+			SpringNamespaceHandler.NAMESPACEURI_CAMEL_SPRING, BlueprintNamespaceHandler.NAMESPACEURI_CAMEL_BLUEPRINT));
+	private static final int DATA_FILE_SIZE = 4 * 1024 * 1024;
+
+	@Param({ "blueprint", "wsdl", "data" })
+	public String document;
+
+	private byte[] contents;
+	private SAXParserFactory saxParserFactory;
+
+	@Setup
+	public void setUp() {
+		switch (document) {
+		case "blueprint":
+			contents = generateBlueprint();
+			break;
+		case "wsdl":
+			contents = generateWsdl();
+			break;
+		default:
+			contents = generateData();
+			break;
+		}
+		saxParserFactory = SAXParserFactory.newInstance();
+		saxParserFactory.setNamespaceAware(true);
+	}
+
+	@Benchmark
+	public String sniff() {
+		return new XmlNamespaceSniffer(CAMEL_NAMESPACES).sniff(new ByteArrayInputStream(contents));
+	}
+
+	@Benchmark
+	public boolean saxScan() throws Exception {
+		SAXParser parser = saxParserFactory.newSAXParser();
+		CamelNamespaceFinder finder = new CamelNamespaceFinder();
+		try {
+			parser.parse(new ByteArrayInputStream(contents), finder);
+		} catch (StopParsingException e) {
+			// found
+		}
+		return finder.found;
+	}
+
+	private static byte[] generateBlueprint() {
+		StringBuilder xml = new StringBuilder("<blueprint xmlns=\"http://www.osgi.org/xmlns/blueprint/v1.0.0\">\n");
+		for (int i = 0; i < 500; i++) {
+			xml.append("<bean id=\"bean").append(i).append("\" class=\"com.acme.Bean\"><property name=\"p\" value=\"v\"/></bean>\n");
+		}
+		xml.append("<camelContext xmlns=\"").append(BlueprintNamespaceHandler.NAMESPACEURI_CAMEL_BLUEPRINT).append("\">\n");
+		for (int i = 0; i < 50; i++) {
+			xml.append("<route id=\"route").append(i).append("\"><from uri=\"timer:t").append(i).append("\"/><to uri=\"log:l").append(i).append("\"/></route>\n");
+		}
+		return xml.append("</camelContext>\n</blueprint>\n").toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static byte[] generateWsdl() {
+		StringBuilder xml = new StringBuilder("<definitions xmlns=\"http://schemas.xmlsoap.org/wsdl/\">\n<portType name=\"p\">\n");
+		for (int i = 0; i < 2000; i++) {
+			xml.append("<operation name=\"op").append(i).append("\"><input message=\"tns:in\"/><output message=\"tns:out\"/></operation>\n");
+		}
+		return xml.append("</portType>\n</definitions>\n").toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static byte[] generateData() {
+		String record = "<record id=\"1\"><value>some data</value></record>\n";
+		StringBuilder xml = new StringBuilder(DATA_FILE_SIZE + 64).append("<data>\n");
+		while (xml.length() < DATA_FILE_SIZE) {
+			xml.append(record);
+		}
+		return xml.append("</data>\n").toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static class CamelNamespaceFinder extends DefaultHandler {
+		boolean found;
+
+		@Override
+		public void startElement(String uri, String localName, String qName, Attributes attributes) throws SAXException {
+			check(uri);
+		}
+
+		@Override
+		public void startPrefixMapping(String prefix, String uri) throws SAXException {
+			check(uri);
+		}
+
+		private void check(String uri) throws StopParsingException {
+			if (CAMEL_NAMESPACES.contains(uri)) {
+				found = true;
+				throw new StopParsingException();
+			}
+		}
+	}
+
+	private static class StopParsingException extends SAXException {
+		private static final long serialVersionUID = 1L;
+	}
+}
@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.camel.model.service.internal;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.fusesource.ide.camel.model.service.core.catalog.cache.CamelCatalogCacheManager;
+import org.fusesource.ide.camel.model.service.core.catalog.cache.CamelCatalogCoordinates;
+import org.fusesource.ide.camel.model.service.core.catalog.cache.CamelModel;
+import org.fusesource.ide.camel.model.service.core.util.CamelCatalogUtils;
+
+/**
+ * provides the camel model of the catalog embedded in the impl bundle without
+ * a running platform. The model is loaded the way the camel service does it,
+ * but the catalog isn't looked up through maven.
+ */
+public final class BenchmarkCatalogs {
+
+	private static CamelModel defaultCamelModel;
+
+	private BenchmarkCatalogs() {
+		// util class
+	}
+
+	/**
+	 * @return	the model of the catalog embedded in the impl bundle
+	 */
+	public static synchronized CamelModel getDefaultCamelModel() {
+		if (defaultCamelModel == null) {
+			CamelCatalogWrapper catalog = new CamelCatalogWrapper();
+			defaultCamelModel = new CamelService(new FailFastPluginLog()).loadCamelModelFromCatalog(catalog);
+			CamelModelPatcher.applyVersionSpecificCatalogFixes(catalog, defaultCamelModel);
+		}
+		return defaultCamelModel;
+	}
+
+	/**
+	 * caches the default model for the default catalog coordinates, which are
+	 * the ones used for camel files without a project
+	 */
+	public static void seedCatalogCache() {
+		CamelCatalogCoordinates coordinates = CamelCatalogUtils.getDefaultCatalogCoordinates();
+		if (CamelCatalogCacheManager.getInstance().getCachedCatalog().get(coordinates) != getDefaultCamelModel()) {
+			Map<CamelCatalogCoordinates, CamelModel> cache = new HashMap<>();
+			cache.put(coordinates, getDefaultCamelModel());
+			CamelCatalogCacheManager.setCachedCatalog(cache);
+		}
+	}
+}
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.camel.model.service.internal;
+
+import java.util.concurrent.TimeUnit;
+
+import org.fusesource.ide.camel.model.service.core.catalog.cache.CamelModel;
+import org.fusesource.ide.camel.model.service.impl.ICamelCatalogWrapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * measures building the camel model from the catalogs of the embedded impl.v*
+ * bundles and from synthetic catalogs with many components.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CamelServiceBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class EmbeddedCatalog {
+
+		@Param({
+			"v2151redhat621216",
+			"v2170redhat630377",
+			"v2181redhat000026",
+			"v2210fuse000112redhat3",
+			"v2210fuse710018redhat00001",
+			"v2210fuse720050redhat00001",
+			"v2210fuse730078redhat00001",
+			"v2210fuse731003redhat00003",
+			"v2210fuse740039redhat00001",
+			"v2210fuse750033redhat00001",
+			"v2210fuse760027redhat00001",
+			"v2210fuse770013redhat00001",
+			"v2223",
+			"v2232fuse770010redhat00001",
+			"v2232fuse780036redhat00001",
+			"v2233" })
+		public String bundleVersion;
+
+		ICamelCatalogWrapper catalog;
+
+		@Setup
+		public void setUp() throws Exception {
+			catalog = EmbeddedCatalogLoader.newCatalogWrapper(bundleVersion);
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class LargeCatalog {
+
+		@Param({ "1", "10", "50" })
+		public int componentCopies;
+
+		ICamelCatalogWrapper catalog;
+
+		@Setup
+		public void setUp() {
+			catalog = new LargeCatalogWrapper(new CamelCatalogWrapper(), componentCopies);
+		}
+	}
+
+	private final CamelService camelService = new CamelService(new FailFastPluginLog());
+
+	@Benchmark
+	public CamelModel loadCamelModelFromEmbeddedCatalog(EmbeddedCatalog state) {
+		return camelService.loadCamelModelFromCatalog(state.catalog);
+	}
+
+	@Benchmark
+	public CamelModel loadCamelModelFromLargeCatalog(LargeCatalog state) {
+		return camelService.loadCamelModelFromCatalog(state.catalog);
+	}
+}
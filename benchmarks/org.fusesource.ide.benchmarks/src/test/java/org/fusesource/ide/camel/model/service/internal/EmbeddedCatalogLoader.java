@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.camel.model.service.internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+
+import org.fusesource.ide.camel.model.service.impl.ICamelCatalogWrapper;
+
+/**
+ * loads the catalog wrapper of an embedded impl.v* bundle outside of OSGi. Like
+ * the bundle class path does at runtime, the loader isolates the camel catalog
+ * jars of the bundle from the ones of the impl bundle on the benchmark class
+ * path: camel, logging and the wrapper itself are loaded child first.
+ */
+final class EmbeddedCatalogLoader extends URLClassLoader {
+
+	static final String PLUGINS_DIR_PROPERTY = "benchmark.plugins.dir";
+	private static final String BUNDLE_PREFIX = "org.fusesource.ide.camel.model.service.impl.";
+	private static final String[] CHILD_FIRST_PACKAGES = {
+			"org.apache.camel.",
+			"org.slf4j.",
+			"org.apache.log4j.",
+			BUNDLE_PREFIX + "v" };
+
+	private EmbeddedCatalogLoader(URL[] urls, ClassLoader parent) {
+		super(urls, parent);
+	}
+
+	/**
+	 * creates the catalog wrapper of the given impl.v* bundle
+	 *
+	 * @param bundleVersion	the version suffix of the bundle, for instance v2233
+	 * @return	the wrapper, loaded by its own class loader
+	 * @throws ReflectiveOperationException	if the wrapper can't be created
+	 * @throws IOException	if the bundle hasn't been built
+	 */
+	static ICamelCatalogWrapper newCatalogWrapper(String bundleVersion) throws ReflectiveOperationException, IOException {
+		String bundleName = BUNDLE_PREFIX + bundleVersion;
+		File bundleDir = new File(System.getProperty(PLUGINS_DIR_PROPERTY, "../../core/plugins"), bundleName);
+		EmbeddedCatalogLoader loader = new EmbeddedCatalogLoader(bundleClassPath(bundleDir), EmbeddedCatalogLoader.class.getClassLoader());
+		Class<?> wrapperClass = loader.loadClass(bundleName + ".CamelCatalogWrapper");
+		return (ICamelCatalogWrapper) wrapperClass.getConstructor().newInstance();
+	}
+
+	private static URL[] bundleClassPath(File bundleDir) throws IOException {
+		File classes = new File(bundleDir, "target/classes");
+		File[] jars = new File(bundleDir, "libs").listFiles((dir, name) -> name.endsWith(".jar"));
+		if (!classes.isDirectory() || jars == null || jars.length == 0) {
+			throw new IOException("Bundle " + bundleDir + " has not been built");
+		}
+		Arrays.sort(jars);
+		List<URL> urls = new ArrayList<>();
+		urls.add(toURL(classes));
+		for (File jar : jars) {
+			urls.add(toURL(jar));
+		}
+		return urls.toArray(new URL[urls.size()]);
+	}
+
+	private static URL toURL(File file) throws MalformedURLException {
+		return file.toURI().toURL();
+	}
+
+	@Override
+	protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+		if (!isChildFirst(name)) {
+			return super.loadClass(name, resolve);
+		}
+		synchronized (getClassLoadingLock(name)) {
+			Class<?> clazz = findLoadedClass(name);
+			if (clazz == null) {
+				try {
+					clazz = findClass(name);
+				} catch (ClassNotFoundException ex) {
+					clazz = getParent().loadClass(name);
+				}
+			}
+			if (resolve) {
+				resolveClass(clazz);
+			}
+			return clazz;
+		}
+	}
+
+	@Override
+	public URL getResource(String name) {
+		// the catalog reads its json schemas as resources of its own class loader
+		URL url = findResource(name);
+		return url != null ? url : super.getResource(name);
+	}
+
+	@Override
+	public Enumeration<URL> getResources(String name) throws IOException {
+		List<URL> urls = new ArrayList<>(Collections.list(findResources(name)));
+		urls.addAll(Collections.list(getParent().getResources(name)));
+		return Collections.enumeration(urls);
+	}
+
+	private static boolean isChildFirst(String name) {
+		for (String prefix : CHILD_FIRST_PACKAGES) {
+			if (name.startsWith(prefix)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
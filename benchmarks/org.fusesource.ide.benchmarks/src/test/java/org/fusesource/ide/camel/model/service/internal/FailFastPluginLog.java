@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.camel.model.service.internal;
+
+import org.eclipse.core.runtime.IStatus;
+import org.jboss.tools.foundation.core.plugin.log.IPluginLog;
+
+/**
+ * plugin log for the benchmarks: anything logged is an error of the fixture,
+ * so it is thrown instead of being measured as part of a benchmark.
+ */
+final class FailFastPluginLog implements IPluginLog {
+
+	@Override
+	public void logWarning(String message, Throwable t) {
+		throw new IllegalStateException(message, t);
+	}
+
+	@Override
+	public void logWarning(Throwable t) {
+		throw new IllegalStateException(t);
+	}
+
+	@Override
+	public void logWarning(String message) {
+		throw new IllegalStateException(message);
+	}
+
+	@Override
+	public void logStatus(IStatus status) {
+		throw new IllegalStateException(status.getMessage(), status.getException());
+	}
+
+	@Override
+	public void logMessage(int code, String message, Throwable t) {
+		throw new IllegalStateException(message, t);
+	}
+
+	@Override
+	public void logInfo(String message, Throwable t) {
+		throw new IllegalStateException(message, t);
+	}
+
+	@Override
+	public void logInfo(String message) {
+		throw new IllegalStateException(message);
+	}
+
+	@Override
+	public void logError(String message, Throwable t) {
+		throw new IllegalStateException(message, t);
+	}
+
+	@Override
+	public void logError(Throwable t) {
+		throw new IllegalStateException(t);
+	}
+
+	@Override
+	public void logError(String message) {
+		throw new IllegalStateException(message);
+	}
+}
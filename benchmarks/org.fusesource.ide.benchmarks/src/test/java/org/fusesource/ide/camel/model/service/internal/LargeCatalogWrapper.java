@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.camel.model.service.internal;
+
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.fusesource.ide.camel.model.service.impl.ICamelCatalogWrapper;
+
+/**
+ * synthetic catalog holding the json schemas of another catalog in memory, with
+ * each component repeated under new schemes to get a catalog of any size.
+ */
+final class LargeCatalogWrapper implements ICamelCatalogWrapper {
+
+	private final String version;
+	private final Map<String, String> components = new LinkedHashMap<>();
+	private final Map<String, String> dataFormats = new LinkedHashMap<>();
+	private final Map<String, String> languages = new LinkedHashMap<>();
+	private final Map<String, String> models = new LinkedHashMap<>();
+
+	/**
+	 * @param catalog	the catalog to copy
+	 * @param copies	how many times each component of the catalog is added
+	 */
+	LargeCatalogWrapper(ICamelCatalogWrapper catalog, int copies) {
+		this.version = catalog.getLoadedVersion();
+		for (String name : catalog.findComponentNames()) {
+			String json = catalog.componentJSonSchema(name);
+			components.put(name, json);
+			Matcher scheme = Pattern.compile("(\"scheme\"\\s*:\\s*\")" + Pattern.quote(name) + "\"").matcher(json);
+			for (int i = 1; i < copies; i++) {
+				String copy = name + "-copy" + i;
+				components.put(copy, scheme.replaceFirst("$1" + Matcher.quoteReplacement(copy) + "\""));
+			}
+		}
+		for (String name : catalog.findDataFormatNames()) {
+			dataFormats.put(name, catalog.dataFormatJSonSchema(name));
+		}
+		for (String name : catalog.findLanguageNames()) {
+			languages.put(name, catalog.languageJSonSchema(name));
+		}
+		for (String name : catalog.findModelNames()) {
+			models.put(name, catalog.modelJSonSchema(name));
+		}
+	}
+
+	@Override
+	public String getLoadedVersion() {
+		return version;
+	}
+
+	@Override
+	public Map<String, String> endpointProperties(String uri) throws URISyntaxException {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public List<String> findModelNames() {
+		return new ArrayList<>(models.keySet());
+	}
+
+	@Override
+	public String modelJSonSchema(String name) {
+		return models.get(name);
+	}
+
+	@Override
+	public List<String> findLanguageNames() {
+		return new ArrayList<>(languages.keySet());
+	}
+
+	@Override
+	public String languageJSonSchema(String name) {
+		return languages.get(name);
+	}
+
+	@Override
+	public List<String> findDataFormatNames() {
+		return new ArrayList<>(dataFormats.keySet());
+	}
+
+	@Override
+	public String dataFormatJSonSchema(String name) {
+		return dataFormats.get(name);
+	}
+
+	@Override
+	public List<String> findComponentNames() {
+		return new ArrayList<>(components.keySet());
+	}
+
+	@Override
+	public String componentJSonSchema(String name) {
+		return components.get(name);
+	}
+
+	@Override
+	public String blueprintSchemaAsXml() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public String springSchemaAsXml() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setRuntimeProvider(String runtimeProvider) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public String getRuntimeprovider() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void addMavenRepositoryToVersionManager(String id, String url) {
+		throw new UnsupportedOperationException();
+	}
+}
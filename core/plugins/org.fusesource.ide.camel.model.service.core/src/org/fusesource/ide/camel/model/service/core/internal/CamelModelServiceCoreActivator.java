@@ -11,11 +11,17 @@
 
 package org.fusesource.ide.camel.model.service.core.internal;
 
+import org.eclipse.core.resources.IResourceChangeEvent;
 import org.eclipse.core.resources.IWorkspace;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.m2e.core.MavenPlugin;
+import org.fusesource.ide.camel.model.service.core.util.CamelFileIndex;
+import org.fusesource.ide.camel.model.service.core.util.MavenProjectFactsCache;
+import org.fusesource.ide.camel.model.service.core.util.ProjectClassLoaderCache;
 import org.fusesource.ide.camel.model.service.core.util.ProjectClasspathChangedListener;
+import org.fusesource.ide.camel.model.service.core.util.ProjectClasspathIndex;
 import org.jboss.tools.foundation.core.plugin.log.IPluginLog;
 import org.jboss.tools.foundation.core.plugin.log.StatusFactory;
 import org.jboss.tools.foundation.ui.plugin.BaseUIPlugin;
@@ -58,12 +64,21 @@ public class CamelModelServiceCoreActivator extends BaseUIPlugin {
 		registerDebugOptionsListener(PLUGIN_ID, Trace.getInstance(this), context);
 		registerWorkspaceProjectListener();
 		JavaCore.addElementChangedListener(listener);
+		CamelFileIndex.getInstance().start(getStateLocation().toFile());
+		MavenPlugin.getMavenProjectRegistry().addMavenProjectChangedListener(MavenProjectFactsCache.getInstance());
+		ResourcesPlugin.getWorkspace().addResourceChangeListener(MavenProjectFactsCache.getInstance(), IResourceChangeEvent.POST_CHANGE);
 	}
 
 
 	@Override
 	public void stop(BundleContext context) throws Exception {
 		setContext(null);
+		CamelFileIndex.getInstance().stop();
+		ResourcesPlugin.getWorkspace().removeResourceChangeListener(MavenProjectFactsCache.getInstance());
+		MavenPlugin.getMavenProjectRegistry().removeMavenProjectChangedListener(MavenProjectFactsCache.getInstance());
+		MavenProjectFactsCache.getInstance().clear();
+		ProjectClasspathIndex.getInstance().clear();
+		ProjectClassLoaderCache.getInstance().clear();
 		JavaCore.removeElementChangedListener(listener);
 		IWorkspace wsp = ResourcesPlugin.getWorkspace();
 		wsp.removeResourceChangeListener(listener);
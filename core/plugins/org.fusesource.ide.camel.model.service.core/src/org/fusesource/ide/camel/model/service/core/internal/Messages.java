@@ -20,5 +20,6 @@ public class Messages extends NLS {
 	
 	public static String initializingCamelModel;
 	public static String retrievingCamelModel;
+	public static String indexingCamelFiles;
 
 }
@@ -366,17 +366,28 @@ public class CamelFile extends AbstractCamelModelElement implements EventListene
 	 * @return	the dom model as string or null on error
 	 */
 	public String getDocumentAsXML() {
+		// taking line width and indentation size from xml / editor preferences of eclipse -> we always use spaces for indentation...
+		int lineWidth = Integer.parseInt(XMLCorePlugin.getDefault().getPluginPreferences().getString("lineWidth"));
+		int indentValue = XMLCorePlugin.getDefault().getPluginPreferences().getInt("indentationSize");
+		String indentChar = XMLCorePlugin.getDefault().getPluginPreferences().getString("indentationChar");
+		if ("tab".equalsIgnoreCase(indentChar)) {
+			// calculate tabWidth * indent
+			int tabWidth = org.eclipse.ui.internal.editors.text.EditorsPlugin.getDefault().getPreferenceStore().getInt("tabWidth");
+			indentValue = indentValue * tabWidth;
+		}
+		return getDocumentAsXML(lineWidth, indentValue);
+	}
+	
+	/**
+	 * returns the string representing the dom model formatted independent of
+	 * the preferences, so it can be used without a running platform
+	 * 
+	 * @param lineWidth		the maximum line width
+	 * @param indentValue	the number of spaces to indent with
+	 * @return	the dom model as string or null on error
+	 */
+	public String getDocumentAsXML(int lineWidth, int indentValue) {
 		try {
-			// taking line width and indentation size from xml / editor preferences of eclipse -> we always use spaces for indentation...
-			int lineWidth = Integer.parseInt(XMLCorePlugin.getDefault().getPluginPreferences().getString("lineWidth"));
-			int indentValue = XMLCorePlugin.getDefault().getPluginPreferences().getInt("indentationSize");
-			String indentChar = XMLCorePlugin.getDefault().getPluginPreferences().getString("indentationChar");
-			if ("tab".equalsIgnoreCase(indentChar)) {
-				// calculate tabWidth * indent
-				int tabWidth = org.eclipse.ui.internal.editors.text.EditorsPlugin.getDefault().getPreferenceStore().getInt("tabWidth");
-				indentValue = indentValue * tabWidth;
-			}
-
 			final Document document = getDocument();
 			OutputFormat format = new OutputFormat(document);
 			format.setIndenting(true);
@@ -468,7 +479,7 @@ public class CamelFile extends AbstractCamelModelElement implements EventListene
 	 * @return
 	 */
 	public CamelModel getCamelModel(){
-		return CamelCatalogCacheManager.getInstance().getCamelModelForProject(resource.getProject());
+		return CamelCatalogCacheManager.getInstance().getCamelModelForProject(resource != null ? resource.getProject() : null);
 	}
 
 	@Override
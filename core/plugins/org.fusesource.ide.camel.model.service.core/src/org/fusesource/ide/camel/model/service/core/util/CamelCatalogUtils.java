@@ -21,16 +21,10 @@ import java.util.Set;
 import org.apache.maven.artifact.versioning.ComparableVersion;
 import org.apache.maven.model.Model;
 import org.apache.maven.model.Plugin;
-import org.apache.maven.project.MavenProject;
 import org.eclipse.core.resources.IProject;
-import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.core.runtime.SubMonitor;
-import org.eclipse.m2e.core.MavenPlugin;
-import org.eclipse.m2e.core.project.IMavenProjectFacade;
 import org.fusesource.ide.camel.model.service.core.catalog.Dependency;
 import org.fusesource.ide.camel.model.service.core.catalog.cache.CamelCatalogCoordinates;
-import org.fusesource.ide.camel.model.service.core.internal.CamelModelServiceCoreActivator;
 import org.fusesource.ide.camel.model.service.core.util.versionmapper.CamelForFIS20ToBomMapper;
 import org.fusesource.ide.camel.model.service.core.util.versionmapper.CamelForFuse6ToBomMapper;
 import org.fusesource.ide.camel.model.service.core.util.versionmapper.CamelForFuse71ToBomMapper;
@@ -388,20 +382,9 @@ public class CamelCatalogUtils {
 	}
 	
 	public static String getRuntimeprovider(IProject camelProject, IProgressMonitor monitor) {
-		SubMonitor subMonitor = SubMonitor.convert(monitor, 2);
-		if(camelProject != null){
-			IMavenProjectFacade m2prj = MavenPlugin.getMavenProjectRegistry().create(camelProject, subMonitor.split(1));
-			try {
-				if(m2prj != null){
-					MavenProject mavenProject = m2prj.getMavenProject(subMonitor.split(1));
-					if(mavenProject != null){
-						List<org.apache.maven.model.Dependency> dependencies = mavenProject.getDependencies();
-						return getRuntimeProviderFromDependencyList(dependencies);
-					}
-				}
-			} catch (CoreException e) {
-				CamelModelServiceCoreActivator.pluginLog().logWarning(e);
-			}
+		MavenProjectFacts facts = MavenProjectFactsCache.getInstance().getFacts(camelProject, monitor);
+		if (facts != null) {
+			return facts.getRuntimeProvider();
 		}
 		return RUNTIME_PROVIDER_KARAF;
 	}
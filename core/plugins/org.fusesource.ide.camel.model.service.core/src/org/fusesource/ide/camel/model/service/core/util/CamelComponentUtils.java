@@ -28,11 +28,9 @@ import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
 import org.eclipse.core.resources.IProject;
-import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.JavaCore;
-import org.eclipse.jdt.core.JavaModelException;
 import org.fusesource.ide.camel.model.service.core.catalog.Parameter;
 import org.fusesource.ide.camel.model.service.core.catalog.cache.CamelModel;
 import org.fusesource.ide.camel.model.service.core.catalog.components.Component;
@@ -230,36 +228,9 @@ public final class CamelComponentUtils {
 		return compClass;
 	}
 
-	private static String getClassFromZipEntry(String scheme, File cpEntryFile) {
-		if (isJarFile(cpEntryFile)) {
-			try (ZipFile zf = new ZipFile(cpEntryFile)) {
-				ZipEntry ze = zf.getEntry(String.format("META-INF/services/org/apache/camel/component/%s", scheme));
-				if (ze != null) {
-					// try to generate a model entry for the component class
-					Properties p = new Properties();
-					p.load(zf.getInputStream(ze));
-					return p.getProperty("class");
-				}
-			} catch (IOException ex) {
-				CamelModelServiceCoreActivator.pluginLog().logError(ex);
-			}
-		}
-		return null;
-	}
-	
 	private static String getComponentClassFromJar(IJavaProject jpr, String scheme){
-		try {
-			for (IClasspathEntry e : jpr.getResolvedClasspath(true)) {
-				File cpEntryFile = e.getPath().toFile();
-				String compClass = getClassFromZipEntry(scheme, cpEntryFile);
-				if (!Strings.isBlank(compClass)) {
-					return compClass;
-				}
-			}
-		} catch (JavaModelException ex) {
-			CamelModelServiceCoreActivator.pluginLog().logError(ex);
-		}
-		return null;
+		ProjectClasspathIndex.SchemeEntry entry = ProjectClasspathIndex.getInstance().getComponent(jpr, scheme);
+		return entry != null ? entry.getComponentClass() : null;
 	}
 	
 	/**
@@ -316,28 +287,17 @@ public final class CamelComponentUtils {
 		IJavaProject jpr = JavaCore.create(project);
 		
 		if (jpr.exists() && jpr.isOpen()) {
-			try {
-				for (IClasspathEntry e : jpr.getResolvedClasspath(true)) {
-					File cpEntryFile = e.getPath().toFile();
-					if (!isJarFile(cpEntryFile)) {
-						continue;
-					}
-					String compJSON = getComponentJsonFromJar(cpEntryFile, scheme);
-					if (!Strings.isBlank(compJSON)) {
-						return compJSON;
-					}
+			ProjectClasspathIndex.SchemeEntry entry = ProjectClasspathIndex.getInstance().getComponent(jpr, scheme);
+			if (entry != null) {
+				String compJSON = getComponentJsonFromJar(entry.getJar(), scheme);
+				if (!Strings.isBlank(compJSON)) {
+					return compJSON;
 				}
-			} catch (JavaModelException ex) {
-				CamelModelServiceCoreActivator.pluginLog().logError(ex);
 			}
 		}
 		return null;
 	}
 
-	private static boolean isJarFile(File f) {
-		return f.isFile() && f.getName().toLowerCase().endsWith(".jar");
-	}
-
 	protected static Component buildModelForComponent(String scheme, String clazz, CamelFile camelFile, CamelModel camelModel) {
 		// 1. take what we have in our model xml
 		Component resModel = camelModel.getComponentForScheme(scheme);
@@ -391,6 +351,15 @@ public final class CamelComponentUtils {
 		knownComponentsForCamelModel.get(camelModel).put(component.getClazz(), component);
 	}
 
+	/**
+	 * creates a new class loader over the project classpath which has to be
+	 * closed by the caller
+	 *
+	 * @param project
+	 * @return the class loader or null if it can't be created
+	 * @deprecated use {@link #acquireProjectClassLoader(IProject)} to share the class loader
+	 */
+	@Deprecated
 	public static URLClassLoader getProjectClassLoader(IProject project) {
 		try {
 			IJavaProject javaProject = (IJavaProject) project.getNature(JavaCore.NATURE_ID);
@@ -407,6 +376,24 @@ public final class CamelComponentUtils {
 		return null;
 	}
 
+	/**
+	 * returns the shared class loader over the project classpath, it has to
+	 * be handed back with {@link #releaseProjectClassLoader(URLClassLoader)}
+	 *
+	 * @param project
+	 * @return the class loader or null if it can't be created
+	 */
+	public static URLClassLoader acquireProjectClassLoader(IProject project) {
+		return ProjectClassLoaderCache.getInstance().acquire(project);
+	}
+
+	/**
+	 * @param loader the class loader returned by {@link #acquireProjectClassLoader(IProject)}
+	 */
+	public static void releaseProjectClassLoader(URLClassLoader loader) {
+		ProjectClassLoaderCache.getInstance().release(loader);
+	}
+
 	/**
 	 * takes the json blob from camel configuration and makes a model from it
 	 *
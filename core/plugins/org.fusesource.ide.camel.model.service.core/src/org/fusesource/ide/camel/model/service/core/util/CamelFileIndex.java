@@ -0,0 +1,667 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.camel.model.service.core.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IWorkspaceRoot;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.fusesource.ide.camel.model.service.core.internal.CamelModelServiceCoreActivator;
+import org.fusesource.ide.camel.model.service.core.internal.Messages;
+import org.fusesource.ide.camel.model.service.core.internal.Trace;
+import org.fusesource.ide.foundation.core.xml.namespace.FindCamelNamespaceHandler;
+import org.xml.sax.InputSource;
+
+/**
+ * a workspace wide index of the XML files and the Camel contexts and routes
+ * they contain. The index is persisted in the plugin state location, verified
+ * against the file time stamps and completed by a background job on startup
+ * and afterwards only the files of the resource deltas are processed again.
+ * <p>
+ * Readers never wait for the indexing and never read a file completely: they
+ * get the entries known so far, changed files are only sniffed for the Camel
+ * namespaces and projects which are not indexed yet are handed to the
+ * background job. Use {@link #isProjectIndexed(IResource)} to find out
+ * whether a result is complete. While indexing, the index is persisted every
+ * {@link #SAVE_INTERVAL} milliseconds.
+ */
+public class CamelFileIndex implements IResourceChangeListener {
+
+	private static final int FORMAT_VERSION = 1;
+	private static final String INDEX_FILE_NAME = "camel-file-index.dat"; //$NON-NLS-1$
+	private static final String XML_EXTENSION = "xml"; //$NON-NLS-1$
+	private static final String[] WORK_FOLDERS = { "target", "bin" }; //$NON-NLS-1$ //$NON-NLS-2$
+	private static final IPath TEST_FOLDER = new Path("src/test"); //$NON-NLS-1$
+	private static final long UPDATE_DELAY = 500L;
+	static final long SAVE_INTERVAL = 60000L;
+
+	private static final CamelFileIndex instance = new CamelFileIndex();
+
+	private final Map<String, CamelFileIndexEntry> entries = new ConcurrentHashMap<>();
+	private final Set<IProject> indexedProjects = ConcurrentHashMap.newKeySet();
+	/** guarded by itself */
+	private final Set<IFile> pendingFiles = new LinkedHashSet<>();
+	/** whether the indexed projects contain Camel files, by project name */
+	private final Map<String, Boolean> camelProjects = new ConcurrentHashMap<>();
+	/** guarded by itself */
+	private final Map<IProject, Set<Runnable>> indexedCallbacks = new HashMap<>();
+	private final Job indexJob = new IndexJob();
+	private final AtomicBoolean dirty = new AtomicBoolean();
+	private volatile File indexFile;
+	private volatile boolean started;
+	private volatile long lastSave;
+
+	protected CamelFileIndex() {
+	}
+
+	public static CamelFileIndex getInstance() {
+		return instance;
+	}
+
+	/**
+	 * loads the persisted index, starts listening for resource changes and
+	 * schedules the indexing of all open projects
+	 *
+	 * @param stateLocation	the folder to persist the index in
+	 */
+	public void start(File stateLocation) {
+		indexFile = new File(stateLocation, INDEX_FILE_NAME);
+		if (indexFile.isFile()) {
+			try (InputStream in = new FileInputStream(indexFile)) {
+				entries.putAll(read(in));
+			} catch (IOException ex) {
+				CamelModelServiceCoreActivator.pluginLog().logWarning("Unable to read the Camel file index, rebuilding it", ex); //$NON-NLS-1$
+				entries.clear();
+			}
+		}
+		Set<String> projectNames = new HashSet<>();
+		for (String key : entries.keySet()) {
+			projectNames.add(Path.fromPortableString(key).segment(0));
+		}
+		updateCamelProjects(projectNames);
+		started = true;
+		lastSave = System.currentTimeMillis();
+		ResourcesPlugin.getWorkspace().addResourceChangeListener(this, IResourceChangeEvent.POST_CHANGE);
+		indexJob.schedule();
+	}
+
+	/**
+	 * stops listening for resource changes and persists the index
+	 */
+	public void stop() {
+		ResourcesPlugin.getWorkspace().removeResourceChangeListener(this);
+		started = false;
+		indexJob.cancel();
+		try {
+			indexJob.join();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+		save();
+	}
+
+	/**
+	 * @return	true if the index is kept up to date with the workspace
+	 */
+	public boolean isStarted() {
+		return started;
+	}
+
+	/**
+	 * @param resource	the resource
+	 * @return	true if the projects of the resource are indexed and no changes
+	 * 			of files inside the resource are pending
+	 */
+	public boolean isUpToDate(IResource resource) {
+		return isProjectIndexed(resource) && getPendingFiles(resource).isEmpty();
+	}
+
+	/**
+	 * @param resource	the resource
+	 * @return	true if the projects of the resource are indexed, changed files
+	 * 			may still be pending
+	 */
+	public boolean isProjectIndexed(IResource resource) {
+		if (resource == null || !started) {
+			return false;
+		}
+		for (IProject project : getProjects(resource)) {
+			if (project.isAccessible() && !indexedProjects.contains(project)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * returns the Camel files of the resource known to the index right now
+	 * without waiting for the indexing. Changed files inside the resource
+	 * which are not indexed again yet are sniffed, projects which are not
+	 * indexed yet are indexed in the background, see {@link #isProjectIndexed(IResource)}.
+	 *
+	 * @param resource	the resource in which the search occurs
+	 * @return	the Camel files in the resource, build output folders and
+	 * 			test sources below the resource are excluded
+	 */
+	public Set<IFile> getCamelFiles(IResource resource) {
+		Set<IFile> res = new HashSet<>();
+		if (!(resource instanceof IContainer) || !resource.exists()) {
+			return res;
+		}
+		if (started && !isProjectIndexed(resource)) {
+			indexJob.schedule();
+		}
+		IPath containerPath = resource.getFullPath();
+		IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
+		for (Map.Entry<String, CamelFileIndexEntry> e : entries.entrySet()) {
+			if (!e.getValue().isCamelFile()) {
+				continue;
+			}
+			IPath path = Path.fromPortableString(e.getKey());
+			if (containerPath.isPrefixOf(path) && !isExcludedBelow(containerPath, path)) {
+				IFile file = root.getFile(path);
+				if (file.exists()) {
+					res.add(file);
+				}
+			}
+		}
+		for (IFile file : getPendingFiles(resource)) {
+			if (isExcludedBelow(containerPath, file.getFullPath()) || !isCamelFile(file)) {
+				res.remove(file);
+			} else {
+				res.add(file);
+			}
+		}
+		return res;
+	}
+
+	/**
+	 * answers from the last completed indexing of the project or the index
+	 * persisted by the previous session, so the answer doesn't change while
+	 * the project is indexed again
+	 *
+	 * @param project	the project
+	 * @return	true if the project contains Camel files outside of the build
+	 * 			output folders and test sources or null if the project was never
+	 * 			indexed, see {@link #notifyWhenIndexed(IProject, Runnable)}
+	 */
+	public Boolean hasCamelFiles(IProject project) {
+		return camelProjects.get(project.getName());
+	}
+
+	/**
+	 * schedules the indexing of the project unless already done and calls
+	 * the callback once from the index job when it's done. Registering the
+	 * same callback again before it was called has no effect.
+	 *
+	 * @param project	the project
+	 * @param callback	called from the index job
+	 */
+	public void notifyWhenIndexed(IProject project, Runnable callback) {
+		synchronized (indexedCallbacks) {
+			indexedCallbacks.computeIfAbsent(project, p -> new HashSet<>()).add(callback);
+		}
+		if (started) {
+			indexJob.schedule();
+		}
+	}
+
+	/**
+	 * never reads the file, a file which changed since it was indexed is
+	 * indexed again in the background
+	 *
+	 * @param file	the file
+	 * @return	the up to date entry of the file or null if it isn't an XML
+	 * 			file, can't be read or isn't indexed yet
+	 */
+	public CamelFileIndexEntry getEntry(IFile file) {
+		if (file == null || !isXmlFile(file)) {
+			return null;
+		}
+		CamelFileIndexEntry entry = getIndexedEntry(file);
+		if (entry == null && isReadable(file)) {
+			schedule(file);
+		}
+		return entry;
+	}
+
+	/**
+	 * a file which changed since it was indexed is only sniffed for the
+	 * Camel namespaces and indexed again in the background
+	 *
+	 * @param file	the file
+	 * @return	true if the file has the Camel content type
+	 */
+	public boolean isCamelFile(IFile file) {
+		if (file == null || !isXmlFile(file)) {
+			return false;
+		}
+		CamelFileIndexEntry entry = getIndexedEntry(file);
+		if (entry != null) {
+			return entry.isCamelFile();
+		}
+		if (!isReadable(file)) {
+			return false;
+		}
+		schedule(file);
+		try {
+			return sniff(file);
+		} catch (IOException ex) {
+			CamelModelServiceCoreActivator.pluginLog().logInfo("Cannot check Content type of " + file.getName(), ex); //$NON-NLS-1$
+			return false;
+		}
+	}
+
+	/**
+	 * @param resource	the resource
+	 * @return	true if the resource is covered by the index, build output folders are not
+	 */
+	public boolean isIndexed(IResource resource) {
+		return resource != null && (resource.getType() == IResource.ROOT || resource.getType() == IResource.PROJECT || !isInWorkFolder(resource.getProjectRelativePath()));
+	}
+
+	@Override
+	public void resourceChanged(IResourceChangeEvent event) {
+		IResourceDelta delta = event.getDelta();
+		if (delta == null) {
+			return;
+		}
+		final Set<IFile> changedFiles = new HashSet<>();
+		final Set<IProject> closedProjects = new HashSet<>();
+		try {
+			delta.accept(d -> {
+				IResource resource = d.getResource();
+				switch (resource.getType()) {
+				case IResource.PROJECT:
+					if (d.getKind() == IResourceDelta.REMOVED || !((IProject)resource).isOpen()) {
+						closedProjects.add((IProject)resource);
+						return false;
+					}
+					return true;
+				case IResource.FOLDER:
+					return !isInWorkFolder(resource.getProjectRelativePath());
+				case IResource.FILE:
+					if (isXmlFile((IFile)resource) && (d.getKind() != IResourceDelta.CHANGED || (d.getFlags() & ~IResourceDelta.MARKERS) != 0)) {
+						changedFiles.add((IFile)resource);
+					}
+					return false;
+				default:
+					return true;
+				}
+			});
+		} catch (CoreException ex) {
+			CamelModelServiceCoreActivator.pluginLog().logError(ex);
+			return;
+		}
+		if (changedFiles.isEmpty() && closedProjects.isEmpty()) {
+			return;
+		}
+		for (IProject project : closedProjects) {
+			removeProject(project);
+		}
+		synchronized (pendingFiles) {
+			pendingFiles.addAll(changedFiles);
+		}
+		indexJob.schedule(UPDATE_DELAY);
+	}
+
+	/**
+	 * @return	the entry if the file didn't change since it was indexed
+	 */
+	private CamelFileIndexEntry getIndexedEntry(IFile file) {
+		CamelFileIndexEntry entry = entries.get(file.getFullPath().toPortableString());
+		return entry != null && entry.getTimestamp() == file.getLocalTimeStamp() ? entry : null;
+	}
+
+	private Set<IFile> getPendingFiles(IResource resource) {
+		Set<IFile> res = new HashSet<>();
+		IPath containerPath = resource.getFullPath();
+		synchronized (pendingFiles) {
+			for (IFile file : pendingFiles) {
+				if (containerPath.isPrefixOf(file.getFullPath())) {
+					res.add(file);
+				}
+			}
+		}
+		return res;
+	}
+
+	private void schedule(IFile file) {
+		synchronized (pendingFiles) {
+			pendingFiles.add(file);
+		}
+		if (started) {
+			indexJob.schedule(UPDATE_DELAY);
+		}
+	}
+
+	private static IProject[] getProjects(IResource resource) {
+		IProject project = resource.getProject();
+		return project != null ? new IProject[] { project } : ((IWorkspaceRoot)resource).getProjects();
+	}
+
+	private void indexProject(IProject project, IProgressMonitor monitor) {
+		long start = System.currentTimeMillis();
+		Set<String> found = new HashSet<>();
+		try {
+			if (!indexContainer(project, found, monitor)) {
+				return;
+			}
+		} catch (CoreException ex) {
+			CamelModelServiceCoreActivator.pluginLog().logError(ex);
+			return;
+		}
+		// forget files deleted while the index wasn't listening
+		String prefix = project.getFullPath().addTrailingSeparator().toPortableString();
+		if (entries.keySet().removeIf(path -> path.startsWith(prefix) && !found.contains(path))) {
+			dirty.set(true);
+		}
+		indexedProjects.add(project);
+		if (!project.isAccessible()) {
+			// closed while it was indexed
+			removeProject(project);
+		}
+		Trace.trace(Trace.PERFORMANCE_TRACE_OPTION, "Time (ms) spent on indexing the Camel files of " + project.getName() + " : " + (System.currentTimeMillis() - start)); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * @return	false if canceled
+	 */
+	private boolean indexContainer(IContainer container, Set<String> found, IProgressMonitor monitor) throws CoreException {
+		for (IResource member : container.members()) {
+			if (monitor.isCanceled()) {
+				return false;
+			}
+			if (member instanceof IContainer) {
+				if (!isInWorkFolder(member.getProjectRelativePath()) && !indexContainer((IContainer)member, found, monitor)) {
+					return false;
+				}
+			} else if (member instanceof IFile && isXmlFile((IFile)member) && update((IFile)member) != null) {
+				found.add(member.getFullPath().toPortableString());
+				saveIfDue();
+			}
+		}
+		return true;
+	}
+
+	private void processPendingFiles() {
+		Set<IFile> files;
+		synchronized (pendingFiles) {
+			files = new HashSet<>(pendingFiles);
+			pendingFiles.clear();
+		}
+		for (IFile file : files) {
+			update(file);
+		}
+	}
+
+	private void removeProject(IProject project) {
+		indexedProjects.remove(project);
+		camelProjects.remove(project.getName());
+		String prefix = project.getFullPath().addTrailingSeparator().toPortableString();
+		if (entries.keySet().removeIf(path -> path.startsWith(prefix))) {
+			dirty.set(true);
+		}
+	}
+
+	/**
+	 * re-reads the file if it changed since it was indexed
+	 *
+	 * @return	the current entry or null if the file can't be read
+	 */
+	private CamelFileIndexEntry update(IFile file) {
+		String key = file.getFullPath().toPortableString();
+		if (!isReadable(file)) {
+			if (entries.remove(key) != null) {
+				dirty.set(true);
+			}
+			return null;
+		}
+		long timestamp = file.getLocalTimeStamp();
+		CamelFileIndexEntry entry = entries.get(key);
+		if (entry != null && entry.getTimestamp() == timestamp) {
+			return entry;
+		}
+		try {
+			// only Camel files are read completely to collect their ids
+			boolean camelFile = sniff(file);
+			entry = CamelFileIndexEntry.create(timestamp, camelFile ? Files.readAllBytes(file.getLocation().toFile().toPath()) : new byte[0], camelFile);
+			entries.put(key, entry);
+			dirty.set(true);
+			return entry;
+		} catch (IOException ex) {
+			CamelModelServiceCoreActivator.pluginLog().logInfo("Cannot check Content type of " + file.getName(), ex); //$NON-NLS-1$
+			if (entries.remove(key) != null) {
+				dirty.set(true);
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * computes the answers of {@link #hasCamelFiles(IProject)}
+	 *
+	 * @param projectNames	the projects whose entries are complete
+	 */
+	private void updateCamelProjects(Collection<String> projectNames) {
+		Map<String, Boolean> answers = new HashMap<>();
+		for (String name : projectNames) {
+			answers.put(name, Boolean.FALSE);
+		}
+		for (Map.Entry<String, CamelFileIndexEntry> e : entries.entrySet()) {
+			IPath path = Path.fromPortableString(e.getKey());
+			if (e.getValue().isCamelFile() && answers.containsKey(path.segment(0)) && !isExcludedBelow(path.uptoSegment(1), path)) {
+				answers.put(path.segment(0), Boolean.TRUE);
+			}
+		}
+		camelProjects.putAll(answers);
+	}
+
+	private void runIndexedCallbacks() {
+		Set<Runnable> callbacks = new LinkedHashSet<>();
+		synchronized (indexedCallbacks) {
+			for (Iterator<Map.Entry<IProject, Set<Runnable>>> it = indexedCallbacks.entrySet().iterator(); it.hasNext();) {
+				Map.Entry<IProject, Set<Runnable>> e = it.next();
+				if (indexedProjects.contains(e.getKey()) || !e.getKey().isAccessible()) {
+					callbacks.addAll(e.getValue());
+					it.remove();
+				}
+			}
+		}
+		for (Runnable callback : callbacks) {
+			try {
+				callback.run();
+			} catch (RuntimeException ex) {
+				CamelModelServiceCoreActivator.pluginLog().logError(ex);
+			}
+		}
+	}
+
+	/**
+	 * reads at most the prefix of the file, see {@link FindCamelNamespaceHandler}
+	 */
+	private static boolean sniff(IFile file) throws IOException {
+		FindCamelNamespaceHandler handler = new FindCamelNamespaceHandler();
+		try (InputStream in = new BufferedInputStream(Files.newInputStream(file.getLocation().toFile().toPath()))) {
+			handler.parseContents(new InputSource(in));
+		}
+		return handler.isNamespaceFound();
+	}
+
+	private static boolean isReadable(IFile file) {
+		return file.exists() && file.isLocal(IResource.DEPTH_ZERO) && file.isSynchronized(IResource.DEPTH_ZERO) && file.getLocation() != null;
+	}
+
+	/**
+	 * persists the index if it wasn't persisted for {@link #SAVE_INTERVAL}
+	 * milliseconds, so a long indexing isn't lost when Eclipse is killed
+	 */
+	private void saveIfDue() {
+		if (System.currentTimeMillis() - lastSave >= SAVE_INTERVAL) {
+			save();
+		}
+	}
+
+	private synchronized void save() {
+		File file = indexFile;
+		lastSave = System.currentTimeMillis();
+		if (file == null || !dirty.getAndSet(false)) {
+			return;
+		}
+		File tmp = new File(file.getPath() + ".tmp"); //$NON-NLS-1$
+		try {
+			file.getParentFile().mkdirs();
+			try (OutputStream out = new FileOutputStream(tmp)) {
+				write(new HashMap<>(entries), out);
+			}
+			Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException ex) {
+			dirty.set(true);
+			CamelModelServiceCoreActivator.pluginLog().logWarning("Unable to save the Camel file index", ex); //$NON-NLS-1$
+		}
+	}
+
+	private static boolean isXmlFile(IFile file) {
+		return XML_EXTENSION.equals(file.getFileExtension());
+	}
+
+	/**
+	 * @param projectRelativePath	the path inside the project
+	 * @return	true if the path is inside the target or bin folder of the project
+	 */
+	static boolean isInWorkFolder(IPath projectRelativePath) {
+		if (projectRelativePath.segmentCount() == 0) {
+			return false;
+		}
+		for (String folder : WORK_FOLDERS) {
+			if (folder.equalsIgnoreCase(projectRelativePath.segment(0))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @param containerPath	the full path of the searched container
+	 * @param filePath		the full path of a file inside the container
+	 * @return	true if the file is inside the test sources and the test sources are below the container
+	 */
+	static boolean isExcludedBelow(IPath containerPath, IPath filePath) {
+		IPath testFolder = filePath.uptoSegment(1).append(TEST_FOLDER);
+		return containerPath.segmentCount() < testFolder.segmentCount() && testFolder.isPrefixOf(filePath);
+	}
+
+	/**
+	 * writes the entries in the persisted format
+	 *
+	 * @param entries	the entries by their portable workspace path
+	 * @param out		the stream to write to
+	 */
+	static void write(Map<String, CamelFileIndexEntry> entries, OutputStream out) throws IOException {
+		DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+		data.writeInt(FORMAT_VERSION);
+		data.writeInt(entries.size());
+		for (Map.Entry<String, CamelFileIndexEntry> e : entries.entrySet()) {
+			data.writeUTF(e.getKey());
+			e.getValue().write(data);
+		}
+		data.flush();
+	}
+
+	/**
+	 * reads the persisted entries
+	 *
+	 * @param in	the stream to read from
+	 * @return	the entries by their portable workspace path
+	 * @throws IOException	if the stream is broken or of an unknown format version
+	 */
+	static Map<String, CamelFileIndexEntry> read(InputStream in) throws IOException {
+		DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+		int version = data.readInt();
+		if (version != FORMAT_VERSION) {
+			throw new IOException("Unknown Camel file index format " + version); //$NON-NLS-1$
+		}
+		int size = data.readInt();
+		Map<String, CamelFileIndexEntry> answer = new HashMap<>();
+		for (int i = 0; i < size; i++) {
+			answer.put(data.readUTF(), CamelFileIndexEntry.read(data));
+		}
+		return answer;
+	}
+
+	/**
+	 * indexes the open projects and processes the changed files in the background
+	 */
+	private class IndexJob extends Job {
+
+		IndexJob() {
+			super(Messages.indexingCamelFiles);
+			setSystem(true);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			processPendingFiles();
+			for (IProject project : ResourcesPlugin.getWorkspace().getRoot().getProjects()) {
+				if (monitor.isCanceled()) {
+					return Status.CANCEL_STATUS;
+				}
+				if (project.isAccessible() && !indexedProjects.contains(project)) {
+					indexProject(project, monitor);
+					saveIfDue();
+				}
+			}
+			processPendingFiles();
+			Set<String> projectNames = new HashSet<>();
+			for (IProject project : indexedProjects) {
+				projectNames.add(project.getName());
+			}
+			updateCamelProjects(projectNames);
+			save();
+			runIndexedCallbacks();
+			return monitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
+		}
+	}
+}
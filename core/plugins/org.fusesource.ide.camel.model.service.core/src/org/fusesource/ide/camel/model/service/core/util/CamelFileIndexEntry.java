@@ -0,0 +1,200 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.camel.model.service.core.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.fusesource.ide.foundation.core.xml.namespace.BlueprintNamespaceHandler;
+import org.fusesource.ide.foundation.core.xml.namespace.SpringNamespaceHandler;
+
+/**
+ * what the {@link CamelFileIndex} knows about a single XML file
+ */
+public final class CamelFileIndexEntry {
+
+	public static final String DSL_SPRING = "spring";
+	public static final String DSL_BLUEPRINT = "blueprint";
+
+	private static final String CAMEL_CONTEXT = "camelContext";
+	private static final String ROUTE = "route";
+	private static final String ID = "id";
+
+	private final long timestamp;
+	private final boolean camelFile;
+	private final String dslType;
+	private final String camelNamespace;
+	private final List<String> contextIds;
+	private final List<String> routeIds;
+
+	CamelFileIndexEntry(long timestamp, boolean camelFile, String dslType, String camelNamespace, List<String> contextIds, List<String> routeIds) {
+		this.timestamp = timestamp;
+		this.camelFile = camelFile;
+		this.dslType = dslType;
+		this.camelNamespace = camelNamespace;
+		this.contextIds = Collections.unmodifiableList(contextIds);
+		this.routeIds = Collections.unmodifiableList(routeIds);
+	}
+
+	/**
+	 * @return	the local time stamp of the file when it was indexed
+	 */
+	public long getTimestamp() {
+		return timestamp;
+	}
+
+	/**
+	 * @return	true if the file has the Camel content type
+	 */
+	public boolean isCamelFile() {
+		return camelFile;
+	}
+
+	/**
+	 * @return	{@link #DSL_SPRING}, {@link #DSL_BLUEPRINT} or null for non Camel files
+	 */
+	public String getDslType() {
+		return dslType;
+	}
+
+	/**
+	 * @return	the Camel namespace used in the file or null for non Camel files
+	 */
+	public String getCamelNamespace() {
+		return camelNamespace;
+	}
+
+	/**
+	 * @return	the ids of the Camel contexts defined in the file
+	 */
+	public List<String> getContextIds() {
+		return contextIds;
+	}
+
+	/**
+	 * @return	the ids of the routes defined in the file
+	 */
+	public List<String> getRouteIds() {
+		return routeIds;
+	}
+
+	/**
+	 * creates the entry of a file
+	 *
+	 * @param timestamp	the local time stamp of the file
+	 * @param content	the file content
+	 * @param camelFile	true if the file has the Camel content type
+	 * @return	the entry, Camel files which can't be parsed have no ids
+	 */
+	static CamelFileIndexEntry create(long timestamp, byte[] content, boolean camelFile) {
+		List<String> contextIds = new ArrayList<>();
+		List<String> routeIds = new ArrayList<>();
+		if (!camelFile) {
+			return new CamelFileIndexEntry(timestamp, false, null, null, contextIds, routeIds);
+		}
+		String namespace = null;
+		try {
+			XMLInputFactory factory = XMLInputFactory.newInstance();
+			factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+			factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+			XMLStreamReader reader = factory.createXMLStreamReader(new ByteArrayInputStream(content));
+			try {
+				while (reader.hasNext()) {
+					if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+						continue;
+					}
+					if (namespace == null) {
+						namespace = findCamelNamespace(reader);
+					}
+					if (!isCamelNamespace(reader.getNamespaceURI())) {
+						continue;
+					}
+					String id = reader.getAttributeValue(null, ID);
+					if (id != null && CAMEL_CONTEXT.equals(reader.getLocalName())) {
+						contextIds.add(id);
+					} else if (id != null && ROUTE.equals(reader.getLocalName())) {
+						routeIds.add(id);
+					}
+				}
+			} finally {
+				reader.close();
+			}
+		} catch (XMLStreamException ex) {
+			// keep what was found until the broken part
+		}
+		String dslType = BlueprintNamespaceHandler.NAMESPACEURI_CAMEL_BLUEPRINT.equals(namespace) ? DSL_BLUEPRINT : DSL_SPRING;
+		return new CamelFileIndexEntry(timestamp, true, dslType, namespace, contextIds, routeIds);
+	}
+
+	/**
+	 * @return	the Camel namespace used by or declared on the current element, if any
+	 */
+	private static String findCamelNamespace(XMLStreamReader reader) {
+		if (isCamelNamespace(reader.getNamespaceURI())) {
+			return reader.getNamespaceURI();
+		}
+		for (int i = 0; i < reader.getNamespaceCount(); i++) {
+			if (isCamelNamespace(reader.getNamespaceURI(i))) {
+				return reader.getNamespaceURI(i);
+			}
+		}
+		return null;
+	}
+
+	private static boolean isCamelNamespace(String uri) {
+		return SpringNamespaceHandler.NAMESPACEURI_CAMEL_SPRING.equals(uri) || BlueprintNamespaceHandler.NAMESPACEURI_CAMEL_BLUEPRINT.equals(uri);
+	}
+
+	void write(DataOutput out) throws IOException {
+		out.writeLong(timestamp);
+		out.writeBoolean(camelFile);
+		out.writeUTF(dslType != null ? dslType : "");
+		out.writeUTF(camelNamespace != null ? camelNamespace : "");
+		writeList(out, contextIds);
+		writeList(out, routeIds);
+	}
+
+	static CamelFileIndexEntry read(DataInput in) throws IOException {
+		long timestamp = in.readLong();
+		boolean camelFile = in.readBoolean();
+		String dslType = in.readUTF();
+		String camelNamespace = in.readUTF();
+		List<String> contextIds = readList(in);
+		List<String> routeIds = readList(in);
+		return new CamelFileIndexEntry(timestamp, camelFile, dslType.isEmpty() ? null : dslType, camelNamespace.isEmpty() ? null : camelNamespace, contextIds, routeIds);
+	}
+
+	private static void writeList(DataOutput out, List<String> values) throws IOException {
+		out.writeInt(values.size());
+		for (String value : values) {
+			out.writeUTF(value);
+		}
+	}
+
+	private static List<String> readList(DataInput in) throws IOException {
+		int size = in.readInt();
+		List<String> values = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			values.add(in.readUTF());
+		}
+		return values;
+	}
+}
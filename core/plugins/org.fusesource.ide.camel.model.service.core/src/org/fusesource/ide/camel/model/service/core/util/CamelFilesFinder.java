@@ -10,18 +10,17 @@
  ******************************************************************************/
 package org.fusesource.ide.camel.model.service.core.util;
 
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.nio.file.Files;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
-import org.eclipse.core.runtime.content.XMLContentDescriber;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.ui.IEditorPart;
 import org.eclipse.ui.IEditorReference;
 import org.eclipse.ui.IWorkbenchPage;
@@ -31,7 +30,6 @@ import org.fusesource.ide.camel.model.service.core.internal.CamelModelServiceCor
 import org.fusesource.ide.camel.model.service.core.internal.Trace;
 import org.fusesource.ide.camel.model.service.core.model.CamelFile;
 import org.fusesource.ide.foundation.core.util.CamelUtils;
-import org.fusesource.ide.foundation.core.xml.namespace.CamelNamespaceXmlContentDescriber;
 import org.fusesource.ide.foundation.ui.io.CamelXMLEditorInput;
 
 public class CamelFilesFinder {
@@ -48,21 +46,49 @@ public class CamelFilesFinder {
 		if (isPerformanceTraceOptionActivated) {
 			initialTime = System.currentTimeMillis();
 		}
-		Set<IFile> res = new HashSet<>();
+		Set<IFile> res;
+		CamelFileIndex index = CamelFileIndex.getInstance();
+		if (index.isIndexed(resource) && index.isProjectIndexed(resource)) {
+			// changed files inside the resource which are still pending are sniffed one by one
+			res = index.getCamelFiles(resource);
+		} else {
+			// the project is still being indexed in the background, this caller needs the complete answer
+			res = new HashSet<>();
+			findFiles(resource, res::add, new NullProgressMonitor());
+		}
+		if(isPerformanceTraceOptionActivated) {
+			long totalTime = System.currentTimeMillis() - initialTime;
+			Trace.trace(Trace.PERFORMANCE_TRACE_OPTION, "Time (ms) spent on resource "+ resource.getName() + " to determine if it is/contains Camel files : " + totalTime);
+		}
+		return res;
+	}
+
+	/**
+	 * reports the Camel files in the resource one by one as they are found,
+	 * build output folders and test sources are skipped
+	 * 
+	 * @param resource the resource in which the search occurs
+	 * @param collector receives the found files
+	 * @param monitor checked for cancellation between the files
+	 */
+	public void findFiles(IResource resource, Consumer<IFile> collector, IProgressMonitor monitor) {
 		if (resource instanceof IContainer && resource.exists()) {
 			try {
 				IResource[] children = ((IContainer)resource).members();
 				for (IResource f : children) {
+					if (monitor.isCanceled()) {
+						return;
+					}
 					if (f instanceof IContainer) {
 						if (!isWorkProjectFolder(resource.getProject(), f) && 
 							!isTestProjectFolder(resource.getProject(), f)) {
-							res.addAll(findFiles(f));
+							findFiles(f, collector, monitor);
 						}
 					} else {
 						IFile ifile = (IFile)f;
 						try {
 							if (isFuseCamelContentType(ifile)) {
-								res.add(ifile);
+								collector.accept(ifile);
 							}
 						} catch (CoreException e) {
 							CamelModelServiceCoreActivator.pluginLog().logError(e);
@@ -73,11 +99,6 @@ public class CamelFilesFinder {
 				CamelModelServiceCoreActivator.pluginLog().logError(e1);
 			}
 		}
-		if(isPerformanceTraceOptionActivated) {
-			long totalTime = System.currentTimeMillis() - initialTime;
-			Trace.trace(Trace.PERFORMANCE_TRACE_OPTION, "Time (ms) spent on resource "+ resource.getName() + " to determine if it is/contains Camel files : " + totalTime);
-		}
-		return res;
 	}
 
 	public boolean isWorkProjectFolder(IProject project, IResource f) {
@@ -107,20 +128,11 @@ public class CamelFilesFinder {
 	 */
 	public boolean isFuseCamelContentType(IFile ifile) throws CoreException {
 		if(isFileReadyForCheck(ifile) && ifile.getName().endsWith(".xml")){
-			try {
-				ByteArrayInputStream markableAndResettableStream = createMarkableAndResetableInputStream(ifile);
-				return XMLContentDescriber.VALID == new CamelNamespaceXmlContentDescriber().describe(markableAndResettableStream, null);
-			} catch (IOException e) {
-				CamelModelServiceCoreActivator.pluginLog().logInfo("Cannot check Content type of "+ ifile.getName(), e); //$NON-NLS-1$
-			}
+			return CamelFileIndex.getInstance().isCamelFile(ifile);
 		}
 		return false;
 	}
 
-	private ByteArrayInputStream createMarkableAndResetableInputStream(IFile ifile) throws IOException {
-		return new ByteArrayInputStream(Files.readAllBytes(ifile.getLocation().toFile().toPath()));
-	}
-
 	private boolean isFileReadyForCheck(IFile ifile) {
 		return ifile != null
 				&& ifile.isSynchronized(IResource.DEPTH_ZERO)
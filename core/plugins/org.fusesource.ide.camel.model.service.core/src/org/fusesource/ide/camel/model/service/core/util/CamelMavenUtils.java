@@ -14,7 +14,6 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Properties;
 
 import org.apache.maven.model.Dependency;
 import org.apache.maven.model.Model;
@@ -40,18 +39,17 @@ public class CamelMavenUtils {
 	public static final QualifiedName CAMEL_VERSION_QNAME = new QualifiedName(CamelModelServiceCoreActivator.PLUGIN_ID, "camelVersionString");
 		
 	public List<Repository> getRepositories(IProject project, IProgressMonitor monitor) {
-		IMavenProjectFacade projectFacade = getMavenProjectFacade(project);
-		List<Repository> reps = new ArrayList<>();
-		if (projectFacade != null) {
-			try {
-				MavenProject mavenProject = projectFacade.getMavenProject(monitor);
-				reps.addAll(getRepositories(mavenProject));
-			} catch (CoreException e) {
-				CamelModelServiceCoreActivator.pluginLog().logError(
-						"Maven project has not been found (not imported?). Repositories won't be resolved.", e);
-			}
-		}
-		return reps;
+		MavenProjectFacts facts = getMavenProjectFacts(project, monitor);
+		return facts != null ? facts.getRepositories() : new ArrayList<>();
+	}
+	
+	/**
+	 * @param project	the project
+	 * @param monitor	the progress monitor
+	 * @return	the cached Maven facts of the project or null if it is no Maven project
+	 */
+	public MavenProjectFacts getMavenProjectFacts(IProject project, IProgressMonitor monitor) {
+		return MavenProjectFactsCache.getInstance().getFacts(project, monitor);
 	}
 	
 	public List<Repository> getRepositories(MavenProject project) {
@@ -78,18 +76,6 @@ public class CamelMavenUtils {
 		return Collections.emptyList();
 	}
 
-	private void translateVariables(List<Dependency> deps, Model model) {
-		for (Dependency dep : deps) {
-			if (dep.getVersion() != null && dep.getVersion().startsWith("${")) {
-				String propName = dep.getVersion().substring(2, dep.getVersion().length()-1);
-				if (model.getProperties() != null) {
-					String version = (String)model.getProperties().get(propName);
-					dep.setVersion(version);
-				}
-			}
-		}
-	}
-
 	/**
 	 * /!\ public for test purpose
 	 * 
@@ -130,16 +116,13 @@ public class CamelMavenUtils {
 		try {
 			// lets cache the camel version used in a project
 			if (!useCachedCamelVersionInfo || project.getSessionProperty(CAMEL_VERSION_QNAME) == null) {
-				List<Dependency> deps = getDependencyList(project);
-				if (deps.isEmpty()) {
+				MavenProjectFacts facts = getMavenProjectFacts(project, new NullProgressMonitor());
+				if (facts == null || facts.hasNoDependencies()) {
 					// probably a remote edit route -> load latest default version
 					camelVersion = CamelCatalogUtils.getLatestCamelVersion();
 				} else {
-					camelVersion = getCamelVersionFromDependencies(deps);
-					if (camelVersion == null) {
-						camelVersion = getCamelVersionFromProperty(project);
-					}
-				}				
+					camelVersion = facts.getCamelVersion();
+				}
 				project.setSessionProperty(CAMEL_VERSION_QNAME, camelVersion);
 			} else {
 				camelVersion = (String)project.getSessionProperty(CAMEL_VERSION_QNAME);
@@ -151,18 +134,6 @@ public class CamelMavenUtils {
 		return camelVersion;
 	}
 
-	private String getCamelVersionFromProperty(IProject project) {
-		IMavenProjectFacade m2facade = getMavenProjectFacade(project);
-		try {
-			MavenProject m2Project = m2facade.getMavenProject(new NullProgressMonitor());
-			Properties mavenProperties = m2Project.getProperties();
-			return mavenProperties.getProperty("camel.version");
-		} catch (CoreException e) {
-			CamelModelServiceCoreActivator.pluginLog().logError(e);
-		}
-		return null;
-	}
-
 	public Model getMavenModel(IProject project) {
 		return getMavenModel(project, false);
 	}
@@ -191,35 +162,17 @@ public class CamelMavenUtils {
 	}
 	
 	public List<Dependency> getDependencyList(IProject project, boolean includeManagedDependencies) {
-		IMavenProjectFacade m2facade = getMavenProjectFacade(project);
-		List<Dependency> deps = new ArrayList<>();
-		if (m2facade != null) {
-			try {
-				MavenProject m2Project = m2facade.getMavenProject(new NullProgressMonitor());
-				deps.addAll(m2Project.getCompileDependencies());
-				deps.addAll(m2Project.getDependencies());
-				deps.addAll(m2Project.getRuntimeDependencies());
-				deps.addAll(m2Project.getSystemDependencies());
-				deps.addAll(m2Project.getTestDependencies());
-				if (m2Project.getDependencyManagement() != null && includeManagedDependencies) {
-					deps.addAll(m2Project.getDependencyManagement().getDependencies());
-				}
-				translateVariables(deps, m2Project.getModel());
-			} catch (CoreException ex) {
-				CamelModelServiceCoreActivator.pluginLog().logError(ex);
-			}
-		}
-		return deps;
+		MavenProjectFacts facts = getMavenProjectFacts(project, new NullProgressMonitor());
+		return facts != null ? facts.getDependencies(includeManagedDependencies) : new ArrayList<>();
 	}
-	
-	private String getCamelVersionFromDependencies(List<Dependency> deps) {
-		for (Dependency pomDep : deps) {
-			if (CamelCatalogUtils.CATALOG_KARAF_GROUPID.equalsIgnoreCase(pomDep.getGroupId()) && 
-				pomDep.getArtifactId().startsWith("camel-")) {
-				return pomDep.getVersion();
-			}
-		}
-		return null;
+
+	/**
+	 * @param project	the project
+	 * @return	the dependencies of the Camel and WildFly Camel groups declared in the pom.xml
+	 */
+	public List<Dependency> getCamelDependencyList(IProject project) {
+		MavenProjectFacts facts = getMavenProjectFacts(project, new NullProgressMonitor());
+		return facts != null ? facts.getCamelDependencies() : new ArrayList<>();
 	}
 
 	/**
@@ -229,14 +182,8 @@ public class CamelMavenUtils {
 	 * @return
 	 */
 	public String getWildFlyCamelVersionFromMaven(IProject project) {
-		// get any wildfly camel dep
-		List<Dependency> deps = getDependencyList(project);
-		for (Dependency pomDep : deps) {
-			if (CamelCatalogUtils.CATALOG_WILDFLY_GROUPID.equalsIgnoreCase(pomDep.getGroupId())) {
-				return pomDep.getVersion();
-			}
-		}
-		return null;
+		MavenProjectFacts facts = getMavenProjectFacts(project, new NullProgressMonitor());
+		return facts != null ? facts.getWildFlyCamelVersion() : null;
 	}
 
 	/**
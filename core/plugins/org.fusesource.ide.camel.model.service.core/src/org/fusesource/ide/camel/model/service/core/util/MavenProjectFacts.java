@@ -0,0 +1,186 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.camel.model.service.core.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Repository;
+import org.apache.maven.project.MavenProject;
+
+/**
+ * the Camel related facts of a resolved Maven project. They are computed
+ * once by the {@link MavenProjectFactsCache} and never change afterwards,
+ * so all getters hand out copies of the dependencies.
+ */
+public final class MavenProjectFacts {
+
+	static final String CAMEL_VERSION_PROPERTY = "camel.version"; //$NON-NLS-1$
+
+	private final List<Dependency> dependencies;
+	private final List<Dependency> managedDependencies;
+	private final List<Repository> repositories;
+	private final String camelVersion;
+	private final String wildFlyCamelVersion;
+	private final String runtimeProvider;
+	private final Dependency bom;
+
+	private MavenProjectFacts(List<Dependency> dependencies, List<Dependency> managedDependencies, List<Repository> repositories,
+			String camelVersion, String wildFlyCamelVersion, String runtimeProvider, Dependency bom) {
+		this.dependencies = dependencies;
+		this.managedDependencies = managedDependencies;
+		this.repositories = repositories;
+		this.camelVersion = camelVersion;
+		this.wildFlyCamelVersion = wildFlyCamelVersion;
+		this.runtimeProvider = runtimeProvider;
+		this.bom = bom;
+	}
+
+	/**
+	 * @param mavenProject	the resolved project
+	 * @param repositories	the repositories declared in the pom
+	 * @return	the facts of the project
+	 */
+	static MavenProjectFacts create(MavenProject mavenProject, List<Repository> repositories) {
+		List<Dependency> resolved = new ArrayList<>();
+		resolved.addAll(mavenProject.getCompileDependencies());
+		resolved.addAll(mavenProject.getDependencies());
+		resolved.addAll(mavenProject.getRuntimeDependencies());
+		resolved.addAll(mavenProject.getSystemDependencies());
+		resolved.addAll(mavenProject.getTestDependencies());
+		List<Dependency> managed = mavenProject.getDependencyManagement() != null ? mavenProject.getDependencyManagement().getDependencies() : null;
+		return create(resolved, mavenProject.getDependencies(), managed, mavenProject.getModel().getProperties(), repositories);
+	}
+
+	/**
+	 * @param resolved		the compile, declared, runtime, system and test dependencies
+	 * @param declared		the dependencies declared in the pom
+	 * @param managed		the managed dependencies, may be null
+	 * @param properties	the pom properties, may be null
+	 * @param repositories	the repositories declared in the pom
+	 * @return	the facts of the project
+	 */
+	static MavenProjectFacts create(List<Dependency> resolved, List<Dependency> declared, List<Dependency> managed, Properties properties, List<Repository> repositories) {
+		List<Dependency> deps = translateVariables(copy(resolved), properties);
+		List<Dependency> managedDeps = translateVariables(copy(managed), properties);
+
+		String camelVersion = null;
+		String wildFlyCamelVersion = null;
+		for (Dependency dep : deps) {
+			if (camelVersion == null && CamelCatalogUtils.CATALOG_KARAF_GROUPID.equalsIgnoreCase(dep.getGroupId()) && dep.getArtifactId().startsWith("camel-")) { //$NON-NLS-1$
+				camelVersion = dep.getVersion();
+			}
+			if (wildFlyCamelVersion == null && CamelCatalogUtils.CATALOG_WILDFLY_GROUPID.equalsIgnoreCase(dep.getGroupId())) {
+				wildFlyCamelVersion = dep.getVersion();
+			}
+		}
+		if (camelVersion == null && properties != null) {
+			camelVersion = properties.getProperty(CAMEL_VERSION_PROPERTY);
+		}
+
+		Dependency bom = managed != null ? managed.stream().filter(new FuseBomFilter()).findAny().map(Dependency::clone).orElse(null) : null;
+
+		return new MavenProjectFacts(deps, managedDeps,
+				repositories != null ? new ArrayList<>(repositories) : Collections.<Repository>emptyList(),
+				camelVersion, wildFlyCamelVersion, CamelCatalogUtils.getRuntimeProviderFromDependencyList(declared), bom);
+	}
+
+	private static List<Dependency> copy(List<Dependency> deps) {
+		List<Dependency> copies = new ArrayList<>();
+		if (deps != null) {
+			for (Dependency dep : deps) {
+				copies.add(dep.clone());
+			}
+		}
+		return copies;
+	}
+
+	private static List<Dependency> translateVariables(List<Dependency> deps, Properties properties) {
+		for (Dependency dep : deps) {
+			if (dep.getVersion() != null && dep.getVersion().startsWith("${") && properties != null) { //$NON-NLS-1$
+				String propName = dep.getVersion().substring(2, dep.getVersion().length()-1);
+				dep.setVersion(properties.getProperty(propName));
+			}
+		}
+		return deps;
+	}
+
+	/**
+	 * @param includeManagedDependencies	true to append the managed dependencies
+	 * @return	a copy of the dependencies with resolved version variables
+	 */
+	public List<Dependency> getDependencies(boolean includeManagedDependencies) {
+		List<Dependency> deps = copy(dependencies);
+		if (includeManagedDependencies) {
+			deps.addAll(copy(managedDependencies));
+		}
+		return deps;
+	}
+
+	/**
+	 * @return	a copy of the dependencies of the Camel and WildFly Camel groups
+	 */
+	public List<Dependency> getCamelDependencies() {
+		List<Dependency> deps = new ArrayList<>();
+		for (Dependency dep : dependencies) {
+			if (CamelCatalogUtils.CATALOG_KARAF_GROUPID.equalsIgnoreCase(dep.getGroupId())
+					|| CamelCatalogUtils.CATALOG_WILDFLY_GROUPID.equalsIgnoreCase(dep.getGroupId())) {
+				deps.add(dep.clone());
+			}
+		}
+		return deps;
+	}
+
+	/**
+	 * @return	true if the project has no dependencies at all
+	 */
+	public boolean hasNoDependencies() {
+		return dependencies.isEmpty();
+	}
+
+	/**
+	 * @return	a copy of the repositories and plugin repositories declared in the pom
+	 */
+	public List<Repository> getRepositories() {
+		return new ArrayList<>(repositories);
+	}
+
+	/**
+	 * @return	the version of the first Camel dependency, the camel.version property or null
+	 */
+	public String getCamelVersion() {
+		return camelVersion;
+	}
+
+	/**
+	 * @return	the version of the first WildFly Camel dependency or null
+	 */
+	public String getWildFlyCamelVersion() {
+		return wildFlyCamelVersion;
+	}
+
+	/**
+	 * @return	the runtime provider derived from the declared dependencies
+	 */
+	public String getRuntimeProvider() {
+		return runtimeProvider;
+	}
+
+	/**
+	 * @return	a copy of the imported Fuse BOM or null
+	 */
+	public Dependency getBom() {
+		return bom != null ? bom.clone() : null;
+	}
+}
@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.camel.model.service.core.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.maven.project.MavenProject;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.m2e.core.internal.IMavenConstants;
+import org.eclipse.m2e.core.project.IMavenProjectChangedListener;
+import org.eclipse.m2e.core.project.IMavenProjectFacade;
+import org.eclipse.m2e.core.project.MavenProjectChangedEvent;
+import org.fusesource.ide.camel.model.service.core.internal.CamelModelServiceCoreActivator;
+
+/**
+ * resolves the {@link MavenProjectFacts} of a project once and keeps them
+ * until m2e reports a change of the Maven project or the pom.xml of the
+ * project changes.
+ */
+public class MavenProjectFactsCache implements IMavenProjectChangedListener, IResourceChangeListener {
+
+	private static final IPath POM_PATH = new Path(IMavenConstants.POM_FILE_NAME);
+	private static final MavenProjectFactsCache instance = new MavenProjectFactsCache();
+
+	private final Map<IProject, MavenProjectFacts> facts = new ConcurrentHashMap<>();
+	// facts resolved while an invalidation happened are outdated
+	private final AtomicLong generation = new AtomicLong();
+
+	/**
+	 * @return	the shared cache
+	 */
+	public static MavenProjectFactsCache getInstance() {
+		return instance;
+	}
+
+	/**
+	 * @param project	the project
+	 * @param monitor	the progress monitor, may be null
+	 * @return	the facts of the project or null if it is no Maven project
+	 */
+	public MavenProjectFacts getFacts(IProject project, IProgressMonitor monitor) {
+		if (project == null) {
+			return null;
+		}
+		MavenProjectFacts projectFacts = facts.get(project);
+		if (projectFacts == null) {
+			long resolvedGeneration = generation.get();
+			projectFacts = resolve(project, monitor != null ? monitor : new NullProgressMonitor());
+			if (projectFacts != null && resolvedGeneration == generation.get()) {
+				facts.put(project, projectFacts);
+			}
+		}
+		return projectFacts;
+	}
+
+	/**
+	 * the next access resolves the facts of the project again
+	 *
+	 * @param project	the project
+	 */
+	public void invalidate(IProject project) {
+		generation.incrementAndGet();
+		facts.remove(project);
+	}
+
+	/**
+	 * drops the facts of all projects
+	 */
+	public void clear() {
+		generation.incrementAndGet();
+		facts.clear();
+	}
+
+	protected MavenProjectFacts resolve(IProject project, IProgressMonitor monitor) {
+		CamelMavenUtils cmu = new CamelMavenUtils();
+		IMavenProjectFacade facade = cmu.getMavenProjectFacade(project);
+		if (facade != null) {
+			try {
+				MavenProject mavenProject = facade.getMavenProject(monitor);
+				if (mavenProject != null) {
+					return MavenProjectFacts.create(mavenProject, cmu.getRepositories(mavenProject));
+				}
+			} catch (CoreException ex) {
+				CamelModelServiceCoreActivator.pluginLog().logError(
+						"Maven project has not been found (not imported?). Maven facts won't be resolved.", ex); //$NON-NLS-1$
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public void mavenProjectChanged(MavenProjectChangedEvent[] events, IProgressMonitor monitor) {
+		for (MavenProjectChangedEvent event : events) {
+			invalidate(event.getMavenProject());
+			invalidate(event.getOldMavenProject());
+		}
+	}
+
+	private void invalidate(IMavenProjectFacade facade) {
+		if (facade != null) {
+			invalidate(facade.getProject());
+		}
+	}
+
+	@Override
+	public void resourceChanged(IResourceChangeEvent event) {
+		IResourceDelta delta = event.getDelta();
+		if (delta == null) {
+			return;
+		}
+		for (IResourceDelta projectDelta : delta.getAffectedChildren()) {
+			if (projectDelta.getResource() instanceof IProject
+					&& (projectDelta.getKind() == IResourceDelta.REMOVED || projectDelta.findMember(POM_PATH) != null)) {
+				invalidate((IProject) projectDelta.getResource());
+			}
+		}
+	}
+}
@@ -22,6 +22,7 @@ import org.apache.maven.project.MavenProject;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.m2e.core.MavenPlugin;
@@ -39,15 +40,14 @@ public class OnlineArtifactVersionSearcher {
 		SubMonitor subMon = SubMonitor.convert(monitor, 2);
 		String bomVersion = null;
 		try {
-			if (project != null) {
-				IMavenProjectFacade mavenProjectFacade = new CamelMavenUtils().getMavenProjectFacade(project);
-				MavenProject mavenProject = mavenProjectFacade.getMavenProject(subMon.split(1));
-
-				Dependency bomUsed = retrieveAnyFuseBomUsed(mavenProject);
-
-				if (bomUsed != null) {
-					bomVersion = findLatestBomVersionOnAvailableRepo(project, subMon.split(1), mavenProject, bomUsed);
-				}
+			CamelMavenUtils cmu = new CamelMavenUtils();
+			MavenProjectFacts facts = cmu.getMavenProjectFacts(project, subMon.split(1));
+			Dependency bomUsed = facts != null ? facts.getBom() : null;
+			IMavenProjectFacade mavenProjectFacade = bomUsed != null ? cmu.getMavenProjectFacade(project) : null;
+			if (mavenProjectFacade != null) {
+				// the facade keeps the resolved project, asking for it again is cheap
+				MavenProject mavenProject = mavenProjectFacade.getMavenProject(new NullProgressMonitor());
+				bomVersion = findLatestBomVersionOnAvailableRepo(project, subMon.split(1), mavenProject, bomUsed);
 			}
 		} catch (CoreException e) {
 			CamelModelServiceCoreActivator.pluginLog().logError(e);
@@ -111,11 +111,6 @@ public class OnlineArtifactVersionSearcher {
 	}
 	
 
-	private Dependency retrieveAnyFuseBomUsed(MavenProject mavenProject) {
-		DependencyManagement dependencyManagement = mavenProject.getDependencyManagement();
-		return retrieveAnyFuseBomUsed(dependencyManagement);
-	}
-
 	public Dependency retrieveAnyFuseBomUsed(DependencyManagement dependencyManagement) {
 		if(dependencyManagement != null) {
 			List<Dependency> managedDependencies = dependencyManagement.getDependencies();
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.camel.model.service.core.util;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.fusesource.ide.camel.model.service.core.internal.CamelModelServiceCoreActivator;
+
+/**
+ * shares one class loader over the classpath of a project between all
+ * clients. Every {@link #acquire(IProject)} has to be followed by a
+ * {@link #release(URLClassLoader)}. When the classpath changes the next
+ * client gets a new class loader and the old one is closed once the last
+ * client released it.
+ */
+public class ProjectClassLoaderCache {
+
+	private static final ProjectClassLoaderCache instance = new ProjectClassLoaderCache();
+
+	private final Map<IProject, URLClassLoader> current = new HashMap<>();
+	private final Map<URLClassLoader, Integer> references = new IdentityHashMap<>();
+
+	/**
+	 * @return	the shared cache
+	 */
+	public static ProjectClassLoaderCache getInstance() {
+		return instance;
+	}
+
+	/**
+	 * @param project	the project
+	 * @return	the class loader of the project classpath or null if it can't be created
+	 */
+	public synchronized URLClassLoader acquire(IProject project) {
+		URLClassLoader loader = current.get(project);
+		if (loader == null) {
+			loader = createClassLoader(project);
+			if (loader == null) {
+				return null;
+			}
+			current.put(project, loader);
+			references.put(loader, 0);
+		}
+		references.put(loader, references.get(loader) + 1);
+		return loader;
+	}
+
+	/**
+	 * @param loader	a class loader returned by {@link #acquire(IProject)}, may be null
+	 */
+	public synchronized void release(URLClassLoader loader) {
+		Integer count = loader != null ? references.get(loader) : null;
+		if (count == null) {
+			return;
+		}
+		if (count > 1) {
+			references.put(loader, count - 1);
+		} else if (current.containsValue(loader)) {
+			// kept for the next client until the classpath changes
+			references.put(loader, 0);
+		} else {
+			references.remove(loader);
+			close(loader);
+		}
+	}
+
+	/**
+	 * the next client of the project gets a new class loader
+	 *
+	 * @param project	the project
+	 */
+	public synchronized void invalidate(IProject project) {
+		URLClassLoader loader = current.remove(project);
+		if (loader != null && references.get(loader) == 0) {
+			references.remove(loader);
+			close(loader);
+		}
+	}
+
+	/**
+	 * closes the unused class loaders and forgets about the others
+	 */
+	public synchronized void clear() {
+		for (URLClassLoader loader : new ArrayList<>(current.values())) {
+			if (references.get(loader) == 0) {
+				references.remove(loader);
+				close(loader);
+			}
+		}
+		current.clear();
+	}
+
+	/**
+	 * @return	the number of clients using the loader
+	 */
+	synchronized int getReferenceCount(URLClassLoader loader) {
+		Integer count = references.get(loader);
+		return count != null ? count : 0;
+	}
+
+	protected URLClassLoader createClassLoader(IProject project) {
+		try {
+			IJavaProject javaProject = (IJavaProject) project.getNature(JavaCore.NATURE_ID);
+			IPackageFragmentRoot[] pfroots = javaProject.getAllPackageFragmentRoots();
+			List<URL> urls = new ArrayList<>();
+			for (IPackageFragmentRoot root : pfroots) {
+				urls.add(root.getPath().toFile().toURI().toURL());
+			}
+			return new URLClassLoader(urls.toArray(new URL[urls.size()]), CamelComponentUtils.class.getClassLoader());
+		} catch (CoreException | IOException | RuntimeException ex) {
+			CamelModelServiceCoreActivator.pluginLog().logError(ex);
+		}
+		return null;
+	}
+
+	private static void close(URLClassLoader loader) {
+		try {
+			loader.close();
+		} catch (IOException ex) {
+			CamelModelServiceCoreActivator.pluginLog().logError(ex);
+		}
+	}
+}
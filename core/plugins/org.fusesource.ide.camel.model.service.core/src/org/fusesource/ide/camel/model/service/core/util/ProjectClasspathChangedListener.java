@@ -58,9 +58,7 @@ public class ProjectClasspathChangedListener implements IElementChangedListener,
 	
 	@Override
 	public void elementChanged(ElementChangedEvent event) {
-		if (isActivated) {
-			visit(event.getDelta());
-		}
+		visit(event.getDelta());
 	}
 
 	@Override
@@ -72,6 +70,7 @@ public class ProjectClasspathChangedListener implements IElementChangedListener,
 					event.getType() == IResourceChangeEvent.PRE_DELETE) {
 				// closed and deleted projects are not considered
 				knownProjects.remove(prj);
+				invalidateClasspathCaches(prj);
 			} else {
 				if (isActivated && !knownProjects.containsKey(prj)) {
 					initializeProject(prj);
@@ -131,7 +130,10 @@ public class ProjectClasspathChangedListener implements IElementChangedListener,
 				break;
 			case IJavaElement.JAVA_PROJECT:
 				if (isClasspathChanged(delta.getFlags())) {
-					notifyClasspathChanged((IJavaProject) el);
+					invalidateClasspathCaches(((IJavaProject) el).getProject());
+					if (isActivated) {
+						notifyClasspathChanged((IJavaProject) el);
+					}
 				}
 				break;
 			default:
@@ -139,6 +141,11 @@ public class ProjectClasspathChangedListener implements IElementChangedListener,
 		}
 	}
 	
+	private void invalidateClasspathCaches(IProject project) {
+		ProjectClasspathIndex.getInstance().invalidate(project);
+		ProjectClassLoaderCache.getInstance().invalidate(project);
+	}
+
 	private void notifyClasspathChanged(IJavaProject project) {
 		// refresh catalog if needed
 		IProject prj = project.getProject();
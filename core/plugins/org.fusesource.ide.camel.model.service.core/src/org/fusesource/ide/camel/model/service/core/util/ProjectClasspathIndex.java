@@ -0,0 +1,200 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.camel.model.service.core.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaModelException;
+import org.fusesource.ide.camel.model.service.core.internal.CamelModelServiceCoreActivator;
+
+/**
+ * maps the Camel component schemes found on the classpath of a project to
+ * their component class and the jar defining them. Every jar is scanned only
+ * once for all schemes and the result is shared by all projects as long as
+ * the jar keeps its modification time. The index of a project is built on
+ * first access and dropped by the {@link ProjectClasspathChangedListener}
+ * when its classpath changes.
+ */
+public class ProjectClasspathIndex {
+
+	static final String COMPONENT_SERVICES_FOLDER = "META-INF/services/org/apache/camel/component/"; //$NON-NLS-1$
+
+	private static final ProjectClasspathIndex instance = new ProjectClasspathIndex();
+
+	private final Map<IProject, Map<String, SchemeEntry>> projectIndexes = new HashMap<>();
+	private final Map<File, JarEntry> jars = new HashMap<>();
+
+	/**
+	 * @return	the shared index
+	 */
+	public static ProjectClasspathIndex getInstance() {
+		return instance;
+	}
+
+	/**
+	 * a component found on the classpath
+	 */
+	public static final class SchemeEntry {
+		private final String componentClass;
+		private final File jar;
+
+		SchemeEntry(String componentClass, File jar) {
+			this.componentClass = componentClass;
+			this.jar = jar;
+		}
+
+		public String getComponentClass() {
+			return componentClass;
+		}
+
+		public File getJar() {
+			return jar;
+		}
+	}
+
+	/**
+	 * the schemes of a jar at a given modification time
+	 */
+	private static final class JarEntry {
+		private final long lastModified;
+		private final long length;
+		private final Map<String, String> schemes;
+
+		JarEntry(long lastModified, long length, Map<String, String> schemes) {
+			this.lastModified = lastModified;
+			this.length = length;
+			this.schemes = schemes;
+		}
+
+		boolean isUpToDate(File jar) {
+			return jar.lastModified() == lastModified && jar.length() == length;
+		}
+	}
+
+	/**
+	 * @param javaProject	the project
+	 * @param scheme		the component scheme
+	 * @return	the component found first on the classpath or null
+	 */
+	public SchemeEntry getComponent(IJavaProject javaProject, String scheme) {
+		return getIndex(javaProject).get(scheme);
+	}
+
+	/**
+	 * drops the index of the project, the next access rebuilds it
+	 *
+	 * @param project	the project
+	 */
+	public synchronized void invalidate(IProject project) {
+		projectIndexes.remove(project);
+		// old versions of updated dependencies
+		jars.keySet().removeIf(jar -> !jar.isFile());
+	}
+
+	/**
+	 * drops all indexes and scanned jars
+	 */
+	public synchronized void clear() {
+		projectIndexes.clear();
+		jars.clear();
+	}
+
+	private synchronized Map<String, SchemeEntry> getIndex(IJavaProject javaProject) {
+		IProject project = javaProject.getProject();
+		Map<String, SchemeEntry> index = projectIndexes.get(project);
+		if (index == null) {
+			index = buildIndex(getClasspathJars(javaProject));
+			projectIndexes.put(project, index);
+		}
+		return index;
+	}
+
+	private static List<File> getClasspathJars(IJavaProject javaProject) {
+		List<File> classpath = new ArrayList<>();
+		try {
+			for (IClasspathEntry e : javaProject.getResolvedClasspath(true)) {
+				classpath.add(e.getPath().toFile());
+			}
+		} catch (JavaModelException ex) {
+			CamelModelServiceCoreActivator.pluginLog().logError(ex);
+		}
+		return classpath;
+	}
+
+	/**
+	 * @param classpath	the classpath entries in classpath order
+	 * @return	the components by scheme, the first jar defining a scheme wins
+	 */
+	synchronized Map<String, SchemeEntry> buildIndex(List<File> classpath) {
+		Map<String, SchemeEntry> index = new HashMap<>();
+		for (File file : classpath) {
+			if (!isJarFile(file)) {
+				continue;
+			}
+			JarEntry jar = jars.get(file);
+			if (jar == null || !jar.isUpToDate(file)) {
+				jar = new JarEntry(file.lastModified(), file.length(), scanJar(file));
+				jars.put(file, jar);
+			}
+			for (Map.Entry<String, String> e : jar.schemes.entrySet()) {
+				index.putIfAbsent(e.getKey(), new SchemeEntry(e.getValue(), file));
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * @param jar	the jar file
+	 * @return	the component classes of the jar by scheme
+	 */
+	static Map<String, String> scanJar(File jar) {
+		Map<String, String> schemes = new HashMap<>();
+		try (ZipFile zf = new ZipFile(jar)) {
+			Enumeration<? extends ZipEntry> entries = zf.entries();
+			while (entries.hasMoreElements()) {
+				ZipEntry ze = entries.nextElement();
+				String name = ze.getName();
+				if (ze.isDirectory() || !name.startsWith(COMPONENT_SERVICES_FOLDER) || name.indexOf('/', COMPONENT_SERVICES_FOLDER.length()) != -1) {
+					continue;
+				}
+				Properties p = new Properties();
+				try (InputStream in = zf.getInputStream(ze)) {
+					p.load(in);
+				}
+				String componentClass = p.getProperty("class"); //$NON-NLS-1$
+				if (componentClass != null && !componentClass.trim().isEmpty()) {
+					schemes.put(name.substring(COMPONENT_SERVICES_FOLDER.length()), componentClass.trim());
+				}
+			}
+		} catch (IOException ex) {
+			CamelModelServiceCoreActivator.pluginLog().logError(ex);
+		}
+		return schemes.isEmpty() ? Collections.<String, String>emptyMap() : schemes;
+	}
+
+	static boolean isJarFile(File f) {
+		return f.isFile() && f.getName().toLowerCase().endsWith(".jar"); //$NON-NLS-1$
+	}
+}
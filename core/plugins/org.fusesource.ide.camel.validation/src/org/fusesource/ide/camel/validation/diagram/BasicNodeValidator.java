@@ -93,7 +93,7 @@ public class BasicNodeValidator implements ValidationSupport {
 	 */
 	private void createOrReuseMarkers(AbstractCamelModelElement camelModelElement, ValidationResult result, Set<IMarker> markersRelatedToElement) {
 		final CamelFile camelFile = camelModelElement.getCamelFile();
-		if (camelFile != null) {
+		if (camelFile != null && camelFile.getResource() != null) {
 			final IResource resource = camelFile.getResource();
 			for (String error : result.getErrors()) {
 				createOrReuseMarker(resource, camelModelElement, error, IMarker.SEVERITY_ERROR, markersRelatedToElement);
@@ -11,8 +11,10 @@
 
 package org.fusesource.ide.foundation.core.util;
 
+import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -118,7 +120,9 @@ public class CamelUtils {
 		try {
 			File file = ResourceModelUtils.toFile(ifile);
 			if (file != null) {
-				handler.parseContents(new InputSource(new FileInputStream(file)));
+				try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+					handler.parseContents(new InputSource(in));
+				}
 				return handler.isNamespaceFound();
 			}
 		} catch (Exception e) {
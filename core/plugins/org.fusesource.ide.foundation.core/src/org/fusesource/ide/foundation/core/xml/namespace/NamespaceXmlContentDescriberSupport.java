@@ -17,16 +17,9 @@ import java.io.Reader;
 import java.util.HashMap;
 import java.util.Map;
 
-import javax.xml.parsers.ParserConfigurationException;
-
-import org.eclipse.core.internal.content.ContentMessages;
-import org.eclipse.core.internal.runtime.RuntimeLog;
-import org.eclipse.core.runtime.IStatus;
-import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.content.IContentDescription;
 import org.eclipse.core.runtime.content.XMLContentDescriber;
 import org.xml.sax.InputSource;
-import org.xml.sax.SAXException;
 
 
 public abstract class NamespaceXmlContentDescriberSupport extends XMLContentDescriber {
@@ -100,22 +93,12 @@ public abstract class NamespaceXmlContentDescriberSupport extends XMLContentDesc
 	}
 
 	@SuppressWarnings("unchecked")
-	void fillContentProperties(InputSource input, Map properties) throws IOException {
+	void fillContentProperties(InputSource input, Map properties) {
 		FindNamespaceHandlerSupport xmlHandler = createNamespaceFinder();
-		try {
-			if (!xmlHandler.parseContents(input)) {
-				properties.put(RESULT, Boolean.FALSE);
-				return;
-			}
-		} catch (SAXException e) {
-			// we may be handed any kind of contents... it is normal we fail to parse
+		// contents which can't be parsed simply don't contain the namespaces
+		if (!xmlHandler.parseContents(input)) {
 			properties.put(RESULT, Boolean.FALSE);
 			return;
-		} catch (ParserConfigurationException e) {
-			// some bad thing happened - force this describer to be disabled
-			String message = ContentMessages.content_parserConfiguration;
-			RuntimeLog.log(new Status(IStatus.ERROR, ContentMessages.OWNER_NAME, 0, message, e));
-			throw new RuntimeException(message);
 		}
 		Boolean found = xmlHandler.isNamespaceFound() ? Boolean.TRUE : Boolean.FALSE;
 		properties.put(FOUND, found);
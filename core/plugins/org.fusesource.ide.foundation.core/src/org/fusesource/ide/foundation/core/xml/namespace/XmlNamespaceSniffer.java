@@ -0,0 +1,218 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.foundation.core.xml.namespace;
+
+import java.io.FilterInputStream;
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.Set;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * looks for namespaces in the prefix of an XML document. Every element is
+ * inspected, at any depth, both for the namespace it is in and the
+ * namespaces it declares. Parsing stops as soon as one of the wanted
+ * namespaces is found, when the root element is closed or when the limit
+ * of bytes (or chars) has been read, so large documents without the
+ * namespaces are never read completely.
+ */
+public class XmlNamespaceSniffer {
+
+	/**
+	 * the default number of bytes read before giving up
+	 */
+	public static final int DEFAULT_LIMIT = 256 * 1024;
+
+	private static final XMLInputFactory FACTORY = createFactory();
+
+	private final Set<String> namespaces;
+	private final int limit;
+
+	/**
+	 * @param namespaces	the namespaces to look for
+	 */
+	public XmlNamespaceSniffer(Set<String> namespaces) {
+		this(namespaces, DEFAULT_LIMIT);
+	}
+
+	/**
+	 * @param namespaces	the namespaces to look for
+	 * @param limit			the maximum number of bytes or chars to read
+	 */
+	public XmlNamespaceSniffer(Set<String> namespaces, int limit) {
+		this.namespaces = namespaces;
+		this.limit = limit;
+	}
+
+	/**
+	 * the stream is not closed
+	 *
+	 * @param contents	the XML document
+	 * @return	the first wanted namespace found or null if there is none in the inspected prefix
+	 */
+	public String sniff(InputStream contents) {
+		try {
+			return sniff(FACTORY.createXMLStreamReader(new LimitedInputStream(contents, limit)));
+		} catch (XMLStreamException ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * the reader is not closed
+	 *
+	 * @param contents	the XML document
+	 * @return	the first wanted namespace found or null if there is none in the inspected prefix
+	 */
+	public String sniff(Reader contents) {
+		try {
+			return sniff(FACTORY.createXMLStreamReader(new LimitedReader(contents, limit)));
+		} catch (XMLStreamException ex) {
+			return null;
+		}
+	}
+
+	private String sniff(XMLStreamReader reader) throws XMLStreamException {
+		try {
+			int depth = 0;
+			while (reader.hasNext()) {
+				int event = reader.next();
+				if (event == XMLStreamConstants.START_ELEMENT) {
+					depth++;
+					String found = findNamespace(reader);
+					if (found != null) {
+						return found;
+					}
+				} else if (event == XMLStreamConstants.END_ELEMENT && --depth == 0) {
+					return null;
+				}
+			}
+			return null;
+		} catch (XMLStreamException ex) {
+			// broken content or the limit was reached
+			return null;
+		} finally {
+			reader.close();
+		}
+	}
+
+	private String findNamespace(XMLStreamReader reader) {
+		if (isWanted(reader.getNamespaceURI())) {
+			return reader.getNamespaceURI();
+		}
+		for (int i = 0; i < reader.getNamespaceCount(); i++) {
+			if (isWanted(reader.getNamespaceURI(i))) {
+				return reader.getNamespaceURI(i);
+			}
+		}
+		return null;
+	}
+
+	private boolean isWanted(String uri) {
+		return uri != null && namespaces.contains(uri);
+	}
+
+	private static XMLInputFactory createFactory() {
+		XMLInputFactory factory = XMLInputFactory.newInstance();
+		factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+		factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+		return factory;
+	}
+
+	/**
+	 * reports the end of the stream once the limit is reached
+	 */
+	private static class LimitedInputStream extends FilterInputStream {
+		private int remaining;
+
+		LimitedInputStream(InputStream in, int limit) {
+			super(in);
+			this.remaining = limit;
+		}
+
+		@Override
+		public int read() throws IOException {
+			if (remaining <= 0) {
+				return -1;
+			}
+			int b = super.read();
+			if (b != -1) {
+				remaining--;
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (remaining <= 0) {
+				return -1;
+			}
+			int n = super.read(b, off, Math.min(len, remaining));
+			if (n > 0) {
+				remaining -= n;
+			}
+			return n;
+		}
+
+		@Override
+		public void close() throws IOException {
+			// the caller owns the stream
+		}
+	}
+
+	/**
+	 * reports the end of the stream once the limit is reached
+	 */
+	private static class LimitedReader extends FilterReader {
+		private int remaining;
+
+		LimitedReader(Reader in, int limit) {
+			super(in);
+			this.remaining = limit;
+		}
+
+		@Override
+		public int read() throws IOException {
+			if (remaining <= 0) {
+				return -1;
+			}
+			int c = super.read();
+			if (c != -1) {
+				remaining--;
+			}
+			return c;
+		}
+
+		@Override
+		public int read(char[] cbuf, int off, int len) throws IOException {
+			if (remaining <= 0) {
+				return -1;
+			}
+			int n = super.read(cbuf, off, Math.min(len, remaining));
+			if (n > 0) {
+				remaining -= n;
+			}
+			return n;
+		}
+
+		@Override
+		public void close() throws IOException {
+			// the caller owns the reader
+		}
+	}
+}
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.camel.model.service.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.core.runtime.Path;
+import org.junit.Test;
+
+public class CamelFileIndexTest {
+
+	private static final String BLUEPRINT = "<blueprint xmlns=\"http://www.osgi.org/xmlns/blueprint/v1.0.0\">"
+			+ "<camelContext id=\"blueprintContext\" xmlns=\"http://camel.apache.org/schema/blueprint\">"
+			+ "<route id=\"r1\"><from uri=\"timer:a\"/><to id=\"_to1\" uri=\"log:a\"/></route>"
+			+ "<route id=\"r2\"><from uri=\"timer:b\"/></route>"
+			+ "</camelContext></blueprint>";
+	private static final String SPRING = "<beans xmlns=\"http://www.springframework.org/schema/beans\" xmlns:camel=\"http://camel.apache.org/schema/spring\">"
+			+ "<camel:camelContext id=\"springContext\"><camel:route id=\"s1\"><camel:from uri=\"timer:a\"/></camel:route></camel:camelContext>"
+			+ "</beans>";
+
+	@Test
+	public void testBlueprintEntry() throws Exception {
+		CamelFileIndexEntry entry = CamelFileIndexEntry.create(42L, bytes(BLUEPRINT), true);
+
+		assertThat(entry.isCamelFile()).isTrue();
+		assertThat(entry.getTimestamp()).isEqualTo(42L);
+		assertThat(entry.getDslType()).isEqualTo(CamelFileIndexEntry.DSL_BLUEPRINT);
+		assertThat(entry.getCamelNamespace()).isEqualTo("http://camel.apache.org/schema/blueprint");
+		assertThat(entry.getContextIds()).containsExactly("blueprintContext");
+		assertThat(entry.getRouteIds()).containsExactly("r1", "r2");
+	}
+
+	@Test
+	public void testSpringEntryWithPrefixedNamespace() throws Exception {
+		CamelFileIndexEntry entry = CamelFileIndexEntry.create(1L, bytes(SPRING), true);
+
+		assertThat(entry.getDslType()).isEqualTo(CamelFileIndexEntry.DSL_SPRING);
+		assertThat(entry.getContextIds()).containsExactly("springContext");
+		assertThat(entry.getRouteIds()).containsExactly("s1");
+	}
+
+	@Test
+	public void testNonCamelFileHasNoDetails() throws Exception {
+		CamelFileIndexEntry entry = CamelFileIndexEntry.create(1L, bytes("<project/>"), false);
+
+		assertThat(entry.isCamelFile()).isFalse();
+		assertThat(entry.getDslType()).isNull();
+		assertThat(entry.getRouteIds()).isEmpty();
+	}
+
+	@Test
+	public void testBrokenFileKeepsIdsFoundSoFar() throws Exception {
+		String broken = BLUEPRINT.substring(0, BLUEPRINT.indexOf("<route id=\"r2\"")) + "<route id=\"r2\"><from";
+
+		CamelFileIndexEntry entry = CamelFileIndexEntry.create(1L, bytes(broken), true);
+
+		assertThat(entry.isCamelFile()).isTrue();
+		assertThat(entry.getContextIds()).containsExactly("blueprintContext");
+		assertThat(entry.getRouteIds()).contains("r1");
+	}
+
+	@Test
+	public void testPersistenceRoundTrip() throws Exception {
+		Map<String, CamelFileIndexEntry> entries = new HashMap<>();
+		entries.put("/p/src/main/resources/OSGI-INF/blueprint/blueprint.xml", CamelFileIndexEntry.create(42L, bytes(BLUEPRINT), true));
+		entries.put("/p/pom.xml", CamelFileIndexEntry.create(7L, bytes("<project/>"), false));
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		CamelFileIndex.write(entries, out);
+		Map<String, CamelFileIndexEntry> read = CamelFileIndex.read(new ByteArrayInputStream(out.toByteArray()));
+
+		assertThat(read).hasSize(2);
+		CamelFileIndexEntry blueprint = read.get("/p/src/main/resources/OSGI-INF/blueprint/blueprint.xml");
+		assertThat(blueprint.getTimestamp()).isEqualTo(42L);
+		assertThat(blueprint.getDslType()).isEqualTo(CamelFileIndexEntry.DSL_BLUEPRINT);
+		assertThat(blueprint.getRouteIds()).containsExactly("r1", "r2");
+		assertThat(read.get("/p/pom.xml").isCamelFile()).isFalse();
+		assertThat(read.get("/p/pom.xml").getCamelNamespace()).isNull();
+	}
+
+	@Test(expected = IOException.class)
+	public void testUnknownFormatIsRejected() throws Exception {
+		CamelFileIndex.read(new ByteArrayInputStream(new byte[] { 0, 0, 0, 99, 0, 0, 0, 0 }));
+	}
+
+	@Test
+	public void testWorkFolders() throws Exception {
+		assertThat(CamelFileIndex.isInWorkFolder(new Path("target/classes/camel.xml"))).isTrue();
+		assertThat(CamelFileIndex.isInWorkFolder(new Path("bin/camel.xml"))).isTrue();
+		assertThat(CamelFileIndex.isInWorkFolder(new Path("src/main/resources/target/camel.xml"))).isFalse();
+		assertThat(CamelFileIndex.isInWorkFolder(Path.EMPTY)).isFalse();
+	}
+
+	@Test
+	public void testTestSourcesAreOnlyExcludedBelowTheSearchedContainer() throws Exception {
+		Path testFile = new Path("/p/src/test/resources/camel.xml");
+
+		assertThat(CamelFileIndex.isExcludedBelow(new Path("/p"), testFile)).isTrue();
+		assertThat(CamelFileIndex.isExcludedBelow(new Path("/p/src"), testFile)).isTrue();
+		assertThat(CamelFileIndex.isExcludedBelow(new Path("/p/src/test"), testFile)).isFalse();
+		assertThat(CamelFileIndex.isExcludedBelow(new Path("/p"), new Path("/p/src/main/resources/camel.xml"))).isFalse();
+	}
+
+	private static byte[] bytes(String content) {
+		return content.getBytes(StandardCharsets.UTF_8);
+	}
+}
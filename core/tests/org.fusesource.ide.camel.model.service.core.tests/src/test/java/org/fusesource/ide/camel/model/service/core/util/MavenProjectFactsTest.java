@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.camel.model.service.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Repository;
+import org.junit.Test;
+
+public class MavenProjectFactsTest {
+
+	@Test
+	public void testCamelVersionFromFirstCamelDependency() throws Exception {
+		List<Dependency> deps = Arrays.asList(dependency("com.acme", "camel-acme", "1.0"), dependency("org.apache.camel", "camel-core", "${camel.version}"));
+		Properties properties = new Properties();
+		properties.setProperty("camel.version", "2.21.0");
+
+		MavenProjectFacts facts = MavenProjectFacts.create(deps, deps, null, properties, null);
+
+		assertThat(facts.getCamelVersion()).isEqualTo("2.21.0");
+		assertThat(facts.getDependencies(false).get(1).getVersion()).isEqualTo("2.21.0");
+		assertThat(deps.get(1).getVersion()).isEqualTo("${camel.version}");
+	}
+
+	@Test
+	public void testCamelVersionFallsBackToProperty() throws Exception {
+		Properties properties = new Properties();
+		properties.setProperty("camel.version", "2.19.0");
+
+		MavenProjectFacts facts = MavenProjectFacts.create(Arrays.asList(dependency("junit", "junit", "4.12")), null, null, properties, null);
+
+		assertThat(facts.getCamelVersion()).isEqualTo("2.19.0");
+		assertThat(facts.hasNoDependencies()).isFalse();
+	}
+
+	@Test
+	public void testRuntimeProviderAndCamelDependencies() throws Exception {
+		List<Dependency> deps = Arrays.asList(dependency("org.apache.camel", "camel-spring-boot-starter", "2.21.0"),
+				dependency("org.wildfly.camel", "wildfly-camel-subsystem", "5.0.0"), dependency("junit", "junit", "4.12"));
+
+		MavenProjectFacts facts = MavenProjectFacts.create(deps, deps, null, null, null);
+
+		assertThat(facts.getRuntimeProvider()).isEqualTo(CamelCatalogUtils.RUNTIME_PROVIDER_SPRINGBOOT);
+		assertThat(facts.getWildFlyCamelVersion()).isEqualTo("5.0.0");
+		assertThat(facts.getCamelDependencies()).extracting(Dependency::getArtifactId).containsExactly("camel-spring-boot-starter", "wildfly-camel-subsystem");
+	}
+
+	@Test
+	public void testBomAndManagedDependencies() throws Exception {
+		Dependency bom = dependency("org.jboss.redhat-fuse", "fuse-karaf-bom", "7.1.0.fuse-710019-redhat-00002");
+		List<Dependency> managed = Arrays.asList(dependency("com.acme", "acme-bom", "1.0"), bom);
+
+		MavenProjectFacts facts = MavenProjectFacts.create(Collections.<Dependency>emptyList(), null, managed, null, null);
+
+		assertThat(facts.getBom().getArtifactId()).isEqualTo("fuse-karaf-bom");
+		assertThat(facts.getRuntimeProvider()).isEqualTo(CamelCatalogUtils.RUNTIME_PROVIDER_KARAF);
+		assertThat(facts.hasNoDependencies()).isTrue();
+		assertThat(facts.getDependencies(false)).isEmpty();
+		assertThat(facts.getDependencies(true)).hasSize(2);
+	}
+
+	@Test
+	public void testCallersCannotChangeTheFacts() throws Exception {
+		Repository repository = new Repository();
+		repository.setId("acme");
+		MavenProjectFacts facts = MavenProjectFacts.create(Arrays.asList(dependency("org.apache.camel", "camel-core", "2.21.0")), null,
+				Arrays.asList(FuseBomFilter.BOM_FUSE_7), null, Arrays.asList(repository));
+
+		facts.getDependencies(false).get(0).setVersion("2.22.0");
+		facts.getDependencies(false).clear();
+		facts.getBom().setVersion("7.0.0");
+		facts.getRepositories().clear();
+
+		assertThat(facts.getDependencies(false)).extracting(Dependency::getVersion).containsExactly("2.21.0");
+		assertThat(facts.getBom().getVersion()).isNull();
+		assertThat(facts.getRepositories()).containsExactly(repository);
+	}
+
+	private static Dependency dependency(String groupId, String artifactId, String version) {
+		Dependency dependency = new Dependency();
+		dependency.setGroupId(groupId);
+		dependency.setArtifactId(artifactId);
+		dependency.setVersion(version);
+		return dependency;
+	}
+}
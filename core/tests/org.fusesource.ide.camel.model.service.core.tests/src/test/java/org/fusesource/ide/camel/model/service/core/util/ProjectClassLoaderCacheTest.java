@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.camel.model.service.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.resources.IProject;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class ProjectClassLoaderCacheTest {
+
+	private final IProject project = Mockito.mock(IProject.class);
+	private final TestCache cache = new TestCache();
+
+	@Test
+	public void testClassLoaderIsShared() throws Exception {
+		URLClassLoader first = cache.acquire(project);
+		URLClassLoader second = cache.acquire(project);
+
+		assertThat(second).isSameAs(first);
+		assertThat(cache.getReferenceCount(first)).isEqualTo(2);
+		assertThat(cache.created).hasSize(1);
+	}
+
+	@Test
+	public void testReleasedClassLoaderIsKeptUntilInvalidated() throws Exception {
+		URLClassLoader loader = cache.acquire(project);
+		cache.release(loader);
+
+		assertThat(cache.acquire(project)).isSameAs(loader);
+		cache.release(loader);
+		assertThat(cache.closed).isEmpty();
+
+		cache.invalidate(project);
+		assertThat(cache.closed).containsExactly(loader);
+	}
+
+	@Test
+	public void testInvalidatedClassLoaderIsClosedByTheLastClient() throws Exception {
+		URLClassLoader old = cache.acquire(project);
+
+		cache.invalidate(project);
+		URLClassLoader current = cache.acquire(project);
+
+		assertThat(current).isNotSameAs(old);
+		assertThat(cache.closed).isEmpty();
+		cache.release(old);
+		assertThat(cache.closed).containsExactly(old);
+		cache.release(old);
+		assertThat(cache.closed).containsExactly(old);
+	}
+
+	@Test
+	public void testReleaseOfUnknownClassLoaderIsIgnored() throws Exception {
+		cache.release(null);
+		cache.release(new URLClassLoader(new URL[0]));
+
+		assertThat(cache.closed).isEmpty();
+	}
+
+	/**
+	 * records the created and closed class loaders
+	 */
+	private static class TestCache extends ProjectClassLoaderCache {
+		private final List<URLClassLoader> created = new ArrayList<>();
+		private final List<URLClassLoader> closed = new ArrayList<>();
+
+		@Override
+		protected URLClassLoader createClassLoader(IProject project) {
+			URLClassLoader loader = new URLClassLoader(new URL[0]) {
+				@Override
+				public void close() {
+					closed.add(this);
+				}
+			};
+			created.add(loader);
+			return loader;
+		}
+	}
+}
@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.camel.model.service.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.fusesource.ide.camel.model.service.core.util.ProjectClasspathIndex.SchemeEntry;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ProjectClasspathIndexTest {
+
+	@Rule
+	public TemporaryFolder testFolder = new TemporaryFolder();
+
+	@Test
+	public void testJarIsScannedForAllSchemes() throws Exception {
+		File jar = createJar("camel-core.jar", "timer", "org.apache.camel.component.timer.TimerComponent", "log", "org.apache.camel.component.log.LogComponent");
+
+		Map<String, String> schemes = ProjectClasspathIndex.scanJar(jar);
+
+		assertThat(schemes).hasSize(2);
+		assertThat(schemes.get("timer")).isEqualTo("org.apache.camel.component.timer.TimerComponent");
+		assertThat(schemes.get("log")).isEqualTo("org.apache.camel.component.log.LogComponent");
+	}
+
+	@Test
+	public void testFirstJarOnClasspathWins() throws Exception {
+		File first = createJar("first.jar", "file", "com.acme.FirstFileComponent");
+		File second = createJar("second.jar", "file", "com.acme.SecondFileComponent", "ftp", "com.acme.FtpComponent");
+
+		Map<String, SchemeEntry> index = new ProjectClasspathIndex().buildIndex(Arrays.asList(first, second));
+
+		assertThat(index.get("file").getComponentClass()).isEqualTo("com.acme.FirstFileComponent");
+		assertThat(index.get("file").getJar()).isEqualTo(first);
+		assertThat(index.get("ftp").getJar()).isEqualTo(second);
+		assertThat(index.get("unknown")).isNull();
+	}
+
+	@Test
+	public void testFoldersAndMissingJarsAreIgnored() throws Exception {
+		File folder = testFolder.newFolder("classes");
+		File missing = new File(testFolder.getRoot(), "missing.jar");
+
+		assertThat(new ProjectClasspathIndex().buildIndex(Arrays.asList(folder, missing))).isEmpty();
+	}
+
+	@Test
+	public void testUnchangedJarIsNotScannedAgain() throws Exception {
+		File jar = createJar("component.jar", "acme", "com.acme.AcmeComponent");
+		ProjectClasspathIndex index = new ProjectClasspathIndex();
+		index.buildIndex(Arrays.asList(jar));
+		long lastModified = jar.lastModified();
+		// same time stamp and size but a different content
+		createJar("component.jar", "acmf", "com.acme.AcmeComponent");
+		jar.setLastModified(lastModified);
+
+		assertThat(index.buildIndex(Arrays.asList(jar))).containsOnlyKeys("acme");
+	}
+
+	@Test
+	public void testModifiedJarIsScannedAgain() throws Exception {
+		File jar = createJar("component.jar", "acme", "com.acme.AcmeComponent");
+		ProjectClasspathIndex index = new ProjectClasspathIndex();
+		index.buildIndex(Arrays.asList(jar));
+		createJar("component.jar", "other", "com.acme.OtherComponent");
+		jar.setLastModified(jar.lastModified() + 2000);
+
+		assertThat(index.buildIndex(Arrays.asList(jar))).containsOnlyKeys("other");
+	}
+
+	/**
+	 * @param schemeAndClasses	pairs of scheme and component class
+	 */
+	private File createJar(String name, String... schemeAndClasses) throws IOException {
+		File jar = new File(testFolder.getRoot(), name);
+		try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(jar))) {
+			out.putNextEntry(new ZipEntry(ProjectClasspathIndex.COMPONENT_SERVICES_FOLDER));
+			out.closeEntry();
+			for (int i = 0; i < schemeAndClasses.length; i += 2) {
+				out.putNextEntry(new ZipEntry(ProjectClasspathIndex.COMPONENT_SERVICES_FOLDER + schemeAndClasses[i]));
+				out.write(("class=" + schemeAndClasses[i + 1] + "\n").getBytes(StandardCharsets.ISO_8859_1));
+				out.closeEntry();
+			}
+			out.putNextEntry(new ZipEntry("META-INF/services/org/apache/camel/component/nested/ignored"));
+			out.write("class=com.acme.Ignored".getBytes(StandardCharsets.ISO_8859_1));
+			out.closeEntry();
+		}
+		return jar;
+	}
+}
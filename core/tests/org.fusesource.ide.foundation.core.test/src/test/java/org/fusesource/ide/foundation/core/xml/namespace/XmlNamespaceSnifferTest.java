@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.foundation.core.xml.namespace;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.Test;
+import org.xml.sax.InputSource;
+
+public class XmlNamespaceSnifferTest {
+
+	private static final String BLUEPRINT = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+			+ "<blueprint xmlns=\"http://www.osgi.org/xmlns/blueprint/v1.0.0\">"
+			+ "<bean id=\"helper\" class=\"com.acme.Helper\"/>"
+			+ "<camelContext id=\"ctx\" xmlns=\"http://camel.apache.org/schema/blueprint\"><route><from uri=\"timer:a\"/></route></camelContext>"
+			+ "</blueprint>";
+	private static final String SPRING_WITH_PREFIX = "<beans xmlns=\"http://www.springframework.org/schema/beans\" xmlns:camel=\"http://camel.apache.org/schema/spring\">"
+			+ "<bean id=\"helper\" class=\"com.acme.Helper\"/>"
+			+ "</beans>";
+
+	private final XmlNamespaceSniffer camelSniffer = new XmlNamespaceSniffer(new HashSet<>(Arrays.asList(
+			SpringNamespaceHandler.NAMESPACEURI_CAMEL_SPRING, BlueprintNamespaceHandler.NAMESPACEURI_CAMEL_BLUEPRINT)));
+
+	@Test
+	public void testNamespaceOfRootChildIsFound() throws Exception {
+		assertThat(camelSniffer.sniff(stream(BLUEPRINT))).isEqualTo(BlueprintNamespaceHandler.NAMESPACEURI_CAMEL_BLUEPRINT);
+	}
+
+	@Test
+	public void testNamespaceDeclarationOnRootIsFound() throws Exception {
+		assertThat(camelSniffer.sniff(new StringReader(SPRING_WITH_PREFIX))).isEqualTo(SpringNamespaceHandler.NAMESPACEURI_CAMEL_SPRING);
+	}
+
+	@Test
+	public void testNamespaceInNestedBeansIsFound() throws Exception {
+		String nested = "<beans xmlns=\"http://www.springframework.org/schema/beans\"><beans profile=\"dev\">"
+				+ "<camelContext xmlns=\"http://camel.apache.org/schema/spring\"><route><from uri=\"timer:a\"/></route></camelContext>"
+				+ "</beans></beans>";
+
+		assertThat(camelSniffer.sniff(stream(nested))).isEqualTo(SpringNamespaceHandler.NAMESPACEURI_CAMEL_SPRING);
+	}
+
+	@Test
+	public void testNamespaceUnderBlueprintBeanIsFound() throws Exception {
+		String nested = "<blueprint xmlns=\"http://www.osgi.org/xmlns/blueprint/v1.0.0\"><bean id=\"holder\" class=\"com.acme.Holder\"><argument>"
+				+ "<camelContext xmlns=\"http://camel.apache.org/schema/blueprint\"/>"
+				+ "</argument></bean></blueprint>";
+
+		assertThat(camelSniffer.sniff(new StringReader(nested))).isEqualTo(BlueprintNamespaceHandler.NAMESPACEURI_CAMEL_BLUEPRINT);
+	}
+
+	@Test
+	public void testOtherNamespacesAreNotFound() throws Exception {
+		String wsdl = "<definitions xmlns=\"http://schemas.xmlsoap.org/wsdl/\"><types/><message name=\"m\"/></definitions>";
+
+		assertThat(camelSniffer.sniff(stream(wsdl))).isNull();
+	}
+
+	@Test
+	public void testBrokenDocumentIsNotFound() throws Exception {
+		assertThat(camelSniffer.sniff(stream("<beans><bean"))).isNull();
+		assertThat(camelSniffer.sniff(stream("not xml at all"))).isNull();
+	}
+
+	@Test
+	public void testDoctypeIsNotResolved() throws Exception {
+		String doctype = "<!DOCTYPE beans SYSTEM \"http://localhost:1/does-not-exist.dtd\">" + SPRING_WITH_PREFIX;
+
+		assertThat(camelSniffer.sniff(stream(doctype))).isEqualTo(SpringNamespaceHandler.NAMESPACEURI_CAMEL_SPRING);
+	}
+
+	@Test
+	public void testReadingStopsAtTheLimit() throws Exception {
+		CountingInputStream in = new CountingInputStream(new LargeDataXmlStream(10 * 1024 * 1024));
+
+		assertThat(new XmlNamespaceSniffer(Collections.singleton(SpringNamespaceHandler.NAMESPACEURI_CAMEL_SPRING), 64 * 1024).sniff(in)).isNull();
+		assertThat(in.count).isLessThanOrEqualTo(64 * 1024);
+	}
+
+	@Test
+	public void testReadingStopsOnceFound() throws Exception {
+		CountingInputStream in = new CountingInputStream(new LargeDataXmlStream(10 * 1024 * 1024, SpringNamespaceHandler.NAMESPACEURI_CAMEL_SPRING));
+
+		assertThat(camelSniffer.sniff(in)).isEqualTo(SpringNamespaceHandler.NAMESPACEURI_CAMEL_SPRING);
+		assertThat(in.count).isLessThan(XmlNamespaceSniffer.DEFAULT_LIMIT);
+	}
+
+	@Test
+	public void testHandlerIsResetForEveryDocument() throws Exception {
+		FindCamelNamespaceHandler handler = new FindCamelNamespaceHandler();
+
+		assertThat(handler.parseContents(new InputSource(stream(BLUEPRINT)))).isTrue();
+		assertThat(handler.isNamespaceFound()).isTrue();
+		handler.parseContents(new InputSource(stream("<project/>")));
+		assertThat(handler.isNamespaceFound()).isFalse();
+	}
+
+	@Test
+	public void testSpringHandlerIgnoresBlueprintNamespace() throws Exception {
+		SpringNamespaceHandler handler = new SpringNamespaceHandler();
+
+		handler.parseContents(new InputSource(stream(BLUEPRINT)));
+
+		assertThat(handler.isNamespaceFound()).isFalse();
+	}
+
+	private static InputStream stream(String content) {
+		return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * a generated data document with an optional namespace declared on the root element
+	 */
+	static class LargeDataXmlStream extends InputStream {
+		private static final byte[] RECORD = "<record id=\"1\"><value>some data</value></record>\n".getBytes(StandardCharsets.UTF_8);
+		private final byte[] header;
+		private final long size;
+		private long position;
+
+		LargeDataXmlStream(long size) {
+			this(size, null);
+		}
+
+		LargeDataXmlStream(long size, String namespace) {
+			this.size = size;
+			this.header = (namespace != null ? "<data xmlns:x=\"" + namespace + "\">\n" : "<data>\n").getBytes(StandardCharsets.UTF_8);
+		}
+
+		@Override
+		public int read() throws IOException {
+			if (position >= size) {
+				return -1;
+			}
+			long p = position++;
+			return p < header.length ? header[(int) p] : RECORD[(int) ((p - header.length) % RECORD.length)];
+		}
+	}
+
+	static class CountingInputStream extends InputStream {
+		private final InputStream in;
+		long count;
+
+		CountingInputStream(InputStream in) {
+			this.in = in;
+		}
+
+		@Override
+		public int read() throws IOException {
+			int b = in.read();
+			if (b != -1) {
+				count++;
+			}
+			return b;
+		}
+
+		@Override
+		public void close() throws IOException {
+			in.close();
+		}
+	}
+}
@@ -11,6 +11,7 @@
 
 package org.fusesource.ide.camel.editor;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
@@ -27,6 +28,9 @@ import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.IBreakpointsListener;
 import org.eclipse.debug.core.IDebugEventSetListener;
 import org.eclipse.debug.core.model.IBreakpoint;
+import org.eclipse.draw2d.FigureCanvas;
+import org.eclipse.draw2d.Viewport;
+import org.eclipse.draw2d.geometry.Rectangle;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.transaction.TransactionalEditingDomain;
 import org.eclipse.gef.ContextMenuProvider;
@@ -43,10 +47,14 @@ import org.eclipse.gef.editparts.ZoomManager;
 import org.eclipse.gef.ui.actions.ActionRegistry;
 import org.eclipse.gef.ui.palette.FlyoutPaletteComposite;
 import org.eclipse.gef.ui.parts.GraphicalEditorWithFlyoutPalette;
+import org.eclipse.graphiti.datatypes.ILocation;
 import org.eclipse.graphiti.dt.IDiagramTypeProvider;
 import org.eclipse.graphiti.features.IFeatureProvider;
+import org.eclipse.graphiti.mm.algorithms.GraphicsAlgorithm;
+import org.eclipse.graphiti.mm.pictograms.ContainerShape;
 import org.eclipse.graphiti.mm.pictograms.Diagram;
 import org.eclipse.graphiti.mm.pictograms.PictogramElement;
+import org.eclipse.graphiti.services.Graphiti;
 import org.eclipse.graphiti.ui.editor.DiagramBehavior;
 import org.eclipse.graphiti.ui.editor.DiagramEditor;
 import org.eclipse.graphiti.ui.editor.IDiagramEditorInput;
@@ -69,9 +77,12 @@ import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.part.FileEditorInput;
 import org.eclipse.ui.views.contentoutline.IContentOutlinePage;
 import org.fusesource.ide.camel.editor.behaviours.CamelDiagramBehaviour;
+import org.fusesource.ide.camel.editor.commands.DiagramLayoutService;
 import org.fusesource.ide.camel.editor.commands.DiagramOperations;
 import org.fusesource.ide.camel.editor.commands.ImportCamelContextElementsCommand;
+import org.fusesource.ide.camel.editor.commands.LoadDeferredShapesCommand;
 import org.fusesource.ide.camel.editor.internal.CamelDesignEditorFlyoutPaletteComposite;
+import org.fusesource.ide.camel.editor.internal.CamelDiagramLoader;
 import org.fusesource.ide.camel.editor.internal.CamelEditorUIActivator;
 import org.fusesource.ide.camel.editor.outline.CamelModelOutlinePage;
 import org.fusesource.ide.camel.editor.provider.CamelEditorContextMenuProvider;
@@ -115,6 +126,8 @@ public class CamelDesignEditor extends DiagramEditor implements ISelectionListen
 	private KeyHandler keyHandler;
 	private CamelModelOutlinePage outlinePage;
 	private PaletteRefresherOnOpenPartListener paletteRefresher;
+	private DiagramLayoutService layoutService;
+	private boolean visibleShapesPending;
 	
 	/**
 	 * 
@@ -174,6 +187,9 @@ public class CamelDesignEditor extends DiagramEditor implements ISelectionListen
 		if (getModel() != null){
 			getModel().removeModelListener(this);
 		}
+		if (layoutService != null) {
+			layoutService.dispose();
+		}
 		if(paletteRefresher != null){
 			IWorkbenchWindow activeWorkbenchWindow = PlatformUI.getWorkbench().getActiveWorkbenchWindow();
 			if(activeWorkbenchWindow != null){
@@ -192,6 +208,12 @@ public class CamelDesignEditor extends DiagramEditor implements ISelectionListen
 		GraphicalViewer viewer = getGraphicalViewer();
 		ContextMenuProvider provider = new CamelEditorContextMenuProvider(this, this, viewer, getActionRegistry());
 		viewer.setContextMenu(provider);
+		if (viewer.getControl() instanceof FigureCanvas) {
+			// placeholders of large diagrams are filled once they are scrolled into view
+			Viewport viewport = ((FigureCanvas) viewer.getControl()).getViewport();
+			viewport.addPropertyChangeListener(Viewport.PROPERTY_VIEW_LOCATION, event -> loadVisibleShapes());
+			viewport.addFigureListener(source -> loadVisibleShapes());
+		}
 	}
 	
 	/* (non-Javadoc)
@@ -543,6 +565,7 @@ public class CamelDesignEditor extends DiagramEditor implements ISelectionListen
         getDiagramBehavior().refreshContent();
         
         refreshOutlineView();
+        loadVisibleShapes();
 	}
 	
 	/* (non-Javadoc)
@@ -713,6 +736,13 @@ public class CamelDesignEditor extends DiagramEditor implements ISelectionListen
 	@Override
 	public void setSelectedNode(AbstractCamelModelElement newSelection) {
 		if (newSelection != null) {
+			if (getFeatureProvider().getPictogramElementForBusinessObject(newSelection) == null) {
+				// the node may be hidden inside a placeholder of a large diagram
+				LoadDeferredShapesCommand command = DiagramOperations.loadDeferredShapes(this, newSelection);
+				if (command != null && command.isLoaded()) {
+					getDiagramBehavior().refreshContent();
+				}
+			}
 			Object editPart = getGraphicalViewer().getEditPartRegistry().get(getFeatureProvider().getPictogramElementForBusinessObject(newSelection));
 			if (editPart != null) {
 				getEditorSite().getSelectionProvider().setSelection(new StructuredSelection(editPart));
@@ -727,7 +757,63 @@ public class CamelDesignEditor extends DiagramEditor implements ISelectionListen
 	 * layouts the camel diagram elements
 	 */
 	public void autoLayoutRoute() {
-		Display.getCurrent().asyncExec(() -> DiagramOperations.layoutDiagram(CamelDesignEditor.this));		
+		getLayoutService().schedule(false, false);
+	}
+
+	/**
+	 * expands the placeholder shapes of a lazily loaded diagram which are
+	 * inside of the visible area. Calls are merged until the UI thread is idle.
+	 */
+	public void loadVisibleShapes() {
+		if (visibleShapesPending) {
+			return;
+		}
+		visibleShapesPending = true;
+		Display.getDefault().asyncExec(() -> {
+			visibleShapesPending = false;
+			List<ContainerShape> visibleShapes = getVisibleDeferredShapes();
+			if (!visibleShapes.isEmpty()) {
+				DiagramOperations.loadDeferredShapes(this, visibleShapes);
+			}
+		});
+	}
+
+	private List<ContainerShape> getVisibleDeferredShapes() {
+		List<ContainerShape> visibleShapes = new ArrayList<>();
+		GraphicalViewer viewer = getGraphicalViewer();
+		Diagram diagram = getDiagramTypeProvider() != null ? getDiagramTypeProvider().getDiagram() : null;
+		if (diagram == null || viewer == null || !(viewer.getControl() instanceof FigureCanvas) || viewer.getControl().isDisposed()) {
+			return visibleShapes;
+		}
+		List<ContainerShape> deferredShapes = new ArrayList<>();
+		CamelDiagramLoader.findDeferredShapes(diagram, deferredShapes);
+		if (deferredShapes.isEmpty()) {
+			return visibleShapes;
+		}
+		// the client area of the viewport is zoomed, the shapes are not
+		Rectangle visibleArea = ((FigureCanvas) viewer.getControl()).getViewport().getClientArea().getCopy();
+		ZoomManager zoomManager = (ZoomManager) getAdapter(ZoomManager.class);
+		if (zoomManager != null && zoomManager.getZoom() > 0) {
+			visibleArea.scale(1 / zoomManager.getZoom());
+		}
+		for (ContainerShape shape : deferredShapes) {
+			ILocation location = Graphiti.getPeLayoutService().getLocationRelativeToDiagram(shape);
+			GraphicsAlgorithm ga = shape.getGraphicsAlgorithm();
+			if (ga != null && visibleArea.intersects(new Rectangle(location.getX(), location.getY(), ga.getWidth(), ga.getHeight()))) {
+				visibleShapes.add(shape);
+			}
+		}
+		return visibleShapes;
+	}
+
+	/**
+	 * @return the service laying out the diagram in the background
+	 */
+	public DiagramLayoutService getLayoutService() {
+		if (layoutService == null) {
+			layoutService = new DiagramLayoutService(this);
+		}
+		return layoutService;
 	}
 
 	/**
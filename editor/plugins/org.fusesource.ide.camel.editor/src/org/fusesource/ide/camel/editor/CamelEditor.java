@@ -171,7 +171,7 @@ public class CamelEditor extends MultiPageEditorPart implements IResourceChangeL
 		// wasn't always the case (for instance when adding a new data 
 		// transformation endpoint which opened another editor underneath
 		if (designEditor != null && designEditor.getModel() != null){
-			DiagramOperations.layoutDiagram(designEditor);
+			DiagramOperations.scheduleLayout(designEditor, false);
 		}
 	}
 	
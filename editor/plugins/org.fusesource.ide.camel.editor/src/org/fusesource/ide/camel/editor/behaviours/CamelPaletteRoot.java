@@ -12,8 +12,12 @@
 package org.fusesource.ide.camel.editor.behaviours;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 import org.eclipse.gef.palette.CombinedTemplateCreationEntry;
 import org.eclipse.gef.palette.ConnectionCreationToolEntry;
@@ -44,6 +48,11 @@ import org.eclipse.graphiti.ui.internal.util.gef.MultiCreationFactory;
 import org.eclipse.graphiti.ui.platform.IConfigurationProvider;
 import org.eclipse.graphiti.ui.services.GraphitiUi;
 import org.eclipse.jface.resource.ImageDescriptor;
+import org.eclipse.swt.graphics.Device;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.fusesource.ide.camel.editor.features.create.ext.CreateConnectorFigureFeature;
+import org.fusesource.ide.camel.model.service.core.catalog.components.Component;
 
 /**
  * @author lhein
@@ -61,6 +70,11 @@ public class CamelPaletteRoot extends PaletteRoot {
 
 	private String filter;
 
+	// the palette entries are kept as long as the tool behaviour provider returns the same palette
+	private IPaletteCompartmentEntry[] indexedPalette;
+	private PaletteFilterIndex<ICreationToolEntry> filterIndex = new PaletteFilterIndex<>();
+	private Map<ICreationToolEntry, PaletteEntry> paletteEntries = new HashMap<>();
+
 	/**
 	 * Creates a new GenericPaletteRoot for the given Model. It is constructed
 	 * by calling createModelIndependentTools() and createCreationTools().
@@ -97,6 +111,9 @@ public class CamelPaletteRoot extends PaletteRoot {
 					.getCurrentToolBehaviorProvider();
 
 			IPaletteCompartmentEntry[] paletteCompartments = currentToolBehaviorProvider.getPalette();
+			if (!Arrays.equals(indexedPalette, paletteCompartments)) {
+				indexPalette(paletteCompartments);
+			}
 
 			for (IPaletteCompartmentEntry compartmentEntry : paletteCompartments) {
 				PaletteDrawer drawer = new PaletteDrawer(compartmentEntry.getLabel(), getImageDescriptor(compartmentEntry));
@@ -113,8 +130,8 @@ public class CamelPaletteRoot extends PaletteRoot {
 					if (toolEntry instanceof ICreationToolEntry) {
 						ICreationToolEntry creationToolEntry = (ICreationToolEntry) toolEntry;
 
-						PaletteEntry createTool = createTool(creationToolEntry);
-						if (createTool != null && filter(createTool)) {
+						PaletteEntry createTool = filter(creationToolEntry) ? getTool(creationToolEntry) : null;
+						if (createTool != null) {
 							drawer.add(createTool);
 						}
 
@@ -126,8 +143,8 @@ public class CamelPaletteRoot extends PaletteRoot {
 						drawer.add(stack);
 						List<ICreationToolEntry> creationToolEntries = stackToolEntry.getCreationToolEntries();
 						for (ICreationToolEntry creationToolEntry : creationToolEntries) {
-							PaletteEntry createTool = createTool(creationToolEntry);
-							if (createTool != null && filter(createTool)) {
+							PaletteEntry createTool = filter(creationToolEntry) ? getTool(creationToolEntry) : null;
+							if (createTool != null) {
 								stack.add(createTool);
 							}
 						}
@@ -165,24 +182,49 @@ public class CamelPaletteRoot extends PaletteRoot {
 	}
 
 	/**
-	 * Return <code>true</code> if <em>label</em> or <em>description</em> of
-	 * <code>paletteEntry</code> contains the current palette root's filter;
-	 * returns <code>false</code> otherwise.
+	 * Return <code>true</code> if <em>label</em>, <em>title</em>,
+	 * <em>scheme</em> or <em>description</em> of
+	 * <code>creationToolEntry</code> matches the current palette root's
+	 * filter; returns <code>false</code> otherwise.
 	 * 
-	 * @param paletteEntry
-	 *            - the palette entry to filter.
-	 * @return <code>true</code> if <em>label</em> or <em>description</em> of
-	 *         <code>paletteEntry</code> contains the current palette root's
-	 *         filter; returns <code>false</code> otherwise.
+	 * @param creationToolEntry
+	 *            - the tool entry to filter.
+	 * @return <code>true</code> if the tool entry matches the current palette
+	 *         root's filter; returns <code>false</code> otherwise.
 	 */
-	protected boolean filter(PaletteEntry paletteEntry) {
-		if (filter == null || filter.length() == 0) {
-			return true;
+	protected boolean filter(ICreationToolEntry creationToolEntry) {
+		return filterIndex.match(filter).contains(creationToolEntry);
+	}
+
+	private void indexPalette(IPaletteCompartmentEntry[] paletteCompartments) {
+		indexedPalette = paletteCompartments;
+		filterIndex = new PaletteFilterIndex<>();
+		paletteEntries.clear();
+		for (IPaletteCompartmentEntry compartmentEntry : paletteCompartments) {
+			for (IToolEntry toolEntry : compartmentEntry.getToolEntries()) {
+				if (toolEntry instanceof ICreationToolEntry) {
+					index((ICreationToolEntry) toolEntry);
+				} else if (toolEntry instanceof IStackToolEntry) {
+					((IStackToolEntry) toolEntry).getCreationToolEntries().forEach(this::index);
+				}
+			}
 		}
-		if (paletteEntry.getLabel() != null && paletteEntry.getLabel().toLowerCase().contains(filter)) {
-			return true;
+	}
+
+	private void index(ICreationToolEntry creationToolEntry) {
+		if (creationToolEntry instanceof IObjectCreationToolEntry) {
+			// the palette shows the create name of the feature
+			ICreateFeature feat = ((IObjectCreationToolEntry) creationToolEntry).getCreateFeature();
+			if (feat instanceof CreateConnectorFigureFeature) {
+				Component component = ((CreateConnectorFigureFeature) feat).getConnector();
+				filterIndex.add(creationToolEntry, feat.getCreateName(), component.getTitle(), component.getScheme(),
+						component.getSchemeTitle(), component.getDescription());
+			} else {
+				filterIndex.add(creationToolEntry, feat.getCreateName(), feat.getCreateDescription());
+			}
+		} else {
+			filterIndex.add(creationToolEntry, creationToolEntry.getLabel(), creationToolEntry.getDescription());
 		}
-		return false;
 	}
 
 	/**
@@ -204,6 +246,15 @@ public class CamelPaletteRoot extends PaletteRoot {
 		return controlGroup;
 	}
 
+	private PaletteEntry getTool(ICreationToolEntry creationToolEntry) {
+		PaletteEntry tool = paletteEntries.get(creationToolEntry);
+		if (tool == null) {
+			tool = createTool(creationToolEntry);
+			paletteEntries.put(creationToolEntry, tool);
+		}
+		return tool;
+	}
+
 	private PaletteEntry createTool(ICreationToolEntry creationToolEntry) {
 
 		if (creationToolEntry instanceof IObjectCreationToolEntry) {
@@ -264,6 +315,11 @@ public class CamelPaletteRoot extends PaletteRoot {
 	}
 
 	private ImageDescriptor getImageDescriptor(ICreationToolEntry creationToolEntry, boolean smallImage) {
+		// the icons are only resolved once the palette shows the entry
+		return new LazyImageDescriptor(() -> resolveImageDescriptor(creationToolEntry, smallImage));
+	}
+
+	private ImageDescriptor resolveImageDescriptor(ICreationToolEntry creationToolEntry, boolean smallImage) {
 		ImageDescriptor imageDescriptor;
 		if (creationToolEntry instanceof IEclipseImageDescriptor) {
 			imageDescriptor = ((IEclipseImageDescriptor) creationToolEntry).getImageDescriptor();
@@ -285,4 +341,41 @@ public class CamelPaletteRoot extends PaletteRoot {
 		}
 		return imageDescriptor;
 	}
+
+	private static class LazyImageDescriptor extends ImageDescriptor {
+
+		private Supplier<ImageDescriptor> resolver;
+		private ImageDescriptor resolved;
+
+		public LazyImageDescriptor(Supplier<ImageDescriptor> resolver) {
+			this.resolver = resolver;
+		}
+
+		private ImageDescriptor resolve() {
+			if (resolver != null) {
+				resolved = resolver.get();
+				resolver = null;
+			}
+			return resolved;
+		}
+
+		@Override
+		public Image createImage(boolean returnMissingImageOnError, Device device) {
+			ImageDescriptor imageDescriptor = resolve();
+			return imageDescriptor != null ? imageDescriptor.createImage(returnMissingImageOnError, device) : null;
+		}
+
+		@SuppressWarnings("deprecation")
+		@Override
+		public ImageData getImageData() {
+			ImageDescriptor imageDescriptor = resolve();
+			return imageDescriptor != null ? imageDescriptor.getImageData() : null;
+		}
+
+		@Override
+		public ImageData getImageData(int zoom) {
+			ImageDescriptor imageDescriptor = resolve();
+			return imageDescriptor != null ? imageDescriptor.getImageData(zoom) : null;
+		}
+	}
 }
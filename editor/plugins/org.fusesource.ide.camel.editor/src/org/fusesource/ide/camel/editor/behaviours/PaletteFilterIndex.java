@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.camel.editor.behaviours;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * index over the palette entries used to filter the palette while typing. An
+ * entry matches a filter if its label contains the filter or if one of the
+ * words of its label, title, scheme or description starts with the filter.
+ *
+ * @param <E>	the palette entry
+ */
+class PaletteFilterIndex<E> {
+
+	private static final String TOKEN_SEPARATOR = "[^\\p{Alnum}]+";
+
+	private final Map<E, String> labels = new LinkedHashMap<>();
+	private final NavigableMap<String, Set<E>> tokens = new TreeMap<>();
+
+	// typing narrows the filter, so the next matches are a subset of the last ones
+	private String lastFilter;
+	private Set<E> lastMatches;
+
+	/**
+	 * @param entry		the palette entry
+	 * @param label		the label shown in the palette
+	 * @param keywords	additional texts the entry can be found by, may contain nulls
+	 */
+	void add(E entry, String label, String... keywords) {
+		String lowerCaseLabel = toLowerCase(label);
+		labels.put(entry, lowerCaseLabel);
+		addTokens(entry, lowerCaseLabel);
+		for (String keyword : keywords) {
+			addTokens(entry, toLowerCase(keyword));
+		}
+		lastFilter = null;
+		lastMatches = null;
+	}
+
+	/**
+	 * @param filter	the lower case filter
+	 * @return	the matching entries, all entries for an empty filter
+	 */
+	Set<E> match(String filter) {
+		if (filter == null || filter.isEmpty()) {
+			return Collections.unmodifiableSet(labels.keySet());
+		}
+		if (filter.equals(lastFilter)) {
+			return lastMatches;
+		}
+		Iterable<E> candidates = lastFilter != null && filter.startsWith(lastFilter) ? lastMatches : labels.keySet();
+		Set<E> tokenMatches = new HashSet<>();
+		for (Set<E> entries : tokens.subMap(filter, true, filter + Character.MAX_VALUE, false).values()) {
+			tokenMatches.addAll(entries);
+		}
+		Set<E> matches = new HashSet<>();
+		for (E candidate : candidates) {
+			if (tokenMatches.contains(candidate) || labels.get(candidate).contains(filter)) {
+				matches.add(candidate);
+			}
+		}
+		lastFilter = filter;
+		lastMatches = Collections.unmodifiableSet(matches);
+		return lastMatches;
+	}
+
+	int size() {
+		return labels.size();
+	}
+
+	private void addTokens(E entry, String text) {
+		for (String token : text.split(TOKEN_SEPARATOR)) {
+			if (!token.isEmpty()) {
+				tokens.computeIfAbsent(token, t -> new HashSet<>()).add(entry);
+			}
+		}
+	}
+
+	private static String toLowerCase(String text) {
+		return text != null ? text.toLowerCase(Locale.ENGLISH) : "";
+	}
+}
@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.camel.editor.commands;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.emf.transaction.TransactionalEditingDomain;
+import org.eclipse.graphiti.mm.pictograms.Diagram;
+import org.eclipse.swt.widgets.Display;
+import org.fusesource.ide.camel.editor.CamelDesignEditor;
+import org.fusesource.ide.camel.editor.internal.UIMessages;
+import org.fusesource.ide.camel.model.service.core.model.AbstractCamelModelElement;
+
+/**
+ * lays out the diagram of a design editor. The layout is computed in a job
+ * on a snapshot of the diagram and applied in a single command afterwards.
+ * In incremental mode only the containers whose children changed since the
+ * last layout are laid out again, all other shapes keep their coordinates.
+ */
+public class DiagramLayoutService {
+
+	private final CamelDesignEditor designEditor;
+	// only the result of the last started layout is applied
+	private final AtomicLong generation = new AtomicLong();
+	private boolean pending;
+	private boolean pendingFull;
+	private boolean pendingModelChanged;
+	private Diagram stateDiagram;
+	private LayoutState state;
+
+	/**
+	 * @param designEditor	the editor
+	 */
+	public DiagramLayoutService(CamelDesignEditor designEditor) {
+		this.designEditor = designEditor;
+	}
+
+	/**
+	 * lays out the diagram in the background. Calls made before the layout
+	 * started are merged into one layout.
+	 *
+	 * @param incremental	true to only lay out the changed containers
+	 * @param modelChanged	false if the command stack should be flushed
+	 * 						after the layout
+	 */
+	public synchronized void schedule(boolean incremental, boolean modelChanged) {
+		pendingFull |= !incremental;
+		pendingModelChanged |= modelChanged;
+		if (!pending) {
+			pending = true;
+			Display.getDefault().asyncExec(this::start);
+		}
+	}
+
+	/**
+	 * drops all layouts which are not applied yet
+	 */
+	public void dispose() {
+		generation.incrementAndGet();
+	}
+
+	private void start() {
+		boolean full;
+		boolean modelChanged;
+		synchronized (this) {
+			full = pendingFull;
+			modelChanged = pendingModelChanged;
+			pending = false;
+			pendingFull = false;
+			pendingModelChanged = false;
+		}
+		Diagram diagram = getDiagram();
+		if (diagram == null) {
+			return;
+		}
+		LayoutNode root = DiagramLayouter.snapshot(designEditor.getFeatureProvider(), diagram, diagram, true);
+		new LayoutJob(generation.incrementAndGet(), diagram, root, full ? null : getState(diagram), modelChanged).schedule();
+	}
+
+	private void apply(LayoutJob job) {
+		if (job.layoutGeneration != generation.get() || getDiagram() != job.diagram) {
+			return;
+		}
+		if (!DiagramLayouter.isAttached(job.diagram, job.root)) {
+			// the diagram changed while the layout was computed
+			schedule(job.previous != null, job.modelChanged);
+			return;
+		}
+		boolean full = job.previous == null;
+		if (full || hasChanges(job.root)) {
+			TransactionalEditingDomain editingDomain = DiagramOperations.createEditingDomain(designEditor);
+			if (editingDomain == null) {
+				return;
+			}
+			LayoutCommand command = new LayoutCommand(designEditor.getFeatureProvider(), job.root, full, editingDomain);
+			DiagramOperations.execute(editingDomain, command, job.modelChanged);
+		}
+		state = LayoutState.of(job.root, job.direction);
+		stateDiagram = job.diagram;
+		LayoutStore.getInstance().put(getSource(), state);
+		// placeholders may have been moved into the visible area
+		designEditor.loadVisibleShapes();
+	}
+
+	private static boolean hasChanges(LayoutNode node) {
+		if (node.isMoved() || node.isResized()) {
+			return true;
+		}
+		for (LayoutNode child : node.getChildren()) {
+			if (hasChanges(child)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private LayoutState getState(Diagram diagram) {
+		if (stateDiagram != diagram) {
+			// a new diagram is shown, start from the layout it was loaded with
+			state = LayoutStore.getInstance().get(getSource());
+			stateDiagram = diagram;
+		}
+		return state;
+	}
+
+	private String getSource() {
+		if (designEditor.getModel() == null) {
+			return null;
+		}
+		AbstractCamelModelElement container = designEditor.getSelectedContainer();
+		return LayoutStore.getSource(container != null ? container : designEditor.getModel().getRouteContainer());
+	}
+
+	private Diagram getDiagram() {
+		return designEditor.getDiagramTypeProvider() != null ? designEditor.getDiagramTypeProvider().getDiagram() : null;
+	}
+
+	private class LayoutJob extends Job {
+
+		private final long layoutGeneration;
+		private final Diagram diagram;
+		private final LayoutNode root;
+		private final LayoutState previous;
+		private final boolean modelChanged;
+		private final int direction = DiagramLayouter.getDirection();
+
+		LayoutJob(long layoutGeneration, Diagram diagram, LayoutNode root, LayoutState previous, boolean modelChanged) {
+			super(UIMessages.diagramLayoutJobName);
+			this.layoutGeneration = layoutGeneration;
+			this.diagram = diagram;
+			this.root = root;
+			this.previous = previous;
+			this.modelChanged = modelChanged;
+			setSystem(true);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			new LayoutCalculator(direction, previous).layout(root);
+			if (!monitor.isCanceled()) {
+				Display.getDefault().asyncExec(() -> apply(this));
+			}
+			return Status.OK_STATUS;
+		}
+	}
+}
@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.camel.editor.commands;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.graphiti.features.IFeatureProvider;
+import org.eclipse.graphiti.features.IResizeShapeFeature;
+import org.eclipse.graphiti.features.context.impl.ResizeShapeContext;
+import org.eclipse.graphiti.mm.algorithms.GraphicsAlgorithm;
+import org.eclipse.graphiti.mm.pictograms.AnchorContainer;
+import org.eclipse.graphiti.mm.pictograms.Connection;
+import org.eclipse.graphiti.mm.pictograms.ContainerShape;
+import org.eclipse.graphiti.mm.pictograms.Diagram;
+import org.eclipse.graphiti.mm.pictograms.PictogramElement;
+import org.eclipse.graphiti.mm.pictograms.Shape;
+import org.fusesource.ide.camel.editor.features.custom.CollapseFeature;
+import org.fusesource.ide.camel.model.service.core.model.AbstractCamelModelElement;
+import org.fusesource.ide.camel.model.service.core.model.CamelRouteElement;
+import org.fusesource.ide.preferences.PreferenceManager;
+import org.fusesource.ide.preferences.PreferencesConstants;
+
+/**
+ * maps the Graphiti diagram to {@link LayoutNode}s and the computed layout
+ * back to the diagram.
+ */
+public class DiagramLayouter {
+
+	private DiagramLayouter() {
+		// utility class
+	}
+
+	/**
+	 * @return	the layout direction chosen in the preferences
+	 */
+	public static int getDirection() {
+		return PreferenceManager.getInstance().loadPreferenceAsInt(PreferencesConstants.EDITOR_LAYOUT_ORIENTATION);
+	}
+
+	/**
+	 * takes a snapshot of the shapes below the given pictogram element, has to
+	 * be called in the UI thread
+	 *
+	 * @param featureProvider	the feature provider
+	 * @param diagram			the diagram
+	 * @param root				the pictogram element to start with
+	 * @param layoutRoot		true if the children of the root are laid out
+	 * @return	the root node
+	 */
+	public static LayoutNode snapshot(IFeatureProvider featureProvider, Diagram diagram, PictogramElement root, boolean layoutRoot) {
+		Map<AnchorContainer, LayoutNode> shapeToNode = new HashMap<>();
+		Map<LayoutNode, Integer> indexes = new HashMap<>();
+		Map<LayoutNode, LayoutNode> parents = new HashMap<>();
+		LayoutNode rootNode = createNode(root, "", CollapseFeature.isCollapsed(root), layoutRoot);
+		addChildren(featureProvider, root, rootNode, shapeToNode, indexes, parents);
+
+		for (Connection connection : diagram.getConnections()) {
+			if (connection.getStart() == null || connection.getEnd() == null) {
+				continue;
+			}
+			LayoutNode source = shapeToNode.get(connection.getStart().getParent());
+			LayoutNode target = shapeToNode.get(connection.getEnd().getParent());
+			if (source != null && target != null && parents.get(source) == parents.get(target)) {
+				parents.get(source).addEdge(indexes.get(source), indexes.get(target));
+			}
+		}
+		return rootNode;
+	}
+
+	private static void addChildren(IFeatureProvider featureProvider, PictogramElement pe, LayoutNode node, Map<AnchorContainer, LayoutNode> shapeToNode,
+			Map<LayoutNode, Integer> indexes, Map<LayoutNode, LayoutNode> parents) {
+		if (node.isCollapsed() || !(pe instanceof ContainerShape)) {
+			return;
+		}
+		int index = 0;
+		for (Shape shape : ((ContainerShape) pe).getChildren()) {
+			Object bo = featureProvider.getBusinessObjectForPictogramElement(shape);
+			String type = bo instanceof AbstractCamelModelElement ? ((AbstractCamelModelElement) bo).getNodeTypeId() : "shape";
+			LayoutNode child = createNode(shape, node.getKey() + "/" + index++ + ":" + type, CollapseFeature.isCollapsed(shape), isLayoutContainer(bo));
+			indexes.put(child, node.addChild(child));
+			parents.put(child, node);
+			shapeToNode.put(shape, child);
+			addChildren(featureProvider, shape, child, shapeToNode, indexes, parents);
+		}
+	}
+
+	private static LayoutNode createNode(PictogramElement pe, String key, boolean collapsed, boolean layoutChildren) {
+		GraphicsAlgorithm ga = pe.getGraphicsAlgorithm();
+		int[] bounds = ga != null ? new int[] { ga.getX(), ga.getY(), ga.getWidth(), ga.getHeight() } : new int[4];
+		return new LayoutNode(pe, key, bounds, collapsed, layoutChildren);
+	}
+
+	private static boolean isLayoutContainer(Object bo) {
+		return bo instanceof CamelRouteElement || (bo instanceof AbstractCamelModelElement
+				&& ((AbstractCamelModelElement) bo).getUnderlyingMetaModelObject() != null
+				&& ((AbstractCamelModelElement) bo).getUnderlyingMetaModelObject().canHaveChildren());
+	}
+
+	/**
+	 * checks whether all shapes of the snapshot are still part of the diagram
+	 *
+	 * @param diagram	the diagram
+	 * @param root		the root node of the snapshot
+	 * @return	true if the layout can be applied
+	 */
+	public static boolean isAttached(Diagram diagram, LayoutNode root) {
+		if (root.getShape() != diagram && EcoreUtil.getRootContainer((PictogramElement) root.getShape()) != diagram) {
+			return false;
+		}
+		for (LayoutNode child : root.getChildren()) {
+			if (!isAttached(diagram, child)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * sets the computed coordinates on the shapes, has to be called inside of
+	 * a transaction
+	 *
+	 * @param featureProvider	the feature provider
+	 * @param root				the root node
+	 * @param resizeAll			true to resize all shapes, otherwise only the
+	 * 							ones with a new size or in a laid out container
+	 */
+	public static void apply(IFeatureProvider featureProvider, LayoutNode root, boolean resizeAll) {
+		if (root.isLayoutChildren()) {
+			apply(featureProvider, root, resizeAll, true);
+		} else {
+			// the root itself is left untouched if its children aren't laid out
+			for (LayoutNode child : root.getChildren()) {
+				apply(featureProvider, child, resizeAll, false);
+			}
+		}
+	}
+
+	private static void apply(IFeatureProvider featureProvider, LayoutNode node, boolean resizeAll, boolean resize) {
+		for (LayoutNode child : node.getChildren()) {
+			apply(featureProvider, child, resizeAll, node.isRelayouted() || resize);
+		}
+		PictogramElement pe = (PictogramElement) node.getShape();
+		GraphicsAlgorithm ga = pe.getGraphicsAlgorithm();
+		if (ga == null) {
+			return;
+		}
+		if (node.isMoved()) {
+			ga.setX(node.getX());
+			ga.setY(node.getY());
+		}
+		if (pe instanceof ContainerShape && (node.isResized() || resizeAll && (resize || node.isRelayouted()))) {
+			ResizeShapeContext cc = new ResizeShapeContext((ContainerShape) pe);
+			cc.setX(node.getX());
+			cc.setY(node.getY());
+			cc.setWidth(node.getWidth());
+			cc.setHeight(node.getHeight());
+			IResizeShapeFeature resizeFeature = featureProvider.getResizeShapeFeature(cc);
+			if (resizeFeature != null) {
+				resizeFeature.execute(cc);
+			}
+		}
+	}
+}
@@ -10,6 +10,8 @@
  ******************************************************************************/ 
 package org.fusesource.ide.camel.editor.commands;
 
+import java.util.List;
+
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
@@ -18,6 +20,7 @@ import org.eclipse.emf.transaction.TransactionalEditingDomain;
 import org.eclipse.emf.transaction.util.TransactionUtil;
 import org.eclipse.graphiti.dt.IDiagramTypeProvider;
 import org.eclipse.graphiti.features.IFeatureProvider;
+import org.eclipse.graphiti.mm.pictograms.ContainerShape;
 import org.eclipse.graphiti.mm.pictograms.Diagram;
 import org.eclipse.graphiti.platform.IDiagramBehavior;
 import org.eclipse.graphiti.ui.services.GraphitiUi;
@@ -25,6 +28,7 @@ import org.eclipse.swt.widgets.Display;
 import org.fusesource.ide.camel.editor.CamelDesignEditor;
 import org.fusesource.ide.camel.model.service.core.model.AbstractCamelModelElement;
 import org.fusesource.ide.camel.model.service.core.model.CamelFile;
+import org.fusesource.ide.camel.model.service.core.model.CamelRouteContainerElement;
 
 /**
  * @author lhein
@@ -65,6 +69,93 @@ public class DiagramOperations {
 		return operation;
 	}
 
+	/**
+	 * restores the layout of a freshly loaded diagram from the last time it
+	 * was shown. If the stored layout doesn't cover all shapes the diagram
+	 * is laid out again in the background, only the containers whose shapes
+	 * changed since then are laid out again.
+	 * 
+	 * @param designEditor	the editor showing the diagram
+	 * @param editingDomain
+	 * @param featureProvider
+	 * @param diagram
+	 * @param container	the container shown in the diagram
+	 * @return
+	 */
+	public static LayoutCommand restoreLayout(CamelDesignEditor designEditor, TransactionalEditingDomain editingDomain, IFeatureProvider featureProvider, Diagram diagram, AbstractCamelModelElement container) {
+		if (container == null) {
+			return null;
+		}
+		int direction = DiagramLayouter.getDirection();
+		LayoutNode layout = DiagramLayouter.snapshot(featureProvider, diagram, diagram, container instanceof CamelRouteContainerElement);
+		LayoutState storedLayout = LayoutStore.getInstance().get(LayoutStore.getSource(container));
+		boolean restored = storedLayout != null && storedLayout.getDirection() == direction;
+		if (!restored || !storedLayout.applyTo(layout)) {
+			// the layout service starts from the stored layout unless the direction changed
+			if (designEditor != null) {
+				designEditor.getLayoutService().schedule(restored, false);
+			}
+		}
+		LayoutCommand operation = new LayoutCommand(featureProvider, layout, true, editingDomain);
+		execute(editingDomain, operation, false);
+		return operation;
+	}
+
+	/**
+	 * lays out the containers of the diagram which changed since the last
+	 * layout in the background
+	 * 
+	 * @param designEditor
+	 * @param modelChanged
+	 */
+	public static void scheduleLayout(CamelDesignEditor designEditor, boolean modelChanged) {
+		if (designEditor != null) {
+			designEditor.getLayoutService().schedule(true, modelChanged);
+		}
+	}
+
+	/**
+	 * expands the given placeholder shapes of a lazily loaded diagram and
+	 * lays out the added shapes
+	 * 
+	 * @param designEditor
+	 * @param shapes
+	 * @return
+	 */
+	public static LoadDeferredShapesCommand loadDeferredShapes(CamelDesignEditor designEditor, List<ContainerShape> shapes) {
+		TransactionalEditingDomain editingDomain = createEditingDomain(designEditor);
+		if (editingDomain == null) {
+			return null;
+		}
+		LoadDeferredShapesCommand operation = new LoadDeferredShapesCommand(designEditor.getFeatureProvider(), editingDomain, shapes);
+		execute(editingDomain, operation, false);
+		if (operation.isLoaded()) {
+			scheduleLayout(designEditor, false);
+		}
+		return operation;
+	}
+
+	/**
+	 * expands the placeholder shapes of a lazily loaded diagram which hide
+	 * the given node
+	 * 
+	 * @param designEditor
+	 * @param node
+	 * @return
+	 */
+	public static LoadDeferredShapesCommand loadDeferredShapes(CamelDesignEditor designEditor, AbstractCamelModelElement node) {
+		TransactionalEditingDomain editingDomain = createEditingDomain(designEditor);
+		if (editingDomain == null) {
+			return null;
+		}
+		LoadDeferredShapesCommand operation = new LoadDeferredShapesCommand(designEditor.getFeatureProvider(), editingDomain, node);
+		execute(editingDomain, operation, false);
+		if (operation.isLoaded()) {
+			scheduleLayout(designEditor, false);
+		}
+		return operation;
+	}
+
 	public static UpdateCommand updateSelectedNode(CamelDesignEditor designEditor) {
 		TransactionalEditingDomain editingDomain = createEditingDomain(designEditor);
 		UpdateCommand operation = new UpdateCommand(designEditor, editingDomain, designEditor.getSelectedNode());
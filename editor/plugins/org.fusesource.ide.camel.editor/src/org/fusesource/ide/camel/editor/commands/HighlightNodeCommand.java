@@ -59,6 +59,10 @@ public class HighlightNodeCommand extends RecordingCommand {
 		}
 		
 		PictogramElement pe = designEditor.getFeatureProvider().getPictogramElementForBusinessObject(node);
+		if (pe == null && highlight) {
+			// the node may be hidden inside a placeholder of a large diagram
+			pe = LoadDeferredShapesCommand.loadNode(designEditor.getFeatureProvider(), node);
+		}
 		if (pe == null) {
 			CamelEditorUIActivator.pluginLog().logWarning("Warning could not find PictogramElement for highlight node: " + node);
 			return;
@@ -106,7 +106,7 @@ public class ImportCamelContextElementsCommand extends RecordingCommand {
 			CamelDiagramLoader diagramReader = new CamelDiagramLoader(diagram, featureProvider);
 			try {
 				context = camelContextFile.getChildElements().isEmpty() ? null : (CamelRouteContainerElement)camelContextFile.getChildElements().get(0);
-				diagramReader.loadModel(editingDomain, this.container != null && this.container instanceof CamelFile == false ? this.container : context);
+				diagramReader.loadModel(designEditor, editingDomain, this.container != null && this.container instanceof CamelFile == false ? this.container : context);
 			} catch (Exception e) {
 				CamelEditorUIActivator.pluginLog().logError("Failed to load model: " + e, e);
 			}
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.camel.editor.commands;
+
+import java.util.List;
+
+import org.eclipse.draw2d.geometry.Insets;
+import org.eclipse.draw2d.graph.CompoundDirectedGraph;
+import org.eclipse.draw2d.graph.CompoundDirectedGraphLayout;
+import org.eclipse.draw2d.graph.Edge;
+import org.eclipse.draw2d.graph.EdgeList;
+import org.eclipse.draw2d.graph.Node;
+import org.eclipse.draw2d.graph.NodeList;
+import org.fusesource.ide.camel.editor.utils.FigureUIFactory;
+
+/**
+ * computes the layout of a {@link LayoutNode} tree with the GEF directed
+ * graph layouter. Containers are laid out bottom up and resized to fit their
+ * children afterwards. The calculator only works on the nodes, so it can run
+ * outside of the UI thread.
+ */
+public class LayoutCalculator {
+
+	/**
+	 * Minimal distance between nodes.
+	 */
+	private static final int PADDING_H = 10;
+	private static final int PADDING_V = 10;
+	private static final int SPACING_H = 10;
+	private static final int SPACING_V = 40;
+
+	private final int direction;
+	private final LayoutState previous;
+
+	/**
+	 * @param direction	the direction of the layout
+	 * @param previous	the state of the last layout, if set only containers
+	 * 					which changed since then are laid out again
+	 */
+	public LayoutCalculator(int direction, LayoutState previous) {
+		this.direction = direction;
+		this.previous = previous != null && previous.getDirection() == direction ? previous : null;
+	}
+
+	/**
+	 * lays out the nodes
+	 *
+	 * @param root	the root node
+	 */
+	public void layout(LayoutNode root) {
+		layoutNode(root);
+	}
+
+	private void layoutNode(LayoutNode node) {
+		for (LayoutNode child : node.getChildren()) {
+			layoutNode(child);
+		}
+		if (node.isLayoutChildren() && !node.isCollapsed() && !node.getChildren().isEmpty() && needsLayout(node)) {
+			layoutChildren(node);
+			node.setRelayouted(true);
+		}
+		resize(node);
+	}
+
+	private boolean needsLayout(LayoutNode node) {
+		return previous == null || !node.getSignature().equals(previous.getSignature(node.getKey()));
+	}
+
+	private void layoutChildren(LayoutNode container) {
+		CompoundDirectedGraph graph = new CompoundDirectedGraph();
+		List<LayoutNode> children = container.getChildren();
+		Node[] nodes = new Node[children.size()];
+		NodeList nodeList = new NodeList();
+		for (int i = 0; i < nodes.length; i++) {
+			LayoutNode child = children.get(i);
+			Node node = new Node(child);
+			node.x = child.getX();
+			node.y = child.getY();
+			node.width = child.getWidth();
+			node.height = child.getHeight();
+			nodes[i] = node;
+			nodeList.add(node);
+		}
+		EdgeList edgeList = new EdgeList();
+		for (int[] edge : container.getEdges()) {
+			edgeList.add(new Edge(nodes[edge[0]], nodes[edge[1]]));
+		}
+		graph.nodes = nodeList;
+		graph.edges = edgeList;
+		graph.setDefaultPadding(new Insets(PADDING_V, PADDING_H, PADDING_V, PADDING_H));
+		graph.setDirection(direction);
+		new CompoundDirectedGraphLayout().visit(graph);
+
+		for (Node node : nodes) {
+			((LayoutNode) node.data).setLocation(node.x + SPACING_H, node.y + SPACING_V);
+		}
+	}
+
+	/**
+	 * resizes the node to fit all children
+	 */
+	private void resize(LayoutNode node) {
+		if (!node.isCollapsed() && !node.getChildren().isEmpty()) {
+			int newWidth = 0;
+			int newHeight = 0;
+			for (LayoutNode child : node.getChildren()) {
+				newWidth = Math.max(newWidth, child.getX() + child.getWidth() + PADDING_H + PADDING_H);
+				newHeight = Math.max(newHeight, child.getY() + child.getHeight() + PADDING_V + PADDING_V);
+			}
+			node.setSize(newWidth, newHeight);
+		} else {
+			// if the container is collapsed we always assume the max collapsed height
+			node.setSize(node.getWidth(), FigureUIFactory.IMAGE_DEFAULT_HEIGHT);
+		}
+	}
+}
@@ -14,27 +14,47 @@ package org.fusesource.ide.camel.editor.commands;
 import org.eclipse.emf.transaction.RecordingCommand;
 import org.eclipse.emf.transaction.TransactionalEditingDomain;
 import org.eclipse.graphiti.features.IFeatureProvider;
-import org.eclipse.graphiti.features.context.impl.CustomContext;
-import org.eclipse.graphiti.features.custom.ICustomFeature;
 import org.eclipse.graphiti.mm.pictograms.Diagram;
-import org.eclipse.graphiti.mm.pictograms.PictogramElement;
-import org.fusesource.ide.camel.editor.features.custom.CollapseFeature;
-import org.fusesource.ide.camel.editor.features.custom.LayoutDiagramFeature;
 import org.fusesource.ide.camel.model.service.core.model.AbstractCamelModelElement;
 import org.fusesource.ide.camel.model.service.core.model.CamelRouteContainerElement;
-import org.fusesource.ide.camel.model.service.core.model.CamelRouteElement;
 
 
 public class LayoutCommand extends RecordingCommand {
 	private final IFeatureProvider featureProvider;
 	private AbstractCamelModelElement container;
-	private PictogramElement diagram;
+	private Diagram diagram;
+	private LayoutNode layout;
+	private boolean resizeAll;
 
+	/**
+	 * lays out all containers of the diagram
+	 * 
+	 * @param featureProvider
+	 * @param diagram
+	 * @param container
+	 * @param editingDomain
+	 */
 	public LayoutCommand(IFeatureProvider featureProvider, Diagram diagram, AbstractCamelModelElement container, TransactionalEditingDomain editingDomain) {
 		super(editingDomain);
 		this.featureProvider = featureProvider;
 		this.container = container;
 		this.diagram = diagram;
+		this.resizeAll = true;
+	}
+
+	/**
+	 * applies an already computed layout
+	 * 
+	 * @param featureProvider
+	 * @param layout		the computed layout
+	 * @param resizeAll		true to resize all shapes of the laid out containers
+	 * @param editingDomain
+	 */
+	public LayoutCommand(IFeatureProvider featureProvider, LayoutNode layout, boolean resizeAll, TransactionalEditingDomain editingDomain) {
+		super(editingDomain);
+		this.featureProvider = featureProvider;
+		this.layout = layout;
+		this.resizeAll = resizeAll;
 	}
 
 	/*
@@ -43,41 +63,20 @@ public class LayoutCommand extends RecordingCommand {
 	 */
 	@Override
 	protected void doExecute() {
-		layout(featureProvider, container);
-		if (container instanceof CamelRouteContainerElement) {
-			layout(featureProvider, diagram);
-		}
-	}
-	
-	private void layout(IFeatureProvider featureProvider, AbstractCamelModelElement container) {
-		if (container == null) {
-			return;
-		}
-
-		if (!CollapseFeature.isCollapsed(featureProvider, container)) {
-			for (AbstractCamelModelElement cme : container.getChildElements()) {
-				layout(featureProvider, cme);
+		if (layout == null) {
+			if (container == null || diagram == null) {
+				return;
 			}
+			layout = DiagramLayouter.snapshot(featureProvider, diagram, diagram, container instanceof CamelRouteContainerElement);
+			new LayoutCalculator(DiagramLayouter.getDirection(), null).layout(layout);
 		}
-		
-		if (container instanceof CamelRouteElement || (container.getUnderlyingMetaModelObject() != null && container.getUnderlyingMetaModelObject().canHaveChildren())) {
-			layout(featureProvider, featureProvider.getPictogramElementForBusinessObject(container));
-		}
+		DiagramLayouter.apply(featureProvider, layout, resizeAll);
 	}
-	
-	private void layout(IFeatureProvider featureProvider, PictogramElement pe) {
-		// do not layout collapsed figures
-		if (CollapseFeature.isCollapsed(pe)) {
-			return;
-		}
-		
-		CustomContext cc = new CustomContext(new PictogramElement[] { pe });
-		ICustomFeature[] cfs = featureProvider.getCustomFeatures(null);
-		for (ICustomFeature cf : cfs) {
-			if (cf instanceof LayoutDiagramFeature) {
-				cf.execute(cc);
-				break;
-			}
-		}
+
+	/**
+	 * @return the applied layout
+	 */
+	public LayoutNode getLayout() {
+		return layout;
 	}
 }
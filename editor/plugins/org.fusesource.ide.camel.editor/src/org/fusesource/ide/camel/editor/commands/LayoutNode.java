@@ -0,0 +1,176 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.camel.editor.commands;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * a shape of the diagram as seen by the layouter. The nodes are a snapshot
+ * of the diagram, so the layout can be computed outside of the UI thread and
+ * applied to the diagram afterwards.
+ */
+public class LayoutNode {
+
+	private final Object shape;
+	private final String key;
+	private final boolean collapsed;
+	private final boolean layoutChildren;
+	private final int originalX;
+	private final int originalY;
+	private final int originalWidth;
+	private final int originalHeight;
+	private final List<LayoutNode> children = new ArrayList<>();
+	private final List<int[]> edges = new ArrayList<>();
+	private int x;
+	private int y;
+	private int width;
+	private int height;
+	private boolean relayouted;
+
+	/**
+	 * @param shape				the pictogram element, not touched by the layouter
+	 * @param key				identifies the node within the diagram
+	 * @param bounds			x, y, width and height of the shape
+	 * @param collapsed			true if the children of the shape are hidden
+	 * @param layoutChildren	true if the children of the shape are laid out
+	 */
+	public LayoutNode(Object shape, String key, int[] bounds, boolean collapsed, boolean layoutChildren) {
+		this.shape = shape;
+		this.key = key;
+		this.collapsed = collapsed;
+		this.layoutChildren = layoutChildren;
+		this.originalX = bounds[0];
+		this.originalY = bounds[1];
+		this.originalWidth = bounds[2];
+		this.originalHeight = bounds[3];
+		setBounds(bounds);
+	}
+
+	/**
+	 * @param child	the child node
+	 * @return	the index of the child
+	 */
+	public int addChild(LayoutNode child) {
+		children.add(child);
+		return children.size() - 1;
+	}
+
+	/**
+	 * adds a connection between two children of this node
+	 *
+	 * @param source	index of the source child
+	 * @param target	index of the target child
+	 */
+	public void addEdge(int source, int target) {
+		edges.add(new int[] { source, target });
+	}
+
+	/**
+	 * @return	a text which changes whenever the children, their sizes or
+	 * 			their connections change
+	 */
+	public String getSignature() {
+		StringBuilder sb = new StringBuilder();
+		for (LayoutNode child : children) {
+			sb.append(child.key).append('@').append(child.width).append('x').append(child.height).append(';');
+		}
+		for (int[] edge : edges) {
+			sb.append(edge[0]).append('>').append(edge[1]).append(';');
+		}
+		return sb.toString();
+	}
+
+	public Object getShape() {
+		return shape;
+	}
+
+	public String getKey() {
+		return key;
+	}
+
+	public boolean isCollapsed() {
+		return collapsed;
+	}
+
+	public boolean isLayoutChildren() {
+		return layoutChildren;
+	}
+
+	public List<LayoutNode> getChildren() {
+		return Collections.unmodifiableList(children);
+	}
+
+	public List<int[]> getEdges() {
+		return Collections.unmodifiableList(edges);
+	}
+
+	public int[] getBounds() {
+		return new int[] { x, y, width, height };
+	}
+
+	public void setBounds(int[] bounds) {
+		setLocation(bounds[0], bounds[1]);
+		setSize(bounds[2], bounds[3]);
+	}
+
+	public void setLocation(int x, int y) {
+		this.x = x;
+		this.y = y;
+	}
+
+	public void setSize(int width, int height) {
+		this.width = width;
+		this.height = height;
+	}
+
+	public int getX() {
+		return x;
+	}
+
+	public int getY() {
+		return y;
+	}
+
+	public int getWidth() {
+		return width;
+	}
+
+	public int getHeight() {
+		return height;
+	}
+
+	/**
+	 * @return	true if the location differs from the one of the shape
+	 */
+	public boolean isMoved() {
+		return x != originalX || y != originalY;
+	}
+
+	/**
+	 * @return	true if the size differs from the one of the shape
+	 */
+	public boolean isResized() {
+		return width != originalWidth || height != originalHeight;
+	}
+
+	/**
+	 * @return	true if the children of this node got new locations
+	 */
+	public boolean isRelayouted() {
+		return relayouted;
+	}
+
+	public void setRelayouted(boolean relayouted) {
+		this.relayouted = relayouted;
+	}
+}
@@ -0,0 +1,216 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.camel.editor.commands;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * the coordinates of all shapes of a diagram after a layout together with
+ * the signatures of the laid out containers. It is used to find the
+ * containers which changed since the last layout and to restore the layout
+ * when a file is opened again.
+ */
+public class LayoutState {
+
+	private static final String PROP_DIRECTION = "direction";
+	private static final String PREFIX_NODE = "node.";
+	private static final String PREFIX_LAYOUT = "layout.";
+
+	private final int direction;
+	private final Map<String, String> bounds = new HashMap<>();
+	private final Map<String, String> signatures = new HashMap<>();
+
+	private LayoutState(int direction) {
+		this.direction = direction;
+	}
+
+	/**
+	 * @param root		the laid out nodes
+	 * @param direction	the layout direction
+	 * @return	the state of the nodes
+	 */
+	public static LayoutState of(LayoutNode root, int direction) {
+		LayoutState state = new LayoutState(direction);
+		state.collect(root);
+		return state;
+	}
+
+	private void collect(LayoutNode node) {
+		int[] b = node.getBounds();
+		bounds.put(node.getKey(), b[0] + "," + b[1] + "," + b[2] + "," + b[3]);
+		if (node.isLayoutChildren() && !node.isCollapsed()) {
+			signatures.put(node.getKey(), node.getSignature());
+		}
+		for (LayoutNode child : node.getChildren()) {
+			collect(child);
+		}
+	}
+
+	public int getDirection() {
+		return direction;
+	}
+
+	/**
+	 * @param key	the key of a container node
+	 * @return	the signature of the container at the time of the layout or
+	 * 			null if the container wasn't laid out
+	 */
+	public String getSignature(String key) {
+		return signatures.get(key);
+	}
+
+	/**
+	 * sets the stored coordinates on the nodes. The children of a laid out
+	 * container only get their stored coordinates if the container still has
+	 * the signature it had at the time of the layout and the figures of its
+	 * children still have the same widths, otherwise they are left for the
+	 * {@link LayoutCalculator} to lay out again.
+	 *
+	 * @param root	the nodes
+	 * @return	true if the coordinates were set on all nodes, false if some
+	 * 			containers need to be laid out again
+	 */
+	public boolean applyTo(LayoutNode root) {
+		int[] rootBounds = getBounds(root);
+		if (rootBounds == null) {
+			return false;
+		}
+		root.setBounds(rootBounds);
+		return restoreChildren(root);
+	}
+
+	private boolean restoreChildren(LayoutNode node) {
+		boolean complete;
+		if (node.isLayoutChildren() && !node.isCollapsed() && !node.getChildren().isEmpty()) {
+			complete = restoreLayout(node);
+		} else {
+			complete = true;
+			for (LayoutNode child : node.getChildren()) {
+				int[] childBounds = getBounds(child);
+				if (childBounds != null) {
+					child.setBounds(childBounds);
+				} else {
+					complete = false;
+				}
+			}
+		}
+		// the layout inside a child doesn't depend on where the child is placed
+		for (LayoutNode child : node.getChildren()) {
+			complete &= restoreChildren(child);
+		}
+		return complete;
+	}
+
+	private boolean restoreLayout(LayoutNode container) {
+		String signature = signatures.get(container.getKey());
+		if (signature == null) {
+			return false;
+		}
+		List<LayoutNode> children = container.getChildren();
+		int[][] stored = new int[children.size()][];
+		for (int i = 0; i < stored.length; i++) {
+			LayoutNode child = children.get(i);
+			stored[i] = getBounds(child);
+			// the height of a figure is always set by the layout, its width is its own
+			if (stored[i] == null || hasFigureSize(child) && stored[i][2] != child.getWidth()) {
+				return false;
+			}
+		}
+		int[][] current = new int[stored.length][];
+		for (int i = 0; i < stored.length; i++) {
+			current[i] = children.get(i).getBounds();
+			children.get(i).setBounds(stored[i]);
+		}
+		if (signature.equals(container.getSignature())) {
+			return true;
+		}
+		for (int i = 0; i < current.length; i++) {
+			children.get(i).setBounds(current[i]);
+		}
+		return false;
+	}
+
+	private static boolean hasFigureSize(LayoutNode node) {
+		return node.isCollapsed() || node.getChildren().isEmpty();
+	}
+
+	private int[] getBounds(LayoutNode node) {
+		String value = bounds.get(node.getKey());
+		if (value == null) {
+			return null;
+		}
+		String[] b = value.split(",");
+		return new int[] { Integer.parseInt(b[0]), Integer.parseInt(b[1]), Integer.parseInt(b[2]), Integer.parseInt(b[3]) };
+	}
+
+	/**
+	 * @return	the state as properties
+	 */
+	public Properties toProperties() {
+		Properties properties = new Properties();
+		properties.setProperty(PROP_DIRECTION, Integer.toString(direction));
+		bounds.forEach((key, value) -> properties.setProperty(PREFIX_NODE + key, value));
+		signatures.forEach((key, value) -> properties.setProperty(PREFIX_LAYOUT + key, value));
+		return properties;
+	}
+
+	/**
+	 * @param properties	the properties written by {@link #toProperties()}
+	 * @return	the state or null if the properties don't contain a valid state
+	 */
+	public static LayoutState fromProperties(Properties properties) {
+		String direction = properties.getProperty(PROP_DIRECTION);
+		if (direction == null) {
+			return null;
+		}
+		try {
+			LayoutState state = new LayoutState(Integer.parseInt(direction));
+			for (String name : properties.stringPropertyNames()) {
+				String value = properties.getProperty(name);
+				if (name.startsWith(PREFIX_NODE)) {
+					if (value.split(",").length != 4) {
+						return null;
+					}
+					for (String coordinate : value.split(",")) {
+						Integer.parseInt(coordinate);
+					}
+					state.bounds.put(name.substring(PREFIX_NODE.length()), value);
+				} else if (name.startsWith(PREFIX_LAYOUT)) {
+					state.signatures.put(name.substring(PREFIX_LAYOUT.length()), value);
+				}
+			}
+			return state;
+		} catch (NumberFormatException ex) {
+			return null;
+		}
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof LayoutState)) {
+			return false;
+		}
+		LayoutState other = (LayoutState) obj;
+		return direction == other.direction && bounds.equals(other.bounds) && signatures.equals(other.signatures);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(direction, bounds, signatures);
+	}
+}
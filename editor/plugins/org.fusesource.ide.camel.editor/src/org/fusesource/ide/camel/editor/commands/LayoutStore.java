@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.camel.editor.commands;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.fusesource.ide.camel.editor.internal.CamelEditorUIActivator;
+import org.fusesource.ide.camel.editor.internal.UIMessages;
+import org.fusesource.ide.camel.model.service.core.model.AbstractCamelModelElement;
+import org.fusesource.ide.camel.model.service.core.model.CamelFile;
+import org.fusesource.ide.camel.model.service.core.model.CamelRouteContainerElement;
+
+/**
+ * keeps the {@link LayoutState} of the opened diagrams in the state location
+ * of the plugin, so a diagram doesn't need to be laid out again when its
+ * file is opened the next time.
+ */
+public class LayoutStore {
+
+	private static final String LAYOUTS_FOLDER = "layouts"; //$NON-NLS-1$
+	private static final String PROP_SOURCE = "source"; //$NON-NLS-1$
+	private static final long SAVE_DELAY = 1000L;
+	private static final LayoutStore instance = new LayoutStore();
+
+	private final Map<String, LayoutState> states = new ConcurrentHashMap<>();
+	private final Map<String, LayoutState> unsaved = new LinkedHashMap<>();
+	private final Job saveJob = new SaveJob();
+
+	/**
+	 * @return	the shared store
+	 */
+	public static LayoutStore getInstance() {
+		return instance;
+	}
+
+	/**
+	 * @param container	the container shown in the diagram
+	 * @return	the name the layout of the diagram is stored under or null if
+	 * 			the container doesn't belong to a file
+	 */
+	public static String getSource(AbstractCamelModelElement container) {
+		if (container == null) {
+			return null;
+		}
+		CamelFile camelFile = container.getCamelFile();
+		if (camelFile == null || camelFile.getResource() == null) {
+			return null;
+		}
+		String path = camelFile.getResource().getFullPath().toString();
+		boolean wholeFile = container instanceof CamelFile || container instanceof CamelRouteContainerElement;
+		return wholeFile ? path : path + "#" + container.getId(); //$NON-NLS-1$
+	}
+
+	/**
+	 * @param source	the name of the layout
+	 * @return	the last layout stored under the name or null
+	 */
+	public LayoutState get(String source) {
+		if (source == null) {
+			return null;
+		}
+		LayoutState state = states.get(source);
+		if (state == null) {
+			state = read(source);
+			if (state != null) {
+				states.putIfAbsent(source, state);
+			}
+		}
+		return state;
+	}
+
+	/**
+	 * remembers the layout and writes it to disk in the background
+	 *
+	 * @param source	the name of the layout
+	 * @param state		the layout
+	 */
+	public void put(String source, LayoutState state) {
+		if (source == null || state == null || state.equals(states.get(source))) {
+			return;
+		}
+		states.put(source, state);
+		synchronized (unsaved) {
+			unsaved.put(source, state);
+		}
+		saveJob.schedule(SAVE_DELAY);
+	}
+
+	private LayoutState read(String source) {
+		File file = getFile(source);
+		if (file == null || !file.isFile()) {
+			return null;
+		}
+		Properties properties = new Properties();
+		try (InputStream in = new FileInputStream(file)) {
+			properties.load(in);
+		} catch (IOException ex) {
+			CamelEditorUIActivator.pluginLog().logWarning("Unable to read the diagram layout of " + source, ex); //$NON-NLS-1$
+			return null;
+		}
+		// the file name is only a hash of the source
+		return source.equals(properties.getProperty(PROP_SOURCE)) ? LayoutState.fromProperties(properties) : null;
+	}
+
+	private void write(String source, LayoutState state) {
+		File file = getFile(source);
+		if (file == null) {
+			return;
+		}
+		Properties properties = state.toProperties();
+		properties.setProperty(PROP_SOURCE, source);
+		File tmp = new File(file.getPath() + ".tmp"); //$NON-NLS-1$
+		try {
+			file.getParentFile().mkdirs();
+			try (OutputStream out = new FileOutputStream(tmp)) {
+				properties.store(out, null);
+			}
+			Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException ex) {
+			CamelEditorUIActivator.pluginLog().logWarning("Unable to save the diagram layout of " + source, ex); //$NON-NLS-1$
+		}
+	}
+
+	private File getFile(String source) {
+		CamelEditorUIActivator activator = CamelEditorUIActivator.getDefault();
+		if (activator == null) {
+			return null;
+		}
+		File folder = activator.getStateLocation().append(LAYOUTS_FOLDER).toFile();
+		return new File(folder, Integer.toHexString(source.hashCode()) + ".properties"); //$NON-NLS-1$
+	}
+
+	private class SaveJob extends Job {
+
+		SaveJob() {
+			super(UIMessages.diagramLayoutSaveJobName);
+			setSystem(true);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			Map<String, LayoutState> toSave;
+			synchronized (unsaved) {
+				toSave = new LinkedHashMap<>(unsaved);
+				unsaved.clear();
+			}
+			toSave.forEach(LayoutStore.this::write);
+			return Status.OK_STATUS;
+		}
+	}
+}
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.camel.editor.commands;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.transaction.RecordingCommand;
+import org.eclipse.emf.transaction.TransactionalEditingDomain;
+import org.eclipse.graphiti.features.IFeatureProvider;
+import org.eclipse.graphiti.mm.pictograms.ContainerShape;
+import org.eclipse.graphiti.mm.pictograms.PictogramElement;
+import org.fusesource.ide.camel.editor.features.custom.CollapseFeature;
+import org.fusesource.ide.camel.editor.internal.CamelDiagramLoader;
+import org.fusesource.ide.camel.model.service.core.model.AbstractCamelModelElement;
+
+/**
+ * expands placeholder shapes of a lazily loaded diagram, either the given
+ * shapes or the ones hiding a given node
+ */
+public class LoadDeferredShapesCommand extends RecordingCommand {
+
+	private final IFeatureProvider featureProvider;
+	private final List<ContainerShape> shapes;
+	private final AbstractCamelModelElement node;
+	private boolean loaded;
+
+	/**
+	 * @param featureProvider
+	 * @param editingDomain
+	 * @param shapes			the placeholders to expand
+	 */
+	public LoadDeferredShapesCommand(IFeatureProvider featureProvider, TransactionalEditingDomain editingDomain, List<ContainerShape> shapes) {
+		super(editingDomain);
+		this.featureProvider = featureProvider;
+		this.shapes = new ArrayList<>(shapes);
+		this.node = null;
+	}
+
+	/**
+	 * @param featureProvider
+	 * @param editingDomain
+	 * @param node				the node which needs a shape
+	 */
+	public LoadDeferredShapesCommand(IFeatureProvider featureProvider, TransactionalEditingDomain editingDomain, AbstractCamelModelElement node) {
+		super(editingDomain);
+		this.featureProvider = featureProvider;
+		this.shapes = new ArrayList<>();
+		this.node = node;
+	}
+
+	@Override
+	protected void doExecute() {
+		for (ContainerShape shape : shapes) {
+			loaded |= expand(featureProvider, shape);
+		}
+		if (node != null && featureProvider.getPictogramElementForBusinessObject(node) == null) {
+			loaded = loadNode(featureProvider, node) != null;
+		}
+	}
+
+	/**
+	 * @return	true if shapes were added to the diagram
+	 */
+	public boolean isLoaded() {
+		return loaded;
+	}
+
+	/**
+	 * expands the placeholders hiding the node, has to be called inside of a
+	 * transaction
+	 *
+	 * @param featureProvider
+	 * @param node
+	 * @return	the shape of the node or null if it has none
+	 */
+	static PictogramElement loadNode(IFeatureProvider featureProvider, AbstractCamelModelElement node) {
+		if (node == null) {
+			return null;
+		}
+		PictogramElement pe = featureProvider.getPictogramElementForBusinessObject(node);
+		if (pe == null) {
+			PictogramElement parent = loadNode(featureProvider, node.getParent());
+			if (CamelDiagramLoader.isDeferred(parent)) {
+				expand(featureProvider, (ContainerShape) parent);
+				pe = featureProvider.getPictogramElementForBusinessObject(node);
+			}
+		}
+		return pe;
+	}
+
+	private static boolean expand(IFeatureProvider featureProvider, ContainerShape shape) {
+		if (!CamelDiagramLoader.isDeferred(shape)) {
+			// already expanded by an earlier command
+			return false;
+		}
+		new CollapseFeature(featureProvider).collapseShape(shape);
+		return true;
+	}
+}
@@ -92,7 +92,7 @@ public class AddFlowFeature extends AbstractAddFeature {
 		
 		final Object deactivateLayout = context.getProperty(DEACTIVATE_LAYOUT);
 		if (!Boolean.TRUE.equals(deactivateLayout)) {
-			DiagramOperations.layoutDiagram(CamelUtils.getDiagramEditor());
+			DiagramOperations.scheduleLayout(CamelUtils.getDiagramEditor(), false);
 		}
 		
 		return connection;
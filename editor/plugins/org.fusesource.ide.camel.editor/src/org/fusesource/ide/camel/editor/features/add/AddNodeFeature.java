@@ -21,6 +21,7 @@ import org.eclipse.graphiti.ui.internal.editor.DiagramEditorDummy;
 import org.fusesource.ide.camel.editor.CamelDesignEditor;
 import org.fusesource.ide.camel.editor.commands.DiagramOperations;
 import org.fusesource.ide.camel.editor.features.custom.CollapseFeature;
+import org.fusesource.ide.camel.editor.internal.CamelDiagramLoader;
 import org.fusesource.ide.camel.editor.utils.CamelUtils;
 import org.fusesource.ide.camel.editor.utils.FigureUIFactory;
 import org.fusesource.ide.camel.editor.utils.NodeUtils;
@@ -93,6 +94,15 @@ public class AddNodeFeature extends AbstractAddShapeFeature {
 		Diagram diagram = Graphiti.getPeService().getDiagramForPictogramElement(targetContainer);
 		String label = addedClass.getDisplayText();
 		
+		if (CamelDiagramLoader.isDeferred(targetContainer)) {
+			// the target is a placeholder, so expanding it adds the new node too
+			new CollapseFeature(getFeatureProvider()).collapseShape(targetContainer);
+			PictogramElement pe = getFeatureProvider().getPictogramElementForBusinessObject(addedClass);
+			if (pe != null) {
+				return pe;
+			}
+		}
+		
 		// CONTAINER SHAPE
 		ContainerShape containerShape = Graphiti.getPeCreateService().createContainerShape(targetContainer, true);
 
@@ -114,7 +124,7 @@ public class AddNodeFeature extends AbstractAddShapeFeature {
 			} else {
 				editor = (CamelDesignEditor) o_editor;
 			}
-			DiagramOperations.layoutDiagram(editor);
+			DiagramOperations.scheduleLayout(editor, false);
 		}
 
 		return containerShape;
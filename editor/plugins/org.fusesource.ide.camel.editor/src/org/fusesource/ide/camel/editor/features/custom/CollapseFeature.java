@@ -25,11 +25,13 @@ import org.eclipse.graphiti.mm.algorithms.styles.LineStyle;
 import org.eclipse.graphiti.mm.pictograms.Anchor;
 import org.eclipse.graphiti.mm.pictograms.Connection;
 import org.eclipse.graphiti.mm.pictograms.ContainerShape;
+import org.eclipse.graphiti.mm.pictograms.Diagram;
 import org.eclipse.graphiti.mm.pictograms.PictogramElement;
 import org.eclipse.graphiti.mm.pictograms.Shape;
 import org.eclipse.graphiti.services.Graphiti;
 import org.eclipse.graphiti.services.IGaService;
 import org.fusesource.ide.camel.editor.CamelDesignEditor;
+import org.fusesource.ide.camel.editor.internal.CamelDiagramLoader;
 import org.fusesource.ide.camel.editor.utils.StyleUtil;
 import org.fusesource.ide.camel.model.service.core.model.AbstractCamelModelElement;
 
@@ -141,6 +143,10 @@ public class CollapseFeature extends AbstractCustomFeature {
 			Graphiti.getPeService().setPropertyValue(pe, PROP_EXPANDED_WIDTH, String.valueOf(width));
 			Graphiti.getPeService().setPropertyValue(pe, PROP_EXPANDED_HEIGHT, String.valueOf(height));
 		} else if (initialCollapsedState.equals("true")) {
+			// placeholders of large diagrams get their children on first expand
+			if (CamelDiagramLoader.isDeferred(cs)) {
+				new CamelDiagramLoader(getDiagram(), getFeatureProvider()).loadDeferredChildren(cs);
+			}
 			changeWidth = Integer.parseInt(Graphiti.getPeService().getPropertyValue(pe, PROP_EXPANDED_WIDTH));
 			changeHeight = Integer.parseInt(Graphiti.getPeService().getPropertyValue(pe, PROP_EXPANDED_HEIGHT));
 			Graphiti.getPeService().setPropertyValue(pe, PROP_COLLAPSED_STATE, "false");
@@ -172,8 +178,19 @@ public class CollapseFeature extends AbstractCustomFeature {
 	 * @param collapsed
 	 */
 	public void updateBorderStyle(ContainerShape cs, boolean collapsed) {
+		updateBorderStyle(getDiagram(), cs, collapsed);
+	}
+	
+	/**
+	 * updates the border color to reflect the collapse state of the figure
+	 * 
+	 * @param diagram
+	 * @param cs
+	 * @param collapsed
+	 */
+	public static void updateBorderStyle(Diagram diagram, ContainerShape cs, boolean collapsed) {
 		IGaService gaService = Graphiti.getGaService();
-		Color col = collapsed ? gaService.manageColor(getDiagram(), StyleUtil.CONTAINER_FIGURE_COLLAPSED_BORDER_COLOR) : gaService.manageColor(getDiagram(), StyleUtil.CONTAINER_FIGURE_BORDER_COLOR); 
+		Color col = collapsed ? gaService.manageColor(diagram, StyleUtil.CONTAINER_FIGURE_COLLAPSED_BORDER_COLOR) : gaService.manageColor(diagram, StyleUtil.CONTAINER_FIGURE_BORDER_COLOR); 
 		GraphicsAlgorithm ga = cs.getGraphicsAlgorithm();
 		ga.setLineStyle(collapsed ? LineStyle.DASH : LineStyle.SOLID);
 		ga.setForeground(col);
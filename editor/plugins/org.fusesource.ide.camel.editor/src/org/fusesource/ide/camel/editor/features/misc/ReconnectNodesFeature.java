@@ -83,7 +83,7 @@ public class ReconnectNodesFeature extends DefaultReconnectionFeature {
 			}
 			new CamelElementConnection(source, newTarget);
 		}
-		DiagramOperations.layoutDiagram((CamelDesignEditor)getDiagramBehavior().getDiagramContainer());
+		DiagramOperations.scheduleLayout((CamelDesignEditor)getDiagramBehavior().getDiagramContainer(), false);
 	}
 	
 	/**
@@ -21,15 +21,21 @@ import org.eclipse.graphiti.features.IAddFeature;
 import org.eclipse.graphiti.features.IFeatureProvider;
 import org.eclipse.graphiti.features.context.impl.AddContext;
 import org.eclipse.graphiti.features.context.impl.CreateConnectionContext;
+import org.eclipse.graphiti.mm.algorithms.GraphicsAlgorithm;
 import org.eclipse.graphiti.mm.pictograms.Anchor;
 import org.eclipse.graphiti.mm.pictograms.AnchorContainer;
 import org.eclipse.graphiti.mm.pictograms.ContainerShape;
 import org.eclipse.graphiti.mm.pictograms.Diagram;
 import org.eclipse.graphiti.mm.pictograms.PictogramElement;
+import org.eclipse.graphiti.mm.pictograms.Shape;
+import org.eclipse.graphiti.services.Graphiti;
+import org.eclipse.graphiti.services.IPeService;
+import org.fusesource.ide.camel.editor.CamelDesignEditor;
 import org.fusesource.ide.camel.editor.commands.DiagramOperations;
 import org.fusesource.ide.camel.editor.features.add.AddFlowFeature;
 import org.fusesource.ide.camel.editor.features.add.AddNodeFeature;
 import org.fusesource.ide.camel.editor.features.create.CreateFlowFeature;
+import org.fusesource.ide.camel.editor.features.custom.CollapseFeature;
 import org.fusesource.ide.camel.editor.utils.FigureUIFactory;
 import org.fusesource.ide.camel.model.service.core.model.AbstractCamelModelElement;
 import org.fusesource.ide.camel.model.service.core.model.CamelRouteElement;
@@ -43,9 +49,26 @@ import org.fusesource.ide.preferences.PreferencesConstants;
  */
 public class CamelDiagramLoader {
 	
+	/**
+	 * marks a collapsed container shape whose children were not added to the
+	 * diagram yet
+	 */
+	public static final String PROP_DEFERRED_CHILDREN = "deferredChildren";
+	
+	/**
+	 * containers with more nodes are loaded lazily
+	 */
+	static final int LAZY_LOADING_THRESHOLD = 500;
+	
+	/**
+	 * number of nodes added at once when loading lazily
+	 */
+	static final int NODE_BUDGET = 150;
+	
 	private Diagram diagram;
 	private IFeatureProvider featureProvider;
 	private int orientation = PositionConstants.EAST;
+	private int budget = Integer.MAX_VALUE;
 
 	/**
 	 * 
@@ -62,14 +85,21 @@ public class CamelDiagramLoader {
 
 	/**
 	 * 
+	 * @param designEditor	the editor showing the diagram
+	 * @param editingDomain
 	 * @param container
 	 */
-	public void loadModel(TransactionalEditingDomain editingDomain, AbstractCamelModelElement container) {
+	public void loadModel(CamelDesignEditor designEditor, TransactionalEditingDomain editingDomain, AbstractCamelModelElement container) {
 		if (container == null) {
 			return;
 		}
 		List<AbstractCamelModelElement> processedNodes = new ArrayList<>();
 		List<AbstractCamelModelElement> children = container instanceof CamelRouteElement ? Arrays.asList(container) : container.getChildElements();
+		if (countNodes(children) > LAZY_LOADING_THRESHOLD) {
+			// only the first nodes get shapes, all other containers are added
+			// as collapsed placeholders and filled when they are expanded
+			budget = NODE_BUDGET;
+		}
 		int x = 40;
 		int y = 40;
 		AbstractCamelModelElement lastElem = container;
@@ -82,7 +112,61 @@ public class CamelDiagramLoader {
 			}
 			lastElem = node;
 		}
-		DiagramOperations.layoutDiagram(editingDomain, featureProvider, diagram, container);
+		DiagramOperations.restoreLayout(designEditor, editingDomain, featureProvider, diagram, container);
+	}
+
+	/**
+	 * adds the children of a placeholder shape to the diagram, has to be
+	 * called inside of a transaction
+	 * 
+	 * @param shape	the placeholder shape
+	 * @return	true if children were added
+	 */
+	public boolean loadDeferredChildren(ContainerShape shape) {
+		if (!isDeferred(shape)) {
+			return false;
+		}
+		Graphiti.getPeService().removeProperty(shape, PROP_DEFERRED_CHILDREN);
+		Object bo = featureProvider.getBusinessObjectForPictogramElement(shape);
+		if (!(bo instanceof AbstractCamelModelElement)) {
+			return false;
+		}
+		budget = NODE_BUDGET;
+		addChildren((AbstractCamelModelElement) bo, shape, new ArrayList<>());
+		return true;
+	}
+
+	/**
+	 * @param pe	the pictogram element
+	 * @return	true if the children of the element were not added yet
+	 */
+	public static boolean isDeferred(PictogramElement pe) {
+		return pe instanceof ContainerShape && "true".equals(Graphiti.getPeService().getPropertyValue(pe, PROP_DEFERRED_CHILDREN));
+	}
+
+	/**
+	 * collects the placeholder shapes below the given shape which are not
+	 * hidden inside of a collapsed container
+	 * 
+	 * @param container	the shape to start with, usually the diagram
+	 * @param deferred	the found placeholders
+	 */
+	public static void findDeferredShapes(ContainerShape container, List<ContainerShape> deferred) {
+		for (Shape shape : container.getChildren()) {
+			if (isDeferred(shape)) {
+				deferred.add((ContainerShape) shape);
+			} else if (shape instanceof ContainerShape && !CollapseFeature.isCollapsed(shape)) {
+				findDeferredShapes((ContainerShape) shape, deferred);
+			}
+		}
+	}
+
+	private static int countNodes(List<AbstractCamelModelElement> nodes) {
+		int count = nodes.size();
+		for (AbstractCamelModelElement node : nodes) {
+			count += countNodes(node.getChildElements());
+		}
+		return count;
 	}
 
 	private int addProcessor(AbstractCamelModelElement lastElement, AbstractCamelModelElement node, int x, int y, List<AbstractCamelModelElement> processedNodes, ContainerShape container) {
@@ -103,6 +187,7 @@ public class CamelDiagramLoader {
 				destState = addFeature.add(addContext);
 				// remember the node
 				processedNodes.add(node);
+				budget--;
 			} else {
 				destState = featureProvider.getPictogramElementForBusinessObject(node);
 			}
@@ -136,16 +221,10 @@ public class CamelDiagramLoader {
 			}
 
 			if (!node.getChildElements().isEmpty()) {
-				int subX = 40, subY = 40;
-				AbstractCamelModelElement lastSub = null;
-				for (AbstractCamelModelElement subNode : node.getChildElements()) {
-					int res = addProcessor(lastSub, subNode, subX, subY, processedNodes, getContainerShape(destState));
-					if (this.orientation == PositionConstants.EAST) {
-						subX = res;	
-					} else {
-						subY = res;
-					}
-					lastSub = subNode;
+				if (budget > 0) {
+					addChildren(node, getContainerShape(destState), processedNodes);
+				} else {
+					defer(getContainerShape(destState));
 				}
 			}
 			if (this.orientation == PositionConstants.EAST) {
@@ -160,6 +239,35 @@ public class CamelDiagramLoader {
 		return retVal;
 	}
 
+	private void addChildren(AbstractCamelModelElement node, ContainerShape shape, List<AbstractCamelModelElement> processedNodes) {
+		int subX = 40, subY = 40;
+		AbstractCamelModelElement lastSub = null;
+		for (AbstractCamelModelElement subNode : node.getChildElements()) {
+			int res = addProcessor(lastSub, subNode, subX, subY, processedNodes, shape);
+			if (this.orientation == PositionConstants.EAST) {
+				subX = res;	
+			} else {
+				subY = res;
+			}
+			lastSub = subNode;
+		}
+	}
+
+	/**
+	 * turns the shape into a collapsed placeholder for its children
+	 * 
+	 * @param shape
+	 */
+	private void defer(ContainerShape shape) {
+		IPeService peService = Graphiti.getPeService();
+		GraphicsAlgorithm ga = shape.getGraphicsAlgorithm();
+		peService.setPropertyValue(shape, PROP_DEFERRED_CHILDREN, "true");
+		peService.setPropertyValue(shape, CollapseFeature.PROP_COLLAPSED_STATE, "true");
+		peService.setPropertyValue(shape, CollapseFeature.PROP_EXPANDED_WIDTH, String.valueOf(ga.getWidth()));
+		peService.setPropertyValue(shape, CollapseFeature.PROP_EXPANDED_HEIGHT, String.valueOf(ga.getHeight()));
+		CollapseFeature.updateBorderStyle(diagram, shape, true);
+	}
+
 	private ContainerShape getContainerShape(PictogramElement pe) {
 		return (ContainerShape)pe;
 	}
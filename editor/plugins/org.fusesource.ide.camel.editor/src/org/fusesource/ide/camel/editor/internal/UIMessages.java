@@ -220,6 +220,10 @@ public class UIMessages extends NLS {
 	public static String restEditorDeleteRestConfigurationActionDialogTitle;
 	public static String restEditorDeleteRestConfigurationActionDialogMessage;
 	
+	/* diagram layout */
+	public static String diagramLayoutJobName;
+	public static String diagramLayoutSaveJobName;
+
 	static {
 		// initialize resource bundle
 		NLS.initializeMessages(BUNDLE_NAME, UIMessages.class);
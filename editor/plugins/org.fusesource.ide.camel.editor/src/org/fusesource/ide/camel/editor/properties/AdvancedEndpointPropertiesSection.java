@@ -11,6 +11,7 @@
 package org.fusesource.ide.camel.editor.properties;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.eclipse.core.databinding.Binding;
@@ -146,29 +147,20 @@ public class AdvancedEndpointPropertiesSection extends FusePropertySection {
 
 			// BOOLEAN PROPERTIES
 			if (CamelComponentUtils.isBooleanProperty(prop)) {
-				new BooleanParameterPropertyUICreatorForAdvanced(dbc, modelMap, eip, selectedEP, p, page, getWidgetFactory()).create();
+				createAndRegister(new BooleanParameterPropertyUICreatorForAdvanced(dbc, modelMap, eip, selectedEP, p, page, getWidgetFactory()));
 				// TEXT PROPERTIES
 			} else if (CamelComponentUtils.isTextProperty(prop) || CamelComponentUtils.isCharProperty(prop)) {
-				new TextParameterPropertyUICreatorForAdvanced(dbc, modelMap, eip, selectedEP, p, page, getWidgetFactory()).create();
+				createAndRegister(new TextParameterPropertyUICreatorForAdvanced(dbc, modelMap, eip, selectedEP, p, page, getWidgetFactory()));
 				// NUMBER PROPERTIES
 			} else if (CamelComponentUtils.isNumberProperty(prop)) {
-				new NumberParameterPropertyUICreatorForAdvanced(dbc, modelMap, eip, selectedEP, prop, page, getWidgetFactory()).create();
+				createAndRegister(new NumberParameterPropertyUICreatorForAdvanced(dbc, modelMap, eip, selectedEP, prop, page, getWidgetFactory()));
 				// CHOICE PROPERTIES
 			} else if (CamelComponentUtils.isChoiceProperty(prop)) {
 				CCombo choiceCombo = new CCombo(page, SWT.BORDER | SWT.FLAT | SWT.READ_ONLY | SWT.SINGLE);
 				toolkit.adapt(choiceCombo, true, true);
 				choiceCombo.setEditable(false);
 				choiceCombo.setItems(CamelComponentUtils.getChoicesWithExtraEmptyEntry(prop));
-				String selectedValue = PropertiesUtils.getPropertyFromUri(selectedEP, prop, component);
-				for (int i=0; i < choiceCombo.getItems().length; i++) {
-					if (selectedValue != null && choiceCombo.getItem(i).equalsIgnoreCase(selectedValue)) {
-						choiceCombo.select(i);
-						break;
-					} else if (selectedValue == null && p.getDefaultValue() != null && choiceCombo.getItem(i).equalsIgnoreCase(p.getDefaultValue())) {
-						choiceCombo.select(i);
-						break;
-					}
-				}
+				selectChoice(choiceCombo, selectedEP, prop);
 				choiceCombo.addSelectionListener(new SelectionAdapter() {
 					@Override
 					public void widgetSelected(SelectionEvent e) {
@@ -184,6 +176,10 @@ public class AdvancedEndpointPropertiesSection extends FusePropertySection {
 				c = choiceCombo;
 				//initialize the map entry
 				modelMap.put(p.getName(), choiceCombo.getText());
+				addRebindAction(element -> {
+					selectChoice(choiceCombo, element, prop);
+					modelMap.put(prop.getName(), choiceCombo.getText());
+				});
 				// create observables for the control
 				uiObservable = WidgetProperties.selection().observe(choiceCombo);                
 				if (PropertiesUtils.isRequired(p)) {
@@ -199,13 +195,16 @@ public class AdvancedEndpointPropertiesSection extends FusePropertySection {
 				}
 				// FILE PROPERTIES
 			} else if (CamelComponentUtils.isFileProperty(prop)) {
-				new FileParameterPropertyUICreatorForAdvanced(dbc, modelMap, eip, selectedEP, p, page, getWidgetFactory()).create();
+				createAndRegister(new FileParameterPropertyUICreatorForAdvanced(dbc, modelMap, eip, selectedEP, p, page, getWidgetFactory()));
 				// EXPRESSION PROPERTIES
 			} else if (CamelComponentUtils.isExpressionProperty(prop)) {
 				Text txtField = toolkit.createText(page, PropertiesUtils.getPropertyFromUri(selectedEP, prop, component), SWT.SINGLE | SWT.BORDER | SWT.LEFT);
 				txtField.addModifyListener(new ModifyListener() {
 					@Override
 					public void modifyText(ModifyEvent e) {
+						if (isRebinding()) {
+							return;
+						}
 						Text txt = (Text)e.getSource();
 						PropertiesUtils.updateURIParams(selectedEP, prop, txt.getText(), component, modelMap);
 					}
@@ -229,6 +228,11 @@ public class AdvancedEndpointPropertiesSection extends FusePropertySection {
 				}
 				//initialize the map entry
 				modelMap.put(p.getName(), txtField.getText());
+				addRebindAction(element -> {
+					String value = PropertiesUtils.getPropertyFromUri(element, prop, component);
+					txtField.setText(value != null ? value : "");
+					modelMap.put(prop.getName(), txtField.getText());
+				});
 				// create observables for the control
 				uiObservable = WidgetProperties.text(SWT.Modify).observe(txtField);                
 
@@ -238,6 +242,9 @@ public class AdvancedEndpointPropertiesSection extends FusePropertySection {
 				txtField.addModifyListener(new ModifyListener() {
 					@Override
 					public void modifyText(ModifyEvent e) {
+						if (isRebinding()) {
+							return;
+						}
 						Text txt = (Text)e.getSource();
 						String newValue = txt.getText();
 						PropertiesUtils.updateURIParams(selectedEP, prop, newValue, component, modelMap);
@@ -263,6 +270,11 @@ public class AdvancedEndpointPropertiesSection extends FusePropertySection {
 				}
 				//initialize the map entry
 				modelMap.put(p.getName(), txtField.getText());
+				addRebindAction(element -> {
+					String value = PropertiesUtils.getPropertyFromUri(element, prop, component);
+					txtField.setText(value != null ? value : "");
+					modelMap.put(prop.getName(), txtField.getText());
+				});
 				// create observables for the control
 				uiObservable = WidgetProperties.text(SWT.Modify).observe(txtField);                
 
@@ -271,10 +283,10 @@ public class AdvancedEndpointPropertiesSection extends FusePropertySection {
 				// TODO: check how to handle lists and maps - for now we treat
 				// them as string field only --> in DetailsSection seems that
 				// there is something to handle that
-				new UnsupportedParameterPropertyUICreatorForAdvanced(dbc, modelMap, eip, selectedEP, p, page, getWidgetFactory()).create();
+				createAndRegister(new UnsupportedParameterPropertyUICreatorForAdvanced(dbc, modelMap, eip, selectedEP, p, page, getWidgetFactory()));
 				// CLASS BASED PROPERTIES - REF OR CLASSNAMES AS STRINGS
 			} else {
-				new TextParameterPropertyUICreatorForAdvanced(dbc, modelMap, eip, selectedEP, p, page, getWidgetFactory()).create();
+				createAndRegister(new TextParameterPropertyUICreatorForAdvanced(dbc, modelMap, eip, selectedEP, p, page, getWidgetFactory()));
 			}
 
 			if (uiObservable != null) {
@@ -294,6 +306,26 @@ public class AdvancedEndpointPropertiesSection extends FusePropertySection {
 		}
 	}
 
+	@Override
+	protected Object getFormCacheKey(AbstractCamelModelElement element) {
+		// the fields only depend on the parameters of the component
+		return component != null ? Arrays.asList(eip, component) : null;
+	}
+
+	private void selectChoice(CCombo choiceCombo, AbstractCamelModelElement element, Parameter p) {
+		choiceCombo.deselectAll();
+		String selectedValue = PropertiesUtils.getPropertyFromUri(element, p, component);
+		for (int i=0; i < choiceCombo.getItems().length; i++) {
+			if (selectedValue != null && choiceCombo.getItem(i).equalsIgnoreCase(selectedValue)) {
+				choiceCombo.select(i);
+				break;
+			} else if (selectedValue == null && p.getDefaultValue() != null && choiceCombo.getItem(i).equalsIgnoreCase(p.getDefaultValue())) {
+				choiceCombo.select(i);
+				break;
+			}
+		}
+	}
+
 	@Override
 	public void createControls(Composite parent, TabbedPropertySheetPage aTabbedPropertySheetPage) {
 		this.toolkit = new FormToolkit(parent.getDisplay());
@@ -131,25 +131,19 @@ public class DetailsSection extends FusePropertySection {
             
             // DESCRIPTION PROPERTIES
             if (CamelComponentUtils.isDescriptionProperty(prop)) {
-				new DescriptionParameterPropertyUICreator(dbc, modelMap, eip, selectedEP, p, page, getWidgetFactory()).create();
+				createAndRegister(new DescriptionParameterPropertyUICreator(dbc, modelMap, eip, selectedEP, p, page, getWidgetFactory()));
             } else if (CamelComponentUtils.isBooleanProperty(prop)) {
-				new BooleanParameterPropertyUICreatorForDetails(dbc, modelMap, eip, selectedEP, p, page, getWidgetFactory()).create();
+				createAndRegister(new BooleanParameterPropertyUICreatorForDetails(dbc, modelMap, eip, selectedEP, p, page, getWidgetFactory()));
             } else if (CamelComponentUtils.isTextProperty(prop) || CamelComponentUtils.isCharProperty(prop)) {
-				new TextParameterPropertyUICreator(dbc, modelMap, eip, selectedEP, p, null, page, getWidgetFactory()).create();
+				createAndRegister(new TextParameterPropertyUICreator(dbc, modelMap, eip, selectedEP, p, null, page, getWidgetFactory()));
             } else if (CamelComponentUtils.isNumberProperty(prop)) {
-				new NumberParameterPropertyUICreatorForDetails(dbc, modelMap, eip, selectedEP, p, page, getWidgetFactory()).create();
+				createAndRegister(new NumberParameterPropertyUICreatorForDetails(dbc, modelMap, eip, selectedEP, p, page, getWidgetFactory()));
             } else if (CamelComponentUtils.isChoiceProperty(prop)) {
                 CCombo choiceCombo = new CCombo(page, SWT.BORDER | SWT.FLAT | SWT.READ_ONLY | SWT.SINGLE);
                 getWidgetFactory().adapt(choiceCombo, true, true);
                 choiceCombo.setEditable(false);
                 choiceCombo.setItems(CamelComponentUtils.getChoicesWithExtraEmptyEntry(prop));
-                String value = (String)(this.selectedEP.getParameter(p.getName()) != null ? this.selectedEP.getParameter(p.getName()) : this.eip.getParameter(p.getName()).getDefaultValue());
-                for (int i=0; i < choiceCombo.getItems().length; i++) {
-                    if (choiceCombo.getItem(i).equalsIgnoreCase(value)) {
-                        choiceCombo.select(i);
-                        break;
-                    }
-                }
+                selectChoice(choiceCombo, getValueOrDefault(selectedEP, prop));
                 choiceCombo.addSelectionListener(new SelectionAdapter() {
                     /* (non-Javadoc)
                      * @see org.eclipse.swt.events.SelectionAdapter#widgetSelected(org.eclipse.swt.events.SelectionEvent)
@@ -164,6 +158,10 @@ public class DetailsSection extends FusePropertySection {
                 c = choiceCombo;
                 //initialize the map entry
                 modelMap.put(p.getName(), choiceCombo.getText());
+                addRebindAction(element -> {
+                	selectChoice(choiceCombo, getValueOrDefault(element, prop));
+                	modelMap.put(prop.getName(), choiceCombo.getText());
+                });
                 // create observables for the control
                 uiObservable = WidgetProperties.selection().observe(choiceCombo);                
                 if (PropertiesUtils.isRequired(p)) {
@@ -187,19 +185,7 @@ public class DetailsSection extends FusePropertySection {
                 CCombo choiceCombo = new CCombo(page, SWT.BORDER | SWT.FLAT | SWT.READ_ONLY | SWT.SINGLE);
                 getWidgetFactory().adapt(choiceCombo, true, true);
                 choiceCombo.setEditable(true);
-                choiceCombo.setItems(CamelComponentUtils.getRefs(this.selectedEP.getCamelFile()));
-                String value = (String)(this.selectedEP.getParameter(p.getName()) != null ? this.selectedEP.getParameter(p.getName()) : this.eip.getParameter(p.getName()).getDefaultValue());
-                boolean selected = false;
-                for (int i=0; i < choiceCombo.getItems().length; i++) {
-                    if (choiceCombo.getItem(i).equalsIgnoreCase(value)) {
-                        choiceCombo.select(i);
-                        selected = true;
-                        break;
-                    }
-                }
-                if (!selected && value != null) {
-                	choiceCombo.setText(value);
-                }
+                selectRef(choiceCombo, selectedEP, prop);
                 choiceCombo.addSelectionListener(new SelectionAdapter() {
                     /* (non-Javadoc)
                      * @see org.eclipse.swt.events.SelectionAdapter#widgetSelected(org.eclipse.swt.events.SelectionEvent)
@@ -214,6 +200,9 @@ public class DetailsSection extends FusePropertySection {
 					
 					@Override
 					public void modifyText(ModifyEvent e) {
+						if (isRebinding()) {
+							return;
+						}
 						CCombo choice = (CCombo)e.getSource();
                         selectedEP.setParameter(prop.getName(), choice.getText());						
 					}
@@ -222,6 +211,10 @@ public class DetailsSection extends FusePropertySection {
                 c = choiceCombo;
                 //initialize the map entry
                 modelMap.put(p.getName(), choiceCombo.getText());
+                addRebindAction(element -> {
+                	selectRef(choiceCombo, element, prop);
+                	modelMap.put(prop.getName(), choiceCombo.getText());
+                });
                 // create observables for the control
                 uiObservable = WidgetProperties.selection().observe(choiceCombo);                
 				validator = new IValidator() {
@@ -250,8 +243,9 @@ public class DetailsSection extends FusePropertySection {
                 
             // FILE PROPERTIES
             } else if (CamelComponentUtils.isFileProperty(prop)) {
-				new FileParameterPropertyUICreatorForDetails(dbc, modelMap, eip, selectedEP, p, page, getWidgetFactory()).create();
+				createAndRegister(new FileParameterPropertyUICreatorForDetails(dbc, modelMap, eip, selectedEP, p, page, getWidgetFactory()));
             } else if (CamelComponentUtils.isListProperty(prop)) {
+            	setFormNotReusable();
             	org.eclipse.swt.widgets.List list = new org.eclipse.swt.widgets.List(page, SWT.BORDER | SWT.FLAT | SWT.READ_ONLY | SWT.SINGLE);
                 getWidgetFactory().adapt(list, true, true);
 				list.setLayoutData(createPropertyFieldLayoutData());
@@ -278,6 +272,8 @@ public class DetailsSection extends FusePropertySection {
                 
             // EXPRESSION PROPERTIES
             } else if (CamelComponentUtils.isExpressionProperty(prop)) {
+            	// the language specific fields below depend on the expression of the element
+            	setFormNotReusable();
             	CCombo choiceCombo = new CCombo(page, SWT.BORDER | SWT.FLAT | SWT.READ_ONLY | SWT.SINGLE);
             	deactivateMouseWheel(choiceCombo);
                 getWidgetFactory().adapt(choiceCombo, true, true);
@@ -336,6 +332,7 @@ public class DetailsSection extends FusePropertySection {
 
              // DATAFORMAT PROPERTIES
             } else if (CamelComponentUtils.isDataFormatProperty(prop)) {
+            	setFormNotReusable();
             	CCombo choiceCombo = new CCombo(page, SWT.BORDER | SWT.FLAT | SWT.READ_ONLY | SWT.SINGLE);
             	deactivateMouseWheel(choiceCombo);
                 getWidgetFactory().adapt(choiceCombo, true, true);
@@ -394,8 +391,9 @@ public class DetailsSection extends FusePropertySection {
                 
             // UNSUPPORTED PROPERTIES / REFS
             } else if (CamelComponentUtils.isUnsupportedProperty(prop)) {
-				new UnsupportedParameterPropertyUICreatorForDetails(dbc, modelMap, eip, selectedEP, p, page, getWidgetFactory()).create();
+				createAndRegister(new UnsupportedParameterPropertyUICreatorForDetails(dbc, modelMap, eip, selectedEP, p, page, getWidgetFactory()));
             } else if ("redeliveryPolicy".equals(prop.getName())) {
+				setFormNotReusable();
 				Object valueToDisplay = this.selectedEP.getParameter(p.getName()) != null ? this.selectedEP.getParameter(p.getName()) : this.eip.getParameter(p.getName()).getDefaultValue();
 				if (valueToDisplay instanceof AbstractCamelModelElement) {
 					Group objectGroup = getWidgetFactory().createGroup(page, "");
@@ -414,7 +412,7 @@ public class DetailsSection extends FusePropertySection {
 				}
 			// CLASS BASED PROPERTIES - REF OR CLASSNAMES AS STRINGS
 			} else {
-				new TextParameterPropertyUICreator(dbc, modelMap, eip, selectedEP, p, null, page, getWidgetFactory()).create();
+				createAndRegister(new TextParameterPropertyUICreator(dbc, modelMap, eip, selectedEP, p, null, page, getWidgetFactory()));
             }
             
 			// bind the observables
@@ -463,6 +461,42 @@ public class DetailsSection extends FusePropertySection {
         page.layout();
     }
 
+	@Override
+	protected Object getFormCacheKey(AbstractCamelModelElement element) {
+		// the fields only depend on the parameters of the eip
+		return eip;
+	}
+
+	private String getValueOrDefault(AbstractCamelModelElement element, Parameter p) {
+		return (String)(element.getParameter(p.getName()) != null ? element.getParameter(p.getName()) : this.eip.getParameter(p.getName()).getDefaultValue());
+	}
+
+	private void selectChoice(CCombo choiceCombo, String value) {
+		choiceCombo.deselectAll();
+		for (int i=0; i < choiceCombo.getItems().length; i++) {
+			if (choiceCombo.getItem(i).equalsIgnoreCase(value)) {
+				choiceCombo.select(i);
+				break;
+			}
+		}
+	}
+
+	private void selectRef(CCombo choiceCombo, AbstractCamelModelElement element, Parameter p) {
+		choiceCombo.setItems(CamelComponentUtils.getRefs(element.getCamelFile()));
+		String value = getValueOrDefault(element, p);
+		boolean selected = false;
+		for (int i=0; i < choiceCombo.getItems().length; i++) {
+			if (choiceCombo.getItem(i).equalsIgnoreCase(value)) {
+				choiceCombo.select(i);
+				selected = true;
+				break;
+			}
+		}
+		if (!selected && value != null) {
+			choiceCombo.setText(value);
+		}
+	}
+
 	protected void deactivateMouseWheel(CCombo choiceCombo) {
 		choiceCombo.addListener(SWT.MouseVerticalWheel, event -> event.doit = false);
 		choiceCombo.addListener(SWT.MouseWheel, event -> event.doit = false);
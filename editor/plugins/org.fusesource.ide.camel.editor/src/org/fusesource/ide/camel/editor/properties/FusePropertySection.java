@@ -14,6 +14,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.eclipse.core.databinding.DataBindingContext;
@@ -47,6 +48,8 @@ import org.eclipse.ui.forms.widgets.FormToolkit;
 import org.eclipse.ui.internal.forms.widgets.FormsResources;
 import org.eclipse.ui.views.properties.tabbed.AbstractPropertySection;
 import org.eclipse.ui.views.properties.tabbed.TabbedPropertySheetPage;
+import org.fusesource.ide.camel.editor.internal.CamelEditorUIActivator;
+import org.fusesource.ide.camel.editor.properties.creators.AbstractParameterPropertyUICreator;
 import org.fusesource.ide.camel.editor.utils.MavenUtils;
 import org.fusesource.ide.camel.editor.utils.NodeUtils;
 import org.fusesource.ide.camel.model.service.core.catalog.Dependency;
@@ -91,8 +94,19 @@ public abstract class FusePropertySection extends AbstractPropertySection {
 	protected Component component; // used for connectors
 	protected Eip eip; // used for eips
 
+	// forms of element types selected before, reused instead of rebuilt
+	private static final int MAX_CACHED_FORMS = 8;
+	private final PropertyFormCache<Object, PropertyForm> formCache = new PropertyFormCache<>(MAX_CACHED_FORMS, PropertyForm::dispose);
+	private PropertyForm activeForm;
+	private boolean rebinding;
+
 	@Override
 	public void dispose() {
+		formCache.clear();
+		if (activeForm != null) {
+			activeForm.dispose();
+			activeForm = null;
+		}
 		if (this.form != null)
 			this.form.dispose();
 		disposeTabs();
@@ -130,8 +144,28 @@ public abstract class FusePropertySection extends AbstractPropertySection {
 	}
 
 	private void initSectionFor(AbstractCamelModelElement n) {
-		dbc = new DataBindingContext();
-		createTabFolder();
+		long start = System.nanoTime();
+		deactivateForm();
+
+		Object key = n != null && n.getUnderlyingMetaModelObject() != null ? getFormCacheKey(n) : null;
+		PropertyForm cachedForm = key != null ? formCache.take(key) : null;
+		lastSelectedEP = n;
+
+		if (cachedForm != null) {
+			activateForm(cachedForm);
+			rebindForm(n);
+		} else {
+			createTabFolder();
+			activateForm(new PropertyForm(key, form, tabFolder));
+
+			int idx = Math.max(tabFolder.getSelectionIndex(), 0);
+
+			// now generate the tab contents
+			createContentTabs(tabFolder);
+
+			tabFolder.setSingle(tabFolder.getItemCount() == 1);
+			tabFolder.setSelection(idx >= tabFolder.getItemCount() ? 0 : idx);
+		}
 
 		if (n != null && n.getUnderlyingMetaModelObject() != null) {
 			String headerText = selectedEP.getDisplayText();
@@ -139,27 +173,118 @@ public abstract class FusePropertySection extends AbstractPropertySection {
 		} else {
 			form.setText("");
 		}
-		lastSelectedEP = n;
-		
-		int idx = Math.max(tabFolder.getSelectionIndex(), 0);
 
-		if (!tabs.isEmpty()) {
-			for (CTabItem tab : this.tabs) {
-				if (!tab.isDisposed())
-					tab.dispose();
+		form.redraw();
+		form.layout();
+		form.update();
+
+		if (CamelEditorUIActivator.getDefault().isDebugging()) {
+			CamelEditorUIActivator.pluginLog().logInfo((cachedForm != null ? "Reused" : "Built") + " properties form of " + getClass().getSimpleName()
+					+ " for " + n + " in " + (System.nanoTime() - start) / 1000000 + " ms (" + formCache.size() + " forms cached)");
+		}
+	}
+
+	/**
+	 * hides the displayed form and keeps it for the next element of the same
+	 * type or disposes it if it can't be reused
+	 */
+	private void deactivateForm() {
+		if (activeForm == null) {
+			// form created by createStandardTabLayout
+			if (form != null) {
+				form.dispose();
 			}
-			tabs.clear();
+			disposeTabs();
+			if (tabFolder != null) {
+				tabFolder.dispose();
+			}
+		} else if (activeForm.key != null && activeForm.reusable && !activeForm.form.isDisposed()) {
+			activeForm.setVisible(false);
+			formCache.put(activeForm.key, activeForm);
+		} else {
+			activeForm.dispose();
 		}
+		activeForm = null;
+	}
 
-		// now generate the tab contents
-		createContentTabs(tabFolder);
+	private void activateForm(PropertyForm propertyForm) {
+		activeForm = propertyForm;
+		form = propertyForm.form;
+		tabFolder = propertyForm.tabFolder;
+		tabs = propertyForm.tabs;
+		dbc = propertyForm.dbc;
+		modelMap = propertyForm.modelMap;
+		propertyForm.setVisible(true);
+		parent.layout(true);
+	}
 
-		tabFolder.setSingle(tabFolder.getItemCount() == 1);
-		tabFolder.setSelection(idx >= tabFolder.getItemCount() ? 0 : idx);
+	private void rebindForm(AbstractCamelModelElement n) {
+		rebinding = true;
+		try {
+			for (Consumer<AbstractCamelModelElement> action : activeForm.rebindActions) {
+				action.accept(n);
+			}
+			// validates the new values of all controls to update their decorations
+			dbc.updateModels();
+		} finally {
+			rebinding = false;
+		}
+	}
 
-		form.redraw();
-		form.layout();
-		form.update();
+	/**
+	 * the sections reuse the form built for an element for all further
+	 * elements with the same key. All controls of such a form have to be
+	 * created through {@link #createAndRegister(AbstractParameterPropertyUICreator)}
+	 * or register a {@link #addRebindAction(Consumer)}.
+	 * 
+	 * @param element	the selected element
+	 * @return	the key of the form or null if the form is rebuilt for every element
+	 */
+	protected Object getFormCacheKey(AbstractCamelModelElement element) {
+		return null;
+	}
+
+	/**
+	 * creates the control of the creator and rebinds it when the form is reused
+	 * 
+	 * @param creator	the creator of the control
+	 * @return	the creator
+	 */
+	protected <T extends AbstractParameterPropertyUICreator> T createAndRegister(T creator) {
+		creator.create();
+		if (creator.isRebindable()) {
+			addRebindAction(creator::rebind);
+		} else {
+			setFormNotReusable();
+		}
+		return creator;
+	}
+
+	/**
+	 * @param action	updates a control created by the section for a new element
+	 */
+	protected void addRebindAction(Consumer<AbstractCamelModelElement> action) {
+		if (activeForm != null) {
+			activeForm.rebindActions.add(action);
+		}
+	}
+
+	/**
+	 * the form currently built depends on the values of the element and must
+	 * not be reused for other elements
+	 */
+	protected void setFormNotReusable() {
+		if (activeForm != null) {
+			activeForm.reusable = false;
+		}
+	}
+
+	/**
+	 * @return	true while the controls of a reused form are updated for a new
+	 *         element, listeners must not write into the model then
+	 */
+	protected boolean isRebinding() {
+		return rebinding;
 	}
 
 	private void disposeTabs() {
@@ -216,18 +341,10 @@ public abstract class FusePropertySection extends AbstractPropertySection {
 	 * creates the tab folder to hold all tabs
 	 */
 	private void createTabFolder() {
-
-		if (this.form != null)
-			form.dispose();
-
 		this.form = this.toolkit.createForm(this.parent);
 		this.form.setLayoutData(new GridData(GridData.FILL_BOTH));
 		this.form.getBody().setLayout(new GridLayout(1, false));
 
-		if (tabFolder != null) {
-			tabFolder.dispose();
-		}
-
 		tabFolder = new CTabFolder(form.getBody(), SWT.TOP | SWT.FLAT);
 		toolkit.adapt(tabFolder, true, true);
 		tabFolder.setLayoutData(new GridData(GridData.FILL_BOTH));
@@ -796,4 +913,39 @@ public abstract class FusePropertySection extends AbstractPropertySection {
 		super.aboutToBeShown();
 		initSectionFor(selectedEP);
 	}
+
+	/**
+	 * the widgets and bindings built for one type of element
+	 */
+	private static class PropertyForm {
+
+		private final Object key;
+		private final Form form;
+		private final CTabFolder tabFolder;
+		private final List<CTabItem> tabs = new ArrayList<>();
+		private final DataBindingContext dbc = new DataBindingContext();
+		private final IObservableMap modelMap = new WritableMap<>();
+		private final List<Consumer<AbstractCamelModelElement>> rebindActions = new ArrayList<>();
+		private boolean reusable = true;
+
+		PropertyForm(Object key, Form form, CTabFolder tabFolder) {
+			this.key = key;
+			this.form = form;
+			this.tabFolder = tabFolder;
+		}
+
+		void setVisible(boolean visible) {
+			if (!form.isDisposed()) {
+				((GridData) form.getLayoutData()).exclude = !visible;
+				form.setVisible(visible);
+			}
+		}
+
+		void dispose() {
+			dbc.dispose();
+			if (!form.isDisposed()) {
+				form.dispose();
+			}
+		}
+	}
 }
@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.camel.editor.properties;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * keeps the property forms which are currently not displayed, keyed by the
+ * type of element they were built for. The least recently used form is
+ * disposed once more than the maximum number of forms are kept.
+ *
+ * @param <K>	the form key
+ * @param <F>	the form
+ */
+class PropertyFormCache<K, F> {
+
+	private final int maxSize;
+	private final Consumer<F> disposer;
+	private final LinkedHashMap<K, F> forms = new LinkedHashMap<>(16, 0.75f, true);
+
+	/**
+	 * @param maxSize	the maximum number of kept forms
+	 * @param disposer	called for every form leaving the cache without being taken
+	 */
+	PropertyFormCache(int maxSize, Consumer<F> disposer) {
+		this.maxSize = maxSize;
+		this.disposer = disposer;
+	}
+
+	/**
+	 * removes the form from the cache, the caller owns it afterwards
+	 *
+	 * @param key	the form key
+	 * @return	the form or null if none is kept for the key
+	 */
+	F take(K key) {
+		return forms.remove(key);
+	}
+
+	/**
+	 * @param key	the form key
+	 * @param form	the form which is not displayed anymore
+	 */
+	void put(K key, F form) {
+		F replaced = forms.put(key, form);
+		if (replaced != null && replaced != form) {
+			disposer.accept(replaced);
+		}
+		List<F> evicted = new ArrayList<>();
+		while (forms.size() > maxSize) {
+			Map.Entry<K, F> eldest = forms.entrySet().iterator().next();
+			forms.remove(eldest.getKey());
+			evicted.add(eldest.getValue());
+		}
+		evicted.forEach(disposer);
+	}
+
+	/**
+	 * disposes all kept forms
+	 */
+	void clear() {
+		List<F> all = new ArrayList<>(forms.values());
+		forms.clear();
+		all.forEach(disposer);
+	}
+
+	int size() {
+		return forms.size();
+	}
+}
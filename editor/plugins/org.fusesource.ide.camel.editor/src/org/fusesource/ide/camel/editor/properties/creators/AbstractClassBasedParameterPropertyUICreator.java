@@ -69,13 +69,24 @@ public class AbstractClassBasedParameterPropertyUICreator extends AbstractTextFi
 	protected void init(Composite parent) {
 		super.init(parent);
 		final IProject project = camelModelElement.getCamelFile().getResource().getProject();
-		URLClassLoader child = CamelComponentUtils.getProjectClassLoader(project);
-		Class<?> classToLoad = computeClassToLoad(child);
+		URLClassLoader child = CamelComponentUtils.acquireProjectClassLoader(project);
+		Class<?> classToLoad;
+		try {
+			classToLoad = child != null ? computeClassToLoad(child) : null;
+		} finally {
+			CamelComponentUtils.releaseProjectClassLoader(child);
+		}
 
 		createCreateButton(parent, project, classToLoad);
 		createBrowseButton(parent, project, classToLoad);
 	}
 
+	@Override
+	public boolean isRebindable() {
+		// the buttons are created for the class loader of the project
+		return false;
+	}
+
 	/**
 	 * @param child
 	 * @return
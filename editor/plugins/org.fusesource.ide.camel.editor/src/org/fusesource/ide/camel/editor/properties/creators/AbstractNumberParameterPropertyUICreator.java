@@ -14,6 +14,7 @@ import org.eclipse.core.databinding.DataBindingContext;
 import org.eclipse.core.databinding.observable.map.IObservableMap;
 import org.eclipse.core.databinding.validation.IValidator;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.draw2d.ColorConstants;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.ModifyListener;
 import org.eclipse.swt.widgets.Composite;
@@ -46,6 +47,14 @@ public abstract class AbstractNumberParameterPropertyUICreator extends AbstractT
 		};
 	}
 
+	@Override
+	public void rebind(AbstractCamelModelElement camelModelElement) {
+		super.rebind(camelModelElement);
+		// the modify listener did not see the new value
+		boolean valid = new NumberValidator(parameter).validate(getControl().getText()).isOK();
+		getControl().setBackground(valid ? ColorConstants.white : ColorConstants.red);
+	}
+
 	@Override
 	protected int createTextStyle() {
 		return SWT.SINGLE | SWT.BORDER | SWT.RIGHT;
@@ -91,6 +91,30 @@ public abstract class AbstractParameterPropertyUICreator {
 		ControlDecorationSupport.create(bindValue, SWT.TOP | SWT.LEFT);
 	}
 
+	/**
+	 * binds the already created control to another element of the same type,
+	 * used when the property form is recycled for a new selection
+	 * 
+	 * @param camelModelElement	the element to display
+	 */
+	public void rebind(AbstractCamelModelElement camelModelElement) {
+		this.camelModelElement = camelModelElement;
+		if (camelModelElement.isEndpointElement()) {
+			this.component = PropertiesUtils.getComponentFor(camelModelElement);
+		}
+		if (bindValue != null) {
+			bindValue.dispose();
+		}
+		bind();
+	}
+
+	/**
+	 * @return	true if all listeners of the control follow {@link #rebind(AbstractCamelModelElement)}
+	 */
+	public boolean isRebindable() {
+		return true;
+	}
+
 	protected abstract void init(Composite parent);
 
 	public abstract Object getInitialValue();
@@ -20,6 +20,7 @@ import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Text;
 import org.eclipse.ui.views.properties.tabbed.TabbedPropertySheetWidgetFactory;
 import org.fusesource.ide.camel.editor.globalconfiguration.beans.validation.BeanValidationUtil;
+import org.fusesource.ide.camel.editor.properties.creators.modifylisteners.IModelElementModifyListener;
 import org.fusesource.ide.camel.model.service.core.catalog.Parameter;
 import org.fusesource.ide.camel.model.service.core.catalog.eips.Eip;
 import org.fusesource.ide.camel.model.service.core.model.AbstractCamelModelElement;
@@ -60,6 +61,26 @@ public abstract class AbstractTextFieldParameterPropertyUICreator extends Abstra
 		return value -> BeanValidationUtil.validateRequiredParameter(parameter, value);
 	}
 
+	@Override
+	public void rebind(AbstractCamelModelElement camelModelElement) {
+		// the binding pushes the new value into the control, that must not be written back into the model
+		getControl().removeModifyListener(modifyListener);
+		try {
+			((IModelElementModifyListener) modifyListener).setCamelModelElement(camelModelElement);
+			// validators check the element they were created for
+			this.camelModelElement = camelModelElement;
+			setValidator(createValidator());
+			super.rebind(camelModelElement);
+		} finally {
+			getControl().addModifyListener(modifyListener);
+		}
+	}
+
+	@Override
+	public boolean isRebindable() {
+		return modifyListener instanceof IModelElementModifyListener;
+	}
+
 	@Override
 	public String getInitialValue() {
 		final String parameterName = parameter.getName();
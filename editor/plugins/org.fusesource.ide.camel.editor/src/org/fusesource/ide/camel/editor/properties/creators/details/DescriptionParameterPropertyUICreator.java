@@ -13,11 +13,11 @@ package org.fusesource.ide.camel.editor.properties.creators.details;
 import org.eclipse.core.databinding.DataBindingContext;
 import org.eclipse.core.databinding.observable.map.IObservableMap;
 import org.eclipse.swt.events.ModifyEvent;
-import org.eclipse.swt.events.ModifyListener;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Text;
 import org.eclipse.ui.views.properties.tabbed.TabbedPropertySheetWidgetFactory;
 import org.fusesource.ide.camel.editor.properties.creators.AbstractTextFieldParameterPropertyUICreator;
+import org.fusesource.ide.camel.editor.properties.creators.modifylisteners.IModelElementModifyListener;
 import org.fusesource.ide.camel.model.service.core.catalog.Parameter;
 import org.fusesource.ide.camel.model.service.core.catalog.eips.Eip;
 import org.fusesource.ide.camel.model.service.core.model.AbstractCamelModelElement;
@@ -31,12 +31,7 @@ public class DescriptionParameterPropertyUICreator extends AbstractTextFieldPara
 	public DescriptionParameterPropertyUICreator(DataBindingContext dbc, IObservableMap modelMap, Eip eip, AbstractCamelModelElement camelModelElement, Parameter parameter,
 			Composite parent,
 			TabbedPropertySheetWidgetFactory widgetFactory) {
-		super(dbc, modelMap, eip, camelModelElement, parameter, parent, widgetFactory, new ModifyListener() {
-			@Override
-			public void modifyText(ModifyEvent e) {
-				camelModelElement.setDescription(((Text) e.getSource()).getText());
-			}
-		});
+		super(dbc, modelMap, eip, camelModelElement, parameter, parent, widgetFactory, new DescriptionModifyListener(camelModelElement));
 	}
 
 	@Override
@@ -48,4 +43,23 @@ public class DescriptionParameterPropertyUICreator extends AbstractTextFieldPara
 		return description;
 	}
 
+	private static class DescriptionModifyListener implements IModelElementModifyListener {
+
+		private AbstractCamelModelElement camelModelElement;
+
+		DescriptionModifyListener(AbstractCamelModelElement camelModelElement) {
+			this.camelModelElement = camelModelElement;
+		}
+
+		@Override
+		public void modifyText(ModifyEvent e) {
+			camelModelElement.setDescription(((Text) e.getSource()).getText());
+		}
+
+		@Override
+		public void setCamelModelElement(AbstractCamelModelElement camelModelElement) {
+			this.camelModelElement = camelModelElement;
+		}
+	}
+
 }
@@ -0,0 +1,26 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.camel.editor.properties.creators.modifylisteners;
+
+import org.eclipse.swt.events.ModifyListener;
+import org.fusesource.ide.camel.model.service.core.model.AbstractCamelModelElement;
+
+/**
+ * a modify listener writing into a camel model element which can be switched
+ * to another element when the property form is recycled
+ */
+public interface IModelElementModifyListener extends ModifyListener {
+
+	/**
+	 * @param camelModelElement	the element to update from now on
+	 */
+	void setCamelModelElement(AbstractCamelModelElement camelModelElement);
+}
@@ -13,8 +13,8 @@ package org.fusesource.ide.camel.editor.properties.creators.modifylisteners.numb
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.draw2d.ColorConstants;
 import org.eclipse.swt.events.ModifyEvent;
-import org.eclipse.swt.events.ModifyListener;
 import org.eclipse.swt.widgets.Text;
+import org.fusesource.ide.camel.editor.properties.creators.modifylisteners.IModelElementModifyListener;
 import org.fusesource.ide.camel.model.service.core.catalog.Parameter;
 import org.fusesource.ide.camel.model.service.core.model.AbstractCamelModelElement;
 import org.fusesource.ide.camel.validation.model.NumberValidator;
@@ -23,7 +23,7 @@ import org.fusesource.ide.camel.validation.model.NumberValidator;
  * @author Aurelien Pupier
  *
  */
-public abstract class AbstractNumberModifyListener implements ModifyListener {
+public abstract class AbstractNumberModifyListener implements IModelElementModifyListener {
 
 	protected AbstractCamelModelElement camelModelElement;
 	protected Parameter parameter;
@@ -46,5 +46,10 @@ public abstract class AbstractNumberModifyListener implements ModifyListener {
 	    }
 	}
 
+	@Override
+	public void setCamelModelElement(AbstractCamelModelElement camelModelElement) {
+		this.camelModelElement = camelModelElement;
+	}
+
 	protected abstract void updateModel(String newValue);
 }
\ No newline at end of file
@@ -11,16 +11,16 @@
 package org.fusesource.ide.camel.editor.properties.creators.modifylisteners.text;
 
 import org.eclipse.swt.events.ModifyEvent;
-import org.eclipse.swt.events.ModifyListener;
 import org.eclipse.swt.widgets.Combo;
 import org.eclipse.swt.widgets.Text;
+import org.fusesource.ide.camel.editor.properties.creators.modifylisteners.IModelElementModifyListener;
 import org.fusesource.ide.camel.model.service.core.model.AbstractCamelModelElement;
 
 /**
  * @author Aurelien Pupier
  *
  */
-public abstract class AbstractTextParameterPropertyModifyListener implements ModifyListener {
+public abstract class AbstractTextParameterPropertyModifyListener implements IModelElementModifyListener {
 
 	protected AbstractCamelModelElement camelModelElement;
 	protected String parameterName;
@@ -41,5 +41,10 @@ public abstract class AbstractTextParameterPropertyModifyListener implements Mod
 		}
 	}
 
+	@Override
+	public void setCamelModelElement(AbstractCamelModelElement camelModelElement) {
+		this.camelModelElement = camelModelElement;
+	}
+
 	protected abstract void updateModel(String newValue);
 }
\ No newline at end of file
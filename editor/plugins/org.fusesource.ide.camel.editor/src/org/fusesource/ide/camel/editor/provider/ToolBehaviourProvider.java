@@ -11,6 +11,7 @@
 package org.fusesource.ide.camel.editor.provider;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -107,6 +108,11 @@ public class ToolBehaviourProvider extends DefaultToolBehaviorProvider {
 	private static final List<String> CONNECTORS_WHITELIST;
 	private static final Set<String> COMPONENTS_FROM_EXTENSION_POINTS = new HashSet<>();
 
+	// the palette only changes with the catalog, the runtime provider and the installed contributions
+	private List<Object> paletteKey;
+	private List<IToolEntry> aggregatedToolEntries;
+	private IPaletteCompartmentEntry[] palette;
+
 	static {
 		CONNECTORS_WHITELIST = new ArrayList<>();
 
@@ -330,6 +336,14 @@ public class ToolBehaviourProvider extends DefaultToolBehaviorProvider {
 	 */
 	@Override
 	public IPaletteCompartmentEntry[] getPalette() {
+		List<IToolEntry> paletteItems = getAggregatedToolEntries();
+		if (palette == null) {
+			palette = createPalette(paletteItems);
+		}
+		return palette.clone();
+	}
+
+	private IPaletteCompartmentEntry[] createPalette(List<IToolEntry> paletteItems) {
 		List<IPaletteCompartmentEntry> ret = new ArrayList<>();
 
 		// the folder for component types
@@ -364,7 +378,6 @@ public class ToolBehaviourProvider extends DefaultToolBehaviorProvider {
 
 		Map<String, PaletteCompartmentEntry> userdefinedEntries = new HashMap<>();
 
-		List<IToolEntry> paletteItems = getAggregatedToolEntries();
 		for (IToolEntry toolEntry : paletteItems) {
 			if (toolEntry instanceof ObjectCreationToolEntry) {
 				ObjectCreationToolEntry octe = (ObjectCreationToolEntry) toolEntry;
@@ -737,16 +750,30 @@ public class ToolBehaviourProvider extends DefaultToolBehaviorProvider {
 	}
 
 	/**
-	 * returns a list of all aggregated tool entries from all sources
+	 * returns a list of all aggregated tool entries from all sources. The 
+	 * entries are only created again if the camel catalog, the runtime 
+	 * provider or the contributed palette entries changed.
 	 * 
 	 * @return
 	 */
 	public List<IToolEntry> getAggregatedToolEntries() {
+		List<Object> key = determinePaletteKey();
+		if (aggregatedToolEntries == null || !key.equals(paletteKey)) {
+			aggregatedToolEntries = createAggregatedToolEntries();
+			palette = null;
+			paletteKey = key;
+		}
+		return new ArrayList<>(aggregatedToolEntries);
+	}
+
+	private List<IToolEntry> createAggregatedToolEntries() {
 		List<IToolEntry> entries = new ArrayList<>();
 
+		// the contributed schemes have to be known before the connectors are filtered
+		List<IToolEntry> extensionPointToolEntries = getExtensionPointToolEntries();
 		entries.addAll(getPredefinedToolEntries());
 		entries.addAll(getConnectorsToolEntries());
-		entries.addAll(getExtensionPointToolEntries());
+		entries.addAll(extensionPointToolEntries);
 
 		// sort the palette entries
 		Collections.sort(entries, Comparator.comparing(IToolEntry::getLabel));
@@ -754,6 +781,16 @@ public class ToolBehaviourProvider extends DefaultToolBehaviorProvider {
 		return entries;
 	}
 
+	private List<Object> determinePaletteKey() {
+		CamelDesignEditor editor = CamelUtils.getDiagramEditor(getDiagramTypeProvider());
+		CamelModel model = null;
+		if (editor != null && editor.getModel() != null && editor.getModel().getResource() != null) {
+			model = CamelCatalogCacheManager.getInstance().getCamelModelForProject(editor.getModel().getResource().getProject());
+		}
+		IConfigurationElement[] extensions = Platform.getExtensionRegistry().getConfigurationElementsFor(PALETTE_ENTRY_PROVIDER_EXT_POINT_ID);
+		return Arrays.asList(model, determineRuntimeProvider(), Arrays.asList(extensions));
+	}
+
 	/**
 	 * checks whether a component should be ignored or not and therefore not put
 	 * onto the palette of the editor
@@ -135,7 +135,11 @@ public class NodeUtils {
 		}
     	for (AbstractCamelModelElement cme : context.getChildElements()) {
 			if (cme.getUnderlyingMetaModelObject() != null && cme.getUnderlyingMetaModelObject().canHaveChildren()) {
-				pes.add(fp.getDiagramTypeProvider().getFeatureProvider().getPictogramElementForBusinessObject(cme));
+				PictogramElement pe = fp.getDiagramTypeProvider().getFeatureProvider().getPictogramElementForBusinessObject(cme);
+				// lazily loaded diagrams have no figures for hidden nodes
+				if (pe != null) {
+					pes.add(pe);
+				}
 			}
 			if (!cme.getChildElements().isEmpty()) {
 				getAllContainers(fp, cme, pes);
@@ -10,29 +10,46 @@
  ******************************************************************************/
 package org.fusesource.ide.project;
 
-import java.util.HashMap;
 import java.util.Iterator;
-import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.core.expressions.PropertyTester;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IProjectDescription;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.ui.IWorkbench;
+import org.eclipse.ui.PlatformUI;
+import org.eclipse.ui.services.IEvaluationService;
 import org.eclipse.wst.common.project.facet.core.FacetedProjectFramework;
 import org.eclipse.wst.common.project.facet.core.IFacetedProject;
 import org.eclipse.wst.common.project.facet.core.IProjectFacetVersion;
 import org.eclipse.wst.common.project.facet.core.ProjectFacetsManager;
+import org.fusesource.ide.camel.model.service.core.util.CamelFileIndex;
 import org.fusesource.ide.foundation.ui.logging.RiderLogFacade;
-import org.fusesource.ide.project.providers.CamelVirtualFolder;
 
 /**
  * @author lhein
  */
 public class CamelNatureTester extends PropertyTester {
 	
-	private Map<IProject, CamelVirtualFolder> cache = new HashMap<>();
-
+	private static final String NAMESPACE = "org.fusesource.ide.project.CamelNatureTester";
+	private static final String HAS_CHILDREN = "hasChildren";
+	
+	/**
+	 * the hasChildren property may have changed once the project is indexed
+	 */
+	private static final Runnable REQUEST_EVALUATION = () -> {
+		if (PlatformUI.isWorkbenchRunning()) {
+			IWorkbench workbench = PlatformUI.getWorkbench();
+			workbench.getDisplay().asyncExec(() -> {
+				IEvaluationService service = workbench.getService(IEvaluationService.class);
+				if (service != null) {
+					service.requestEvaluation(NAMESPACE + '.' + HAS_CHILDREN);
+				}
+			});
+		}
+	};
+	
 	@Override
 	public boolean test(Object receiver, String property, Object[] args, Object expectedValue) {
 		if (receiver instanceof IProject) {
@@ -44,7 +61,7 @@ public class CamelNatureTester extends PropertyTester {
 				return !enabled;
 			} else if ("projectOpen".equals(property)) {
 				return project.isOpen();
-			} else if ("hasChildren".equals(property)) {
+			} else if (HAS_CHILDREN.equals(property)) {
 				return hasChildren(project);
 			}
 		}
@@ -53,13 +70,14 @@ public class CamelNatureTester extends PropertyTester {
 
 	private boolean hasChildren(IProject project) {
 		if (project.isOpen()) {
-			CamelVirtualFolder cvf = cache.get(project);
-			if (cvf == null) {
-				cvf = new CamelVirtualFolder(project);
-				cvf.populateChildren();
-				cache.put(project, cvf);
+			// property testers run on the UI thread, so never scan here. The answer of
+			// the last indexing doesn't flicker while the project is indexed again.
+			CamelFileIndex index = CamelFileIndex.getInstance();
+			Boolean hasCamelFiles = index.hasCamelFiles(project);
+			if (hasCamelFiles != null) {
+				return hasCamelFiles;
 			}
-			return !cvf.getCamelFiles().isEmpty();
+			index.notifyWhenIndexed(project, REQUEST_EVALUATION);
 		}
 		return false;
 	}
@@ -24,6 +24,7 @@ public class Messages extends NLS {
 	public static String riderBrowseCamelContextButton;
 	public static String invalidCamelContextFileMessage;
 	public static String riderLaunchConfigTabTitle;
+	public static String populatingCamelVirtualFolder;
 
 	static {
         // initialize resource bundle
@@ -10,13 +10,27 @@
  ******************************************************************************/
 package org.fusesource.ide.project.decorator;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IMarkerDelta;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.ListenerList;
 import org.eclipse.jface.resource.ImageDescriptor;
 import org.eclipse.jface.viewers.IDecoration;
 import org.eclipse.jface.viewers.ILabelProviderListener;
 import org.eclipse.jface.viewers.ILightweightLabelDecorator;
+import org.eclipse.jface.viewers.LabelProviderChangedEvent;
 import org.eclipse.ui.ISharedImages;
 import org.eclipse.ui.PlatformUI;
 import org.fusesource.ide.camel.editor.navigator.CamelCtxNavRouteNode;
@@ -30,7 +44,16 @@ import org.fusesource.ide.project.providers.CamelVirtualFolder;
  * @author Aurelien Pupier
  *
  */
-public class CamelProblemDecorator implements ILightweightLabelDecorator {
+public class CamelProblemDecorator implements ILightweightLabelDecorator, IResourceChangeListener {
+
+	private static final int NO_SEVERITY = -1;
+
+	private final Map<IResource, FileProblems> problemsCache = new ConcurrentHashMap<>();
+	private final ListenerList<ILabelProviderListener> listeners = new ListenerList<>();
+
+	public CamelProblemDecorator() {
+		ResourcesPlugin.getWorkspace().addResourceChangeListener(this, IResourceChangeEvent.POST_CHANGE);
+	}
 
 	@Override
 	public void decorate(Object element, IDecoration decoration) {
@@ -50,32 +73,26 @@ public class CamelProblemDecorator implements ILightweightLabelDecorator {
 	 * @param decoration
 	 */
 	private void decorationForCamelModelElement(AbstractCamelModelElement cme, IDecoration decoration) {
-		try {
-			for (IMarker marker : getFuseMarkers(cme)) {
-				String id = (String) marker.getAttribute(IFuseMarker.CAMEL_ID);
-				if (id != null && id.equals(cme.getId())) {
-					decoration.addOverlay(getOverlay((int) marker.getAttribute(IMarker.SEVERITY)));
-					return;
-				}
-			}
-		} catch (CoreException e) {
-			Activator.getLogger().error(e);
+		Integer severity = getProblems(cme).fuseSeverityById.get(cme.getId());
+		if (severity != null) {
+			decoration.addOverlay(getOverlay(severity));
 		}
-
 	}
 
 	/**
 	 * @param cme
-	 * @return
-	 * @throws CoreException
+	 * @return the cached problems of the file containing the element
 	 */
-	private IMarker[] getFuseMarkers(AbstractCamelModelElement cme) throws CoreException {
-		IResource resource = cme.getCamelFile().getResource();
-		if(resource.exists()){
-			return resource.findMarkers(IFuseMarker.MARKER_TYPE, true, IResource.DEPTH_INFINITE);
-		} else {
-			return new IMarker[]{};
+	private FileProblems getProblems(AbstractCamelModelElement cme) {
+		IResource resource = cme.getCamelFile() != null ? cme.getCamelFile().getResource() : null;
+		return resource != null ? getProblems(resource) : FileProblems.NONE;
+	}
+
+	private FileProblems getProblems(IResource resource) {
+		if (!resource.exists()) {
+			return FileProblems.NONE;
 		}
+		return problemsCache.computeIfAbsent(resource, FileProblems::read);
 	}
 
 	/**
@@ -83,14 +100,11 @@ public class CamelProblemDecorator implements ILightweightLabelDecorator {
 	 * @param decoration
 	 */
 	private void decorationForCamelVirtualFolder(Object element, IDecoration decoration) {
+		int maxProblemSeverity = NO_SEVERITY;
 		for (IResource resource : ((CamelVirtualFolder) element).getCamelFiles()) {
-			try {
-				int maxProblemSeverity = resource.findMaxProblemSeverity(IMarker.PROBLEM, true, IResource.DEPTH_ZERO);
-				decoration.addOverlay(getOverlay(maxProblemSeverity));
-			} catch (CoreException e) {
-				Activator.getLogger().error(e);
-			}
+			maxProblemSeverity = Math.max(maxProblemSeverity, getProblems(resource).maxProblemSeverity);
 		}
+		decoration.addOverlay(getOverlay(maxProblemSeverity));
 	}
 
 	/**
@@ -98,16 +112,14 @@ public class CamelProblemDecorator implements ILightweightLabelDecorator {
 	 * @param decoration
 	 */
 	private void decorationForCamelRoute(CamelRouteElement camelRoute, IDecoration decoration) {
-		try {
-			for (IMarker marker : getFuseMarkers(camelRoute)) {
-				String id = (String) marker.getAttribute(IFuseMarker.CAMEL_ID);
-				if (id != null && isInsideRoute(camelRoute, id)) {
-					decoration.addOverlay(getOverlay((int) marker.getAttribute(IMarker.SEVERITY)));
-					return;
-				}
+		int severity = NO_SEVERITY;
+		for (Map.Entry<String, Integer> e : getProblems(camelRoute).fuseSeverityById.entrySet()) {
+			if (e.getValue() > severity && isInsideRoute(camelRoute, e.getKey())) {
+				severity = e.getValue();
 			}
-		} catch (CoreException e) {
-			Activator.getLogger().error(e);
+		}
+		if (severity != NO_SEVERITY) {
+			decoration.addOverlay(getOverlay(severity));
 		}
 	}
 
@@ -141,12 +153,49 @@ public class CamelProblemDecorator implements ILightweightLabelDecorator {
 		}
 	}
 
+	@Override
+	public void resourceChanged(IResourceChangeEvent event) {
+		IResourceDelta delta = event.getDelta();
+		if (delta == null || problemsCache.isEmpty()) {
+			return;
+		}
+		final List<IResource> changed = new ArrayList<>();
+		for (IMarkerDelta markerDelta : event.findMarkerDeltas(IMarker.PROBLEM, true)) {
+			if (problemsCache.remove(markerDelta.getResource()) != null) {
+				changed.add(markerDelta.getResource());
+			}
+		}
+		try {
+			delta.accept(d -> {
+				if (d.getKind() == IResourceDelta.REMOVED && problemsCache.remove(d.getResource()) != null) {
+					changed.add(d.getResource());
+				}
+				return true;
+			});
+		} catch (CoreException e) {
+			Activator.getLogger().error(e);
+		}
+		if (!changed.isEmpty()) {
+			// the decorated elements are model nodes and virtual folders, not the files
+			fireLabelProviderChanged(new LabelProviderChangedEvent(this));
+		}
+	}
+
+	private void fireLabelProviderChanged(LabelProviderChangedEvent event) {
+		for (ILabelProviderListener listener : listeners) {
+			listener.labelProviderChanged(event);
+		}
+	}
+
 	@Override
 	public void addListener(ILabelProviderListener listener) {
+		listeners.add(listener);
 	}
 
 	@Override
 	public void dispose() {
+		ResourcesPlugin.getWorkspace().removeResourceChangeListener(this);
+		problemsCache.clear();
 	}
 
 	@Override
@@ -156,6 +205,39 @@ public class CamelProblemDecorator implements ILightweightLabelDecorator {
 
 	@Override
 	public void removeListener(ILabelProviderListener listener) {
+		listeners.remove(listener);
 	}
 
+	/**
+	 * the problem severities of a single file, read once per marker change
+	 */
+	private static final class FileProblems {
+		static final FileProblems NONE = new FileProblems(NO_SEVERITY, Collections.emptyMap());
+
+		final int maxProblemSeverity;
+		final Map<String, Integer> fuseSeverityById;
+
+		FileProblems(int maxProblemSeverity, Map<String, Integer> fuseSeverityById) {
+			this.maxProblemSeverity = maxProblemSeverity;
+			this.fuseSeverityById = fuseSeverityById;
+		}
+
+		static FileProblems read(IResource resource) {
+			try {
+				int maxProblemSeverity = resource.findMaxProblemSeverity(IMarker.PROBLEM, true, IResource.DEPTH_ZERO);
+				Map<String, Integer> fuseSeverityById = new HashMap<>();
+				for (IMarker marker : resource.findMarkers(IFuseMarker.MARKER_TYPE, true, IResource.DEPTH_INFINITE)) {
+					Object id = marker.getAttribute(IFuseMarker.CAMEL_ID);
+					int severity = marker.getAttribute(IMarker.SEVERITY, NO_SEVERITY);
+					if (id instanceof String) {
+						fuseSeverityById.merge((String) id, severity, Math::max);
+					}
+				}
+				return new FileProblems(maxProblemSeverity, fuseSeverityById);
+			} catch (CoreException e) {
+				Activator.getLogger().error(e);
+				return NONE;
+			}
+		}
+	}
 }
@@ -11,20 +11,27 @@
 
 package org.fusesource.ide.project.providers;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.jface.viewers.AbstractTreeViewer;
 import org.eclipse.jface.viewers.ITreeContentProvider;
 import org.eclipse.jface.viewers.Viewer;
+import org.eclipse.ui.progress.PendingUpdateAdapter;
 
 /**
  * @author lhein
  * 
  */
-public class CamelFilesContentProvider implements ITreeContentProvider {
+public class CamelFilesContentProvider implements ITreeContentProvider, CamelVirtualFolder.IChildrenListener {
 
 	private HashMap<IProject, CamelVirtualFolder> cache = new HashMap<>();
+	private HashMap<CamelVirtualFolder, PendingUpdateAdapter> pendingNodes = new HashMap<>();
+	private Viewer viewer;
 
 	@Override
 	public Object[] getChildren(Object parentElement) {
@@ -38,18 +45,62 @@ public class CamelFilesContentProvider implements ITreeContentProvider {
 			CamelVirtualFolder cvf = cache.get(project);
 			if (cvf == null) {
 				cvf = new CamelVirtualFolder(project);
-				cvf.populateChildren();
+				cvf.addChildrenListener(this);
 				cache.put(project, cvf);
+				// the search must not block the UI thread
+				cvf.populateChildrenAsync();
 			}
 
 			return new CamelVirtualFolder[] { cvf };
 		} else if (parentElement instanceof CamelVirtualFolder) {
 			CamelVirtualFolder cvf = (CamelVirtualFolder) parentElement;
-			return cvf.getCamelFiles().toArray(
-					new IResource[cvf.getCamelFiles().size()]);
+			List<Object> children = new ArrayList<>(cvf.getCamelFiles());
+			if (!cvf.isPopulated()) {
+				children.add(getPendingNode(cvf));
+			}
+			return children.toArray();
 		}
 		return new Object[] {};
 	}
+	
+	private synchronized PendingUpdateAdapter getPendingNode(CamelVirtualFolder cvf) {
+		return pendingNodes.computeIfAbsent(cvf, folder -> new PendingUpdateAdapter());
+	}
+
+	@Override
+	public void childrenChanged(final CamelVirtualFolder folder, final Set<IResource> added, final Set<IResource> removed) {
+		final Viewer v = viewer;
+		if (v == null || v.getControl() == null || v.getControl().isDisposed()) {
+			return;
+		}
+		v.getControl().getDisplay().asyncExec(() -> {
+			if (v.getControl().isDisposed()) {
+				return;
+			}
+			if (v instanceof AbstractTreeViewer) {
+				// only touch the changed nodes instead of refreshing the whole folder
+				AbstractTreeViewer treeViewer = (AbstractTreeViewer) v;
+				if (!removed.isEmpty()) {
+					treeViewer.remove(folder, removed.toArray());
+				}
+				if (!added.isEmpty()) {
+					treeViewer.add(folder, added.toArray());
+				}
+				if (folder.isPopulated()) {
+					PendingUpdateAdapter pendingNode;
+					synchronized (CamelFilesContentProvider.this) {
+						pendingNode = pendingNodes.remove(folder);
+					}
+					if (pendingNode != null) {
+						treeViewer.remove(folder, new Object[] { pendingNode });
+					}
+				}
+				treeViewer.update(folder, null);
+			} else {
+				v.refresh();
+			}
+		});
+	}
 
 	@Override
 	public Object getParent(Object element) {
@@ -61,6 +112,10 @@ public class CamelFilesContentProvider implements ITreeContentProvider {
 
 	@Override
 	public boolean hasChildren(Object element) {
+		if (element instanceof CamelVirtualFolder) {
+			CamelVirtualFolder cvf = (CamelVirtualFolder) element;
+			return !cvf.isPopulated() || !cvf.getCamelFiles().isEmpty();
+		}
 		return getChildren(element).length > 0;
 	}
 
@@ -71,9 +126,15 @@ public class CamelFilesContentProvider implements ITreeContentProvider {
 
 	@Override
 	public void dispose() {
+		for (CamelVirtualFolder cvf : cache.values()) {
+			cvf.dispose();
+		}
+		cache.clear();
+		pendingNodes.clear();
 	}
 
 	@Override
 	public void inputChanged(Viewer viewer, Object oldInput, Object newInput) {
+		this.viewer = viewer;
 	}
 }
@@ -15,6 +15,7 @@ import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.jface.viewers.LabelProvider;
 import org.eclipse.swt.graphics.Image;
+import org.eclipse.ui.progress.PendingUpdateAdapter;
 import org.fusesource.ide.project.Activator;
 
 /**
@@ -30,7 +31,7 @@ public class CamelFilesLabelProvider extends LabelProvider {
 	@Override
 	public Image getImage(Object element) {
 		String name;
-		if (element instanceof IProject) {
+		if (element instanceof IProject || element instanceof PendingUpdateAdapter) {
 			return super.getImage(element);
 		} else if (element instanceof CamelVirtualFolder) {
 			name = "camelFolderIcon";
@@ -55,6 +56,8 @@ public class CamelFilesLabelProvider extends LabelProvider {
 		} else if (element instanceof IResource) {
 			IResource ifile = (IResource)element;
 			return ifile.getProjectRelativePath().toString();
+		} else if (element instanceof PendingUpdateAdapter) {
+			return ((PendingUpdateAdapter)element).getLabel(element);
 		}
 		return super.getText(element);
 	}
@@ -11,8 +11,12 @@
 package org.fusesource.ide.project.providers;
 
 import java.lang.reflect.Field;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
@@ -23,29 +27,55 @@ import org.eclipse.core.resources.IResourceDelta;
 import org.eclipse.core.resources.IResourceDeltaVisitor;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jface.action.Action;
 import org.eclipse.jface.action.IMenuManager;
 import org.eclipse.jface.viewers.IStructuredSelection;
 import org.eclipse.jface.viewers.StructuredSelection;
 import org.eclipse.jface.wizard.IWizard;
 import org.eclipse.jface.wizard.WizardDialog;
+import org.eclipse.osgi.util.NLS;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.wizards.IWizardDescriptor;
 import org.fusesource.ide.camel.model.service.core.util.CamelFilesFinder;
 import org.fusesource.ide.foundation.ui.util.ContextMenuProvider;
 import org.fusesource.ide.project.Activator;
+import org.fusesource.ide.project.Messages;
 
 public class CamelVirtualFolder implements ContextMenuProvider {
 	
 	private static final String NEW_CAMEL_XML_FILE_WIZARD_ID = "org.fusesource.ide.camel.editor.wizards.NewCamelXmlWizard";
+	private static final int BATCH_SIZE = 25;
+	private static final long BATCH_INTERVAL = 200L;
+	
+	/**
+	 * notified when Camel files are found, added or removed
+	 */
+	public interface IChildrenListener {
+		
+		/**
+		 * @param folder	the changed folder
+		 * @param added		the new Camel files
+		 * @param removed	the Camel files which are gone
+		 */
+		void childrenChanged(CamelVirtualFolder folder, Set<IResource> added, Set<IResource> removed);
+	}
 	
 	private IProject project;
-	private Set<IResource> camelFiles = new HashSet<>();
+	private Set<IResource> camelFiles = ConcurrentHashMap.newKeySet();
+	private List<IChildrenListener> listeners = new CopyOnWriteArrayList<>();
+	private IResourceChangeListener resourceListener;
+	private volatile boolean populated;
+	private Job populateJob;
 
 	public CamelVirtualFolder(IProject prj) {
 		this.project = prj;
-		ResourcesPlugin.getWorkspace().addResourceChangeListener(new CamelVirtualFolderListener(project), IResourceChangeEvent.POST_CHANGE);
+		this.resourceListener = new CamelVirtualFolderListener(project);
+		ResourcesPlugin.getWorkspace().addResourceChangeListener(resourceListener, IResourceChangeEvent.POST_CHANGE);
 	}
 
 	/**
@@ -65,11 +95,79 @@ public class CamelVirtualFolder implements ContextMenuProvider {
 	public Set<IResource> getCamelFiles() {
 		return this.camelFiles;
 	}
+	
+	/**
+	 * @return true if all Camel files of the project have been searched
+	 */
+	public boolean isPopulated() {
+		return populated;
+	}
+	
+	public void addChildrenListener(IChildrenListener listener) {
+		listeners.add(listener);
+	}
+	
+	public void removeChildrenListener(IChildrenListener listener) {
+		listeners.remove(listener);
+	}
 
 	public void populateChildren() {
 		if (project != null) {
 			camelFiles.addAll(new CamelFilesFinder().findFiles(project));
 		}
+		populated = true;
+	}
+	
+	/**
+	 * searches the Camel files in a background job, the listeners are
+	 * notified about the files found so far in batches
+	 */
+	public synchronized void populateChildrenAsync() {
+		if (populated || populateJob != null) {
+			return;
+		}
+		populateJob = new Job(NLS.bind(Messages.populatingCamelVirtualFolder, project.getName())) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				final Set<IResource> batch = new HashSet<>();
+				final long[] lastNotification = { System.currentTimeMillis() };
+				new CamelFilesFinder().findFiles(project, file -> {
+					if (camelFiles.add(file)) {
+						batch.add(file);
+					}
+					if (batch.size() >= BATCH_SIZE || System.currentTimeMillis() - lastNotification[0] > BATCH_INTERVAL) {
+						fireChildrenChanged(new HashSet<>(batch), Collections.emptySet());
+						batch.clear();
+						lastNotification[0] = System.currentTimeMillis();
+					}
+				}, monitor);
+				if (monitor.isCanceled()) {
+					return Status.CANCEL_STATUS;
+				}
+				populated = true;
+				fireChildrenChanged(batch, Collections.emptySet());
+				return Status.OK_STATUS;
+			}
+		};
+		populateJob.setSystem(true);
+		populateJob.schedule();
+	}
+	
+	/**
+	 * stops listening for resource changes
+	 */
+	public synchronized void dispose() {
+		ResourcesPlugin.getWorkspace().removeResourceChangeListener(resourceListener);
+		if (populateJob != null) {
+			populateJob.cancel();
+		}
+		listeners.clear();
+	}
+	
+	private void fireChildrenChanged(Set<IResource> added, Set<IResource> removed) {
+		for (IChildrenListener listener : listeners) {
+			listener.childrenChanged(this, added, removed);
+		}
 	}
 
 	class CamelVirtualFolderListener implements IResourceChangeListener {
@@ -84,7 +182,11 @@ public class CamelVirtualFolder implements ContextMenuProvider {
 		public void resourceChanged(IResourceChangeEvent event) {
 			if (event.getType() == IResourceChangeEvent.POST_CHANGE) {
 				try {
-					event.getDelta().accept(new DeltaPrinter(project));
+					DeltaPrinter visitor = new DeltaPrinter(project);
+					event.getDelta().accept(visitor);
+					if (!visitor.added.isEmpty() || !visitor.removed.isEmpty()) {
+						fireChildrenChanged(visitor.added, visitor.removed);
+					}
 				} catch (CoreException ex) {
 					Activator.getLogger().error(ex);
 				}
@@ -96,6 +198,8 @@ public class CamelVirtualFolder implements ContextMenuProvider {
 
 		private IProject project;
 		private CamelFilesFinder camelFilesFinder= new CamelFilesFinder();
+		private Set<IResource> added = new HashSet<>();
+		private Set<IResource> removed = new HashSet<>();
 
 		public DeltaPrinter(IProject project) {
 			this.project = project;
@@ -117,7 +221,12 @@ public class CamelVirtualFolder implements ContextMenuProvider {
 			} else if(deltaKind == IResourceDelta.REMOVED) {
 				// a resource has been removed, check if we need to remove
 				// it from the virtual camel folder
-				camelFiles.remove(resource);
+				if (camelFiles.remove(resource)) {
+					removed.add(resource);
+				}
+			} else if (deltaKind == IResourceDelta.CHANGED && resource instanceof IFile && (delta.getFlags() & IResourceDelta.CONTENT) != 0) {
+				// the content may have gained or lost its Camel context
+				visitChangedFile((IFile)resource);
 			}
 			return true; // visit the children
 		}
@@ -127,12 +236,26 @@ public class CamelVirtualFolder implements ContextMenuProvider {
 				// a resource was added, check if we need to add it the the
 				// camel virtual folder too
 				try {
-					if (resource instanceof IFile && new CamelFilesFinder().isFuseCamelContentType((IFile) resource)) {
-						camelFiles.add(resource);
+					if (resource instanceof IFile && camelFilesFinder.isFuseCamelContentType((IFile) resource) && camelFiles.add(resource)) {
+						added.add(resource);
+					}
+				} catch (CoreException ex) {
+					// ignore file
+				}
+			}
+		}
+		
+		private void visitChangedFile(IFile file) {
+			if (camelFiles.contains(file)) {
+				try {
+					if (!camelFilesFinder.isFuseCamelContentType(file) && camelFiles.remove(file)) {
+						removed.add(file);
 					}
 				} catch (CoreException ex) {
 					// ignore file
 				}
+			} else {
+				visitAddedFile(file);
 			}
 		}
 	}
@@ -200,7 +200,7 @@ public class Wsdl2RestWizard extends Wizard implements INewWizard {
 
 	private boolean projectHasDependency(IProject project, String groupId, String artifactId) {
 		CamelMavenUtils cmu = new CamelMavenUtils();
-		List<Dependency> projectDependencies = cmu.getDependencyList(project);
+		List<Dependency> projectDependencies = cmu.getCamelDependencyList(project);
 		Iterator<Dependency> depIter = projectDependencies.iterator();
 		while(depIter.hasNext()) {
 			Dependency dependency = depIter.next();
@@ -12,6 +12,9 @@ package org.fusesource.ide.camel.editor.integration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.graphiti.datatypes.ILocation;
@@ -38,6 +41,7 @@ import org.fusesource.ide.camel.editor.features.create.ext.CreateFigureFeature;
 import org.fusesource.ide.camel.editor.features.custom.CollapseFeature;
 import org.fusesource.ide.camel.editor.features.delete.DeleteFigureFeature;
 import org.fusesource.ide.camel.editor.features.misc.ReconnectNodesFeature;
+import org.fusesource.ide.camel.editor.internal.CamelDiagramLoader;
 import org.fusesource.ide.camel.editor.utils.FigureUIFactory;
 import org.fusesource.ide.camel.model.service.core.catalog.cache.CamelCatalogCacheManager;
 import org.fusesource.ide.camel.model.service.core.catalog.cache.CamelModel;
@@ -506,6 +510,37 @@ public class CamelEditorIT extends AbstractCamelEditorIT {
 		assertThat(route2PE.getGraphicsAlgorithm().getHeight()).isEqualTo(route2OriginalHeight);
 	}
 	
+	@Test
+	public void largeDiagramCreatesShapesWhenExpanded() throws Exception {
+		IEditorPart openEditorOnFileStore = openFileInEditor("/lazyLoading");
+		assertThat(openEditorOnFileStore).isNotNull();
+		assertThat(openEditorOnFileStore).isInstanceOf(CamelEditor.class);
+		
+		readAndDispatch(20);
+		
+		CamelDesignEditor ed = ((CamelEditor)openEditorOnFileStore).getDesignEditor();
+		IFeatureProvider fp = ed.getFeatureProvider();
+		
+		// only a part of the routes got their shapes, the others are placeholders
+		List<ContainerShape> deferredShapes = new ArrayList<>();
+		CamelDiagramLoader.findDeferredShapes(fp.getDiagramTypeProvider().getDiagram(), deferredShapes);
+		assertThat(deferredShapes).isNotEmpty();
+		ContainerShape placeholder = deferredShapes.get(deferredShapes.size() - 1);
+		AbstractCamelModelElement hiddenNode = (AbstractCamelModelElement)fp.getBusinessObjectForPictogramElement(placeholder);
+		assertThat(CollapseFeature.isCollapsed(placeholder)).isTrue();
+		assertThat(fp.getPictogramElementForBusinessObject(hiddenNode.getChildElements().get(0))).isNull();
+		
+		// expanding the placeholder adds the shapes of its children
+		collapseExpand(fp, placeholder);
+		readAndDispatch(0);
+		
+		assertThat(CamelDiagramLoader.isDeferred(placeholder)).isFalse();
+		assertThat(CollapseFeature.isCollapsed(placeholder)).isFalse();
+		for (AbstractCamelModelElement child : hiddenNode.getChildElements()) {
+			assertThat(fp.getPictogramElementForBusinessObject(child)).isNotNull();
+		}
+	}
+	
 	@Test
 	public void collapsedAndExpandedOtherwiseAndChoiceStaysInParentBounds() throws Exception {
 		IEditorPart openEditorOnFileStore = openFileInEditor("/collapseExpand");
@@ -22,6 +22,8 @@ import org.eclipse.swt.widgets.Text;
 import org.fusesource.ide.camel.editor.properties.creators.TextParameterPropertyUICreator;
 import org.fusesource.ide.camel.model.service.core.catalog.Parameter;
 import org.fusesource.ide.camel.model.service.core.catalog.eips.Eip;
+import org.fusesource.ide.camel.model.service.core.model.AbstractCamelModelElement;
+import org.fusesource.ide.camel.model.service.core.model.CamelBasicModelElement;
 import org.junit.Test;
 
 /**
@@ -107,5 +109,33 @@ public class TextParameterPropertyUICreatorIT extends AbstractParameterPropertyS
 		assertThat(camelModelElement.getParameter("testParameterName")).isEqualTo("newValue");
 		assertThat(extraValidationCalled).isTrue();
 	}
+	
+	@Test
+	public void testRebindToOtherElement() throws Exception {
+		Parameter parameter = new Parameter();
+		parameter.setName("testParameterName");
+		parameter.setKind("parameter");
+		Eip eip = new Eip();
+		final Map<String, Parameter> parameters = new HashMap<>();
+		parameters.put(parameter.getName(), parameter);
+		eip.setProperties(parameters);
+		camelModelElement.setParameter("testParameterName", "firstValue");
+		AbstractCamelModelElement otherElement = new CamelBasicModelElement(null, null);
+		otherElement.setParameter("testParameterName", "otherValue");
+
+		final TextParameterPropertyUICreator textParameterPropertyUICreator = new TextParameterPropertyUICreator(dbc, modelMap, eip, camelModelElement, parameter, null, parent, widgetFactory);
+		textParameterPropertyUICreator.create();
+		textParameterPropertyUICreator.rebind(otherElement);
+
+		final Text control = textParameterPropertyUICreator.getControl();
+		assertThat(control.getText()).isEqualTo("otherValue");
+		assertThat(modelMap.get("testParameterName")).isEqualTo("otherValue");
+
+		control.setText("newValue");
+
+		assertThat(otherElement.getParameter("testParameterName")).isEqualTo("newValue");
+		assertThat(camelModelElement.getParameter("testParameterName")).isEqualTo("firstValue");
+		assertThat(dbc.getBindings()).hasSize(1);
+	}
 
 }
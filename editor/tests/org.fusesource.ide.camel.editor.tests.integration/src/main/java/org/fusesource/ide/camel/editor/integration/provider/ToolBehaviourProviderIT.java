@@ -189,6 +189,36 @@ public class ToolBehaviourProviderIT {
     	
 	}
 
+	@Test
+	public void testPaletteIsReusedWhileCatalogIsUnchanged() throws Exception {
+		initToolBehaviourProvider();
+
+		IPaletteCompartmentEntry[] palette = toolbehaviourprovider.getPalette();
+		List<IToolEntry> toolEntries = toolbehaviourprovider.getAggregatedToolEntries();
+
+		assertSameEntries(toolbehaviourprovider.getPalette(), palette);
+		assertSameEntries(toolbehaviourprovider.getAggregatedToolEntries().toArray(), toolEntries.toArray());
+	}
+
+	@Test
+	public void testPaletteIsCreatedAgainWhenRuntimeProviderChanges() throws Exception {
+		initToolBehaviourProvider();
+		IPaletteCompartmentEntry[] palette = toolbehaviourprovider.getPalette();
+		IToolEntry toolEntry = toolbehaviourprovider.getAggregatedToolEntries().get(0);
+
+		usePomWithSpringBootDependency();
+
+		assertThat(toolbehaviourprovider.getPalette()[0]).isNotSameAs(palette[0]);
+		assertThat(toolbehaviourprovider.getAggregatedToolEntries().get(0)).isNotSameAs(toolEntry);
+	}
+
+	private void assertSameEntries(Object[] entries, Object[] expectedEntries) {
+		assertThat(entries).hasSameSizeAs(expectedEntries);
+		for (int i = 0; i < entries.length; i++) {
+			assertThat(entries[i]).isSameAs(expectedEntries[i]);
+		}
+	}
+
 	private boolean isEIPWantedInPalette(Eip eip) {
 		return eip.getTags().contains("eip")
 				&& ("true".equals(eip.getInput()) || "true".equals(eip.getOutput()))
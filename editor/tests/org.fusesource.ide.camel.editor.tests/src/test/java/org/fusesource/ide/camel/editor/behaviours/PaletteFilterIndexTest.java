@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.camel.editor.behaviours;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class PaletteFilterIndexTest {
+
+	private final PaletteFilterIndex<String> index = new PaletteFilterIndex<>();
+
+	@Before
+	public void setup() {
+		index.add("activemq", "ActiveMQ", "ActiveMQ", "activemq", "activemq", "The activemq component allows messages to be sent to a JMS Queue.");
+		index.add("file", "File", "File", "file", "file", "The file component is used for reading or writing files.");
+		index.add("log", "Log", null, "Uses the logger category to log the exchange.");
+	}
+
+	@Test
+	public void testEmptyFilterMatchesAllEntries() throws Exception {
+		assertThat(index.match(null)).containsExactlyInAnyOrder("activemq", "file", "log");
+		assertThat(index.match("")).hasSize(3);
+	}
+
+	@Test
+	public void testLabelContainsFilter() throws Exception {
+		assertThat(index.match("mq")).containsExactly("activemq");
+	}
+
+	@Test
+	public void testKeywordStartsWithFilter() throws Exception {
+		assertThat(index.match("jms")).containsExactly("activemq");
+		assertThat(index.match("exch")).containsExactly("log");
+		assertThat(index.match("files")).containsExactly("file");
+	}
+
+	@Test
+	public void testNarrowedFilter() throws Exception {
+		assertThat(index.match("l")).containsExactlyInAnyOrder("file", "log");
+		assertThat(index.match("lo")).containsExactly("log");
+		assertThat(index.match("logg")).containsExactly("log");
+		assertThat(index.match("f")).containsExactly("file");
+	}
+}
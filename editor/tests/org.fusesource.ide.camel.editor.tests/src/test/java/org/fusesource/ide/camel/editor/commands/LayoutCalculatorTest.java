@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.camel.editor.commands;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class LayoutCalculatorTest {
+
+	private static final int EAST = 16;
+	private static final int SOUTH = 4;
+
+	@Test
+	public void testFullLayoutLaysOutAllContainers() throws Exception {
+		LayoutNode root = LayoutStateTest.route();
+
+		new LayoutCalculator(EAST, null).layout(root);
+
+		assertThat(root.isRelayouted()).isTrue();
+		assertThat(root.getChildren().get(0).isRelayouted()).isTrue();
+	}
+
+	@Test
+	public void testUnchangedContainersAreNotLaidOutAgain() throws Exception {
+		LayoutNode laidOut = LayoutStateTest.route();
+		new LayoutCalculator(EAST, null).layout(laidOut);
+		LayoutState state = LayoutState.of(laidOut, EAST);
+
+		LayoutNode reloaded = LayoutStateTest.route();
+		state.applyTo(reloaded);
+		new LayoutCalculator(EAST, state).layout(reloaded);
+
+		assertThat(reloaded.isRelayouted()).isFalse();
+		assertThat(reloaded.getChildren().get(0).isRelayouted()).isFalse();
+		int[] laidOutLog = laidOut.getChildren().get(0).getChildren().get(1).getBounds();
+		assertThat(reloaded.getChildren().get(0).getChildren().get(1).getBounds()).containsExactly(laidOutLog[0], laidOutLog[1], 100, 34);
+	}
+
+	@Test
+	public void testOnlyChangedContainerIsLaidOutAgain() throws Exception {
+		LayoutNode laidOut = choice();
+		new LayoutCalculator(EAST, null).layout(laidOut);
+		LayoutState state = LayoutState.of(laidOut, EAST);
+
+		LayoutNode changed = choice();
+		state.applyTo(changed);
+		LayoutNode when = changed.getChildren().get(0).getChildren().get(1);
+		LayoutNode otherwise = changed.getChildren().get(0).getChildren().get(2);
+		otherwise.addChild(LayoutStateTest.node("/0:choice/2:otherwise/1:to", false));
+		otherwise.addEdge(0, 1);
+		new LayoutCalculator(EAST, state).layout(changed);
+
+		assertThat(otherwise.isRelayouted()).isTrue();
+		assertThat(when.isRelayouted()).isFalse();
+	}
+
+	@Test
+	public void testChangedDirectionLaysOutAgain() throws Exception {
+		LayoutNode laidOut = LayoutStateTest.route();
+		new LayoutCalculator(EAST, null).layout(laidOut);
+		LayoutState state = LayoutState.of(laidOut, EAST);
+
+		LayoutNode reloaded = LayoutStateTest.route();
+		state.applyTo(reloaded);
+		new LayoutCalculator(SOUTH, state).layout(reloaded);
+
+		assertThat(reloaded.getChildren().get(0).isRelayouted()).isTrue();
+	}
+
+	private static LayoutNode choice() {
+		LayoutNode diagram = new LayoutNode(null, "", new int[] { 0, 0, 1000, 1000 }, false, true);
+		LayoutNode choice = LayoutStateTest.node("/0:choice", true);
+		diagram.addChild(choice);
+		choice.addChild(LayoutStateTest.node("/0:choice/0:from", false));
+		LayoutNode when = LayoutStateTest.node("/0:choice/1:when", true);
+		when.addChild(LayoutStateTest.node("/0:choice/1:when/0:log", false));
+		choice.addChild(when);
+		LayoutNode otherwise = LayoutStateTest.node("/0:choice/2:otherwise", true);
+		otherwise.addChild(LayoutStateTest.node("/0:choice/2:otherwise/0:log", false));
+		choice.addChild(otherwise);
+		choice.addEdge(0, 1);
+		choice.addEdge(0, 2);
+		return diagram;
+	}
+}
@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.camel.editor.commands;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Properties;
+
+import org.junit.Test;
+
+public class LayoutStateTest {
+
+	private static final int EAST = 16;
+
+	@Test
+	public void testStateSurvivesProperties() throws Exception {
+		LayoutState state = LayoutState.of(route(), EAST);
+
+		LayoutState readState = LayoutState.fromProperties(state.toProperties());
+
+		assertThat(readState).isEqualTo(state);
+		assertThat(readState.getDirection()).isEqualTo(EAST);
+		assertThat(readState.getSignature("/0:route")).isEqualTo(route().getChildren().get(0).getSignature());
+	}
+
+	@Test
+	public void testStateIsAppliedToSameShapes() throws Exception {
+		LayoutNode laidOut = route();
+		laidOut.getChildren().get(0).getChildren().get(1).setLocation(200, 50);
+		LayoutState state = LayoutState.of(laidOut, EAST);
+
+		LayoutNode reloaded = route();
+		assertThat(state.applyTo(reloaded)).isTrue();
+
+		LayoutNode log = reloaded.getChildren().get(0).getChildren().get(1);
+		assertThat(log.getBounds()).containsExactly(200, 50, 100, 34);
+		assertThat(log.isMoved()).isTrue();
+		assertThat(log.isResized()).isFalse();
+	}
+
+	@Test
+	public void testStateIsNotAppliedToOtherShapes() throws Exception {
+		LayoutState state = LayoutState.of(route(), EAST);
+
+		LayoutNode changed = route();
+		changed.getChildren().get(0).addChild(node("/0:route/2:to", false));
+
+		assertThat(state.applyTo(changed)).isFalse();
+		assertThat(changed.getChildren().get(0).getChildren().get(1).isMoved()).isFalse();
+	}
+
+	@Test
+	public void testStateIsNotAppliedToChangedFigures() throws Exception {
+		LayoutNode laidOut = route();
+		laidOut.getChildren().get(0).getChildren().get(1).setLocation(200, 50);
+		LayoutState state = LayoutState.of(laidOut, EAST);
+
+		LayoutNode changed = route();
+		changed.getChildren().get(0).getChildren().get(1).setSize(160, 34);
+
+		assertThat(state.applyTo(changed)).isFalse();
+		assertThat(changed.getChildren().get(0).getChildren().get(1).getBounds()).containsExactly(40, 40, 160, 34);
+	}
+
+	@Test
+	public void testStateIsAppliedToUnchangedContainers() throws Exception {
+		LayoutNode laidOut = twoRoutes();
+		laidOut.getChildren().get(0).getChildren().get(1).setLocation(200, 50);
+		laidOut.getChildren().get(1).getChildren().get(1).setLocation(300, 50);
+		LayoutState state = LayoutState.of(laidOut, EAST);
+
+		LayoutNode changed = twoRoutes();
+		changed.getChildren().get(1).addChild(node("/1:route/2:to", false));
+
+		assertThat(state.applyTo(changed)).isFalse();
+		assertThat(changed.getChildren().get(0).getChildren().get(1).getBounds()).containsExactly(200, 50, 100, 34);
+		assertThat(changed.getChildren().get(1).getChildren().get(1).isMoved()).isFalse();
+	}
+
+	@Test
+	public void testInvalidPropertiesAreIgnored() throws Exception {
+		Properties properties = LayoutState.of(route(), EAST).toProperties();
+		properties.setProperty("node./0:route", "1,2");
+
+		assertThat(LayoutState.fromProperties(properties)).isNull();
+		assertThat(LayoutState.fromProperties(new Properties())).isNull();
+	}
+
+	static LayoutNode route() {
+		LayoutNode diagram = new LayoutNode(null, "", new int[] { 0, 0, 1000, 1000 }, false, true);
+		LayoutNode route = node("/0:route", true);
+		diagram.addChild(route);
+		route.addChild(node("/0:route/0:from", false));
+		route.addChild(node("/0:route/1:log", false));
+		route.addEdge(0, 1);
+		return diagram;
+	}
+
+	private static LayoutNode twoRoutes() {
+		LayoutNode diagram = route();
+		LayoutNode route = node("/1:route", true);
+		diagram.addChild(route);
+		route.addChild(node("/1:route/0:from", false));
+		route.addChild(node("/1:route/1:log", false));
+		route.addEdge(0, 1);
+		return diagram;
+	}
+
+	static LayoutNode node(String key, boolean container) {
+		return new LayoutNode(null, key, new int[] { 40, 40, 100, 34 }, false, container);
+	}
+}
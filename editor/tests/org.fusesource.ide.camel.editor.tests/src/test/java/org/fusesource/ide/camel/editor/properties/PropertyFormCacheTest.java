@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.camel.editor.properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class PropertyFormCacheTest {
+
+	private final List<String> disposed = new ArrayList<>();
+	private final PropertyFormCache<String, String> cache = new PropertyFormCache<>(2, disposed::add);
+
+	@Test
+	public void testTakenFormIsRemoved() throws Exception {
+		cache.put("log", "logForm");
+
+		assertThat(cache.take("log")).isEqualTo("logForm");
+		assertThat(cache.take("log")).isNull();
+		assertThat(disposed).isEmpty();
+	}
+
+	@Test
+	public void testLeastRecentlyUsedFormIsDisposed() throws Exception {
+		cache.put("log", "logForm");
+		cache.put("to", "toForm");
+		cache.put("log", cache.take("log"));
+
+		cache.put("choice", "choiceForm");
+
+		assertThat(disposed).containsExactly("toForm");
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.take("to")).isNull();
+	}
+
+	@Test
+	public void testReplacedFormIsDisposed() throws Exception {
+		cache.put("log", "logForm");
+		cache.put("log", "otherLogForm");
+
+		assertThat(disposed).containsExactly("logForm");
+		assertThat(cache.take("log")).isEqualTo("otherLogForm");
+	}
+
+	@Test
+	public void testClearDisposesAllForms() throws Exception {
+		cache.put("log", "logForm");
+		cache.put("to", "toForm");
+
+		cache.clear();
+
+		assertThat(disposed).containsExactlyInAnyOrder("logForm", "toForm");
+		assertThat(cache.size()).isZero();
+	}
+}
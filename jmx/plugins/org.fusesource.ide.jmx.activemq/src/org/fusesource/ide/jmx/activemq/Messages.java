@@ -42,6 +42,16 @@ public class Messages extends NLS {
 	public static String DeleteTopicActionToolTip;
 	public static String DeleteTopicDialogTitle;
 	public static String DeleteTopicDialogMessage;
+
+	public static String CopyMessagesAction;
+	public static String CopyMessagesActionToolTip;
+	public static String CopyMessagesDialogTitle;
+	public static String CopyMessagesDialogMessage;
+
+	public static String MoveMessagesAction;
+	public static String MoveMessagesActionToolTip;
+	public static String MoveMessagesDialogTitle;
+	public static String MoveMessagesDialogMessage;
 	static {
         // initialize resource bundle
         NLS.initializeMessages(BUNDLE_NAME, Messages.class);
@@ -0,0 +1,426 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package org.fusesource.ide.jmx.activemq.internal;
+
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import javax.jms.BytesMessage;
+import javax.jms.DeliveryMode;
+import javax.jms.Destination;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageProducer;
+import javax.jms.Queue;
+import javax.jms.QueueBrowser;
+import javax.jms.Session;
+import javax.management.OperationsException;
+import javax.management.ReflectionException;
+
+import org.apache.activemq.broker.jmx.QueueViewMBean;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.SubMonitor;
+import org.fusesource.ide.foundation.core.util.Objects;
+import org.fusesource.ide.foundation.core.util.Strings;
+import org.fusesource.ide.jmx.activemq.navigator.JmsTypeConverters;
+import org.fusesource.ide.jmx.commons.messages.IMessage;
+
+/**
+ * Sends, copies and moves messages in batches. Each batch borrows a
+ * transacted session from the session pool which is committed every
+ * {@link #getCommitInterval()} messages, so a large replay costs a handful of
+ * round trips instead of one JMX call per message.
+ */
+public class BulkMessageTransfer {
+
+	public static final int DEFAULT_BATCH_SIZE = 1000;
+	public static final int DEFAULT_COMMIT_INTERVAL = 100;
+
+	public enum Mode {
+		COPY, MOVE
+	}
+
+	private static final String HEADER_PREFIX = "JMS";
+
+	private final SessionPool sessionPool;
+	private int batchSize = DEFAULT_BATCH_SIZE;
+	private int commitInterval = DEFAULT_COMMIT_INTERVAL;
+
+	public BulkMessageTransfer(SessionPool sessionPool) {
+		this.sessionPool = sessionPool;
+	}
+
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	public void setBatchSize(int batchSize) {
+		if (batchSize < 1) {
+			throw new IllegalArgumentException("The batch size must be at least 1 but was " + batchSize);
+		}
+		this.batchSize = batchSize;
+	}
+
+	public int getCommitInterval() {
+		return commitInterval;
+	}
+
+	public void setCommitInterval(int commitInterval) {
+		if (commitInterval < 1) {
+			throw new IllegalArgumentException("The commit interval must be at least 1 but was " + commitInterval);
+		}
+		this.commitInterval = commitInterval;
+	}
+
+	/**
+	 * sends the given messages to a destination, requires a session pool. On
+	 * cancellation the messages sent since the last commit are rolled back.
+	 *
+	 * @param messages		the messages to send
+	 * @param destinationName	the physical name of the target destination
+	 * @param topic		true if the target is a topic, false for a queue
+	 * @param monitor		the progress monitor, may be null
+	 * @return	the number of committed messages
+	 * @throws JMSException	on send failures, uncommitted messages of the current batch are rolled back
+	 */
+	public int sendMessages(List<? extends IMessage> messages, String destinationName, boolean topic, IProgressMonitor monitor) throws JMSException {
+		SubMonitor progress = SubMonitor.convert(monitor, "Sending " + messages.size() + " messages to " + destinationName, messages.size());
+		int committed = 0;
+		for (int start = 0; start < messages.size() && !progress.isCanceled(); start += batchSize) {
+			List<? extends IMessage> batch = messages.subList(start, Math.min(messages.size(), start + batchSize));
+			committed += sendBatch(batch, destinationName, topic, progress);
+		}
+		return committed;
+	}
+
+	/**
+	 * copies or moves messages from a queue to another queue. The broker side
+	 * {@code copyMatchingMessagesTo}/{@code moveMatchingMessagesTo} operations
+	 * are used with one selector per batch, if the broker does not support them
+	 * the messages are browsed and re-sent in transacted batches instead,
+	 * which requires a session pool.
+	 *
+	 * @param source		the source queue
+	 * @param messageIds	the ids of the messages to transfer
+	 * @param targetQueue	the physical name of the target queue
+	 * @param mode		copy or move
+	 * @param monitor		the progress monitor, may be null
+	 * @return	the number of transferred messages
+	 * @throws JMSException	if the fallback path fails
+	 */
+	public int transferMessages(QueueViewMBean source, List<String> messageIds, String targetQueue, Mode mode, IProgressMonitor monitor) throws JMSException {
+		SubMonitor progress = SubMonitor.convert(monitor, (mode == Mode.MOVE ? "Moving " : "Copying ") + messageIds.size() + " messages to " + targetQueue, messageIds.size());
+		boolean brokerOperationsAvailable = true;
+		int transferred = 0;
+		for (int start = 0; start < messageIds.size() && !progress.isCanceled(); start += batchSize) {
+			List<String> batch = messageIds.subList(start, Math.min(messageIds.size(), start + batchSize));
+			if (brokerOperationsAvailable) {
+				try {
+					String selector = createSelector(batch);
+					transferred += mode == Mode.MOVE ? source.moveMatchingMessagesTo(selector, targetQueue, batch.size()) : source.copyMatchingMessagesTo(selector, targetQueue, batch.size());
+					progress.worked(batch.size());
+					continue;
+				} catch (ReflectionException | OperationsException ex) {
+					// older brokers, use plain JMS for this and the remaining batches
+					checkFallback(targetQueue, ex);
+					brokerOperationsAvailable = false;
+				} catch (Exception ex) {
+					// the operation may have transferred part of the batch, re-sending it would duplicate messages
+					throw createException("The broker failed to transfer messages to " + targetQueue, ex);
+				}
+			}
+			transferred += transferBatch(source, batch, targetQueue, mode, progress);
+		}
+		return transferred;
+	}
+
+	/**
+	 * copies or moves all messages of a queue to another queue. The broker side
+	 * {@code copyMatchingMessagesTo}/{@code moveMatchingMessagesTo} operations
+	 * are used without a selector, if the broker does not support them the
+	 * message ids are browsed over JMS and the messages re-sent in transacted
+	 * batches until a browse returns no unseen messages, which requires a
+	 * session pool.
+	 *
+	 * @param source		the source queue
+	 * @param targetQueue	the physical name of the target queue
+	 * @param mode		copy or move
+	 * @param monitor		the progress monitor, may be null
+	 * @return	the number of transferred messages
+	 * @throws JMSException	if the broker operation or the fallback path fails
+	 */
+	public int transferAllMessages(QueueViewMBean source, String targetQueue, Mode mode, IProgressMonitor monitor) throws JMSException {
+		int queueSize = (int) Math.min(Integer.MAX_VALUE, Math.max(1L, source.getQueueSize()));
+		SubMonitor progress = SubMonitor.convert(monitor, (mode == Mode.MOVE ? "Moving messages of " : "Copying messages of ") + source.getName() + " to " + targetQueue, queueSize);
+		try {
+			return mode == Mode.MOVE ? source.moveMatchingMessagesTo(null, targetQueue) : source.copyMatchingMessagesTo(null, targetQueue);
+		} catch (ReflectionException | OperationsException ex) {
+			checkFallback(targetQueue, ex);
+		} catch (Exception ex) {
+			throw createException("The broker failed to transfer messages to " + targetQueue, ex);
+		}
+		Set<String> seen = new HashSet<>();
+		int transferred = 0;
+		List<String> messageIds = browseMessageIds(source.getName(), seen);
+		while (!messageIds.isEmpty() && !progress.isCanceled()) {
+			progress.setWorkRemaining(Math.max(queueSize - transferred, messageIds.size()));
+			for (int start = 0; start < messageIds.size() && !progress.isCanceled(); start += batchSize) {
+				transferred += transferBatch(source, messageIds.subList(start, Math.min(messageIds.size(), start + batchSize)), targetQueue, mode, progress);
+			}
+			// a browser only sees a page of the queue, moved messages make room for the next one
+			messageIds = browseMessageIds(source.getName(), seen);
+		}
+		return transferred;
+	}
+
+	private int sendBatch(List<? extends IMessage> batch, String destinationName, boolean topic, SubMonitor progress) throws JMSException {
+		Session session = sessionPool.borrowTransactedSession();
+		boolean failed = true;
+		try {
+			Destination destination = topic ? session.createTopic(destinationName) : session.createQueue(destinationName);
+			MessageProducer producer = session.createProducer(destination);
+			try {
+				int sent = 0;
+				int committed = 0;
+				for (IMessage message : batch) {
+					if (progress.isCanceled()) {
+						session.rollback();
+						failed = false;
+						return committed;
+					}
+					send(producer, createMessage(session, message), message.getHeaders());
+					sent++;
+					if (sent % commitInterval == 0) {
+						session.commit();
+						committed = sent;
+					}
+					progress.worked(1);
+				}
+				session.commit();
+				failed = false;
+				return sent;
+			} finally {
+				producer.close();
+			}
+		} finally {
+			release(session, failed);
+		}
+	}
+
+	private int transferBatch(QueueViewMBean source, List<String> batch, String targetQueue, Mode mode, SubMonitor progress) throws JMSException {
+		List<String> committedIds = new ArrayList<>(batch.size());
+		try {
+			copyBatch(source.getName(), batch, targetQueue, committedIds, progress);
+		} catch (JMSException | RuntimeException ex) {
+			if (mode == Mode.MOVE) {
+				// the committed copies are in the target queue already
+				try {
+					removeMessages(source, committedIds, targetQueue);
+				} catch (JMSException removeEx) {
+					ex.addSuppressed(removeEx);
+				}
+			}
+			throw ex;
+		}
+		if (mode == Mode.MOVE) {
+			removeMessages(source, committedIds, targetQueue);
+		}
+		return committedIds.size();
+	}
+
+	/**
+	 * re-sends the messages of a batch, the ids of committed copies are added to
+	 * {@code committedIds} as they are committed
+	 */
+	private void copyBatch(String sourceQueue, List<String> batch, String targetQueue, List<String> committedIds, SubMonitor progress) throws JMSException {
+		Session session = sessionPool.borrowTransactedSession();
+		boolean failed = true;
+		List<String> sentIds = new ArrayList<>(batch.size());
+		try {
+			MessageProducer producer = session.createProducer(session.createQueue(targetQueue));
+			QueueBrowser browser = session.createBrowser(session.createQueue(sourceQueue), createSelector(batch));
+			try {
+				Enumeration<?> iter = browser.getEnumeration();
+				while (iter.hasMoreElements() && !progress.isCanceled()) {
+					Message message = (Message) iter.nextElement();
+					producer.send(message, message.getJMSDeliveryMode(), message.getJMSPriority(), Message.DEFAULT_TIME_TO_LIVE);
+					sentIds.add(message.getJMSMessageID());
+					if (sentIds.size() % commitInterval == 0) {
+						session.commit();
+						committedIds.addAll(sentIds.subList(committedIds.size(), sentIds.size()));
+					}
+					progress.worked(1);
+				}
+			} finally {
+				browser.close();
+				producer.close();
+			}
+			if (progress.isCanceled()) {
+				session.rollback();
+			} else {
+				session.commit();
+				committedIds.addAll(sentIds.subList(committedIds.size(), sentIds.size()));
+			}
+			failed = false;
+		} finally {
+			release(session, failed);
+		}
+	}
+
+	private static void removeMessages(QueueViewMBean source, List<String> messageIds, String targetQueue) throws JMSException {
+		for (String id : messageIds) {
+			try {
+				source.removeMessage(id);
+			} catch (Exception ex) {
+				throw createException("Copied message " + id + " to " + targetQueue + " but could not remove it from " + source.getName(), ex);
+			}
+		}
+	}
+
+	/**
+	 * returns the ids of the browsable messages of a queue which are not in
+	 * {@code seen} yet and adds them to it
+	 */
+	private List<String> browseMessageIds(String queue, Set<String> seen) throws JMSException {
+		List<String> answer = new ArrayList<>();
+		Session session = sessionPool.borrowSession();
+		boolean failed = true;
+		try {
+			QueueBrowser browser = session.createBrowser(session.createQueue(queue));
+			try {
+				Enumeration<?> iter = browser.getEnumeration();
+				while (iter.hasMoreElements()) {
+					String id = ((Message) iter.nextElement()).getJMSMessageID();
+					if (seen.add(id)) {
+						answer.add(id);
+					}
+				}
+			} finally {
+				browser.close();
+			}
+			failed = false;
+		} finally {
+			if (failed) {
+				sessionPool.discardSession(session);
+			} else {
+				sessionPool.returnSession(session);
+			}
+		}
+		return answer;
+	}
+
+	private void checkFallback(String targetQueue, Exception cause) throws JMSException {
+		if (sessionPool == null) {
+			throw createException("The broker does not support the transfer to " + targetQueue + " and has no JMS connector to fall back to", cause);
+		}
+	}
+
+	private static JMSException createException(String message, Exception cause) {
+		JMSException jmsException = new JMSException(message);
+		jmsException.setLinkedException(cause);
+		return jmsException;
+	}
+
+	private static Message createMessage(Session session, IMessage message) throws JMSException {
+		Object body = message.getBody();
+		Message answer;
+		if (body instanceof byte[]) {
+			BytesMessage bytesMessage = session.createBytesMessage();
+			bytesMessage.writeBytes((byte[]) body);
+			answer = bytesMessage;
+		} else {
+			answer = session.createTextMessage(Strings.getOrElse(body));
+		}
+		Map<String, Object> headers = message.getHeaders();
+		if (headers != null) {
+			for (Entry<String, Object> entry : headers.entrySet()) {
+				applyHeader(answer, entry.getKey(), entry.getValue());
+			}
+		}
+		return answer;
+	}
+
+	private static void applyHeader(Message message, String key, Object value) throws JMSException {
+		if (key == null || value == null) {
+			return;
+		}
+		if (Objects.equal("JMSCorrelationID", key)) {
+			message.setJMSCorrelationID(value.toString());
+		} else if (Objects.equal("JMSType", key)) {
+			message.setJMSType(value.toString());
+		} else if (Objects.equal("JMSReplyTo", key)) {
+			message.setJMSReplyTo(JmsTypeConverters.toDestination(value));
+		} else if (!key.startsWith(HEADER_PREFIX)) {
+			// the remaining JMS headers are assigned by the broker or passed to the producer
+			if (value instanceof String || value instanceof Number || value instanceof Boolean) {
+				message.setObjectProperty(key, value);
+			} else {
+				message.setStringProperty(key, value.toString());
+			}
+		}
+	}
+
+	private static void send(MessageProducer producer, Message message, Map<String, Object> headers) throws JMSException {
+		int deliveryMode = DeliveryMode.PERSISTENT;
+		int priority = Message.DEFAULT_PRIORITY;
+		long timeToLive = Message.DEFAULT_TIME_TO_LIVE;
+		if (headers != null) {
+			Integer mode = JmsTypeConverters.toDeliveryMode(headers.get("JMSDeliveryMode"));
+			if (mode != null) {
+				deliveryMode = mode;
+			}
+			Integer prio = JmsTypeConverters.toInteger(headers.get("JMSPriority"));
+			if (prio != null) {
+				priority = prio;
+			}
+			Long expiration = JmsTypeConverters.toTimestamp(headers.get("JMSExpiration"));
+			if (expiration != null && expiration > 0) {
+				// keep the remaining lifetime, already expired messages are sent without expiry
+				timeToLive = Math.max(0L, expiration - System.currentTimeMillis());
+			}
+		}
+		producer.send(message, deliveryMode, priority, timeToLive);
+	}
+
+	static String createSelector(List<String> messageIds) {
+		StringBuilder sb = new StringBuilder("JMSMessageID IN (");
+		for (int i = 0; i < messageIds.size(); i++) {
+			if (i > 0) {
+				sb.append(',');
+			}
+			sb.append('\'').append(messageIds.get(i).replace("'", "''")).append('\'');
+		}
+		return sb.append(')').toString();
+	}
+
+	/**
+	 * returns a session to the pool. After a failure its uncommitted messages
+	 * are rolled back and, as its state is unknown, it is discarded.
+	 */
+	private void release(Session session, boolean failed) {
+		if (failed) {
+			try {
+				session.rollback();
+			} catch (JMSException | RuntimeException e) {
+				// ignore, the original failure is reported
+			}
+			sessionPool.discardSession(session);
+		} else {
+			sessionPool.returnSession(session);
+		}
+	}
+}
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.jmx.activemq.internal;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+
+import javax.management.remote.JMXServiceURL;
+
+import org.fusesource.ide.foundation.core.util.Strings;
+
+/**
+ * turns the OpenWire URL a broker publishes into one a client can connect
+ * to. Connectors usually bind to all interfaces, which is no address to
+ * connect to, so only such wildcard hosts are replaced by the host the JMX
+ * connection to the broker uses.
+ */
+public final class OpenWireURLs {
+
+	public static final String LOCALHOST = "localhost";
+
+	private static final String RMI_REGISTRY_PREFIX = "rmi://";
+
+	private OpenWireURLs() {
+		// util class
+	}
+
+	/**
+	 * @param brokerURL	the OpenWire URL published by the broker
+	 * @param jmxHost	the host of the JMX connection to the broker, null or blank for a local connection
+	 * @return	the URL with a wildcard host replaced, any other URL unchanged
+	 */
+	public static String toConnectableURL(String brokerURL, String jmxHost) {
+		URI uri;
+		try {
+			uri = new URI(brokerURL);
+		} catch (URISyntaxException e) {
+			// composite urls like failover:(...) are passed on as they are
+			return brokerURL;
+		}
+		String authority = uri.getRawAuthority();
+		if (uri.getScheme() == null || authority == null) {
+			return brokerURL;
+		}
+		String port;
+		if (uri.getHost() != null) {
+			if (!isWildcard(uri.getHost())) {
+				return brokerURL;
+			}
+			port = uri.getPort() != -1 ? Integer.toString(uri.getPort()) : null;
+		} else if (authority.startsWith(":")) {
+			// no host at all, e.g. tcp://:61616
+			port = authority.substring(1);
+		} else {
+			// a host name the uri parser does not accept, e.g. with an underscore
+			return brokerURL;
+		}
+		String host = Strings.isBlank(jmxHost) ? LOCALHOST : jmxHost;
+		if (host.indexOf(':') >= 0 && !host.startsWith("[")) {
+			host = "[" + host + "]";
+		}
+		StringBuilder sb = new StringBuilder(uri.getScheme()).append("://");
+		if (uri.getRawUserInfo() != null) {
+			sb.append(uri.getRawUserInfo()).append('@');
+		}
+		sb.append(host);
+		if (!Strings.isBlank(port)) {
+			sb.append(':').append(port);
+		}
+		if (uri.getRawPath() != null) {
+			sb.append(uri.getRawPath());
+		}
+		if (uri.getRawQuery() != null) {
+			sb.append('?').append(uri.getRawQuery());
+		}
+		if (uri.getRawFragment() != null) {
+			sb.append('#').append(uri.getRawFragment());
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * @param url	a JMX service URL
+	 * @return	the host of the URL or of the RMI registry it looks up, null if it names none
+	 */
+	public static String getHost(JMXServiceURL url) {
+		if (!Strings.isBlank(url.getHost())) {
+			return url.getHost();
+		}
+		// service:jmx:rmi:///jndi/rmi://host:port/jmxrmi
+		String path = url.getURLPath();
+		int start = path.indexOf(RMI_REGISTRY_PREFIX);
+		if (start < 0) {
+			return null;
+		}
+		try {
+			String host = new URI(path.substring(start)).getHost();
+			return Strings.isBlank(host) ? null : host;
+		} catch (URISyntaxException e) {
+			return null;
+		}
+	}
+
+	static boolean isWildcard(String host) {
+		switch (host) {
+		case "0.0.0.0":
+		case "::":
+		case "[::]":
+		case "0:0:0:0:0:0:0:0":
+		case "[0:0:0:0:0:0:0:0]":
+			return true;
+		default:
+			return false;
+		}
+	}
+}
@@ -11,33 +11,95 @@
 
 package org.fusesource.ide.jmx.activemq.internal;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.jms.Connection;
 import javax.jms.ConnectionFactory;
+import javax.jms.ExceptionListener;
 import javax.jms.JMSException;
 import javax.jms.Session;
 
 /**
- * @author lhein
+ * A bounded pool of JMS sessions sharing one connection.
+ * <p>
+ * At most {@link #getMaxSize()} sessions are handed out at the same time,
+ * further borrowers wait up to {@link #getBorrowTimeout()} milliseconds for a
+ * session to be returned. Idle sessions are validated on borrow and evicted
+ * once they have been idle longer than {@link #getMaxIdleTime()}. When the
+ * underlying connection fails (e.g. the broker restarted) all sessions created
+ * on it are discarded and a new connection is created transparently on the
+ * next borrow.
+ * </p>
+ * <p>
+ * Transacted sessions are pooled separately from the auto acknowledge ones but
+ * count against the same maximum. Borrowers of a transacted session have to
+ * commit or roll back their work before returning it.
+ * </p>
  *
+ * @author lhein
  */
 public class SessionPool {
 
+    public static final int DEFAULT_MAX_SIZE = 10;
+    public static final long DEFAULT_BORROW_TIMEOUT = 30000L;
+    public static final long DEFAULT_MAX_IDLE_TIME = 5L * 60L * 1000L;
+
     private ConnectionFactory connectionFactory;
     private Connection connection;
-    private LinkedList<Session> sessions = new LinkedList<Session>();
+    /** incremented each time the connection is replaced, sessions of older generations are discarded */
+    private volatile long connectionGeneration;
 
-    public Connection getConnection() throws JMSException {
-        if (checkConnection()) {
-            return connection;
+    private final int maxSize;
+    private long borrowTimeout = DEFAULT_BORROW_TIMEOUT;
+    private long maxIdleTime = DEFAULT_MAX_IDLE_TIME;
+    private final Semaphore permits;
+
+    private final LinkedList<PooledSession> sessions = new LinkedList<>();
+    private final LinkedList<PooledSession> transactedSessions = new LinkedList<>();
+    private final Map<Session, PooledSession> borrowed = new IdentityHashMap<>();
+    private volatile boolean closed;
+
+    private final AtomicLong createdCount = new AtomicLong();
+    private final AtomicLong destroyedCount = new AtomicLong();
+    private final AtomicLong borrowCount = new AtomicLong();
+    private final AtomicLong evictedCount = new AtomicLong();
+    private final AtomicLong validationFailureCount = new AtomicLong();
+    private final AtomicLong reconnectCount = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+    private final AtomicLong totalWaitTime = new AtomicLong();
+
+    public SessionPool() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public SessionPool(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("The session pool size must be at least 1 but was " + maxSize);
         }
+        this.maxSize = maxSize;
+        this.permits = new Semaphore(maxSize, true);
+    }
 
-        synchronized (this) {
-            connection = getConnectionFactory().createConnection();
-            connection.start();
+    public synchronized Connection getConnection() throws JMSException {
+        if (checkConnection()) {
             return connection;
         }
+        if (connection != null) {
+            resetConnection(connection);
+        }
+        Connection newConnection = getConnectionFactory().createConnection();
+        newConnection.setExceptionListener(new ConnectionFailureListener(newConnection));
+        newConnection.start();
+        connection = newConnection;
+        return connection;
     }
 
     private boolean checkConnection() {
@@ -53,7 +115,10 @@ public class SessionPool {
         }
     }
 
-    public void setConnection(Connection connection) {
+    public synchronized void setConnection(Connection connection) {
+        if (this.connection != null && this.connection != connection) {
+            invalidateSessions();
+        }
         this.connection = connection;
     }
 
@@ -68,28 +133,387 @@ public class SessionPool {
         this.connectionFactory = connectionFactory;
     }
 
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @return the maximum time in milliseconds a borrower waits for a free session
+     */
+    public long getBorrowTimeout() {
+        return borrowTimeout;
+    }
+
+    public void setBorrowTimeout(long borrowTimeout) {
+        this.borrowTimeout = borrowTimeout;
+    }
+
+    /**
+     * @return the time in milliseconds after which an unused session is closed, a value &lt;= 0 disables eviction
+     */
+    public long getMaxIdleTime() {
+        return maxIdleTime;
+    }
+
+    public void setMaxIdleTime(long maxIdleTime) {
+        this.maxIdleTime = maxIdleTime;
+    }
+
+    /**
+     * borrows a session from the pool, waiting up to the borrow timeout if all
+     * sessions are in use
+     *
+     * @return a validated session, never null
+     * @throws JMSException if no session could be created or the timeout elapsed
+     */
     public Session borrowSession() throws JMSException {
-        Session answer;
-        synchronized (sessions) {
-            if (sessions.isEmpty()) {
-                answer = createSession();
-            } else {
-                answer = sessions.removeLast();
+        return borrowSession(false);
+    }
+
+    /**
+     * borrows a transacted session from the pool, waiting up to the borrow
+     * timeout if all sessions are in use. The session has to be committed or
+     * rolled back before it is returned.
+     *
+     * @return a validated transacted session, never null
+     * @throws JMSException if no session could be created or the timeout elapsed
+     */
+    public Session borrowTransactedSession() throws JMSException {
+        return borrowSession(true);
+    }
+
+    private Session borrowSession(boolean transacted) throws JMSException {
+        if (closed) {
+            throw new javax.jms.IllegalStateException("The session pool has been closed");
+        }
+        acquirePermit();
+        try {
+            Session answer = pollValidSession(transacted);
+            if (answer == null) {
+                answer = createPooledSession(transacted);
             }
+            borrowCount.incrementAndGet();
+            return answer;
+        } catch (JMSException | RuntimeException e) {
+            permits.release();
+            throw e;
         }
-        return answer;
     }
 
     public void returnSession(Session session) {
-        if (session != null) {
+        if (session == null) {
+            return;
+        }
+        long generation = currentGeneration();
+        PooledSession pooled;
+        boolean keep;
+        synchronized (sessions) {
+            pooled = borrowed.remove(session);
+            if (pooled == null) {
+                // not handed out by this pool (or already returned)
+                return;
+            }
+            keep = !closed && pooled.generation == generation;
+            if (keep) {
+                pooled.lastUsed = System.currentTimeMillis();
+                idleSessions(pooled.transacted).addLast(pooled);
+            }
+        }
+        if (!keep) {
+            destroy(pooled.session);
+        }
+        permits.release();
+        evictIdleSessions();
+    }
+
+    /**
+     * closes a borrowed session instead of returning it to the pool, for
+     * sessions left in an unknown state by a failure
+     *
+     * @param session the borrowed session
+     */
+    public void discardSession(Session session) {
+        if (session == null) {
+            return;
+        }
+        PooledSession pooled;
+        synchronized (sessions) {
+            pooled = borrowed.remove(session);
+        }
+        if (pooled != null) {
+            destroy(pooled.session);
+            permits.release();
+        }
+    }
+
+    /**
+     * closes all sessions which have been idle longer than the max idle time
+     *
+     * @return the number of evicted sessions
+     */
+    public int evictIdleSessions() {
+        if (maxIdleTime <= 0) {
+            return 0;
+        }
+        long threshold = System.currentTimeMillis() - maxIdleTime;
+        List<Session> evicted = new ArrayList<>();
+        synchronized (sessions) {
+            collectIdleSessions(sessions, threshold, evicted);
+            collectIdleSessions(transactedSessions, threshold, evicted);
+        }
+        for (Session session : evicted) {
+            evictedCount.incrementAndGet();
+            destroy(session);
+        }
+        return evicted.size();
+    }
+
+    /**
+     * closes all pooled sessions and the connection. Sessions still borrowed
+     * are closed when they are returned.
+     */
+    public void close() {
+        closed = true;
+        invalidateSessions();
+        Connection toClose;
+        synchronized (this) {
+            toClose = connection;
+            connection = null;
+        }
+        closeQuietly(toClose);
+    }
+
+    public int getIdleCount() {
+        synchronized (sessions) {
+            return sessions.size() + transactedSessions.size();
+        }
+    }
+
+    public int getActiveCount() {
+        synchronized (sessions) {
+            return borrowed.size();
+        }
+    }
+
+    public long getCreatedCount() {
+        return createdCount.get();
+    }
+
+    public long getDestroyedCount() {
+        return destroyedCount.get();
+    }
+
+    public long getBorrowCount() {
+        return borrowCount.get();
+    }
+
+    public long getEvictedCount() {
+        return evictedCount.get();
+    }
+
+    public long getValidationFailureCount() {
+        return validationFailureCount.get();
+    }
+
+    public long getReconnectCount() {
+        return reconnectCount.get();
+    }
+
+    public long getTimeoutCount() {
+        return timeoutCount.get();
+    }
+
+    /**
+     * @return the accumulated time in milliseconds borrowers spent waiting for a free session
+     */
+    public long getTotalWaitTime() {
+        return totalWaitTime.get();
+    }
+
+    @Override
+    public String toString() {
+        return "SessionPool[max=" + maxSize + ", active=" + getActiveCount() + ", idle=" + getIdleCount()
+                + ", created=" + getCreatedCount() + ", destroyed=" + getDestroyedCount()
+                + ", evicted=" + getEvictedCount() + ", validationFailures=" + getValidationFailureCount()
+                + ", reconnects=" + getReconnectCount() + ", timeouts=" + getTimeoutCount() + "]";
+    }
+
+    protected Session createSession(boolean transacted) throws JMSException {
+        return transacted
+                ? getConnection().createSession(true, Session.SESSION_TRANSACTED)
+                : getConnection().createSession(false, Session.AUTO_ACKNOWLEDGE);
+    }
+
+    /**
+     * checks whether the session is still usable. Sessions of a closed
+     * connection throw an exception on any method call.
+     */
+    protected boolean validateSession(Session session) {
+        try {
+            session.getAcknowledgeMode();
+            return true;
+        } catch (JMSException | RuntimeException e) {
+            return false;
+        }
+    }
+
+    private void acquirePermit() throws JMSException {
+        long start = System.currentTimeMillis();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(borrowTimeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            JMSException jmsException = new JMSException("Interrupted while waiting for a JMS session");
+            jmsException.initCause(e);
+            throw jmsException;
+        }
+        totalWaitTime.addAndGet(System.currentTimeMillis() - start);
+        if (!acquired) {
+            timeoutCount.incrementAndGet();
+            throw new JMSException("Timed out after " + borrowTimeout + " ms waiting for one of the " + maxSize + " pooled JMS sessions");
+        }
+    }
+
+    private Session pollValidSession(boolean transacted) {
+        while (true) {
+            PooledSession candidate;
             synchronized (sessions) {
-                sessions.add(session);
+                candidate = idleSessions(transacted).pollLast();
+                if (candidate == null) {
+                    return null;
+                }
+            }
+            if (candidate.generation == currentGeneration() && validateSession(candidate.session)) {
+                synchronized (sessions) {
+                    borrowed.put(candidate.session, candidate);
+                }
+                return candidate.session;
+            }
+            validationFailureCount.incrementAndGet();
+            destroy(candidate.session);
+        }
+    }
+
+    private Session createPooledSession(boolean transacted) throws JMSException {
+        long generation;
+        Session session;
+        try {
+            synchronized (this) {
+                session = createSession(transacted);
+                generation = connectionGeneration;
+            }
+        } catch (JMSException e) {
+            // the connection may have died without notifying us, retry once on a fresh one
+            synchronized (this) {
+                if (connection != null) {
+                    resetConnection(connection);
+                }
+                session = createSession(transacted);
+                generation = connectionGeneration;
+            }
+        }
+        createdCount.incrementAndGet();
+        PooledSession pooled = new PooledSession(session, generation, transacted);
+        synchronized (sessions) {
+            borrowed.put(session, pooled);
+        }
+        return session;
+    }
+
+    // callers hold the lock of the sessions list
+    private LinkedList<PooledSession> idleSessions(boolean transacted) {
+        return transacted ? transactedSessions : sessions;
+    }
+
+    private static void collectIdleSessions(List<PooledSession> idle, long threshold, List<Session> evicted) {
+        Iterator<PooledSession> it = idle.iterator();
+        while (it.hasNext()) {
+            PooledSession pooled = it.next();
+            if (pooled.lastUsed <= threshold) {
+                it.remove();
+                evicted.add(pooled.session);
             }
         }
     }
 
-    protected Session createSession() throws JMSException {
-        return getConnection().createSession(false, Session.AUTO_ACKNOWLEDGE);
+    private long currentGeneration() {
+        return connectionGeneration;
+    }
+
+    /**
+     * drops the given connection if it is still the current one and discards
+     * all sessions created on it
+     */
+    private synchronized void resetConnection(Connection failed) {
+        if (connection != failed) {
+            return;
+        }
+        connection = null;
+        reconnectCount.incrementAndGet();
+        invalidateSessions();
+        closeQuietly(failed);
+    }
+
+    private void invalidateSessions() {
+        List<PooledSession> idle;
+        synchronized (this) {
+            connectionGeneration++;
+        }
+        synchronized (sessions) {
+            idle = new ArrayList<>(sessions);
+            idle.addAll(transactedSessions);
+            sessions.clear();
+            transactedSessions.clear();
+        }
+        for (PooledSession pooled : idle) {
+            destroy(pooled.session);
+        }
     }
 
+    private void destroy(Session session) {
+        destroyedCount.incrementAndGet();
+        try {
+            session.close();
+        } catch (JMSException | RuntimeException e) {
+            // ignore, the session is dead anyway
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (JMSException | RuntimeException e) {
+            // ignore, the connection is dead anyway
+        }
+    }
+
+    private static class PooledSession {
+        private final Session session;
+        private final long generation;
+        private final boolean transacted;
+        private long lastUsed = System.currentTimeMillis();
+
+        PooledSession(Session session, long generation, boolean transacted) {
+            this.session = session;
+            this.generation = generation;
+            this.transacted = transacted;
+        }
+    }
+
+    private class ConnectionFailureListener implements ExceptionListener {
+        private final Connection listenedConnection;
+
+        ConnectionFailureListener(Connection listenedConnection) {
+            this.listenedConnection = listenedConnection;
+        }
+
+        @Override
+        public void onException(JMSException exception) {
+            resetConnection(listenedConnection);
+        }
+    }
 }
@@ -10,6 +10,9 @@
  ******************************************************************************/
 package org.fusesource.ide.jmx.activemq.jmx.content.navigator.providers;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.jface.viewers.ITreeContentProvider;
 import org.eclipse.jface.viewers.Viewer;
 import org.fusesource.ide.foundation.ui.tree.NodeSupport;
@@ -24,10 +27,14 @@ import org.jboss.tools.jmx.core.tree.Root;
 
 public class ActiveMQNodeContentProvider implements ITreeContentProvider {
 
-	@Override
-	public void dispose() {
-		// TODO Auto-generated method stub
+	private final Map<IConnectionWrapper, BrokerNode> brokers = new HashMap<>();
 
+	@Override
+	public synchronized void dispose() {
+		for (BrokerNode broker : brokers.values()) {
+			broker.dispose();
+		}
+		brokers.clear();
 	}
 
 	@Override
@@ -48,6 +55,11 @@ public class ActiveMQNodeContentProvider implements ITreeContentProvider {
 			Root r = w.getRoot();
 			if( r != null ) {
 				if (r.containsDomain("org.apache.activemq")) {
+					BrokerNode existing = getBroker(w, r);
+					if (existing != null) {
+						// keep the node and its JMS connection as long as the JMX tree is the same
+						return new Object[]{existing};
+					}
 					BrokerFacade facade = new JmxTemplateBrokerFacade(new JmxPluginJmxTemplate(r.getConnection()));
 					String brokerName = null;
 					try {
@@ -59,6 +71,7 @@ public class ActiveMQNodeContentProvider implements ITreeContentProvider {
 						brokerName = "Broker";
 					}
 					BrokerNode broker = new BrokerNode(r, facade, brokerName);
+					replaceBroker(w, broker);
 					return new Object[]{broker};
 				}
 			}
@@ -69,6 +82,18 @@ public class ActiveMQNodeContentProvider implements ITreeContentProvider {
 		return new Object[0];
 	}
 
+	private synchronized BrokerNode getBroker(IConnectionWrapper connection, Root root) {
+		BrokerNode broker = brokers.get(connection);
+		return broker != null && broker.getParent() == root ? broker : null;
+	}
+
+	private synchronized void replaceBroker(IConnectionWrapper connection, BrokerNode broker) {
+		BrokerNode previous = brokers.put(connection, broker);
+		if (previous != null && previous != broker) {
+			previous.dispose();
+		}
+	}
+
 	@Override
 	public Object getParent(Object element) {
 		// TODO Auto-generated method stub
@@ -11,12 +11,27 @@
 
 package org.fusesource.ide.jmx.activemq.navigator;
 
+import java.net.MalformedURLException;
+
+import javax.jms.JMSException;
+import javax.management.remote.JMXServiceURL;
+
+import org.apache.activemq.ActiveMQConnectionFactory;
 import org.eclipse.swt.graphics.Image;
+import org.fusesource.ide.foundation.core.util.Strings;
 import org.fusesource.ide.foundation.ui.tree.NodeSupport;
 import org.fusesource.ide.foundation.ui.tree.Refreshable;
 import org.fusesource.ide.jmx.activemq.ActiveMQJMXPlugin;
 import org.fusesource.ide.jmx.activemq.internal.BrokerFacade;
+import org.fusesource.ide.jmx.activemq.internal.OpenWireURLs;
+import org.fusesource.ide.jmx.activemq.internal.SessionPool;
+import org.jboss.tools.jmx.core.IConnectionProvider;
+import org.jboss.tools.jmx.core.IConnectionProviderListener;
+import org.jboss.tools.jmx.core.IConnectionWrapper;
+import org.jboss.tools.jmx.core.providers.DefaultConnectionWrapper;
 import org.jboss.tools.jmx.core.tree.Node;
+import org.jboss.tools.jmx.jvmmonitor.core.IActiveJvm;
+import org.jboss.tools.jmx.jvmmonitor.core.IJvmFacade;
 import org.jboss.tools.jmx.ui.ImageProvider;
 
 import com.google.common.base.Objects;
@@ -29,6 +44,29 @@ public class BrokerNode extends NodeSupport implements ImageProvider, Refreshabl
 	private final String brokerName;
 	private String userName;
 	private String password;
+	private SessionPool sessionPool;
+	private IConnectionProvider connectionProvider;
+	private final IConnectionProviderListener connectionListener = new IConnectionProviderListener() {
+
+		@Override
+		public void connectionAdded(IConnectionWrapper connection) {
+			// ignore
+		}
+
+		@Override
+		public void connectionChanged(IConnectionWrapper connection) {
+			if (connection == getConnection() && !connection.isConnected()) {
+				dispose();
+			}
+		}
+
+		@Override
+		public void connectionRemoved(IConnectionWrapper connection) {
+			if (connection == getConnection()) {
+				dispose();
+			}
+		}
+	};
 
 	public BrokerNode(Node parent, BrokerFacade facade, String brokerName) {
 		super(parent);
@@ -64,6 +102,7 @@ public class BrokerNode extends NodeSupport implements ImageProvider, Refreshabl
 		// so we can't easily find the nodes to expand again.
 		//
 		// refreshParent();
+		resetSessionPool();
 		if (getParent() instanceof Refreshable) {
 			Refreshable refreshable = (Refreshable) getParent();
 			refreshable.refresh();
@@ -85,10 +124,99 @@ public class BrokerNode extends NodeSupport implements ImageProvider, Refreshabl
 
 	public void setUserName(String userName) {
 		this.userName = userName;
+		resetSessionPool();
 	}
 
 	public void setPassword(String password) {
 		this.password = password;
+		resetSessionPool();
+	}
+
+	/**
+	 * returns a pool of JMS sessions connected to the OpenWire connector of
+	 * this broker
+	 *
+	 * @return	the session pool or null if the broker does not expose an OpenWire URL
+	 */
+	public synchronized SessionPool getSessionPool() {
+		if (sessionPool == null) {
+			try {
+				String brokerURL = facade.getBrokerAdmin().getOpenWireURL();
+				if (!Strings.isBlank(brokerURL)) {
+					ActiveMQConnectionFactory connectionFactory = new ActiveMQConnectionFactory(userName, password, OpenWireURLs.toConnectableURL(brokerURL, getJmxHost()));
+					sessionPool = new SessionPool();
+					sessionPool.setConnectionFactory(connectionFactory);
+					// close the JMS connection together with the JMX connection
+					IConnectionWrapper connection = getConnection();
+					connectionProvider = connection != null ? connection.getProvider() : null;
+					if (connectionProvider != null) {
+						connectionProvider.addListener(connectionListener);
+					}
+				}
+			} catch (Exception e) {
+				ActiveMQJMXPlugin.getLogger().warning("Failed to determine the OpenWire URL of broker " + brokerName + ": " + e, e);
+			}
+		}
+		return sessionPool;
+	}
+
+	/**
+	 * returns the session pool if its JMS connection can be established. This
+	 * may block while connecting, so don't call it from the UI thread.
+	 *
+	 * @return	the connected session pool or null if the broker can only be reached through JMX
+	 */
+	public SessionPool getConnectedSessionPool() {
+		SessionPool pool = getSessionPool();
+		if (pool != null) {
+			try {
+				pool.getConnection();
+			} catch (JMSException | RuntimeException e) {
+				ActiveMQJMXPlugin.getLogger().warning("Could not connect to the OpenWire connector of broker " + brokerName + ", falling back to JMX: " + e, e);
+				return null;
+			}
+		}
+		return pool;
+	}
+
+	/**
+	 * closes the JMS connection of this node, called when the node is
+	 * replaced or its JMX connection goes away
+	 */
+	public void dispose() {
+		resetSessionPool();
+	}
+
+	private synchronized void resetSessionPool() {
+		if (connectionProvider != null) {
+			connectionProvider.removeListener(connectionListener);
+			connectionProvider = null;
+		}
+		if (sessionPool != null) {
+			sessionPool.close();
+			sessionPool = null;
+		}
+	}
+
+	/**
+	 * @return	the host the JMX connection to this broker uses or null if it is unknown
+	 */
+	private String getJmxHost() {
+		IConnectionWrapper connection = getConnection();
+		if (connection instanceof DefaultConnectionWrapper) {
+			String url = ((DefaultConnectionWrapper) connection).getDescriptor().getURL();
+			try {
+				return OpenWireURLs.getHost(new JMXServiceURL(url));
+			} catch (MalformedURLException e) {
+				ActiveMQJMXPlugin.getLogger().warning("Invalid JMX service URL " + url + ": " + e, e);
+			}
+		} else if (connection instanceof IJvmFacade) {
+			IActiveJvm jvm = ((IJvmFacade) connection).getActiveJvm();
+			if (jvm != null && jvm.getHost() != null) {
+				return jvm.getHost().getName();
+			}
+		}
+		return null;
 	}
 
 	/**
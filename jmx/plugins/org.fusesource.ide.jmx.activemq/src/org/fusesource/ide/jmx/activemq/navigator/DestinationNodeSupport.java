@@ -14,11 +14,18 @@ package org.fusesource.ide.jmx.activemq.navigator;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 
 import org.apache.activemq.broker.jmx.DestinationViewMBean;
+import org.apache.activemq.broker.jmx.TopicViewMBean;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.swt.dnd.DropTargetEvent;
 import org.fusesource.ide.foundation.core.util.Objects;
 import org.fusesource.ide.foundation.core.util.Strings;
@@ -26,6 +33,8 @@ import org.fusesource.ide.foundation.ui.drop.DropHandler;
 import org.fusesource.ide.foundation.ui.drop.DropHandlerFactory;
 import org.fusesource.ide.foundation.ui.tree.NodeSupport;
 import org.fusesource.ide.jmx.activemq.ActiveMQJMXPlugin;
+import org.fusesource.ide.jmx.activemq.internal.BulkMessageTransfer;
+import org.fusesource.ide.jmx.activemq.internal.SessionPool;
 import org.fusesource.ide.jmx.commons.messages.IExchange;
 import org.fusesource.ide.jmx.commons.messages.IMessage;
 import org.fusesource.ide.jmx.commons.tree.MessageDropHandler;
@@ -63,6 +72,18 @@ public abstract class DestinationNodeSupport extends NodeSupport implements Mess
 
 	@Override
 	public void dropMessage(IMessage message) {
+		try {
+			sendThroughJmx(message);
+		} catch (Exception e) {
+			ActiveMQJMXPlugin.showUserError("Send message to " + this + " failed", "Could not send message to " + this, e);
+		}
+	}
+
+	/**
+	 * sends a message with the sendTextMessage operation of the destination
+	 * mbean, which works without access to the OpenWire connector
+	 */
+	protected void sendThroughJmx(IMessage message) throws Exception {
 		Map<String, Object> headers = message.getHeaders();
 		Map<String, String> cleanHeaders = new HashMap<>();
 		Set<Entry<String, Object>> entrySet = headers.entrySet();
@@ -93,20 +114,58 @@ public abstract class DestinationNodeSupport extends NodeSupport implements Mess
 
 		String body = Strings.getOrElse(message.getBody());
 
-		try {
-			// TODO store username/pwd on a queue basis?
-			String userName = getBrokerNode().getUserName();
-			String password = getBrokerNode().getPassword();
-			if (userName != null && password != null) {
-				destination.sendTextMessage(cleanHeaders, body, userName, password);
-			} else {
-				destination.sendTextMessage(cleanHeaders, body);
+		// TODO store username/pwd on a queue basis?
+		String userName = getBrokerNode().getUserName();
+		String password = getBrokerNode().getPassword();
+		if (userName != null && password != null) {
+			destination.sendTextMessage(cleanHeaders, body, userName, password);
+		} else {
+			destination.sendTextMessage(cleanHeaders, body);
+		}
+	}
+
+	@Override
+	public void dropMessages(final List<IMessage> messages) {
+		if (messages.size() == 1) {
+			dropMessage(messages.get(0));
+			return;
+		}
+		Job job = new Job("Sending " + messages.size() + " messages to " + this) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				SessionPool sessionPool = getBrokerNode().getConnectedSessionPool();
+				try {
+					if (sessionPool != null) {
+						new BulkMessageTransfer(sessionPool).sendMessages(messages, getName(), isTopic(), monitor);
+					} else {
+						// no JMS access to the broker, fall back to sending through JMX
+						sendThroughJmx(messages, monitor);
+					}
+				} catch (Exception e) {
+					return new Status(IStatus.ERROR, ActiveMQJMXPlugin.PLUGIN_ID, "Could not send messages to " + DestinationNodeSupport.this, e);
+				}
+				return monitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
 			}
-		} catch (Exception e) {
-			ActiveMQJMXPlugin.showUserError("Send message to " + this + " failed", "Could not send message to " + this, e);
+		};
+		job.setUser(true);
+		job.schedule();
+	}
+
+	private void sendThroughJmx(List<IMessage> messages, IProgressMonitor monitor) throws Exception {
+		SubMonitor progress = SubMonitor.convert(monitor, "Sending " + messages.size() + " messages to " + getName(), messages.size());
+		for (IMessage message : messages) {
+			if (progress.isCanceled()) {
+				return;
+			}
+			sendThroughJmx(message);
+			progress.worked(1);
 		}
 	}
 
+	protected boolean isTopic() {
+		return destination instanceof TopicViewMBean;
+	}
+
 	public BrokerNode getBrokerNode() {
 		return brokerNode;
 	}
@@ -18,13 +18,23 @@ import java.util.Objects;
 
 import javax.management.openmbean.CompositeData;
 
+import javax.jms.JMSException;
+
 import org.apache.activemq.broker.jmx.QueueViewMBean;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jface.action.Action;
 import org.eclipse.jface.action.IMenuManager;
+import org.eclipse.jface.dialogs.InputDialog;
 import org.eclipse.jface.dialogs.MessageDialog;
+import org.eclipse.jface.window.Window;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.ui.views.properties.IPropertySourceProvider;
+import org.fusesource.ide.foundation.core.util.Strings;
 import org.fusesource.ide.foundation.ui.tree.ConnectedNode;
 import org.fusesource.ide.foundation.ui.tree.GraphableNode;
 import org.fusesource.ide.foundation.ui.util.ContextMenuProvider;
@@ -33,6 +43,8 @@ import org.fusesource.ide.jmx.activemq.ActiveMQConverter;
 import org.fusesource.ide.jmx.activemq.ActiveMQJMXPlugin;
 import org.fusesource.ide.jmx.activemq.Messages;
 import org.fusesource.ide.jmx.activemq.internal.BrokerFacade;
+import org.fusesource.ide.jmx.activemq.internal.BulkMessageTransfer;
+import org.fusesource.ide.jmx.activemq.internal.BulkMessageTransfer.Mode;
 import org.fusesource.ide.jmx.commons.messages.IExchange;
 import org.fusesource.ide.jmx.commons.messages.IExchangeBrowser;
 import org.jboss.tools.jmx.core.tree.Node;
@@ -124,6 +136,62 @@ public class QueueNode extends DestinationNodeSupport implements IExchangeBrowse
 		deleteQueueAction.setImageDescriptor(ActiveMQJMXPlugin.getDefault().getImageDescriptor("delete.gif"));
 		menu.add(deleteQueueAction);
 
+		Action copyMessagesAction = new Action(Messages.CopyMessagesAction, SWT.CHECK) {
+			@Override
+			public void run() {
+				showTransferMessagesDialog(Mode.COPY);
+			}
+		};
+		copyMessagesAction.setToolTipText(Messages.CopyMessagesActionToolTip);
+		menu.add(copyMessagesAction);
+
+		Action moveMessagesAction = new Action(Messages.MoveMessagesAction, SWT.CHECK) {
+			@Override
+			public void run() {
+				showTransferMessagesDialog(Mode.MOVE);
+			}
+		};
+		moveMessagesAction.setToolTipText(Messages.MoveMessagesActionToolTip);
+		menu.add(moveMessagesAction);
+	}
+
+	protected void showTransferMessagesDialog(Mode mode) {
+		String title = mode == Mode.MOVE ? Messages.MoveMessagesDialogTitle : Messages.CopyMessagesDialogTitle;
+		String message = Messages.bind(mode == Mode.MOVE ? Messages.MoveMessagesDialogMessage : Messages.CopyMessagesDialogMessage, queue.getName());
+		InputDialog dialog = new InputDialog(Shells.getShell(), title, message, "", null);
+		if (dialog.open() == Window.OK && !Strings.isBlank(dialog.getValue())) {
+			transferMessages(dialog.getValue().trim(), mode);
+		}
+	}
+
+	/**
+	 * copies or moves all messages of this queue to another queue in a
+	 * background job
+	 *
+	 * @param targetQueue	the name of the target queue
+	 * @param mode		copy or move
+	 */
+	protected void transferMessages(final String targetQueue, final Mode mode) {
+		final BulkMessageTransfer transfer = new BulkMessageTransfer(getBrokerNode().getSessionPool());
+		Job job = new Job((mode == Mode.MOVE ? "Moving messages from " : "Copying messages from ") + queue.getName() + " to " + targetQueue) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				int transferred;
+				try {
+					transferred = transfer.transferAllMessages(queue, targetQueue, mode, monitor);
+				} catch (JMSException e) {
+					return new Status(IStatus.ERROR, ActiveMQJMXPlugin.PLUGIN_ID, "Could not transfer messages from " + queue.getName() + " to " + targetQueue, e);
+				} finally {
+					Display.getDefault().asyncExec(queuesNode::refresh);
+				}
+				if (monitor.isCanceled()) {
+					return Status.CANCEL_STATUS;
+				}
+				return new Status(IStatus.OK, ActiveMQJMXPlugin.PLUGIN_ID, (mode == Mode.MOVE ? "Moved " : "Copied ") + transferred + " messages from " + queue.getName() + " to " + targetQueue);
+			}
+		};
+		job.setUser(true);
+		job.schedule();
 	}
 
 	protected void showDeleteQueueDialog() {
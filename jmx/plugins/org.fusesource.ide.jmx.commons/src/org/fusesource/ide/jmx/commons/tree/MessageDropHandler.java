@@ -12,6 +12,8 @@
 package org.fusesource.ide.jmx.commons.tree;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
 
 import javax.xml.bind.JAXBException;
 
@@ -19,6 +21,7 @@ import org.eclipse.core.resources.IFile;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.content.IContentDescription;
 import org.eclipse.core.runtime.content.IContentType;
+import org.eclipse.swt.dnd.DropTargetEvent;
 import org.eclipse.ui.IViewPart;
 import org.eclipse.ui.IWorkbenchPage;
 import org.fusesource.ide.foundation.core.util.IFiles;
@@ -36,11 +39,37 @@ import org.fusesource.ide.jmx.commons.views.messages.MessagesView;
 
 public class MessageDropHandler extends DropHandlerSupport {
 	private final MessageDropTarget target;
+	private List<IMessage> droppedMessages;
 
 	public MessageDropHandler(MessageDropTarget target) {
 		this.target = target;
 	}
 
+	@Override
+	public void drop(DropTargetEvent event) {
+		// collect all messages of this drop so the target can send them in one go
+		droppedMessages = new ArrayList<>();
+		List<IMessage> messages;
+		try {
+			super.drop(event);
+		} finally {
+			messages = droppedMessages;
+			droppedMessages = null;
+		}
+		if (!messages.isEmpty()) {
+			target.dropMessages(messages);
+			refreshMessagesView();
+		}
+	}
+
+	@Override
+	public void unknownType(String kind, Object data) {
+		IMessage message = Exchanges.toMessage(data);
+		if (message != null) {
+			dropMessage(message);
+		}
+	}
+
 	@Override
 	public void dropIFile(IFile resource) {
 		try {
@@ -116,16 +145,23 @@ public class MessageDropHandler extends DropHandlerSupport {
 
 	public void dropMessage(IMessage message) {
 		if (message != null) {
+			if (droppedMessages != null) {
+				droppedMessages.add(message);
+				return;
+			}
 			target.dropMessage(message);
+			refreshMessagesView();
+		}
+	}
 
-			// lets try refresh the related views
-			IWorkbenchPage activeWorkbenchPage = Workbenches.getActiveWorkbenchPage();
-			if (activeWorkbenchPage != null) {
-				IViewPart view = activeWorkbenchPage.findView(MessagesView.ID);
-				if (view instanceof MessagesView) {
-					ColumnViewSupport messageView = (ColumnViewSupport) view;
-					messageView.refresh();
-				}
+	protected void refreshMessagesView() {
+		// lets try refresh the related views
+		IWorkbenchPage activeWorkbenchPage = Workbenches.getActiveWorkbenchPage();
+		if (activeWorkbenchPage != null) {
+			IViewPart view = activeWorkbenchPage.findView(MessagesView.ID);
+			if (view instanceof MessagesView) {
+				ColumnViewSupport messageView = (ColumnViewSupport) view;
+				messageView.refresh();
 			}
 		}
 	}
@@ -11,8 +11,22 @@
 
 package org.fusesource.ide.jmx.commons.tree;
 
+import java.util.List;
+
 import org.fusesource.ide.jmx.commons.messages.IMessage;
 
 public interface MessageDropTarget {
 	public void dropMessage(IMessage message);
+
+	/**
+	 * drops all messages of a single drag and drop operation. Targets which
+	 * can send in bulk should override this, the default sends one by one.
+	 *
+	 * @param messages	the dropped messages
+	 */
+	public default void dropMessages(List<IMessage> messages) {
+		for (IMessage message : messages) {
+			dropMessage(message);
+		}
+	}
 }
@@ -0,0 +1,195 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.jmx.activemq.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.lang.reflect.Proxy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.List;
+
+import javax.jms.JMSException;
+import javax.jms.QueueBrowser;
+import javax.jms.Session;
+import javax.jms.TextMessage;
+import javax.management.ReflectionException;
+
+import org.apache.activemq.ActiveMQConnectionFactory;
+import org.apache.activemq.broker.BrokerService;
+import org.apache.activemq.broker.jmx.QueueViewMBean;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.fusesource.ide.jmx.activemq.internal.BulkMessageTransfer.Mode;
+import org.fusesource.ide.jmx.commons.messages.Message;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BulkMessageTransferTest {
+
+	private static final String BROKER_NAME = "bulkMessageTransferTest";
+
+	private BrokerService broker;
+	private SessionPool pool;
+
+	@Before
+	public void setup() throws Exception {
+		broker = new BrokerService();
+		broker.setBrokerName(BROKER_NAME);
+		broker.setPersistent(false);
+		broker.setUseJmx(false);
+		broker.setUseShutdownHook(false);
+		broker.start();
+		broker.waitUntilStarted();
+		pool = new SessionPool();
+		pool.setConnectionFactory(new ActiveMQConnectionFactory("vm://" + BROKER_NAME + "?create=false"));
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		pool.close();
+		broker.stop();
+		broker.waitUntilStopped();
+	}
+
+	@Test
+	public void testSendMessagesInBatches() throws Exception {
+		BulkMessageTransfer transfer = new BulkMessageTransfer(pool);
+		transfer.setBatchSize(100);
+		transfer.setCommitInterval(30);
+
+		int sent = transfer.sendMessages(createMessages(250), "bulk.send", false, new NullProgressMonitor());
+
+		assertThat(sent).isEqualTo(250);
+		List<TextMessage> received = browse("bulk.send");
+		assertThat(received).hasSize(250);
+		assertThat(received.get(0).getText()).isEqualTo("body-0");
+		assertThat(received.get(0).getStringProperty("index")).isEqualTo("0");
+		// all batches reuse one pooled transacted session, browsing adds a plain one
+		assertThat(pool.getCreatedCount()).isEqualTo(2);
+		assertThat(pool.getActiveCount()).isZero();
+	}
+
+	@Test
+	public void testCancelRollsBackUncommittedMessages() throws Exception {
+		BulkMessageTransfer transfer = new BulkMessageTransfer(pool);
+		transfer.setCommitInterval(10);
+		// cancels once a quarter of the work is done, whatever scaling the sub monitors use
+		NullProgressMonitor monitor = new NullProgressMonitor() {
+			private double total;
+			private double done;
+
+			@Override
+			public void beginTask(String name, int totalWork) {
+				total = totalWork;
+			}
+
+			@Override
+			public void worked(int work) {
+				internalWorked(work);
+			}
+
+			@Override
+			public void internalWorked(double work) {
+				done += work;
+				if (done >= total / 4) {
+					setCanceled(true);
+				}
+			}
+		};
+
+		int sent = transfer.sendMessages(createMessages(100), "bulk.cancel", false, monitor);
+
+		assertThat(sent).isEqualTo(20);
+		assertThat(browse("bulk.cancel")).hasSize(20);
+	}
+
+	@Test
+	public void testTransferAllFallsBackToJmsIfTheBrokerOperationIsUnsupported() throws Exception {
+		BulkMessageTransfer transfer = new BulkMessageTransfer(pool);
+		transfer.setBatchSize(100);
+		transfer.sendMessages(createMessages(250), "bulk.source", false, new NullProgressMonitor());
+
+		int copied = transfer.transferAllMessages(queueView("bulk.source", 250, new ReflectionException(new NoSuchMethodException())), "bulk.target", Mode.COPY, new NullProgressMonitor());
+
+		assertThat(copied).isEqualTo(250);
+		assertThat(browse("bulk.target")).hasSize(250);
+		assertThat(browse("bulk.source")).hasSize(250);
+	}
+
+	@Test
+	public void testTransferAllDoesNotResendIfTheBrokerOperationFailed() throws Exception {
+		BulkMessageTransfer transfer = new BulkMessageTransfer(pool);
+		transfer.sendMessages(createMessages(10), "bulk.failed", false, new NullProgressMonitor());
+
+		try {
+			transfer.transferAllMessages(queueView("bulk.failed", 10, new IllegalStateException("failed after a partial copy")), "bulk.failed.target", Mode.COPY, new NullProgressMonitor());
+			fail("the broker failure has to be reported");
+		} catch (JMSException expected) {
+			assertThat(expected.getLinkedException()).isInstanceOf(IllegalStateException.class);
+		}
+		assertThat(browse("bulk.failed.target")).isEmpty();
+	}
+
+	@Test
+	public void testCreateSelectorEscapesQuotes() throws Exception {
+		assertThat(BulkMessageTransfer.createSelector(Arrays.asList("ID:a-1", "ID:b'2")))
+			.isEqualTo("JMSMessageID IN ('ID:a-1','ID:b''2')");
+	}
+
+	private static List<Message> createMessages(int count) {
+		List<Message> messages = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			Message message = new Message("body-" + i);
+			message.getHeaders().put("index", String.valueOf(i));
+			messages.add(message);
+		}
+		return messages;
+	}
+
+	/**
+	 * a queue view whose copy and move operations fail with the given exception
+	 */
+	private static QueueViewMBean queueView(String name, long size, Exception failure) {
+		return (QueueViewMBean) Proxy.newProxyInstance(QueueViewMBean.class.getClassLoader(), new Class<?>[] { QueueViewMBean.class }, (proxy, method, args) -> {
+			switch (method.getName()) {
+			case "getName":
+				return name;
+			case "getQueueSize":
+				return size;
+			case "copyMatchingMessagesTo":
+			case "moveMatchingMessagesTo":
+				throw failure;
+			default:
+				throw new UnsupportedOperationException(method.getName());
+			}
+		});
+	}
+
+	private List<TextMessage> browse(String queue) throws Exception {
+		List<TextMessage> answer = new ArrayList<>();
+		Session session = pool.borrowSession();
+		try {
+			QueueBrowser browser = session.createBrowser(session.createQueue(queue));
+			Enumeration<?> iter = browser.getEnumeration();
+			while (iter.hasMoreElements()) {
+				answer.add((TextMessage) iter.nextElement());
+			}
+			browser.close();
+		} finally {
+			pool.returnSession(session);
+		}
+		return answer;
+	}
+}
@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.jmx.activemq.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.management.remote.JMXServiceURL;
+
+import org.junit.Test;
+
+public class OpenWireURLsTest {
+
+	@Test
+	public void testWildcardHostIsReplacedByJmxHost() throws Exception {
+		assertThat(OpenWireURLs.toConnectableURL("tcp://0.0.0.0:61616?maximumConnections=1000", "broker.example.com"))
+			.isEqualTo("tcp://broker.example.com:61616?maximumConnections=1000");
+		assertThat(OpenWireURLs.toConnectableURL("tcp://[::]:61616", "broker.example.com")).isEqualTo("tcp://broker.example.com:61616");
+		assertThat(OpenWireURLs.toConnectableURL("tcp://:61616", "10.0.0.5")).isEqualTo("tcp://10.0.0.5:61616");
+	}
+
+	@Test
+	public void testWildcardHostOfLocalConnectionIsReplacedByLocalhost() throws Exception {
+		assertThat(OpenWireURLs.toConnectableURL("tcp://0.0.0.0:61616", null)).isEqualTo("tcp://localhost:61616");
+	}
+
+	@Test
+	public void testIPv6JmxHostIsBracketed() throws Exception {
+		assertThat(OpenWireURLs.toConnectableURL("nio://0.0.0.0:61616", "fe80::1")).isEqualTo("nio://[fe80::1]:61616");
+	}
+
+	@Test
+	public void testRemoteHostIsKept() throws Exception {
+		assertThat(OpenWireURLs.toConnectableURL("tcp://broker.example.com:61616", "localhost")).isEqualTo("tcp://broker.example.com:61616");
+		assertThat(OpenWireURLs.toConnectableURL("tcp://my_broker:61616", "localhost")).isEqualTo("tcp://my_broker:61616");
+		assertThat(OpenWireURLs.toConnectableURL("failover:(tcp://0.0.0.0:61616)", "localhost")).isEqualTo("failover:(tcp://0.0.0.0:61616)");
+	}
+
+	@Test
+	public void testGetHostOfJmxServiceURL() throws Exception {
+		assertThat(OpenWireURLs.getHost(new JMXServiceURL("service:jmx:rmi:///jndi/rmi://broker.example.com:1099/karaf-root"))).isEqualTo("broker.example.com");
+		assertThat(OpenWireURLs.getHost(new JMXServiceURL("service:jmx:jmxmp://10.0.0.5:9999"))).isEqualTo("10.0.0.5");
+		assertThat(OpenWireURLs.getHost(new JMXServiceURL("service:jmx:rmi:///jndi/jmxrmi"))).isNull();
+	}
+}
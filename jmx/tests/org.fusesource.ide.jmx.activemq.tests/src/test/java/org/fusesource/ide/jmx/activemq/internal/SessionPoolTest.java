@@ -0,0 +1,186 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.jmx.activemq.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import javax.jms.JMSException;
+import javax.jms.MessageProducer;
+import javax.jms.Session;
+
+import org.apache.activemq.ActiveMQConnectionFactory;
+import org.apache.activemq.broker.BrokerService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SessionPoolTest {
+
+	private static final String BROKER_NAME = "sessionPoolTest";
+
+	private BrokerService broker;
+	private SessionPool pool;
+
+	@Before
+	public void setup() throws Exception {
+		broker = startBroker();
+		pool = new SessionPool(2);
+		pool.setConnectionFactory(new ActiveMQConnectionFactory("vm://" + BROKER_NAME + "?create=false"));
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		if (pool != null) {
+			pool.close();
+		}
+		if (broker != null) {
+			broker.stop();
+			broker.waitUntilStopped();
+		}
+	}
+
+	@Test
+	public void testReturnedSessionIsReused() throws Exception {
+		Session first = pool.borrowSession();
+		pool.returnSession(first);
+
+		Session second = pool.borrowSession();
+
+		assertThat(second).isSameAs(first);
+		assertThat(pool.getCreatedCount()).isEqualTo(1);
+		assertThat(pool.getBorrowCount()).isEqualTo(2);
+		assertThat(pool.getActiveCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void testTransactedSessionsArePooledSeparately() throws Exception {
+		Session plain = pool.borrowSession();
+		pool.returnSession(plain);
+
+		Session transacted = pool.borrowTransactedSession();
+		assertThat(transacted).isNotSameAs(plain);
+		assertThat(transacted.getTransacted()).isTrue();
+		pool.returnSession(transacted);
+
+		assertThat(pool.borrowTransactedSession()).isSameAs(transacted);
+		assertThat(pool.borrowSession()).isSameAs(plain);
+		assertThat(pool.getCreatedCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void testDiscardedSessionFreesItsPermit() throws Exception {
+		pool.setBorrowTimeout(100);
+		Session first = pool.borrowTransactedSession();
+		pool.borrowSession();
+
+		pool.discardSession(first);
+
+		assertThat(pool.borrowTransactedSession()).isNotSameAs(first);
+		assertThat(pool.getDestroyedCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void testBorrowTimesOutWhenPoolExhausted() throws Exception {
+		pool.setBorrowTimeout(100);
+		pool.borrowSession();
+		pool.borrowSession();
+
+		try {
+			pool.borrowSession();
+			fail("Expected a timeout when the pool is exhausted");
+		} catch (JMSException expected) {
+			assertThat(pool.getTimeoutCount()).isEqualTo(1);
+		}
+		assertThat(pool.getCreatedCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void testWaitingBorrowerGetsReturnedSession() throws Exception {
+		pool.setBorrowTimeout(5000);
+		final Session first = pool.borrowSession();
+		pool.borrowSession();
+
+		Thread returner = new Thread(() -> {
+			sleep(200);
+			pool.returnSession(first);
+		});
+		returner.start();
+
+		Session third = pool.borrowSession();
+		returner.join();
+
+		assertThat(third).isSameAs(first);
+		assertThat(pool.getTimeoutCount()).isZero();
+	}
+
+	@Test
+	public void testIdleSessionsAreEvicted() throws Exception {
+		pool.setMaxIdleTime(50);
+		Session session = pool.borrowSession();
+		pool.returnSession(session);
+		sleep(100);
+
+		assertThat(pool.evictIdleSessions()).isEqualTo(1);
+		assertThat(pool.getIdleCount()).isZero();
+		assertThat(pool.getEvictedCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void testClosedSessionFailsValidation() throws Exception {
+		Session session = pool.borrowSession();
+		pool.returnSession(session);
+		session.close();
+
+		Session other = pool.borrowSession();
+
+		assertThat(other).isNotSameAs(session);
+		assertThat(pool.getValidationFailureCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void testReconnectAfterBrokerRestart() throws Exception {
+		Session session = pool.borrowSession();
+		pool.returnSession(session);
+
+		broker.stop();
+		broker.waitUntilStopped();
+		broker = startBroker();
+
+		Session afterRestart = pool.borrowSession();
+		MessageProducer producer = afterRestart.createProducer(afterRestart.createQueue("sessionPoolTest.queue"));
+		producer.send(afterRestart.createTextMessage("still alive"));
+		producer.close();
+		pool.returnSession(afterRestart);
+
+		assertThat(afterRestart).isNotSameAs(session);
+		assertThat(pool.getReconnectCount()).isGreaterThanOrEqualTo(1);
+	}
+
+	private static BrokerService startBroker() throws Exception {
+		BrokerService brokerService = new BrokerService();
+		brokerService.setBrokerName(BROKER_NAME);
+		brokerService.setPersistent(false);
+		brokerService.setUseJmx(false);
+		brokerService.setUseShutdownHook(false);
+		brokerService.start();
+		brokerService.waitUntilStarted();
+		return brokerService;
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
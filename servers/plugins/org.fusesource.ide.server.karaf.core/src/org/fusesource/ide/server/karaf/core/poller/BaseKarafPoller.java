@@ -25,24 +25,49 @@ import org.eclipse.osgi.util.NLS;
 import org.eclipse.wst.server.core.IServer;
 import org.fusesource.ide.server.karaf.core.Activator;
 import org.fusesource.ide.server.karaf.core.Messages;
+import org.fusesource.ide.server.karaf.core.server.KarafServerDelegate;
 import org.fusesource.ide.server.karaf.core.server.subsystems.IServerPortController;
+import org.fusesource.ide.server.karaf.core.util.KarafUtils;
 import org.jboss.ide.eclipse.as.core.server.IServerStatePoller2;
 import org.jboss.ide.eclipse.as.core.server.IServerStatePollerType;
 import org.jboss.ide.eclipse.as.wtp.core.server.behavior.ControllableServerBehavior;
 
 /**
+ * waits for the Karaf instance to come up or go down. The startup is detected
+ * through JMX by the {@link KarafStartupDetector}, if no JMX url is configured,
+ * JMX can't be reached within {@link #JMX_CONNECT_WINDOW}, the start level
+ * isn't reached within the start timeout or the connection fails otherwise
+ * the ssh port is pinged instead. All connection attempts
+ * back off exponentially.
+ * 
  * @author lhein
  */
 public class BaseKarafPoller implements IServerStatePoller2 {
 	public static final String KEY_POLLER = "karafPoller";	
 	
+	/** the first delay between two pings of the ssh port */
+	private static final long PING_INITIAL_DELAY = 100L;
+	/** the upper bound of the ping delay while waiting for the startup */
+	private static final long PING_MAX_DELAY_STARTUP = 2000L;
+	/** the upper bound of the ping delay while waiting for the shutdown */
+	private static final long PING_MAX_DELAY_SHUTDOWN = 500L;
+	/** how long the startup detection tries to reach JMX before pinging the ssh port instead */
+	static final long JMX_CONNECT_WINDOW = 15000L;
+	/** the time a single JMX connection attempt may take */
+	static final long JMX_ATTEMPT_TIMEOUT = 3000L;
+	/** how long the startup detection waits through JMX if the server has no start timeout */
+	static final long JMX_STARTUP_TIMEOUT = 120000L;
+	
 	private IServer server;
 	private IServerStatePollerType type;
 	private String host;
 	private int port;
-	private boolean canceled, done;
+	private volatile boolean canceled, done;
 	private boolean state;
 	private boolean expectedState;
+	private final Object completionLock = new Object();
+	private volatile KarafStartupDetector startupDetector;
+	private long jmxConnectWindow = JMX_CONNECT_WINDOW;
 
 	/*
 	 * (non-Javadoc)
@@ -135,6 +160,34 @@ public class BaseKarafPoller implements IServerStatePoller2 {
 	@Override
 	public void cancel(int type) {
 		canceled = true;
+		KarafStartupDetector detector = startupDetector;
+		if (detector != null) {
+			detector.cancel();
+		}
+		synchronized (completionLock) {
+			completionLock.notifyAll();
+		}
+	}
+	
+	/**
+	 * blocks until the poller has an answer, was canceled or the timeout elapsed
+	 * 
+	 * @param timeout	the maximum time to wait in milliseconds
+	 */
+	public void waitForCompletion(long timeout) {
+		long deadline = System.currentTimeMillis() + timeout;
+		synchronized (completionLock) {
+			long remaining = timeout;
+			while (!done && !canceled && remaining > 0) {
+				try {
+					completionLock.wait(remaining);
+				} catch (InterruptedException ie) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+				remaining = deadline - System.currentTimeMillis();
+			}
+		}
 	}
 
 	/*
@@ -165,6 +218,13 @@ public class BaseKarafPoller implements IServerStatePoller2 {
 		return s;
 	}
 	
+	/**
+	 * @param jmxConnectWindow	the time in milliseconds to try reaching JMX before pinging the ssh port
+	 */
+	void setJMXConnectWindow(long jmxConnectWindow) {
+		this.jmxConnectWindow = jmxConnectWindow;
+	}
+
 	/**
 	 * creates a polling thread and starts it
 	 */
@@ -187,17 +247,74 @@ public class BaseKarafPoller implements IServerStatePoller2 {
 	 */
 	private void pollerRun() {
 		done = false;
+		if (expectedState && detectStartupViaJMX()) {
+			complete();
+			return;
+		}
+		long delay = PING_INITIAL_DELAY;
+		long maxDelay = expectedState ? PING_MAX_DELAY_STARTUP : PING_MAX_DELAY_SHUTDOWN;
 		while(!canceled && !done) {
 			boolean up = onePing(this.host, this.port);
 			if( up == expectedState ) {
-				state = expectedState;
-				done = true;				
+				complete();
+				return;
 			}
-			try {
-				Thread.sleep(100);
-			} catch(InterruptedException ie) {
-				Thread.currentThread().interrupt();
+			synchronized (completionLock) {
+				try {
+					if (!canceled) {
+						completionLock.wait(delay);
+					}
+				} catch(InterruptedException ie) {
+					Thread.currentThread().interrupt();
+					return;
+				}
 			}
+			delay = KarafStartupDetector.nextDelay(delay, maxDelay);
+		}
+	}
+	
+	/**
+	 * waits for the startup using the JMX connection of the server
+	 * 
+	 * @return	true if the server is started, false if JMX can't be used
+	 */
+	private boolean detectStartupViaJMX() {
+		String url;
+		KarafServerDelegate del;
+		try {
+			url = KarafUtils.getJMXConnectionURL(getServer());
+			del = (KarafServerDelegate)getServer().loadAdapter(KarafServerDelegate.class, null);
+		} catch (RuntimeException ex) {
+			Activator.getLogger().warning(ex);
+			return false;
+		}
+		if (url == null || del == null) {
+			return false;
+		}
+		startupDetector = new KarafStartupDetector(new KarafStartupDetector.JMXConnectionProvider(url, del.getUserName(), del.getPassword(), JMX_ATTEMPT_TIMEOUT));
+		startupDetector.setConnectTimeout(jmxConnectWindow);
+		startupDetector.setRequiredStartLevel(KarafUtils.getKarafStartLevel(getServer()));
+		if (canceled) {
+			startupDetector.cancel();
+		}
+		try {
+			// the ssh ping takes over if the start level isn't reached in time
+			int startTimeout = getServer().getStartTimeout();
+			return startupDetector.waitForStartup(startTimeout > 0 ? startTimeout * 1000L : JMX_STARTUP_TIMEOUT);
+		} catch (RuntimeException ex) {
+			// e.g. rejected credentials
+			Activator.getLogger().warning(ex);
+			return false;
+		} finally {
+			startupDetector = null;
+		}
+	}
+	
+	private void complete() {
+		synchronized (completionLock) {
+			state = expectedState;
+			done = true;
+			completionLock.notifyAll();
 		}
 	}
 	
@@ -0,0 +1,428 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.server.karaf.core.poller;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.management.AttributeNotFoundException;
+import javax.management.MBeanServerConnection;
+import javax.management.MBeanServerDelegate;
+import javax.management.Notification;
+import javax.management.NotificationListener;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+import javax.management.remote.JMXConnector;
+import javax.management.remote.JMXConnectorFactory;
+import javax.management.remote.JMXServiceURL;
+
+/**
+ * detects when a Karaf instance has finished starting. The JMX connection is
+ * attempted with an exponential backoff while the instance is still down.
+ * Once connected the detector listens for MBean registrations and OSGi bundle
+ * events and only re-checks the framework start level when one of them
+ * arrives, a slow backoff check covers start level changes which are not
+ * announced by any notification.
+ * <p>
+ * The connection attempts are limited to {@link #setConnectTimeout(long)},
+ * when JMX can't be reached in that window or the connection is lost
+ * {@link #waitForStartup(long)} returns false so callers can fall back to
+ * another way of detecting the startup.
+ * <p>
+ * Unless set with {@link #setRequiredStartLevel(int)} the start level to
+ * wait for is the karaf.startlevel system property of the instance, read
+ * through the runtime MBean, or {@link #DEFAULT_REQUIRED_START_LEVEL}.
+ */
+public class KarafStartupDetector {
+
+	public static final long DEFAULT_INITIAL_DELAY = 100L;
+	public static final long DEFAULT_MAX_DELAY = 5000L;
+	/** the time a single JMX connection attempt may take */
+	public static final long DEFAULT_ATTEMPT_TIMEOUT = 5000L;
+	/** the time to keep trying to connect before giving up on JMX */
+	public static final long DEFAULT_CONNECT_TIMEOUT = 15000L;
+	/** the start level Karaf reaches once all boot features are started if karaf.startlevel is not set */
+	public static final int DEFAULT_REQUIRED_START_LEVEL = 100;
+	/** the property holding the start level of a started Karaf instance */
+	public static final String KARAF_STARTLEVEL_PROPERTY = "karaf.startlevel"; //$NON-NLS-1$
+
+	private static final String OSGI_FRAMEWORK_MBEAN = "osgi.core:type=framework,*";
+	private static final String OSGI_BUNDLESTATE_MBEAN = "osgi.core:type=bundleState,*";
+	private static final String FRAMEWORK_START_LEVEL = "FrameworkStartLevel";
+
+	/**
+	 * opens and closes the JMX connection to the instance
+	 */
+	public interface ConnectionProvider {
+
+		/**
+		 * @return	the connection
+		 * @throws IOException	if the instance can't be reached (yet)
+		 */
+		MBeanServerConnection connect() throws IOException;
+
+		/**
+		 * closes the connection opened by {@link #connect()}, if any
+		 */
+		void close();
+	}
+
+	/**
+	 * connects through a JMX service url with the Karaf credentials. The
+	 * JMX connector has no connect timeout of its own, so each attempt runs
+	 * in a separate thread and is abandoned when it takes too long.
+	 */
+	public static class JMXConnectionProvider implements ConnectionProvider {
+		private final String url;
+		private final String userName;
+		private final String password;
+		private final long attemptTimeout;
+		private JMXConnector connector;
+
+		public JMXConnectionProvider(String url, String userName, String password) {
+			this(url, userName, password, DEFAULT_ATTEMPT_TIMEOUT);
+		}
+
+		public JMXConnectionProvider(String url, String userName, String password, long attemptTimeout) {
+			this.url = url;
+			this.userName = userName;
+			this.password = password;
+			this.attemptTimeout = attemptTimeout;
+		}
+
+		@Override
+		public MBeanServerConnection connect() throws IOException {
+			final JMXServiceURL serviceURL = new JMXServiceURL(url);
+			final Map<String, Object> envMap = new HashMap<>();
+			envMap.put(JMXConnector.CREDENTIALS, new String[] { userName, password });
+			// whoever comes first decides, the connect thread or the caller giving up
+			final AtomicBoolean decided = new AtomicBoolean();
+			FutureTask<JMXConnector> attempt = new FutureTask<>(() -> {
+				JMXConnector answer = JMXConnectorFactory.connect(serviceURL, envMap);
+				if (!decided.compareAndSet(false, true)) {
+					// connected after the caller gave up
+					closeQuietly(answer);
+				}
+				return answer;
+			});
+			Thread thread = new Thread(attempt, "Karaf JMX connect"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			thread.start();
+			try {
+				try {
+					connector = attempt.get(attemptTimeout, TimeUnit.MILLISECONDS);
+				} catch (TimeoutException | InterruptedException ex) {
+					if (decided.compareAndSet(false, true)) {
+						attempt.cancel(true);
+						if (ex instanceof InterruptedException) {
+							Thread.currentThread().interrupt();
+						}
+						throw new IOException("No JMX connection to " + url + " within " + attemptTimeout + " ms", ex); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					}
+					// connected just in time
+					connector = attempt.get();
+				}
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new IOException("Interrupted while connecting to " + url, ex); //$NON-NLS-1$
+			} catch (ExecutionException ex) {
+				Throwable cause = ex.getCause();
+				if (cause instanceof IOException) {
+					throw (IOException) cause;
+				} else if (cause instanceof RuntimeException) {
+					// e.g. a SecurityException for rejected credentials
+					throw (RuntimeException) cause;
+				}
+				throw new IOException("Could not connect to " + url, cause); //$NON-NLS-1$
+			}
+			return connector.getMBeanServerConnection();
+		}
+
+		@Override
+		public void close() {
+			if (connector != null) {
+				closeQuietly(connector);
+				connector = null;
+			}
+		}
+
+		private static void closeQuietly(JMXConnector connector) {
+			try {
+				connector.close();
+			} catch (IOException ex) {
+				// the instance may already be gone
+			}
+		}
+	}
+
+	private final ConnectionProvider connectionProvider;
+	private final Object lock = new Object();
+	private final Set<ObjectName> observedBundleStateMBeans = new HashSet<>();
+	private final NotificationListener listener = new NotificationListener() {
+		@Override
+		public void handleNotification(Notification notification, Object handback) {
+			signal();
+		}
+	};
+	private long initialDelay = DEFAULT_INITIAL_DELAY;
+	private long maxDelay = DEFAULT_MAX_DELAY;
+	private long connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+	private int requiredStartLevel;
+	private int startLevel;
+	private volatile boolean canceled;
+	private boolean signaled;
+	private int connectAttempts;
+	private int startupChecks;
+
+	public KarafStartupDetector(ConnectionProvider connectionProvider) {
+		this.connectionProvider = connectionProvider;
+	}
+
+	public void setInitialDelay(long initialDelay) {
+		this.initialDelay = initialDelay;
+	}
+
+	public void setMaxDelay(long maxDelay) {
+		this.maxDelay = maxDelay;
+	}
+
+	/**
+	 * @param connectTimeout	the time in milliseconds to keep trying to connect, defaults to {@link #DEFAULT_CONNECT_TIMEOUT}
+	 */
+	public void setConnectTimeout(long connectTimeout) {
+		this.connectTimeout = connectTimeout;
+	}
+
+	/**
+	 * @param requiredStartLevel	the start level of the started instance, 0 to read it from the instance
+	 */
+	public void setRequiredStartLevel(int requiredStartLevel) {
+		this.requiredStartLevel = requiredStartLevel;
+	}
+
+	/**
+	 * @return	the number of connection attempts of the last detection
+	 */
+	public int getConnectAttempts() {
+		return connectAttempts;
+	}
+
+	/**
+	 * @return	the number of start level checks of the last detection
+	 */
+	public int getStartupChecks() {
+		return startupChecks;
+	}
+
+	/**
+	 * stops a running detection, {@link #waitForStartup(long)} returns false
+	 */
+	public void cancel() {
+		canceled = true;
+		signal();
+	}
+
+	/**
+	 * blocks until the instance is started, the timeout elapsed, the
+	 * detection was canceled or JMX turned out to be unavailable
+	 *
+	 * @param timeout	the maximum time to wait in milliseconds
+	 * @return	true if the instance is started, false if not or if that can't be told through JMX
+	 * @throws SecurityException	if the instance rejected the credentials
+	 */
+	public boolean waitForStartup(long timeout) {
+		long now = System.currentTimeMillis();
+		long deadline = deadline(now, timeout);
+		connectAttempts = 0;
+		startupChecks = 0;
+		MBeanServerConnection connection = connect(Math.min(deadline, deadline(now, connectTimeout)));
+		if (connection == null) {
+			return false;
+		}
+		startLevel = requiredStartLevel > 0 ? requiredStartLevel : readStartLevel(connection);
+		ObjectName delegate = MBeanServerDelegate.DELEGATE_NAME;
+		try {
+			connection.addNotificationListener(delegate, listener, null, null);
+		} catch (Exception ex) {
+			// without registration events we rely on the backoff checks
+			delegate = null;
+		}
+		try {
+			long delay = initialDelay;
+			while (!canceled) {
+				observeBundleEvents(connection);
+				try {
+					if (isStarted(connection)) {
+						return true;
+					}
+				} catch (IOException ex) {
+					// connection lost, the caller has to find out another way
+					return false;
+				}
+				long remaining = deadline - System.currentTimeMillis();
+				if (remaining <= 0) {
+					// not started in time, the caller has to find out another way
+					return false;
+				}
+				if (!await(Math.min(delay, remaining))) {
+					// no notification arrived in time, check less often from now on
+					delay = nextDelay(delay, maxDelay);
+				}
+			}
+			return false;
+		} finally {
+			removeListeners(connection, delegate);
+			connectionProvider.close();
+		}
+	}
+
+	private MBeanServerConnection connect(long deadline) {
+		long delay = initialDelay;
+		while (!canceled) {
+			connectAttempts++;
+			try {
+				return connectionProvider.connect();
+			} catch (IOException ex) {
+				// not reachable yet
+				connectionProvider.close();
+			}
+			long remaining = deadline - System.currentTimeMillis();
+			if (remaining <= 0) {
+				break;
+			}
+			await(Math.min(delay, remaining));
+			delay = nextDelay(delay, maxDelay);
+		}
+		return null;
+	}
+
+	private static long deadline(long now, long timeout) {
+		return timeout >= Long.MAX_VALUE - now ? Long.MAX_VALUE : now + timeout;
+	}
+
+	private boolean isStarted(MBeanServerConnection connection) throws IOException {
+		startupChecks++;
+		try {
+			Set<ObjectName> frameworks = connection.queryNames(new ObjectName(OSGI_FRAMEWORK_MBEAN), null);
+			if (frameworks.size() != 1 || connection.queryNames(new ObjectName(OSGI_BUNDLESTATE_MBEAN), null).isEmpty()) {
+				return false;
+			}
+			try {
+				Object level = connection.getAttribute(frameworks.iterator().next(), FRAMEWORK_START_LEVEL);
+				return level instanceof Number && ((Number)level).intValue() >= startLevel;
+			} catch (AttributeNotFoundException ex) {
+				// framework mbean without start level support, its registration has to do
+				return true;
+			}
+		} catch (IOException ex) {
+			throw ex;
+		} catch (Exception ex) {
+			// mbean registered but not ready yet
+			return false;
+		}
+	}
+
+	/**
+	 * @return	the karaf.startlevel system property of the instance or the default start level
+	 */
+	private static int readStartLevel(MBeanServerConnection connection) {
+		try {
+			Object properties = connection.getAttribute(new ObjectName(ManagementFactory.RUNTIME_MXBEAN_NAME), "SystemProperties"); //$NON-NLS-1$
+			if (properties instanceof TabularData) {
+				CompositeData property = ((TabularData)properties).get(new Object[] { KARAF_STARTLEVEL_PROPERTY });
+				if (property != null) {
+					return Integer.parseInt(String.valueOf(property.get("value")).trim()); //$NON-NLS-1$
+				}
+			}
+		} catch (Exception ex) {
+			// no runtime mbean or no usable property
+		}
+		return DEFAULT_REQUIRED_START_LEVEL;
+	}
+
+	private void observeBundleEvents(MBeanServerConnection connection) {
+		try {
+			for (ObjectName name : connection.queryNames(new ObjectName(OSGI_BUNDLESTATE_MBEAN), null)) {
+				if (!observedBundleStateMBeans.contains(name)) {
+					connection.addNotificationListener(name, listener, null, null);
+					observedBundleStateMBeans.add(name);
+				}
+			}
+		} catch (Exception ex) {
+			// no bundle events, the backoff checks still apply
+		}
+	}
+
+	private void removeListeners(MBeanServerConnection connection, ObjectName delegate) {
+		if (delegate != null) {
+			observedBundleStateMBeans.add(delegate);
+		}
+		for (ObjectName name : observedBundleStateMBeans) {
+			try {
+				connection.removeNotificationListener(name, listener);
+			} catch (Exception ex) {
+				// connection may already be gone
+			}
+		}
+		observedBundleStateMBeans.clear();
+	}
+
+	private void signal() {
+		synchronized (lock) {
+			signaled = true;
+			lock.notifyAll();
+		}
+	}
+
+	/**
+	 * waits for a notification or cancellation
+	 *
+	 * @param timeout	the maximum time to wait
+	 * @return	true if woken up by a notification, false on timeout
+	 */
+	private boolean await(long timeout) {
+		long deadline = System.currentTimeMillis() + timeout;
+		synchronized (lock) {
+			try {
+				long remaining = timeout;
+				while (!signaled && !canceled && remaining > 0) {
+					lock.wait(remaining);
+					remaining = deadline - System.currentTimeMillis();
+				}
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				canceled = true;
+			}
+			boolean answer = signaled;
+			signaled = false;
+			return answer;
+		}
+	}
+
+	/**
+	 * @param delay		the current delay
+	 * @param maxDelay	the upper bound
+	 * @return	the doubled delay, at most maxDelay
+	 */
+	static long nextDelay(long delay, long maxDelay) {
+		return Math.min(Math.max(1L, delay) * 2, maxDelay);
+	}
+}
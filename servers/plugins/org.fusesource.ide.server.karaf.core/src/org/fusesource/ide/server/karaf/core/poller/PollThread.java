@@ -41,6 +41,9 @@ public class PollThread extends Thread {
 	public static final int STATE_STOPPING = IServer.STATE_STOPPING << 3;
 	public static final int STATE_STOPPED = IServer.STATE_STOPPED << 3;
 	
+	/** the maximum time between two checks of the server state while the poller has no answer */
+	private static final long MAX_STATE_CHECK_INTERVAL = 500L;
+	
 	public static final String SERVER_STARTING = "org.jboss.ide.eclipse.as.core.runtime.server.PollThread.server.starting"; //$NON-NLS-1$
 	public static final String SERVER_STOPPING = "org.jboss.ide.eclipse.as.core.runtime.server.PollThread.server.stopping"; //$NON-NLS-1$
 
@@ -104,10 +107,15 @@ public class PollThread extends Thread {
 					&& !abort 
 					&& !done
 					&& !timeoutReached(startTime, maxWait)) {
-				try {
-					Thread.sleep(100);
-				} catch (InterruptedException ie) {
-					Thread.currentThread().interrupt();
+				if (poller instanceof BaseKarafPoller) {
+					// woken up as soon as the poller has an answer
+					((BaseKarafPoller)poller).waitForCompletion(MAX_STATE_CHECK_INTERVAL);
+				} else {
+					try {
+						Thread.sleep(100);
+					} catch (InterruptedException ie) {
+						Thread.currentThread().interrupt();
+					}
 				}
 	
 				try {
@@ -0,0 +1,325 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.server.karaf.core.publish.jmx;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.management.MBeanServerConnection;
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+
+import org.fusesource.ide.camel.model.service.core.jmx.camel.CamelContextMBean;
+import org.fusesource.ide.camel.model.service.core.jmx.camel.CamelFacadeSupport;
+import org.fusesource.ide.camel.model.service.core.jmx.camel.CamelRouteMBean;
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * pushes changed route definitions of a Camel XML file into the running
+ * Camel context through its addOrUpdateRoutesFromXml operation, so only the
+ * edited routes are restarted instead of the whole bundle. Changes outside
+ * of the routes, removed routes or routes without an id can't be applied
+ * that way and require a full publish.
+ */
+public class CamelRouteHotReloader {
+
+	private static final String CAMEL_CONTEXT = "camelContext";
+	private static final String ROUTE = "route";
+	private static final String CAMEL_BLUEPRINT_NAMESPACE = "http://camel.apache.org/schema/blueprint";
+	private static final String CAMEL_SPRING_NAMESPACE = "http://camel.apache.org/schema/spring";
+	private static final String ROUTE_STATE_STARTED = "Started";
+
+	/**
+	 * the routes of a Camel XML file which changed while everything else stayed the same
+	 */
+	public static final class RouteChanges {
+		private final String camelContextId;
+		private final Map<String, Element> routes;
+
+		RouteChanges(String camelContextId, Map<String, Element> routes) {
+			this.camelContextId = camelContextId;
+			this.routes = routes;
+		}
+
+		public String getCamelContextId() {
+			return camelContextId;
+		}
+
+		public List<String> getRouteIds() {
+			return Collections.unmodifiableList(new ArrayList<>(routes.keySet()));
+		}
+
+		public boolean isEmpty() {
+			return routes.isEmpty();
+		}
+
+		/**
+		 * @return	the changed routes wrapped in a routes element of the Camel spring namespace
+		 */
+		public String toRoutesXml() throws TransformerException {
+			if (routes.isEmpty()) {
+				return "<routes xmlns=\"" + CAMEL_SPRING_NAMESPACE + "\"/>";
+			}
+			Document doc = routes.values().iterator().next().getOwnerDocument();
+			Element answer = doc.createElementNS(CAMEL_SPRING_NAMESPACE, "routes");
+			answer.setAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI, XMLConstants.XMLNS_ATTRIBUTE, CAMEL_SPRING_NAMESPACE);
+			for (Element route : routes.values()) {
+				// the management api only knows the spring namespace
+				answer.appendChild(toSpringNamespace(route.cloneNode(true)));
+			}
+			return serialize(answer);
+		}
+
+		/**
+		 * @param routeId	the route id
+		 * @return	true if the route is expected to run after the update
+		 */
+		boolean isAutoStartup(String routeId) {
+			return !"false".equalsIgnoreCase(routes.get(routeId).getAttribute("autoStartup"));
+		}
+	}
+
+	/**
+	 * compares two versions of a Camel XML file
+	 *
+	 * @param oldXml	the deployed version
+	 * @param newXml	the edited version
+	 * @return	the changed routes or null if the file changed in a way which
+	 * 			requires a redeployment of the bundle
+	 */
+	public static RouteChanges detectRouteChanges(byte[] oldXml, byte[] newXml) {
+		try {
+			Element oldContext = findSingleCamelContext(parse(oldXml));
+			Element newContext = findSingleCamelContext(parse(newXml));
+			if (oldContext == null || newContext == null) {
+				return null;
+			}
+			String contextId = newContext.getAttribute("id");
+			if (contextId.isEmpty() || !contextId.equals(oldContext.getAttribute("id"))) {
+				return null;
+			}
+			Map<String, Element> oldRoutes = extractRoutes(oldContext);
+			Map<String, Element> newRoutes = extractRoutes(newContext);
+			if (oldRoutes == null || newRoutes == null || !newRoutes.keySet().containsAll(oldRoutes.keySet())) {
+				// routes without id or removed routes
+				return null;
+			}
+			// with the routes taken out everything else has to be the same
+			if (!oldContext.getOwnerDocument().isEqualNode(newContext.getOwnerDocument())) {
+				return null;
+			}
+			Map<String, Element> changed = new LinkedHashMap<>();
+			for (Map.Entry<String, Element> e : newRoutes.entrySet()) {
+				Element old = oldRoutes.get(e.getKey());
+				if (old == null || !old.isEqualNode(e.getValue())) {
+					changed.put(e.getKey(), e.getValue());
+				}
+			}
+			return new RouteChanges(contextId, changed);
+		} catch (IOException | SAXException | ParserConfigurationException ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * pushes the changed routes into the Camel context and verifies that they run
+	 *
+	 * @param mbsc		the connection to the server
+	 * @param changes	the changed routes
+	 * @throws Exception	if the context can't be found, the update was rejected or a route isn't running afterwards
+	 */
+	public void reload(MBeanServerConnection mbsc, RouteChanges changes) throws Exception {
+		if (changes.isEmpty()) {
+			return;
+		}
+		CamelFacadeSupport facade = new KarafCamelFacade(mbsc);
+		CamelContextMBean context = findCamelContext(facade, changes.getCamelContextId());
+		String managementName = context.getManagementName();
+		context.addOrUpdateRoutesFromXml(changes.toRoutesXml());
+		verify(facade, managementName, changes);
+	}
+
+	private static CamelContextMBean findCamelContext(CamelFacadeSupport facade, String camelId) throws Exception {
+		CamelContextMBean answer = null;
+		for (CamelContextMBean context : facade.getCamelContexts()) {
+			if (camelId.equals(context.getCamelId())) {
+				if (answer != null) {
+					throw new IOException("More than one Camel context with id " + camelId + " is running");
+				}
+				answer = context;
+			}
+		}
+		if (answer == null) {
+			throw new IOException("No Camel context with id " + camelId + " is running");
+		}
+		return answer;
+	}
+
+	private static void verify(CamelFacadeSupport facade, String managementName, RouteChanges changes) throws Exception {
+		Map<String, String> states = new LinkedHashMap<>();
+		for (CamelRouteMBean route : facade.getRoutes(managementName)) {
+			states.put(route.getRouteId(), route.getState());
+		}
+		for (String routeId : changes.getRouteIds()) {
+			String state = states.get(routeId);
+			if (state == null) {
+				throw new IOException("The route " + routeId + " was not added to the Camel context");
+			}
+			if (changes.isAutoStartup(routeId) && !ROUTE_STATE_STARTED.equalsIgnoreCase(state)) {
+				throw new IOException("The route " + routeId + " is " + state + " after the update");
+			}
+		}
+	}
+
+	private static Document parse(byte[] xml) throws ParserConfigurationException, SAXException, IOException {
+		DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
+		dbf.setNamespaceAware(true);
+		dbf.setIgnoringComments(true);
+		dbf.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+		dbf.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+		DocumentBuilder db = dbf.newDocumentBuilder();
+		// broken files are reported as a failed comparison, not on the console
+		db.setErrorHandler(new DefaultHandler());
+		Document doc = db.parse(new ByteArrayInputStream(xml));
+		removeWhitespace(doc.getDocumentElement());
+		return doc;
+	}
+
+	private static void removeWhitespace(Node node) {
+		NodeList children = node.getChildNodes();
+		for (int i = children.getLength() - 1; i >= 0; i--) {
+			Node child = children.item(i);
+			if (child.getNodeType() == Node.TEXT_NODE && child.getTextContent().trim().isEmpty()) {
+				node.removeChild(child);
+			} else if (child.getNodeType() == Node.ELEMENT_NODE) {
+				removeWhitespace(child);
+			}
+		}
+	}
+
+	private static Element findSingleCamelContext(Document doc) {
+		NodeList contexts = doc.getElementsByTagNameNS("*", CAMEL_CONTEXT);
+		return contexts.getLength() == 1 ? (Element)contexts.item(0) : null;
+	}
+
+	/**
+	 * removes the route elements from the context
+	 *
+	 * @return	the routes by id or null if a route has no id
+	 */
+	private static Map<String, Element> extractRoutes(Element camelContext) {
+		Map<String, Element> routes = new LinkedHashMap<>();
+		NodeList children = camelContext.getChildNodes();
+		for (int i = children.getLength() - 1; i >= 0; i--) {
+			Node child = children.item(i);
+			if (child.getNodeType() == Node.ELEMENT_NODE && ROUTE.equals(child.getLocalName())) {
+				String id = ((Element)child).getAttribute("id");
+				if (id.isEmpty()) {
+					return null;
+				}
+				declareInScopeNamespaces((Element)child);
+				routes.put(id, (Element)camelContext.removeChild(child));
+			}
+		}
+		// keep the document order
+		List<String> ids = new ArrayList<>(routes.keySet());
+		Collections.reverse(ids);
+		Map<String, Element> ordered = new LinkedHashMap<>();
+		for (String id : ids) {
+			ordered.put(id, routes.get(id));
+		}
+		return ordered;
+	}
+
+	/**
+	 * copies the namespace declarations of the ancestors onto the element, so
+	 * prefixes used in expressions still resolve once it is taken out of the file
+	 */
+	private static void declareInScopeNamespaces(Element element) {
+		for (Node parent = element.getParentNode(); parent != null && parent.getNodeType() == Node.ELEMENT_NODE; parent = parent.getParentNode()) {
+			NamedNodeMap attributes = parent.getAttributes();
+			for (int i = 0; i < attributes.getLength(); i++) {
+				Attr attribute = (Attr)attributes.item(i);
+				// the nearest declaration of a prefix wins
+				if (XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(attribute.getNamespaceURI())
+						&& !element.hasAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI, attribute.getLocalName())) {
+					element.setAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI, attribute.getName(), attribute.getValue());
+				}
+			}
+		}
+	}
+
+	/**
+	 * moves the elements of the Camel blueprint namespace into the Camel spring
+	 * namespace, text and attribute values are left as they are
+	 */
+	private static Node toSpringNamespace(Node node) {
+		Node answer = node;
+		if (node.getNodeType() == Node.ELEMENT_NODE) {
+			NamedNodeMap attributes = node.getAttributes();
+			for (int i = 0; i < attributes.getLength(); i++) {
+				Attr attribute = (Attr)attributes.item(i);
+				// declarations have to follow the element namespace
+				if (XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(attribute.getNamespaceURI()) && CAMEL_BLUEPRINT_NAMESPACE.equals(attribute.getValue())) {
+					attribute.setValue(CAMEL_SPRING_NAMESPACE);
+				}
+			}
+			if (CAMEL_BLUEPRINT_NAMESPACE.equals(node.getNamespaceURI())) {
+				answer = node.getOwnerDocument().renameNode(node, CAMEL_SPRING_NAMESPACE, node.getNodeName());
+			}
+			NodeList children = answer.getChildNodes();
+			for (int i = 0; i < children.getLength(); i++) {
+				toSpringNamespace(children.item(i));
+			}
+		}
+		return answer;
+	}
+
+	private static String serialize(Element element) throws TransformerException {
+		Transformer transformer = TransformerFactory.newInstance().newTransformer();
+		transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
+		transformer.setOutputProperty(OutputKeys.ENCODING, StandardCharsets.UTF_8.name());
+		StringWriter writer = new StringWriter();
+		transformer.transform(new DOMSource(element), new StreamResult(writer));
+		return writer.toString();
+	}
+
+	/**
+	 * the Camel facade on top of the publisher's JMX connection
+	 */
+	private static class KarafCamelFacade extends CamelFacadeSupport {
+		KarafCamelFacade(MBeanServerConnection mbsc) {
+			super(null, mbsc);
+		}
+	}
+}
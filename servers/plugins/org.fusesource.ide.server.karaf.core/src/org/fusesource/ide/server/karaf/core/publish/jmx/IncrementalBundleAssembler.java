@@ -0,0 +1,527 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.server.karaf.core.publish.jmx;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+
+/**
+ * rebuilds the bundle jar of a project from its target/classes folder
+ * without running Maven. The manifest of the last Maven built jar is reused,
+ * so this is only possible as long as the pom and the dependencies are
+ * unchanged and the changed classes and blueprint/spring files don't
+ * reference packages which are not imported yet. Entries of the jar which
+ * did not come from target/classes, like embedded dependencies, are kept.
+ *
+ * The state of target/classes at the last build is kept in a properties
+ * file next to the jar, a "mvn clean" removes it and so forces a Maven build.
+ */
+public class IncrementalBundleAssembler {
+
+	public static final String STATE_FILE_NAME = "fuse-ide-publish.properties";
+
+	private static final String KEY_FINGERPRINT = "fingerprint";
+	private static final String FILE_KEY_PREFIX = "file.";
+	private static final String MANIFEST_PATH = JarFile.MANIFEST_NAME;
+	private static final String CLASS_SUFFIX = ".class";
+	private static final Pattern TYPE_DESCRIPTOR = Pattern.compile("L([\\w$]+(?:/[\\w$]+)+);");
+	private static final Pattern XML_CLASS_ATTRIBUTE = Pattern.compile("class\\s*=\\s*\"\\s*([\\w$.]+)\\s*\"");
+
+	public enum Outcome {
+		/** the jar was rebuilt from target/classes */
+		ASSEMBLED,
+		/** nothing changed since the last build */
+		UP_TO_DATE,
+		/** the jar has to be built by Maven, see {@link Result#getReason()} */
+		MAVEN_BUILD_REQUIRED
+	}
+
+	/**
+	 * the outcome of an assembly
+	 */
+	public static final class Result {
+		private final Outcome outcome;
+		private final String reason;
+		private final List<String> changedFiles;
+		private final List<String> removedFiles;
+		private final long duration;
+
+		Result(Outcome outcome, String reason, List<String> changedFiles, List<String> removedFiles, long duration) {
+			this.outcome = outcome;
+			this.reason = reason;
+			this.changedFiles = changedFiles;
+			this.removedFiles = removedFiles;
+			this.duration = duration;
+		}
+
+		public Outcome getOutcome() {
+			return outcome;
+		}
+
+		/**
+		 * @return	why Maven is required, null otherwise
+		 */
+		public String getReason() {
+			return reason;
+		}
+
+		public List<String> getChangedFiles() {
+			return changedFiles;
+		}
+
+		public List<String> getRemovedFiles() {
+			return removedFiles;
+		}
+
+		/**
+		 * @return	the time spent in milliseconds
+		 */
+		public long getDuration() {
+			return duration;
+		}
+	}
+
+	private final File classesDir;
+	private final File bundleJar;
+	private final File stateFile;
+
+	/**
+	 * @param classesDir	the target/classes folder
+	 * @param bundleJar		the jar built by Maven, it is replaced by the assembled jar
+	 */
+	public IncrementalBundleAssembler(File classesDir, File bundleJar) {
+		this.classesDir = classesDir;
+		this.bundleJar = bundleJar;
+		this.stateFile = new File(bundleJar.getParentFile(), STATE_FILE_NAME);
+	}
+
+	/**
+	 * remembers the state of target/classes after a Maven build
+	 *
+	 * @param buildFingerprint	identifies the pom and the resolved dependencies
+	 * @throws IOException
+	 */
+	public void recordBuild(String buildFingerprint) throws IOException {
+		saveState(buildFingerprint, scanClasses());
+	}
+
+	/**
+	 * forgets the recorded state, the next assembly requires a Maven build
+	 */
+	public void invalidate() {
+		if (stateFile.exists() && !stateFile.delete()) {
+			stateFile.deleteOnExit();
+		}
+	}
+
+	/**
+	 * rebuilds the jar from the files changed since the last build
+	 *
+	 * @param buildFingerprint	identifies the pom and the resolved dependencies
+	 * @return	the result, never null
+	 * @throws IOException	if the jar can't be written, the old jar is kept in that case
+	 */
+	public Result assemble(String buildFingerprint) throws IOException {
+		long start = System.currentTimeMillis();
+		if (!bundleJar.isFile() || !classesDir.isDirectory()) {
+			return mavenRequired("no bundle built yet", start);
+		}
+		Properties state = loadState();
+		if (state == null) {
+			return mavenRequired("no recorded build", start);
+		}
+		if (!buildFingerprint.equals(state.getProperty(KEY_FINGERPRINT))) {
+			return mavenRequired("the pom or the dependencies changed", start);
+		}
+		Map<String, String> previous = new HashMap<>();
+		for (String key : state.stringPropertyNames()) {
+			if (key.startsWith(FILE_KEY_PREFIX)) {
+				previous.put(key.substring(FILE_KEY_PREFIX.length()), state.getProperty(key));
+			}
+		}
+		Map<String, String> current = scanClasses();
+		List<String> changed = new ArrayList<>();
+		for (Map.Entry<String, String> e : current.entrySet()) {
+			if (!e.getValue().equals(previous.get(e.getKey()))) {
+				changed.add(e.getKey());
+			}
+		}
+		List<String> removed = new ArrayList<>();
+		for (String path : previous.keySet()) {
+			if (!current.containsKey(path)) {
+				removed.add(path);
+			}
+		}
+		Collections.sort(changed);
+		Collections.sort(removed);
+		if (changed.isEmpty() && removed.isEmpty()) {
+			return new Result(Outcome.UP_TO_DATE, null, changed, removed, System.currentTimeMillis() - start);
+		}
+
+		File tmp = new File(bundleJar.getParentFile(), bundleJar.getName() + ".tmp");
+		try (JarFile jar = new JarFile(bundleJar)) {
+			Manifest manifest = jar.getManifest();
+			if (manifest == null) {
+				return mavenRequired("the bundle has no manifest", start);
+			}
+			Set<String> jarEntries = new HashSet<>();
+			Set<String> bundlePackages = new HashSet<>();
+			for (Enumeration<JarEntry> en = jar.entries(); en.hasMoreElements(); ) {
+				String name = en.nextElement().getName();
+				jarEntries.add(name);
+				if (name.endsWith(CLASS_SUFFIX)) {
+					bundlePackages.add(getPackage(name));
+				}
+			}
+			String missing = findUncoveredReference(changed, manifest.getMainAttributes(), bundlePackages);
+			if (missing != null) {
+				return mavenRequired(missing, start);
+			}
+			writeJar(jar, manifest, tmp, jarEntries, previous.keySet(), changed);
+		} catch (IOException ex) {
+			Files.deleteIfExists(tmp.toPath());
+			throw ex;
+		}
+		try {
+			Files.move(tmp.toPath(), bundleJar.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException ex) {
+			Files.move(tmp.toPath(), bundleJar.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+		saveState(buildFingerprint, current);
+		return new Result(Outcome.ASSEMBLED, null, changed, removed, System.currentTimeMillis() - start);
+	}
+
+	private Result mavenRequired(String reason, long start) {
+		return new Result(Outcome.MAVEN_BUILD_REQUIRED, reason, Collections.<String>emptyList(), Collections.<String>emptyList(), System.currentTimeMillis() - start);
+	}
+
+	/**
+	 * checks that the changed files only reference packages which the
+	 * manifest imports or the bundle contains
+	 *
+	 * @return	a description of the first uncovered reference or null
+	 */
+	private String findUncoveredReference(List<String> changed, Attributes mainAttributes, Set<String> bundlePackages) throws IOException {
+		Set<String> imported = parsePackageNames(mainAttributes.getValue("Import-Package"));
+		Set<String> dynamicImports = parsePackageNames(mainAttributes.getValue("DynamicImport-Package"));
+		for (String path : changed) {
+			Set<String> referenced;
+			if (path.endsWith(CLASS_SUFFIX)) {
+				String pkg = getPackage(path);
+				if (!bundlePackages.contains(pkg)) {
+					return "the new package " + pkg + " is not part of the bundle yet";
+				}
+				referenced = getReferencedPackages(Files.readAllBytes(new File(classesDir, path).toPath()));
+			} else if (isBlueprintOrSpringFile(path)) {
+				referenced = getReferencedXmlPackages(new String(Files.readAllBytes(new File(classesDir, path).toPath()), StandardCharsets.UTF_8));
+			} else {
+				continue;
+			}
+			for (String pkg : referenced) {
+				if (!isCovered(pkg, imported, dynamicImports, bundlePackages)) {
+					return path + " references the package " + pkg + " which is not imported";
+				}
+			}
+		}
+		return null;
+	}
+
+	private static boolean isCovered(String pkg, Set<String> imported, Set<String> dynamicImports, Set<String> bundlePackages) {
+		if (pkg.isEmpty() || pkg.startsWith("java.") || imported.contains(pkg) || bundlePackages.contains(pkg)) {
+			return true;
+		}
+		for (String dynamic : dynamicImports) {
+			if ("*".equals(dynamic) || dynamic.equals(pkg)
+					|| (dynamic.endsWith(".*") && pkg.startsWith(dynamic.substring(0, dynamic.length() - 1)))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void writeJar(JarFile jar, Manifest manifest, File target, Set<String> jarEntries, Set<String> previousClasses, List<String> changed) throws IOException {
+		Set<String> written = new HashSet<>();
+		try (JarOutputStream out = new JarOutputStream(new FileOutputStream(target), manifest)) {
+			written.add(MANIFEST_PATH);
+			written.add("META-INF/");
+			for (Enumeration<JarEntry> en = jar.entries(); en.hasMoreElements(); ) {
+				JarEntry entry = en.nextElement();
+				String name = entry.getName();
+				if (written.contains(name)) {
+					continue;
+				}
+				File file = new File(classesDir, name);
+				if (previousClasses.contains(name)) {
+					// taken from target/classes, unless it was deleted there
+					if (file.isFile()) {
+						copy(file, name, out);
+						written.add(name);
+					}
+				} else {
+					// a directory or an embedded resource which maven added to the jar
+					copy(jar, entry, out);
+					written.add(name);
+				}
+			}
+			for (String name : changed) {
+				// new files, unless maven left them out of the jar before
+				if (!written.contains(name) && !(previousClasses.contains(name) && !jarEntries.contains(name))) {
+					copy(new File(classesDir, name), name, out);
+					written.add(name);
+				}
+			}
+		}
+	}
+
+	private static void copy(File file, String name, JarOutputStream out) throws IOException {
+		JarEntry entry = new JarEntry(name);
+		entry.setTime(file.lastModified());
+		out.putNextEntry(entry);
+		try (InputStream in = new FileInputStream(file)) {
+			transfer(in, out);
+		}
+		out.closeEntry();
+	}
+
+	private static void copy(JarFile jar, JarEntry source, JarOutputStream out) throws IOException {
+		JarEntry entry = new JarEntry(source.getName());
+		entry.setTime(source.getTime());
+		if (source.getMethod() == ZipEntry.STORED) {
+			entry.setMethod(ZipEntry.STORED);
+			entry.setSize(source.getSize());
+			entry.setCompressedSize(source.getCompressedSize());
+			entry.setCrc(source.getCrc());
+		}
+		out.putNextEntry(entry);
+		if (!source.isDirectory()) {
+			try (InputStream in = jar.getInputStream(source)) {
+				transfer(in, out);
+			}
+		}
+		out.closeEntry();
+	}
+
+	private static void transfer(InputStream in, OutputStream out) throws IOException {
+		byte[] buffer = new byte[8192];
+		int read;
+		while ((read = in.read(buffer)) != -1) {
+			out.write(buffer, 0, read);
+		}
+	}
+
+	/**
+	 * @return	the relative path of every file in target/classes mapped to its modification stamp
+	 */
+	private Map<String, String> scanClasses() {
+		Map<String, String> files = new HashMap<>();
+		scan(classesDir, "", files);
+		files.remove(MANIFEST_PATH);
+		return files;
+	}
+
+	private static void scan(File dir, String prefix, Map<String, String> files) {
+		File[] children = dir.listFiles();
+		if (children == null) {
+			return;
+		}
+		for (File child : children) {
+			String path = prefix + child.getName();
+			if (child.isDirectory()) {
+				scan(child, path + "/", files);
+			} else {
+				files.put(path, child.lastModified() + ":" + child.length());
+			}
+		}
+	}
+
+	private Properties loadState() {
+		if (!stateFile.isFile()) {
+			return null;
+		}
+		Properties props = new Properties();
+		try (InputStream in = new FileInputStream(stateFile)) {
+			props.load(in);
+			return props;
+		} catch (IOException ex) {
+			return null;
+		}
+	}
+
+	private void saveState(String buildFingerprint, Map<String, String> files) throws IOException {
+		Properties props = new Properties();
+		props.setProperty(KEY_FINGERPRINT, buildFingerprint);
+		for (Map.Entry<String, String> e : files.entrySet()) {
+			props.setProperty(FILE_KEY_PREFIX + e.getKey(), e.getValue());
+		}
+		try (OutputStream out = new FileOutputStream(stateFile)) {
+			props.store(out, null);
+		}
+	}
+
+	private static boolean isBlueprintOrSpringFile(String path) {
+		return path.endsWith(".xml") && (path.startsWith("OSGI-INF/blueprint/") || path.startsWith("META-INF/spring/"));
+	}
+
+	private static String getPackage(String path) {
+		int idx = path.lastIndexOf('/');
+		return idx == -1 ? "" : path.substring(0, idx).replace('/', '.');
+	}
+
+	/**
+	 * parses the package names of an Import-Package like header, attributes
+	 * and directives are dropped
+	 */
+	static Set<String> parsePackageNames(String header) {
+		Set<String> names = new HashSet<>();
+		if (header == null) {
+			return names;
+		}
+		boolean quoted = false;
+		boolean inName = true;
+		StringBuilder name = new StringBuilder();
+		for (char c : header.toCharArray()) {
+			if (c == '"') {
+				quoted = !quoted;
+			} else if (!quoted && c == ',') {
+				addName(names, name);
+				inName = true;
+			} else if (!quoted && c == ';') {
+				// more than one package may share the attributes, a=b marks the end of the names
+				addName(names, name);
+			} else if (!quoted && c == '=') {
+				name.setLength(0);
+				inName = false;
+			} else if (inName && !quoted) {
+				name.append(c);
+			}
+		}
+		addName(names, name);
+		return names;
+	}
+
+	private static void addName(Set<String> names, StringBuilder name) {
+		String n = name.toString().trim();
+		if (!n.isEmpty()) {
+			names.add(n);
+		}
+		name.setLength(0);
+	}
+
+	/**
+	 * collects the packages referenced from the constant pool of a class file
+	 */
+	static Set<String> getReferencedPackages(byte[] classFile) throws IOException {
+		Set<String> packages = new HashSet<>();
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(classFile));
+		if (in.readInt() != 0xCAFEBABE) {
+			throw new IOException("Not a class file");
+		}
+		in.readUnsignedShort();
+		in.readUnsignedShort();
+		int count = in.readUnsignedShort();
+		String[] utf8 = new String[count];
+		List<Integer> classRefs = new ArrayList<>();
+		for (int i = 1; i < count; i++) {
+			int tag = in.readUnsignedByte();
+			switch (tag) {
+				case 1: // Utf8
+					utf8[i] = in.readUTF();
+					break;
+				case 7: // Class
+					classRefs.add(in.readUnsignedShort());
+					break;
+				case 8: case 16: case 19: case 20: // String, MethodType, Module, Package
+					in.readUnsignedShort();
+					break;
+				case 15: // MethodHandle
+					in.readUnsignedByte();
+					in.readUnsignedShort();
+					break;
+				case 3: case 4: case 9: case 10: case 11: case 12: case 17: case 18:
+					in.readInt();
+					break;
+				case 5: case 6: // Long and Double take two slots
+					in.readLong();
+					i++;
+					break;
+				default:
+					throw new IOException("Unknown constant pool tag " + tag);
+			}
+		}
+		for (int ref : classRefs) {
+			String name = utf8[ref];
+			if (name != null && !name.startsWith("[")) {
+				addPackage(packages, name);
+			}
+		}
+		for (String value : utf8) {
+			if (value != null && value.indexOf(';') != -1) {
+				// field, method and signature descriptors
+				Matcher m = TYPE_DESCRIPTOR.matcher(value);
+				while (m.find()) {
+					addPackage(packages, m.group(1));
+				}
+			}
+		}
+		return packages;
+	}
+
+	private static void addPackage(Set<String> packages, String internalName) {
+		int idx = internalName.lastIndexOf('/');
+		if (idx != -1) {
+			packages.add(internalName.substring(0, idx).replace('/', '.'));
+		}
+	}
+
+	/**
+	 * collects the packages of the classes named in class attributes of a
+	 * blueprint or spring file, bnd imports them as well
+	 */
+	static Set<String> getReferencedXmlPackages(String xml) {
+		Set<String> packages = new HashSet<>();
+		Matcher m = XML_CLASS_ATTRIBUTE.matcher(xml);
+		while (m.find()) {
+			String className = m.group(1);
+			int idx = className.lastIndexOf('.');
+			if (idx != -1) {
+				packages.add(className.substring(0, idx));
+			}
+		}
+		return packages;
+	}
+}
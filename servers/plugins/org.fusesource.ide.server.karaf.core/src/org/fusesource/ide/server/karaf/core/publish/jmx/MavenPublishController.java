@@ -10,15 +10,46 @@
  ******************************************************************************/
 package org.fusesource.ide.server.karaf.core.publish.jmx;
 
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.jar.JarFile;
+import java.util.zip.ZipEntry;
 
+import javax.management.MBeanServerConnection;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Path;
+import org.eclipse.m2e.core.MavenPlugin;
+import org.eclipse.m2e.core.project.IMavenProjectFacade;
 import org.eclipse.wst.server.core.IModule;
 import org.eclipse.wst.server.core.IServer;
+import org.eclipse.wst.server.core.internal.Server;
+import org.eclipse.wst.server.core.model.IModuleFile;
+import org.eclipse.wst.server.core.model.IModuleResource;
+import org.eclipse.wst.server.core.model.IModuleResourceDelta;
+import org.fusesource.ide.server.karaf.core.Activator;
+import org.fusesource.ide.server.karaf.core.publish.jmx.CamelRouteHotReloader.RouteChanges;
+import org.fusesource.ide.server.karaf.core.publish.jmx.IncrementalBundleAssembler.Outcome;
+import org.fusesource.ide.server.karaf.core.publish.jmx.IncrementalBundleAssembler.Result;
+import org.fusesource.ide.server.karaf.core.server.KarafServerDelegate;
 import org.fusesource.ide.server.karaf.core.util.KarafUtils;
 import org.jboss.ide.eclipse.as.core.util.JBossServerBehaviorUtils;
 import org.jboss.ide.eclipse.as.wtp.core.server.behavior.AbstractSubsystemController;
@@ -27,9 +58,23 @@ import org.jboss.ide.eclipse.as.wtp.core.server.behavior.IPrimaryPublishControll
 import org.jboss.ide.eclipse.as.wtp.core.server.behavior.IPublishController;
 import org.jboss.ide.eclipse.as.wtp.core.server.behavior.IPublishControllerDelegate;
 import org.jboss.ide.eclipse.as.wtp.core.server.behavior.util.PublishControllerUtil;
+import org.jboss.tools.jmx.core.IConnectionWrapper;
+import org.jboss.tools.jmx.core.IJMXRunnable;
 
+/**
+ * builds the bundle of a fuse project and hands it to the primary publish
+ * controller. Incremental publishes rebuild the jar from target/classes with
+ * the {@link IncrementalBundleAssembler}, the Maven goals only run for full
+ * publishes or when the pom, the dependencies or the imports changed.
+ * Changes which only touch the routes of Camel XML files are pushed into the
+ * running Camel context by the {@link CamelRouteHotReloader} if enabled for
+ * the server, the bundle itself is only updated by the next publish.
+ */
 public class MavenPublishController extends AbstractSubsystemController implements IPublishControllerDelegate {
 	public static final List<String> GOALS = Arrays.asList("clean", "package");
+	
+	private static final String[] CAMEL_FILE_FOLDERS = { "OSGI-INF/blueprint/", "META-INF/spring/" };
+	private static final String BUILD_OUTPUT_FOLDER = "target/";
 
 	@Override
 	public int publishModule(int kind, int deltaKind, IModule[] module,
@@ -40,10 +85,36 @@ public class MavenPublishController extends AbstractSubsystemController implemen
 		}
 		
 		if( projectIsMaven(module)) {
-			boolean built = KarafUtils.runBuild(GOALS, module[0], monitor);
+			long start = System.currentTimeMillis();
+			String fingerprint = getBuildFingerprint(module[0]);
+			IncrementalBundleAssembler assembler = createAssembler(module[0]);
+			if (publishType == PublishControllerUtil.INCREMENTAL_PUBLISH && reloadRoutes(module)) {
+				// keep the jar in sync with the deployed routes for the next diff
+				if (assembler == null || fingerprint == null || !assembleIncrementally(assembler, fingerprint, module[0])) {
+					invalidate(assembler);
+				}
+				Activator.getLogger().debug(String.format("Reloaded the routes of %s in %d ms", module[0].getName(), System.currentTimeMillis() - start));
+				// the deployed bundle still has the old routes, keep the module marked for the next publish
+				return IServer.PUBLISH_STATE_INCREMENTAL;
+			}
+			boolean built = false;
+			String buildType = "maven";
+			if (publishType == PublishControllerUtil.INCREMENTAL_PUBLISH && assembler != null && fingerprint != null) {
+				built = assembleIncrementally(assembler, fingerprint, module[0]);
+				buildType = "incremental";
+			}
+			if (!built) {
+				buildType = "maven";
+				built = KarafUtils.runBuild(GOALS, module[0], monitor);
+				if (built) {
+					recordBuild(module[0], fingerprint);
+				}
+			}
 			if( built ) {
 				String fileUrl = KarafUtils.getBundleFilePath(module[0]);
-				return transferBuiltModule(module, new Path(fileUrl), monitor);
+				int result = transferBuiltModule(module, new Path(fileUrl), monitor);
+				Activator.getLogger().debug(String.format("Published %s using a %s build in %d ms", module[0].getName(), buildType, System.currentTimeMillis() - start));
+				return result;
 			} else {
 				// TODO error gracefully
 			}
@@ -53,6 +124,242 @@ public class MavenPublishController extends AbstractSubsystemController implemen
 		return IServer.PUBLISH_STATE_UNKNOWN;
 	}
 	
+	private boolean assembleIncrementally(IncrementalBundleAssembler assembler, String fingerprint, IModule module) {
+		try {
+			Result result = assembler.assemble(fingerprint);
+			if (result.getOutcome() == Outcome.MAVEN_BUILD_REQUIRED) {
+				Activator.getLogger().debug(String.format("Maven build required for %s: %s", module.getName(), result.getReason()));
+				return false;
+			}
+			Activator.getLogger().debug(String.format("Assembled %s from %d changed and %d removed files in %d ms", 
+					module.getName(), result.getChangedFiles().size(), result.getRemovedFiles().size(), result.getDuration()));
+			return true;
+		} catch (IOException ex) {
+			Activator.getLogger().warning("Unable to assemble the bundle of " + module.getName() + ", falling back to Maven", ex);
+			assembler.invalidate();
+			return false;
+		}
+	}
+	
+	/**
+	 * pushes the changed routes into the running Camel contexts through the
+	 * JMX connection of the server if nothing but routes changed since the
+	 * last publish
+	 * 
+	 * @return	true if the routes have been reloaded and verified, false if the
+	 * 			bundle has to be published
+	 */
+	private boolean reloadRoutes(IModule[] module) {
+		KarafServerDelegate del = (KarafServerDelegate)getServer().loadAdapter(KarafServerDelegate.class, new NullProgressMonitor());
+		if (del == null || !del.isHotRouteReload() || module.length != 1 || getServer().getServerState() != IServer.STATE_STARTED) {
+			return false;
+		}
+		Map<String, IFile> changedFiles = new LinkedHashMap<>();
+		if (!collectChangedCamelFiles(((Server)getServer()).getPublishedResourceDelta(module), changedFiles) || changedFiles.isEmpty()) {
+			return false;
+		}
+		try {
+			List<RouteChanges> changes = detectRouteChanges(module[0], changedFiles);
+			if (changes == null) {
+				return false;
+			}
+			IConnectionWrapper connection = del.getJMXConnection();
+			if (connection == null) {
+				return false;
+			}
+			if (!connection.isConnected()) {
+				// keeps the connection open for the next publishes
+				connection.connect();
+			}
+			final Exception[] failure = new Exception[1];
+			connection.run(new IJMXRunnable() {
+				@Override
+				public void run(MBeanServerConnection mbsc) throws Exception {
+					try {
+						CamelRouteHotReloader reloader = new CamelRouteHotReloader();
+						for (RouteChanges change : changes) {
+							reloader.reload(mbsc, change);
+							Activator.getLogger().debug(String.format("Reloaded routes %s of Camel context %s", change.getRouteIds(), change.getCamelContextId()));
+						}
+					} catch (Exception ex) {
+						// the connection only logs failures
+						failure[0] = ex;
+					}
+				}
+			});
+			if (failure[0] != null) {
+				throw failure[0];
+			}
+			return true;
+		} catch (Exception ex) {
+			Activator.getLogger().warning("Unable to reload the routes of " + module[0].getName() + ", publishing the bundle instead", ex);
+			return false;
+		}
+	}
+	
+	/**
+	 * collects the changed Camel XML files of the delta by their path inside the bundle
+	 * 
+	 * @return	false if anything else than an existing Camel XML file changed
+	 */
+	private boolean collectChangedCamelFiles(IModuleResourceDelta[] deltas, Map<String, IFile> changedFiles) {
+		if (deltas == null) {
+			return false;
+		}
+		for (IModuleResourceDelta delta : deltas) {
+			IModuleResource resource = delta.getModuleResource();
+			String path = resource.getModuleRelativePath().append(resource.getName()).toString();
+			if (path.startsWith(BUILD_OUTPUT_FOLDER) || delta.getKind() == IModuleResourceDelta.NO_CHANGE && resource instanceof IModuleFile) {
+				// the build output only mirrors the changed sources
+				continue;
+			}
+			if (!(resource instanceof IModuleFile)) {
+				if (delta.getKind() != IModuleResourceDelta.CHANGED && delta.getKind() != IModuleResourceDelta.NO_CHANGE
+						|| !collectChangedCamelFiles(delta.getAffectedChildren(), changedFiles)) {
+					return false;
+				}
+				continue;
+			}
+			String entryName = getBundleEntryName(path);
+			IFile file = (IFile)resource.getAdapter(IFile.class);
+			if (delta.getKind() != IModuleResourceDelta.CHANGED || entryName == null || file == null) {
+				return false;
+			}
+			changedFiles.put(entryName, file);
+		}
+		return true;
+	}
+	
+	private static String getBundleEntryName(String path) {
+		if (!path.toLowerCase().endsWith(".xml")) {
+			return null;
+		}
+		for (String folder : CAMEL_FILE_FOLDERS) {
+			int idx = path.indexOf(folder);
+			if (idx != -1) {
+				return path.substring(idx);
+			}
+		}
+		return null;
+	}
+	
+	/**
+	 * compares the changed files with their deployed version inside the bundle
+	 * 
+	 * @return	the changed routes or null if one of the files changed more than its routes
+	 */
+	private List<RouteChanges> detectRouteChanges(IModule module, Map<String, IFile> changedFiles) throws CoreException, IOException {
+		File bundleFile = KarafUtils.getBundleFile(module);
+		if (bundleFile == null || !bundleFile.isFile()) {
+			return null;
+		}
+		List<RouteChanges> answer = new ArrayList<>();
+		try (JarFile jar = new JarFile(bundleFile)) {
+			for (Map.Entry<String, IFile> e : changedFiles.entrySet()) {
+				ZipEntry entry = jar.getEntry(e.getKey());
+				if (entry == null || e.getValue().getLocation() == null) {
+					return null;
+				}
+				RouteChanges changes;
+				try (InputStream in = jar.getInputStream(entry)) {
+					changes = CamelRouteHotReloader.detectRouteChanges(readAll(in), Files.readAllBytes(e.getValue().getLocation().toFile().toPath()));
+				}
+				if (changes == null) {
+					return null;
+				}
+				answer.add(changes);
+			}
+		}
+		return answer;
+	}
+	
+	private static byte[] readAll(InputStream in) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] buffer = new byte[8192];
+		int read;
+		while ((read = in.read(buffer)) != -1) {
+			out.write(buffer, 0, read);
+		}
+		return out.toByteArray();
+	}
+	
+	private static void invalidate(IncrementalBundleAssembler assembler) {
+		if (assembler != null) {
+			assembler.invalidate();
+		}
+	}
+	
+	private void recordBuild(IModule module, String fingerprint) {
+		// the jar may only have been built now
+		IncrementalBundleAssembler assembler = createAssembler(module);
+		if (assembler == null) {
+			return;
+		}
+		try {
+			if (fingerprint != null) {
+				assembler.recordBuild(fingerprint);
+			} else {
+				assembler.invalidate();
+			}
+		} catch (IOException ex) {
+			Activator.getLogger().warning(ex);
+			assembler.invalidate();
+		}
+	}
+	
+	/**
+	 * @return	the assembler for the built jar of the module or null if the
+	 * 			module isn't built yet or not packaged as a jar
+	 */
+	private IncrementalBundleAssembler createAssembler(IModule module) {
+		try {
+			File bundleFile = KarafUtils.getBundleFile(module);
+			if (bundleFile == null || !bundleFile.getName().toLowerCase().endsWith(".jar")) {
+				return null;
+			}
+			File classesDir = module.getProject().getLocation().append("target").append("classes").toFile();
+			return new IncrementalBundleAssembler(classesDir, bundleFile);
+		} catch (CoreException ex) {
+			Activator.getLogger().warning(ex);
+			return null;
+		}
+	}
+	
+	/**
+	 * identifies the pom content and the resolved dependencies of the module,
+	 * a different fingerprint means the bundle has to be built by Maven
+	 * 
+	 * @return	the fingerprint or null if the pom can't be read
+	 */
+	private String getBuildFingerprint(IModule module) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-1");
+			File pom = KarafUtils.getModelFile(module);
+			if (pom == null || !pom.isFile()) {
+				return null;
+			}
+			digest.update(Files.readAllBytes(pom.toPath()));
+			IMavenProjectFacade facade = MavenPlugin.getMavenProjectRegistry().getProject(module.getProject());
+			MavenProject mavenProject = facade != null ? facade.getMavenProject() : null;
+			if (mavenProject != null) {
+				List<String> artifacts = new ArrayList<>();
+				for (Artifact artifact : mavenProject.getArtifacts()) {
+					artifacts.add(artifact.getId());
+				}
+				Collections.sort(artifacts);
+				digest.update(artifacts.toString().getBytes(StandardCharsets.UTF_8));
+			}
+			StringBuilder sb = new StringBuilder();
+			for (byte b : digest.digest()) {
+				sb.append(String.format("%02x", b));
+			}
+			return sb.toString();
+		} catch (IOException | NoSuchAlgorithmException ex) {
+			Activator.getLogger().warning(ex);
+			return null;
+		}
+	}
+	
 	private boolean projectIsMaven(IModule[] module) {
 		return true; // TODO this is wrong, stubbed out. Maybe just check module type?
 	}
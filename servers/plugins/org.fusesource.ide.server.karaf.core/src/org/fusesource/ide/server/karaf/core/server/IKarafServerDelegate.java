@@ -19,6 +19,8 @@ public interface IKarafServerDelegate {
 	static final String PORT_NUMBER = "sshPort";
 	static final String USER_ID = "userId";
 	static final String PASSWORD = "password";
+	/** push changed Camel routes into the running context instead of redeploying the bundle */
+	static final String HOT_ROUTE_RELOAD = "hotRouteReload";
 	
 	static final String SERVER_TYPE_PREFIX_KARAF   = "org.fusesource.ide.karaf.server.";
 	static final String SERVER_TYPE_PREFIX_FUSEESB = "org.fusesource.ide.fuseesb.server.";
@@ -63,4 +65,12 @@ public interface IKarafServerDelegate {
 	 * @return
 	 */
 	String getUserName();
+
+	/**
+	 * returns true if route-only changes are pushed into the running Camel
+	 * context, the bundle is still updated by the next publish
+	 * 
+	 * @return
+	 */
+	boolean isHotRouteReload();
 }
@@ -36,4 +36,11 @@ public interface IKarafServerDelegateWorkingCopy extends IKarafServerDelegate {
 	 * @param userName
 	 */
 	void setUserName(String userName);
+
+	/**
+	 * enables or disables the hot reload of changed Camel routes
+	 * 
+	 * @param hotRouteReload
+	 */
+	void setHotRouteReload(boolean hotRouteReload);
 }
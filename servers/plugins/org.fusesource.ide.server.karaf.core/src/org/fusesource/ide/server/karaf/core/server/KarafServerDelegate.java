@@ -129,6 +129,22 @@ public class KarafServerDelegate extends ServerDelegate implements
 		setAttribute(IKarafServerDelegate.USER_ID, userName);
 	}
 
+	/* (non-Javadoc)
+	 * @see org.fusesource.ide.server.karaf.core.server.IKarafServerDelegate#isHotRouteReload()
+	 */
+	@Override
+	public boolean isHotRouteReload() {
+		return getAttribute(IKarafServerDelegate.HOT_ROUTE_RELOAD, false);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.fusesource.ide.server.karaf.core.server.IKarafServerDelegateWorkingCopy#setHotRouteReload(boolean)
+	 */
+	@Override
+	public void setHotRouteReload(boolean hotRouteReload) {
+		setAttribute(IKarafServerDelegate.HOT_ROUTE_RELOAD, hotRouteReload);
+	}
+
 	/* (non-Javadoc)
 	 * @see org.eclipse.wst.server.core.model.ServerDelegate#canModifyModules(org.eclipse.wst.server.core.IModule[], org.eclipse.wst.server.core.IModule[])
 	 */
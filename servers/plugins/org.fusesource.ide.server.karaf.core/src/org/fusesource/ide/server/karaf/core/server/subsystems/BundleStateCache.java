@@ -0,0 +1,324 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.server.karaf.core.server.subsystems;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+
+import org.eclipse.wst.server.core.IServer;
+
+/**
+ * caches the bundle table of a Karaf instance so that looking up the id and
+ * state of a bundle does not require a full listBundles call every time.
+ * The table is refreshed from a single listBundles result or updated from
+ * OSGi bundle events, each update returns the bundles whose state changed.
+ */
+public class BundleStateCache {
+
+	/**
+	 * the bundle event types of the OSGi JMX BundleStateMBean
+	 */
+	private static final int EVENT_INSTALLED = 1;
+	private static final int EVENT_STARTED = 2;
+	private static final int EVENT_STOPPED = 4;
+	private static final int EVENT_UPDATED = 8;
+	private static final int EVENT_UNINSTALLED = 16;
+	private static final int EVENT_RESOLVED = 32;
+	private static final int EVENT_UNRESOLVED = 64;
+	private static final int EVENT_STARTING = 128;
+	private static final int EVENT_STOPPING = 256;
+
+	private final Map<Long, BundleEntry> bundlesById = new HashMap<>();
+	private final Map<String, List<BundleEntry>> bundlesByName = new HashMap<>();
+	private long lastRefresh = -1;
+
+	/**
+	 * replaces the cached table with the given listBundles result
+	 *
+	 * @param bundles	the tabular data returned by the bundleState mbean
+	 * @return	the bundles which were added, removed or changed their state
+	 */
+	public synchronized List<BundleChange> refresh(TabularData bundles) {
+		Map<Long, BundleEntry> current = new HashMap<>();
+		for (Object row : bundles.values()) {
+			if (row instanceof CompositeData) {
+				BundleEntry entry = BundleEntry.from((CompositeData)row);
+				if (entry != null) {
+					current.put(entry.getId(), entry);
+				}
+			}
+		}
+		List<BundleChange> changes = new ArrayList<>();
+		for (BundleEntry entry : current.values()) {
+			BundleEntry old = bundlesById.get(entry.getId());
+			if (old == null || !Objects.equals(old.getState(), entry.getState())) {
+				changes.add(new BundleChange(old, entry));
+			}
+		}
+		for (BundleEntry old : bundlesById.values()) {
+			if (!current.containsKey(old.getId())) {
+				changes.add(new BundleChange(old, null));
+			}
+		}
+		bundlesById.clear();
+		bundlesByName.clear();
+		for (BundleEntry entry : current.values()) {
+			put(entry);
+		}
+		lastRefresh = System.currentTimeMillis();
+		if (!changes.isEmpty()) {
+			notifyAll();
+		}
+		return changes;
+	}
+
+	/**
+	 * applies a bundle event notification of the bundleState mbean
+	 *
+	 * @param event	the event composite data
+	 * @return	the change or null if the event did not change a known bundle
+	 */
+	public synchronized BundleChange applyBundleEvent(CompositeData event) {
+		Object oId = event.get("Identifier");
+		Object oType = event.get("EventType");
+		if (oId == null || oType == null) {
+			return null;
+		}
+		long id = Long.parseLong(oId.toString());
+		int type = Integer.parseInt(oType.toString());
+		BundleEntry old = bundlesById.get(id);
+		if (type == EVENT_UNINSTALLED) {
+			if (old == null) {
+				return null;
+			}
+			remove(old);
+			notifyAll();
+			return new BundleChange(old, null);
+		}
+		String state = getStateForEvent(type);
+		if (old == null) {
+			// we don't know the version of a new bundle, the next refresh fills it in
+			Object bsn = event.get("SymbolicName");
+			if (bsn == null || state == null) {
+				return null;
+			}
+			BundleEntry entry = new BundleEntry(id, bsn.toString(), null, state);
+			put(entry);
+			notifyAll();
+			return new BundleChange(null, entry);
+		}
+		if (state == null || state.equals(old.getState())) {
+			return null;
+		}
+		BundleEntry entry = new BundleEntry(id, old.getSymbolicName(), old.getVersion(), state);
+		remove(old);
+		put(entry);
+		notifyAll();
+		return new BundleChange(old, entry);
+	}
+	
+	/**
+	 * blocks until the bundle reached the given state through a refresh or a
+	 * bundle event, or the timeout elapsed
+	 * 
+	 * @param bundleId	the bundle id
+	 * @param status	the expected server state, see {@link IServer}
+	 * @param timeout	the maximum time to wait in milliseconds
+	 * @return	true if the bundle is in the expected state
+	 */
+	public synchronized boolean awaitBundleStatus(long bundleId, int status, long timeout) {
+		long deadline = System.currentTimeMillis() + timeout;
+		long remaining = timeout;
+		while (getBundleStatus(bundleId) != status && remaining > 0) {
+			try {
+				wait(remaining);
+			} catch (InterruptedException ie) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+			remaining = deadline - System.currentTimeMillis();
+		}
+		return getBundleStatus(bundleId) == status;
+	}
+
+	/**
+	 * @param bundleSymbolicName	the symbolic name
+	 * @param version				the version or null to take the first bundle with that name
+	 * @return	the bundle id or -1 if not known
+	 */
+	public synchronized long getBundleId(String bundleSymbolicName, String version) {
+		List<BundleEntry> entries = bundlesByName.get(bundleSymbolicName);
+		if (entries != null) {
+			for (BundleEntry entry : entries) {
+				if (version == null || version.equals(entry.getVersion())) {
+					return entry.getId();
+				}
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @param bundleId	the bundle id
+	 * @return	the mapped server state or IServer.STATE_UNKNOWN if the bundle is not known
+	 */
+	public synchronized int getBundleStatus(long bundleId) {
+		BundleEntry entry = bundlesById.get(bundleId);
+		if (entry == null || entry.getState() == null) {
+			return IServer.STATE_UNKNOWN;
+		}
+		return OSGiBundleState.getStatusForString(entry.getState());
+	}
+
+	/**
+	 * @param maxAge	the maximum age in milliseconds
+	 * @return	true if the cache never was refreshed or the last refresh is older than maxAge
+	 */
+	public synchronized boolean isStale(long maxAge) {
+		return lastRefresh < 0 || System.currentTimeMillis() - lastRefresh > maxAge;
+	}
+
+	/**
+	 * marks the cache as stale so the next lookup refreshes it, the cached
+	 * entries are kept to diff against
+	 */
+	public synchronized void invalidate() {
+		lastRefresh = -1;
+	}
+
+	public synchronized List<BundleEntry> getBundles() {
+		return Collections.unmodifiableList(new ArrayList<>(bundlesById.values()));
+	}
+
+	private void put(BundleEntry entry) {
+		bundlesById.put(entry.getId(), entry);
+		bundlesByName.computeIfAbsent(entry.getSymbolicName(), k -> new ArrayList<>()).add(entry);
+	}
+
+	private void remove(BundleEntry entry) {
+		bundlesById.remove(entry.getId());
+		List<BundleEntry> entries = bundlesByName.get(entry.getSymbolicName());
+		if (entries != null) {
+			entries.remove(entry);
+			if (entries.isEmpty()) {
+				bundlesByName.remove(entry.getSymbolicName());
+			}
+		}
+	}
+
+	private static String getStateForEvent(int type) {
+		switch (type) {
+			case EVENT_INSTALLED:
+			case EVENT_UNRESOLVED:
+				return OSGiBundleState.INSTALLED.name();
+			case EVENT_RESOLVED:
+			case EVENT_STOPPED:
+			case EVENT_UPDATED:
+				return OSGiBundleState.RESOLVED.name();
+			case EVENT_STARTING:
+				return OSGiBundleState.STARTING.name();
+			case EVENT_STARTED:
+				return OSGiBundleState.ACTIVE.name();
+			case EVENT_STOPPING:
+				return OSGiBundleState.STOPPING.name();
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * a row of the bundle table
+	 */
+	public static final class BundleEntry {
+		private final long id;
+		private final String symbolicName;
+		private final String version;
+		private final String state;
+
+		public BundleEntry(long id, String symbolicName, String version, String state) {
+			this.id = id;
+			this.symbolicName = symbolicName;
+			this.version = version;
+			this.state = state;
+		}
+
+		static BundleEntry from(CompositeData cd) {
+			Object bsn = cd.get("SymbolicName");
+			Object id = cd.get("Identifier");
+			if (bsn == null || id == null) {
+				return null;
+			}
+			Object ver = cd.get("Version");
+			Object state = cd.get("State");
+			return new BundleEntry(Long.parseLong(id.toString()), bsn.toString(), ver != null ? ver.toString() : null, state != null ? state.toString() : null);
+		}
+
+		public long getId() {
+			return id;
+		}
+
+		public String getSymbolicName() {
+			return symbolicName;
+		}
+
+		public String getVersion() {
+			return version;
+		}
+
+		public String getState() {
+			return state;
+		}
+	}
+
+	/**
+	 * a state change of a bundle, old or new entry is null for installed and
+	 * uninstalled bundles
+	 */
+	public static final class BundleChange {
+		private final BundleEntry oldEntry;
+		private final BundleEntry newEntry;
+
+		public BundleChange(BundleEntry oldEntry, BundleEntry newEntry) {
+			this.oldEntry = oldEntry;
+			this.newEntry = newEntry;
+		}
+
+		public BundleEntry getOldEntry() {
+			return oldEntry;
+		}
+
+		public BundleEntry getNewEntry() {
+			return newEntry;
+		}
+
+		public long getBundleId() {
+			return newEntry != null ? newEntry.getId() : oldEntry.getId();
+		}
+
+		public String getSymbolicName() {
+			return newEntry != null ? newEntry.getSymbolicName() : oldEntry.getSymbolicName();
+		}
+
+		/**
+		 * @return	the mapped server state after the change
+		 */
+		public int getNewStatus() {
+			return newEntry != null && newEntry.getState() != null ? OSGiBundleState.getStatusForString(newEntry.getState()) : IServer.STATE_UNKNOWN;
+		}
+	}
+}
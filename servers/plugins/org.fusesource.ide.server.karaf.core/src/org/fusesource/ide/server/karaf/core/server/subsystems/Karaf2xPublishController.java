@@ -87,6 +87,11 @@ public class Karaf2xPublishController extends AbstractSubsystemController implem
 	 */
 	@Override
 	public void publishStart(IProgressMonitor monitor) throws CoreException {
+		// the bundle table is loaded once per publish cycle by the module state controller
+		Object cache = getControllableBehavior().getSharedData(OSGiBundleStateController.BUNDLE_STATE_CACHE_KEY);
+		if (cache instanceof BundleStateCache) {
+			((BundleStateCache)cache).invalidate();
+		}
 	}
 
 	/*
@@ -11,12 +11,16 @@
 package org.fusesource.ide.server.karaf.core.server.subsystems;
 
 import java.io.IOException;
-import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import javax.management.MBeanNotificationInfo;
 import javax.management.MBeanServerConnection;
+import javax.management.Notification;
+import javax.management.NotificationListener;
 import javax.management.ObjectInstance;
 import javax.management.ObjectName;
 import javax.management.openmbean.CompositeData;
@@ -33,8 +37,10 @@ import org.eclipse.core.runtime.Status;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.wst.server.core.IModule;
 import org.eclipse.wst.server.core.IServer;
+import org.eclipse.wst.server.core.internal.Server;
 import org.fusesource.ide.server.karaf.core.Activator;
 import org.fusesource.ide.server.karaf.core.server.KarafServerDelegate;
+import org.fusesource.ide.server.karaf.core.server.subsystems.BundleStateCache.BundleChange;
 import org.fusesource.ide.server.karaf.core.util.KarafUtils;
 import org.jboss.ide.eclipse.as.wtp.core.server.behavior.AbstractSubsystemController;
 import org.jboss.ide.eclipse.as.wtp.core.server.behavior.ControllableServerBehavior;
@@ -50,12 +56,31 @@ public class OSGiBundleStateController extends AbstractSubsystemController imple
 	private static final String BUNDLE_STATE_PREFIX = "karaf_module_state:";
 	private static final String OSGI_FRAMEWORK_MBEAN = "osgi.core:type=framework,*";
 	private static final String OSGI_BUNDLESTATE_MBEAN = "osgi.core:type=bundleState,*";
+	static final String BUNDLE_STATE_CACHE_KEY = "karaf_bundle_state_cache";
+	private static final String BUNDLE_EVENT_TYPE = "org.osgi.bundle.event";
+	/** the maximum age of the cached bundle table when no bundle events are received */
+	private static final long BUNDLE_STATE_CACHE_MAX_AGE = 5000L;
+	/** the first and the maximum delay between two bundle state checks while waiting for a module */
+	private static final long MODULE_WAIT_INITIAL_DELAY = 250L;
+	private static final long MODULE_WAIT_MAX_DELAY = 2000L;
 
 	protected JMXServiceURL url;
 	protected JMXConnector jmxc;
 	protected MBeanServerConnection mbsc;
 	protected ObjectName objectNameBundleState;
 	protected ObjectName objectNameFramework;
+	protected boolean listeningForBundleEvents;
+	private final NotificationListener bundleEventListener = new NotificationListener() {
+		@Override
+		public void handleNotification(Notification notification, Object handback) {
+			if (notification.getUserData() instanceof CompositeData) {
+				BundleChange change = getBundleStateCache().applyBundleEvent((CompositeData)notification.getUserData());
+				if (change != null) {
+					propagateStateChanges(Collections.singletonList(change));
+				}
+			}
+		}
+	};
 	
 	protected ControllableServerBehavior getServerBehavior(IServer server) {
 		return (ControllableServerBehavior)server.loadAdapter(ControllableServerBehavior.class, new NullProgressMonitor());
@@ -102,6 +127,7 @@ public class OSGiBundleStateController extends AbstractSubsystemController imple
 		    	if (oMbean instanceof ObjectInstance) {
 		    		ObjectInstance oi = (ObjectInstance)oMbean;
 		    		this.objectNameFramework = oi.getObjectName();
+		    		registerBundleEventListener();
 		    		return true;
 		    	}
 		    }
@@ -120,6 +146,7 @@ public class OSGiBundleStateController extends AbstractSubsystemController imple
 	 */
 	protected boolean disconnect() {
 		try {
+			unregisterBundleEventListener();
 			if (this.jmxc != null) {
 				this.jmxc.close();
 			}
@@ -134,6 +161,48 @@ public class OSGiBundleStateController extends AbstractSubsystemController imple
 		return false;
 	}
 	
+	/**
+	 * returns the bundle table cache shared by all controllers of the server
+	 * 
+	 * @return	the cache, never null
+	 */
+	protected BundleStateCache getBundleStateCache() {
+		ControllableServerBehavior behavior = getServerBehavior(getServer());
+		synchronized (behavior) {
+			BundleStateCache cache = (BundleStateCache)behavior.getSharedData(BUNDLE_STATE_CACHE_KEY);
+			if (cache == null) {
+				cache = new BundleStateCache();
+				behavior.putSharedData(BUNDLE_STATE_CACHE_KEY, cache);
+			}
+			return cache;
+		}
+	}
+	
+	/**
+	 * reloads the bundle table with a single listBundles call and propagates
+	 * the state changes to the server view
+	 * 
+	 * @return	true if the table could be loaded
+	 */
+	protected boolean refreshBundleStates() {
+		try {
+			TabularData tabData = (TabularData)mbsc.invoke(this.objectNameBundleState, "listBundles", null, null);
+			propagateStateChanges(getBundleStateCache().refresh(tabData));
+			return true;
+		} catch (Exception ex) {
+			// ignore
+		}
+		return false;
+	}
+	
+	private boolean refreshBundleStatesIfStale() {
+		// with bundle events the table only needs a reload once it was invalidated
+		if (getBundleStateCache().isStale(listeningForBundleEvents ? Long.MAX_VALUE : BUNDLE_STATE_CACHE_MAX_AGE)) {
+			return refreshBundleStates();
+		}
+		return false;
+	}
+	
 	/**
 	 * queries the bundle id of the module deployed in the server
 	 * 
@@ -142,52 +211,70 @@ public class OSGiBundleStateController extends AbstractSubsystemController imple
 	 * @return						the bundle id or -1 if not found
 	 */
 	protected long getBundleId(String bundleSymbolicName, String version) {
-		try {
-			TabularData tabData = (TabularData)mbsc.invoke(this.objectNameBundleState, "listBundles", null, null);
-			final Collection<?> rows = tabData.values();
-			for (Object row : rows) {
-				if (row instanceof CompositeData) {
-					CompositeData cd = (CompositeData) row;
-					String bsn = cd.get("SymbolicName").toString();
-					String id = cd.get("Identifier").toString();
-					String ver = cd.get("Version").toString();
-					if (version != null) {
-						if (bsn.equals(bundleSymbolicName) && ver.equals(version)) {
-							return Long.parseLong(id);
-						}	
-					} else {
-						// if we don't have a version we take the first best
-						if (bsn.equals(bundleSymbolicName)) {
-							return Long.parseLong(id);
-						}
+		boolean refreshed = refreshBundleStatesIfStale();
+		long id = getBundleStateCache().getBundleId(bundleSymbolicName, version);
+		if (id == -1 && !refreshed && refreshBundleStates()) {
+			// the bundle may have been installed since the last refresh
+			id = getBundleStateCache().getBundleId(bundleSymbolicName, version);
+		}
+		return id;
+	}
+	
+	protected int getBundleStatus(long bundleId) {
+		refreshBundleStatesIfStale();
+		return getBundleStateCache().getBundleStatus(bundleId);
+	}
+	
+	/**
+	 * updates the module state of the server modules whose bundle changed its state
+	 * 
+	 * @param changes	the changed bundles
+	 */
+	protected void propagateStateChanges(List<BundleChange> changes) {
+		if (changes.isEmpty() || getServer() == null) {
+			return;
+		}
+		for (IModule module : getServer().getModules()) {
+			try {
+				String symbolicName = KarafUtils.getBundleSymbolicName(module);
+				for (BundleChange change : changes) {
+					if (symbolicName.equals(change.getSymbolicName())) {
+						((Server)getServer()).setModuleState(new IModule[] { module }, change.getNewStatus());
 					}
 				}
+			} catch (CoreException ex) {
+				Activator.getLogger().warning(ex);
 			}
-		} catch (Exception ex) {
-			// ignore
 		}
-		return -1;
 	}
 	
-	protected int getBundleStatus(long bundleId) {
+	private void registerBundleEventListener() {
 		try {
-			TabularData tabData = (TabularData)mbsc.invoke(this.objectNameBundleState, "listBundles", null, null);
-			final Collection<?> rows = tabData.values();
-			for (Object row : rows) {
-				if (row instanceof CompositeData) {
-					CompositeData cd = (CompositeData) row;
-					String id = cd.get("Identifier").toString();
-					String state = cd.get("State").toString();
-					long longID = Long.parseLong(id); 
-					if (bundleId == longID) {
-						return OSGiBundleState.getStatusForString(state);
-					}	
+			for (MBeanNotificationInfo info : mbsc.getMBeanInfo(this.objectNameBundleState).getNotifications()) {
+				for (String type : info.getNotifTypes()) {
+					if (BUNDLE_EVENT_TYPE.equals(type)) {
+						mbsc.addNotificationListener(this.objectNameBundleState, bundleEventListener, null, null);
+						// load the table once, from now on the events keep it current
+						listeningForBundleEvents = refreshBundleStates();
+						return;
+					}
 				}
 			}
 		} catch (Exception ex) {
-			// ignore
+			// the mbean doesn't emit bundle events - we fall back to listBundles calls
+			listeningForBundleEvents = false;
 		}
-		return IServer.STATE_UNKNOWN;
+	}
+	
+	private void unregisterBundleEventListener() {
+		if (listeningForBundleEvents && mbsc != null) {
+			try {
+				mbsc.removeNotificationListener(this.objectNameBundleState, bundleEventListener);
+			} catch (Exception ex) {
+				// connection may already be gone
+			}
+		}
+		listeningForBundleEvents = false;
 	}
 	
 	@Override
@@ -244,7 +331,8 @@ public class OSGiBundleStateController extends AbstractSubsystemController imple
 			String version = KarafUtils.getBundleVersion(module[0], null);
 			long id = getBundleId(symbolicName, version);
 			if (id != -1) {
-				this.mbsc.invoke(this.objectNameFramework, "startBundle", new Object[] { id }, new String[] { "long" });	
+				this.mbsc.invoke(this.objectNameFramework, "startBundle", new Object[] { id }, new String[] { "long" });
+				getBundleStateCache().invalidate();
 				return getBundleStatus(id);
 			}			
 		} catch (Exception ex) {
@@ -264,7 +352,8 @@ public class OSGiBundleStateController extends AbstractSubsystemController imple
 			String version = KarafUtils.getBundleVersion(module[0], null);
 			long id = getBundleId(symbolicName, version);
 			if (id != -1) {
-				this.mbsc.invoke(this.objectNameFramework, "stopBundle", new Object[] { id }, new String[] { "long" });	
+				this.mbsc.invoke(this.objectNameFramework, "stopBundle", new Object[] { id }, new String[] { "long" });
+				getBundleStateCache().invalidate();
 				return getBundleStatus(id);
 			}			
 		} catch (Exception ex) {
@@ -284,7 +373,8 @@ public class OSGiBundleStateController extends AbstractSubsystemController imple
 			String version = KarafUtils.getBundleVersion(module[0], null);
 			long id = getBundleId(symbolicName, version);
 			if (id != -1) {
-				this.mbsc.invoke(this.objectNameFramework, "updateBundle", new Object[] { id }, new String[] { "long" });	
+				this.mbsc.invoke(this.objectNameFramework, "updateBundle", new Object[] { id }, new String[] { "long" });
+				getBundleStateCache().invalidate();
 				return getBundleStatus(id);
 			}			
 		} catch (Exception ex) {
@@ -374,9 +464,15 @@ public class OSGiBundleStateController extends AbstractSubsystemController imple
 	protected void waitModuleStarted(String bundleSymbolicName, String version, long bundleId, IProgressMonitor monitor) {
 		try {
 			boolean waitedOnce = false;
+			long delay = MODULE_WAIT_INITIAL_DELAY;
 
 			while (!monitor.isCanceled()) {
-				boolean done = getBundleStatus(bundleId) == IServer.STATE_STARTED;
+				if (!listeningForBundleEvents) {
+					refreshBundleStates();
+				}
+				// bundle events wake us up right away, without them we back off between two listBundles calls
+				boolean done = getBundleStateCache().awaitBundleStatus(bundleId, IServer.STATE_STARTED, 
+						listeningForBundleEvents ? MODULE_WAIT_MAX_DELAY : delay);
 				if (done) {
 					return;
 				}
@@ -387,10 +483,9 @@ public class OSGiBundleStateController extends AbstractSubsystemController imple
 					Activator.getDefault().getLog().log(s);
 				}
 				waitedOnce = true;
-				try {
-					Thread.sleep(2000);
-				} catch (InterruptedException ie) {
-					Thread.currentThread().interrupt();
+				delay = Math.min(delay * 2, MODULE_WAIT_MAX_DELAY);
+				if (Thread.currentThread().isInterrupted()) {
+					break;
 				}
 			}
 
@@ -38,6 +38,7 @@ import org.eclipse.wst.server.core.model.ModuleDelegate;
 import org.eclipse.wst.server.core.model.ServerBehaviourDelegate;
 import org.fusesource.ide.foundation.core.util.Strings;
 import org.fusesource.ide.server.karaf.core.Activator;
+import org.fusesource.ide.server.karaf.core.poller.KarafStartupDetector;
 import org.fusesource.ide.server.karaf.core.server.BaseConfigPropertyProvider;
 import org.jboss.ide.eclipse.as.core.server.bean.ServerBeanLoader;
 import org.jboss.ide.eclipse.as.core.server.bean.ServerBeanType;
@@ -156,6 +157,31 @@ public class KarafUtils {
 	 */
 	public static String getBundleFilePath(final IModule module) throws CoreException {
 		final String packaging = getPackaging(module);
+		File bundleFile = getBundleFile(module, packaging);
+		if (bundleFile != null) {
+			if (packaging.equalsIgnoreCase(PACKAGING_BUNDLE)) {
+				return String.format("%sfile:%s", getProtocolPrefixForModule(module), bundleFile.getPath());
+			} else if (packaging.equalsIgnoreCase(PACKAGING_JAR)) {
+				return String.format("%sfile:%s$Bundle-SymbolicName=%s&Bundle-Version=%s", getProtocolPrefixForModule(module), bundleFile.getPath(), KarafUtils.getBundleSymbolicName(module), getBundleVersion(module, bundleFile));
+			} else if (packaging.equalsIgnoreCase(PACKAGING_WAR)) {
+				return String.format("%sfile:%s?Bundle-SymbolicName=%s&Bundle-Version=%s", getProtocolPrefixForModule(module), bundleFile.getPath(), KarafUtils.getBundleSymbolicName(module), getBundleVersion(module, bundleFile));	
+			}			
+		}
+		return null;
+	}
+	
+	/**
+	 * returns the artifact built into the target folder of the module
+	 * 
+	 * @param module
+	 * @return	the jar or war file or null if not built yet
+	 * @throws CoreException
+	 */
+	public static File getBundleFile(final IModule module) throws CoreException {
+		return getBundleFile(module, getPackaging(module));
+	}
+	
+	private static File getBundleFile(final IModule module, final String packaging) throws CoreException {
 		final String artifactId = getArtifactId(module);
 		File projectTargetPath = module.getProject().getLocation().append("target").toFile();
 		File[] jars = projectTargetPath.listFiles(new FileFilter() {
@@ -173,13 +199,7 @@ public class KarafUtils {
 			}
 		});
 		if (jars != null && jars.length>0) {
-			if (packaging.equalsIgnoreCase(PACKAGING_BUNDLE)) {
-				return String.format("%sfile:%s", getProtocolPrefixForModule(module), jars[0].getPath());
-			} else if (packaging.equalsIgnoreCase(PACKAGING_JAR)) {
-				return String.format("%sfile:%s$Bundle-SymbolicName=%s&Bundle-Version=%s", getProtocolPrefixForModule(module), jars[0].getPath(), KarafUtils.getBundleSymbolicName(module), getBundleVersion(module, jars[0]));
-			} else if (packaging.equalsIgnoreCase(PACKAGING_WAR)) {
-				return String.format("%sfile:%s?Bundle-SymbolicName=%s&Bundle-Version=%s", getProtocolPrefixForModule(module), jars[0].getPath(), KarafUtils.getBundleSymbolicName(module), getBundleVersion(module, jars[0]));	
-			}			
+			return jars[0];
 		}
 		return null;
 	}
@@ -485,6 +505,32 @@ public class KarafUtils {
 		return version;
 	}
 
+	/**
+	 * reads the start level a started instance reaches from etc/config.properties
+	 * 
+	 * @param server
+	 * @return	the karaf.startlevel property or 0 if it is not set
+	 */
+	public static int getKarafStartLevel(IServer server) {
+		if (server.getRuntime() == null) {
+			return 0;
+		}
+		File configFile = server.getRuntime().getLocation().append("etc").append("config.properties").toFile();
+		if (!configFile.isFile()) {
+			return 0;
+		}
+		BaseConfigPropertyProvider configProv = new BaseConfigPropertyProvider(configFile);
+		String startLevel = configProv.getConfigurationProperty(KarafStartupDetector.KARAF_STARTLEVEL_PROPERTY);
+		if (startLevel != null) {
+			try {
+				return Integer.parseInt(startLevel.trim());
+			} catch (NumberFormatException ex) {
+				// e.g. a placeholder, let the detector ask the instance
+			}
+		}
+		return 0;
+	}
+
 	/**
 	 * retrieve all needed information to connect to JMX server
 	 * @param server
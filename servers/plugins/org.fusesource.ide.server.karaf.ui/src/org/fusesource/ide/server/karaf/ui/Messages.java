@@ -27,6 +27,8 @@ public class Messages extends NLS {
 	public static String ConnectionDetailsEditorSection_user_name_op;
 	public static String ConnectionDetailsEditorSection_hostname_label;
 	public static String ConnectionDetailsEditorSection_hostname_op;
+	public static String ConnectionDetailsEditorSection_hot_route_reload_label;
+	public static String ConnectionDetailsEditorSection_hot_route_reload_op;
 
 	public static String AbstractKarafRuntimeComposite_bin_karaf;
 	public static String AbstractKarafRuntimeComposite_bin_karaf_bat;
@@ -18,8 +18,11 @@ import org.eclipse.core.runtime.Status;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.ModifyEvent;
 import org.eclipse.swt.events.ModifyListener;
+import org.eclipse.swt.events.SelectionAdapter;
+import org.eclipse.swt.events.SelectionEvent;
 import org.eclipse.swt.layout.GridData;
 import org.eclipse.swt.layout.GridLayout;
+import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Label;
 import org.eclipse.swt.widgets.Text;
@@ -122,6 +125,16 @@ public class ConnectionDetailsEditorSection extends ServerEditorSection {
 			}
 		};
 		sshPasswordText.addModifyListener(sshPasswordListener);
+		
+		final Button hotRouteReloadButton = toolkit.createButton(composite, Messages.ConnectionDetailsEditorSection_hot_route_reload_label, SWT.CHECK);
+		hotRouteReloadButton.setLayoutData(new GridData(SWT.FILL, SWT.CENTER, true, false, 2, 1));
+		hotRouteReloadButton.setSelection(configuration.isHotRouteReload());
+		hotRouteReloadButton.addSelectionListener(new SelectionAdapter() {
+			@Override
+			public void widgetSelected(SelectionEvent e) {
+				execute(new HotRouteReloadChangeOperation(configuration, hotRouteReloadButton.getSelection(), Messages.ConnectionDetailsEditorSection_hot_route_reload_op));
+			}
+		});
 	}
 	
 	/**
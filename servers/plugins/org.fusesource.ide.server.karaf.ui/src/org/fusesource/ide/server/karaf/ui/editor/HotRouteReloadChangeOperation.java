@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package org.fusesource.ide.server.karaf.ui.editor;
+
+import org.eclipse.core.commands.ExecutionException;
+import org.eclipse.core.commands.operations.AbstractOperation;
+import org.eclipse.core.runtime.IAdaptable;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.fusesource.ide.server.karaf.core.server.IKarafServerDelegateWorkingCopy;
+
+
+public class HotRouteReloadChangeOperation extends AbstractOperation {
+
+	private final IKarafServerDelegateWorkingCopy copy;
+	private final boolean newValue;
+	private final boolean oldValue;
+	public HotRouteReloadChangeOperation(IKarafServerDelegateWorkingCopy copy, boolean newValue, String label) {
+		super(label);
+		this.copy = copy;
+		oldValue = copy.isHotRouteReload();
+		this.newValue = newValue;
+	}
+
+	@Override
+	public IStatus execute(IProgressMonitor monitor, IAdaptable info)
+			throws ExecutionException {
+		copy.setHotRouteReload(newValue);
+		return Status.OK_STATUS;
+	}
+
+	@Override
+	public IStatus redo(IProgressMonitor monitor, IAdaptable info)
+			throws ExecutionException {
+		return execute(monitor, info);
+	}
+
+	@Override
+	public IStatus undo(IProgressMonitor monitor, IAdaptable info)
+			throws ExecutionException {
+		copy.setHotRouteReload(oldValue);
+		return Status.OK_STATUS;
+	}
+
+}
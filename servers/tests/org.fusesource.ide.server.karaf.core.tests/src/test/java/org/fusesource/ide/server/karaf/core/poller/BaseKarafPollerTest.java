@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.server.karaf.core.poller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.eclipse.core.runtime.Path;
+import org.eclipse.wst.server.core.IRuntime;
+import org.eclipse.wst.server.core.IServer;
+import org.fusesource.ide.server.karaf.core.server.KarafServerDelegate;
+import org.fusesource.ide.server.karaf.core.server.subsystems.IServerPortController;
+import org.jboss.ide.eclipse.as.wtp.core.server.behavior.ControllableServerBehavior;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BaseKarafPollerTest {
+
+	@Rule
+	public TemporaryFolder karafHome = new TemporaryFolder();
+
+	@Mock
+	private IServer server;
+	@Mock
+	private IRuntime runtime;
+	@Mock
+	private ControllableServerBehavior behavior;
+	@Mock
+	private IServerPortController portController;
+	@Mock
+	private KarafServerDelegate serverDelegate;
+
+	private ServerSocket sshPort;
+
+	@Before
+	public void setup() throws Exception {
+		// stands in for the ssh console of the started instance
+		sshPort = new ServerSocket(0);
+		when(server.getHost()).thenReturn("localhost");
+		when(server.getRuntime()).thenReturn(runtime);
+		when(runtime.getLocation()).thenReturn(new Path(karafHome.getRoot().getAbsolutePath()));
+		doReturn(behavior).when(server).loadAdapter(ControllableServerBehavior.class, null);
+		doReturn(serverDelegate).when(server).loadAdapter(KarafServerDelegate.class, null);
+		when(behavior.getController("port")).thenReturn(portController);
+		when(portController.findPort(IServerPortController.KEY_SSH_PORT, -1)).thenReturn(sshPort.getLocalPort());
+		when(serverDelegate.getUserName()).thenReturn("karaf");
+		when(serverDelegate.getPassword()).thenReturn("karaf");
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		sshPort.close();
+	}
+
+	@Test
+	public void testStartupIsDetectedBySshPingWhenJmxIsUnavailable() throws Exception {
+		configureJmxServiceUrl("service:jmx:rmi:///jndi/rmi://localhost:" + findClosedPort() + "/karaf-root");
+		BaseKarafPoller poller = new BaseKarafPoller();
+		poller.setJMXConnectWindow(500);
+
+		long start = System.currentTimeMillis();
+		poller.beginPolling(server, true);
+		poller.waitForCompletion(10000);
+
+		assertThat(poller.isComplete()).isTrue();
+		assertThat(poller.getState()).isTrue();
+		assertThat(System.currentTimeMillis() - start).isLessThan(BaseKarafPoller.JMX_CONNECT_WINDOW);
+	}
+
+	private void configureJmxServiceUrl(String url) throws IOException {
+		File etc = karafHome.newFolder("etc");
+		Files.write(new File(etc, "org.apache.karaf.management.cfg").toPath(), ("serviceUrl = " + url + "\n").getBytes(StandardCharsets.UTF_8));
+		Files.write(new File(etc, "system.properties").toPath(), new byte[0]);
+	}
+
+	private static int findClosedPort() throws IOException {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			return socket.getLocalPort();
+		}
+	}
+}
@@ -0,0 +1,285 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.server.karaf.core.poller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Proxy;
+import java.net.ServerSocket;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerConnection;
+import javax.management.MBeanServerFactory;
+import javax.management.Notification;
+import javax.management.NotificationBroadcasterSupport;
+import javax.management.ObjectName;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class KarafStartupDetectorTest {
+
+	private static final String FRAMEWORK_NAME = "osgi.core:type=framework,version=1.7";
+	private static final String BUNDLESTATE_NAME = "osgi.core:type=bundleState,version=1.7";
+
+	private MBeanServer mbeanServer;
+
+	@Before
+	public void setup() {
+		// not tracked by the factory, nothing to release afterwards
+		mbeanServer = MBeanServerFactory.newMBeanServer();
+	}
+
+	@Test
+	public void testStartedInstanceIsDetectedRightAway() throws Exception {
+		registerKarafMBeans(new Framework(100), new BundleState());
+		KarafStartupDetector detector = new KarafStartupDetector(new FakeConnectionProvider(0));
+
+		assertThat(detector.waitForStartup(5000)).isTrue();
+		assertThat(detector.getConnectAttempts()).isEqualTo(1);
+		assertThat(detector.getStartupChecks()).isEqualTo(1);
+	}
+
+	@Test
+	public void testStartLevelIsReadFromTheInstance() throws Exception {
+		registerKarafMBeans(new Framework(80), new BundleState());
+		mbeanServer.registerMBean(ManagementFactory.getRuntimeMXBean(), new ObjectName(ManagementFactory.RUNTIME_MXBEAN_NAME));
+		String previous = System.setProperty(KarafStartupDetector.KARAF_STARTLEVEL_PROPERTY, "80");
+		try {
+			KarafStartupDetector detector = new KarafStartupDetector(new FakeConnectionProvider(0));
+
+			assertThat(detector.waitForStartup(5000)).isTrue();
+			assertThat(detector.getStartupChecks()).isEqualTo(1);
+		} finally {
+			if (previous != null) {
+				System.setProperty(KarafStartupDetector.KARAF_STARTLEVEL_PROPERTY, previous);
+			} else {
+				System.clearProperty(KarafStartupDetector.KARAF_STARTLEVEL_PROPERTY);
+			}
+		}
+	}
+
+	@Test
+	public void testConfiguredStartLevelIsRequired() throws Exception {
+		registerKarafMBeans(new Framework(80), new BundleState());
+		KarafStartupDetector detector = new KarafStartupDetector(new FakeConnectionProvider(0));
+		detector.setRequiredStartLevel(90);
+
+		assertThat(detector.waitForStartup(500)).isFalse();
+	}
+
+	@Test
+	public void testConnectionAttemptsBackOff() throws Exception {
+		registerKarafMBeans(new Framework(100), new BundleState());
+		KarafStartupDetector detector = new KarafStartupDetector(new FakeConnectionProvider(3));
+		detector.setInitialDelay(50);
+
+		long start = System.currentTimeMillis();
+		assertThat(detector.waitForStartup(5000)).isTrue();
+
+		// 50 + 100 + 200 ms between the four attempts
+		assertThat(System.currentTimeMillis() - start).isGreaterThanOrEqualTo(350);
+		assertThat(detector.getConnectAttempts()).isEqualTo(4);
+	}
+
+	@Test
+	public void testStartupIsObservedThroughBundleEvents() throws Exception {
+		final Framework framework = new Framework(60);
+		final BundleState bundleState = new BundleState();
+		registerKarafMBeans(framework, bundleState);
+		KarafStartupDetector detector = new KarafStartupDetector(new FakeConnectionProvider(0));
+		// the backoff checks alone would not notice the start level change in time
+		detector.setInitialDelay(60000);
+		detector.setMaxDelay(60000);
+
+		Thread starter = new Thread(() -> {
+			sleep(200);
+			framework.setFrameworkStartLevel(100);
+			bundleState.fireBundleEvent();
+		});
+		starter.start();
+		long start = System.currentTimeMillis();
+		boolean started = detector.waitForStartup(10000);
+		starter.join();
+
+		assertThat(started).isTrue();
+		assertThat(System.currentTimeMillis() - start).isLessThan(5000);
+		assertThat(detector.getStartupChecks()).isEqualTo(2);
+	}
+
+	@Test
+	public void testMBeanRegistrationWakesUpDetector() throws Exception {
+		KarafStartupDetector detector = new KarafStartupDetector(new FakeConnectionProvider(0));
+		detector.setInitialDelay(60000);
+		detector.setMaxDelay(60000);
+
+		Thread starter = new Thread(() -> {
+			sleep(200);
+			try {
+				registerKarafMBeans(new Framework(100), new BundleState());
+			} catch (Exception ex) {
+				throw new IllegalStateException(ex);
+			}
+		});
+		starter.start();
+		long start = System.currentTimeMillis();
+		boolean started = detector.waitForStartup(10000);
+		starter.join();
+
+		assertThat(started).isTrue();
+		assertThat(System.currentTimeMillis() - start).isLessThan(5000);
+	}
+
+	@Test
+	public void testCancelStopsDetection() throws Exception {
+		registerKarafMBeans(new Framework(10), new BundleState());
+		final KarafStartupDetector detector = new KarafStartupDetector(new FakeConnectionProvider(0));
+		final AtomicBoolean result = new AtomicBoolean(true);
+
+		Thread waiter = new Thread(() -> result.set(detector.waitForStartup(Long.MAX_VALUE)));
+		waiter.start();
+		sleep(200);
+		detector.cancel();
+		waiter.join(5000);
+
+		assertThat(waiter.isAlive()).isFalse();
+		assertThat(result.get()).isFalse();
+	}
+
+	@Test
+	public void testTimeoutWhileUnreachable() throws Exception {
+		KarafStartupDetector detector = new KarafStartupDetector(new FakeConnectionProvider(Integer.MAX_VALUE));
+
+		assertThat(detector.waitForStartup(500)).isFalse();
+		assertThat(detector.getConnectAttempts()).isBetween(3, 6);
+	}
+
+	@Test
+	public void testUnreachableJmxGivesUpAfterConnectTimeout() throws Exception {
+		int closedPort;
+		try (ServerSocket socket = new ServerSocket(0)) {
+			closedPort = socket.getLocalPort();
+		}
+		KarafStartupDetector detector = new KarafStartupDetector(new KarafStartupDetector.JMXConnectionProvider(
+				"service:jmx:rmi:///jndi/rmi://localhost:" + closedPort + "/karaf-root", "karaf", "karaf", 1000));
+		detector.setConnectTimeout(500);
+
+		long start = System.currentTimeMillis();
+		assertThat(detector.waitForStartup(Long.MAX_VALUE)).isFalse();
+		assertThat(System.currentTimeMillis() - start).isLessThan(5000);
+		assertThat(detector.getConnectAttempts()).isGreaterThanOrEqualTo(1);
+	}
+
+	@Test
+	public void testLostConnectionEndsDetection() throws Exception {
+		KarafStartupDetector detector = new KarafStartupDetector(new KarafStartupDetector.ConnectionProvider() {
+			@Override
+			public MBeanServerConnection connect() throws IOException {
+				return (MBeanServerConnection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { MBeanServerConnection.class },
+						(proxy, method, args) -> {
+							throw new IOException("Connection reset");
+						});
+			}
+
+			@Override
+			public void close() {
+			}
+		});
+
+		assertThat(detector.waitForStartup(Long.MAX_VALUE)).isFalse();
+		assertThat(detector.getStartupChecks()).isEqualTo(1);
+	}
+
+	@Test
+	public void testNextDelayIsBounded() throws Exception {
+		assertThat(KarafStartupDetector.nextDelay(100, 5000)).isEqualTo(200);
+		assertThat(KarafStartupDetector.nextDelay(4000, 5000)).isEqualTo(5000);
+		assertThat(KarafStartupDetector.nextDelay(0, 5000)).isEqualTo(2);
+	}
+
+	private void registerKarafMBeans(Framework framework, BundleState bundleState) throws Exception {
+		mbeanServer.registerMBean(bundleState, new ObjectName(BUNDLESTATE_NAME));
+		mbeanServer.registerMBean(framework, new ObjectName(FRAMEWORK_NAME));
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * hands out the local mbean server after a number of failed attempts
+	 */
+	private class FakeConnectionProvider implements KarafStartupDetector.ConnectionProvider {
+		private int failures;
+
+		FakeConnectionProvider(int failures) {
+			this.failures = failures;
+		}
+
+		@Override
+		public MBeanServerConnection connect() throws IOException {
+			if (failures > 0) {
+				failures--;
+				throw new IOException("Connection refused");
+			}
+			return mbeanServer;
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+
+	public interface FrameworkMBean {
+		int getFrameworkStartLevel();
+	}
+
+	public static class Framework implements FrameworkMBean {
+		private volatile int frameworkStartLevel;
+
+		Framework(int frameworkStartLevel) {
+			this.frameworkStartLevel = frameworkStartLevel;
+		}
+
+		@Override
+		public int getFrameworkStartLevel() {
+			return frameworkStartLevel;
+		}
+
+		void setFrameworkStartLevel(int frameworkStartLevel) {
+			this.frameworkStartLevel = frameworkStartLevel;
+		}
+	}
+
+	public interface BundleStateMBean {
+		int getBundleCount();
+	}
+
+	public static class BundleState extends NotificationBroadcasterSupport implements BundleStateMBean {
+		private long sequence;
+
+		@Override
+		public int getBundleCount() {
+			return 0;
+		}
+
+		void fireBundleEvent() {
+			sendNotification(new Notification("org.osgi.bundle.event", this, ++sequence));
+		}
+	}
+}
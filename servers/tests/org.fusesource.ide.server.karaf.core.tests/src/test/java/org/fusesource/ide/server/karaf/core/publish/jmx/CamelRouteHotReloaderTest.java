@@ -0,0 +1,221 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.server.karaf.core.publish.jmx;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+import org.fusesource.ide.camel.model.service.core.jmx.camel.CamelContextMBean;
+import org.fusesource.ide.camel.model.service.core.jmx.camel.CamelRouteMBean;
+import org.fusesource.ide.server.karaf.core.publish.jmx.CamelRouteHotReloader.RouteChanges;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CamelRouteHotReloaderTest {
+
+	private static final String HEADER = "<blueprint xmlns=\"http://www.osgi.org/xmlns/blueprint/v1.0.0\">"
+			+ "<bean id=\"helper\" class=\"com.acme.Helper\"/>"
+			+ "<camelContext id=\"ctx\" xmlns=\"http://camel.apache.org/schema/blueprint\">";
+	private static final String FOOTER = "</camelContext></blueprint>";
+	private static final String ROUTE_A = "<route id=\"a\"><from uri=\"timer:a\"/><to uri=\"log:a\"/></route>";
+	private static final String ROUTE_B = "<route id=\"b\"><from uri=\"timer:b\"/><to uri=\"log:b\"/></route>";
+	private static final String ROUTE_B_CHANGED = "<route id=\"b\"><from uri=\"timer:b\"/><to uri=\"log:changed\"/></route>";
+
+	private MBeanServer mbeanServer;
+	private FakeCamelContext camelContext;
+
+	@Before
+	public void setup() throws Exception {
+		// not tracked by the factory, nothing to release afterwards
+		mbeanServer = MBeanServerFactory.newMBeanServer();
+		camelContext = new FakeCamelContext();
+		CamelContextMBean context = (CamelContextMBean)Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { CamelContextMBean.class }, camelContext);
+		register("org.apache.camel:context=12-ctx,type=context,name=\"ctx\"", context, CamelContextMBean.class);
+		registerRoute("a", "Started");
+		registerRoute("b", "Started");
+	}
+
+	@Test
+	public void testChangedRouteIsDetected() throws Exception {
+		RouteChanges changes = detect(HEADER + ROUTE_A + ROUTE_B + FOOTER, HEADER + ROUTE_A + "\n  <!-- edited -->\n" + ROUTE_B_CHANGED + FOOTER);
+
+		assertThat(changes).isNotNull();
+		assertThat(changes.getCamelContextId()).isEqualTo("ctx");
+		assertThat(changes.getRouteIds()).containsExactly("b");
+		assertThat(changes.toRoutesXml())
+			.startsWith("<routes xmlns=\"http://camel.apache.org/schema/spring\">")
+			.contains("log:changed")
+			.doesNotContain("log:a")
+			.doesNotContain("blueprint");
+	}
+
+	@Test
+	public void testInheritedNamespacesAreKept() throws Exception {
+		String header = HEADER.replace("<blueprint ", "<blueprint xmlns:order=\"urn:acme:order\" ");
+		String route = "<route id=\"b\"><from uri=\"timer:b\"/><filter><xpath>/order:order</xpath>"
+				+ "<setBody><constant>http://camel.apache.org/schema/blueprint</constant></setBody></filter></route>";
+		RouteChanges changes = detect(header + ROUTE_A + ROUTE_B + FOOTER, header + ROUTE_A + route + FOOTER);
+
+		assertThat(changes.toRoutesXml())
+			.contains("xmlns:order=\"urn:acme:order\"")
+			.contains("<constant>http://camel.apache.org/schema/blueprint</constant>")
+			.doesNotContain("xmlns=\"http://camel.apache.org/schema/blueprint\"");
+	}
+
+	@Test
+	public void testAddedRouteIsDetected() throws Exception {
+		RouteChanges changes = detect(HEADER + ROUTE_A + FOOTER, HEADER + ROUTE_A + ROUTE_B + FOOTER);
+
+		assertThat(changes.getRouteIds()).containsExactly("b");
+	}
+
+	@Test
+	public void testFormattingOnlyChangeHasNoRoutes() throws Exception {
+		RouteChanges changes = detect(HEADER + ROUTE_A + FOOTER, HEADER + "\n\t" + ROUTE_A + "\n" + FOOTER);
+
+		assertThat(changes.isEmpty()).isTrue();
+	}
+
+	@Test
+	public void testChangeOutsideOfRoutesIsRejected() throws Exception {
+		String changedHeader = HEADER.replace("com.acme.Helper", "com.acme.OtherHelper");
+
+		assertThat(detect(HEADER + ROUTE_A + FOOTER, changedHeader + ROUTE_A + FOOTER)).isNull();
+	}
+
+	@Test
+	public void testRemovedRouteIsRejected() throws Exception {
+		assertThat(detect(HEADER + ROUTE_A + ROUTE_B + FOOTER, HEADER + ROUTE_A + FOOTER)).isNull();
+	}
+
+	@Test
+	public void testRouteWithoutIdIsRejected() throws Exception {
+		String anonymous = "<route><from uri=\"timer:x\"/><to uri=\"log:x\"/></route>";
+
+		assertThat(detect(HEADER + ROUTE_A + FOOTER, HEADER + ROUTE_A + anonymous + FOOTER)).isNull();
+	}
+
+	@Test
+	public void testRenamedContextIsRejected() throws Exception {
+		assertThat(detect(HEADER + ROUTE_A + FOOTER, HEADER.replace("\"ctx\"", "\"ctx2\"") + ROUTE_A + FOOTER)).isNull();
+	}
+
+	@Test
+	public void testDoctypeIsRejected() throws Exception {
+		String doctype = "<!DOCTYPE blueprint [<!ENTITY x \"y\">]>";
+
+		assertThat(detect(HEADER + ROUTE_A + FOOTER, doctype + HEADER + ROUTE_A + ROUTE_B + FOOTER)).isNull();
+	}
+
+	@Test
+	public void testReloadPushesChangedRoutes() throws Exception {
+		RouteChanges changes = detect(HEADER + ROUTE_A + ROUTE_B + FOOTER, HEADER + ROUTE_A + ROUTE_B_CHANGED + FOOTER);
+
+		new CamelRouteHotReloader().reload(mbeanServer, changes);
+
+		assertThat(camelContext.updates).hasSize(1);
+		assertThat(camelContext.updates.get(0)).contains("log:changed").doesNotContain("log:a");
+	}
+
+	@Test(expected = Exception.class)
+	public void testReloadFailsIfRouteDoesNotStart() throws Exception {
+		camelContext.stateOfUpdatedRoutes = "Stopped";
+		RouteChanges changes = detect(HEADER + ROUTE_A + ROUTE_B + FOOTER, HEADER + ROUTE_A + ROUTE_B_CHANGED + FOOTER);
+
+		new CamelRouteHotReloader().reload(mbeanServer, changes);
+	}
+
+	@Test
+	public void testReloadAcceptsStoppedRouteWithoutAutoStartup() throws Exception {
+		camelContext.stateOfUpdatedRoutes = "Stopped";
+		String manual = "<route id=\"c\" autoStartup=\"false\"><from uri=\"timer:c\"/><to uri=\"log:c\"/></route>";
+		RouteChanges changes = detect(HEADER + ROUTE_A + FOOTER, HEADER + ROUTE_A + manual + FOOTER);
+
+		new CamelRouteHotReloader().reload(mbeanServer, changes);
+
+		assertThat(camelContext.updates).hasSize(1);
+	}
+
+	@Test(expected = Exception.class)
+	public void testReloadFailsWithoutMatchingContext() throws Exception {
+		String otherContext = HEADER.replace("\"ctx\"", "\"other\"");
+		RouteChanges changes = detect(otherContext + ROUTE_A + FOOTER, otherContext + ROUTE_A + ROUTE_B + FOOTER);
+
+		new CamelRouteHotReloader().reload(mbeanServer, changes);
+	}
+
+	private static RouteChanges detect(String oldXml, String newXml) {
+		return CamelRouteHotReloader.detectRouteChanges(oldXml.getBytes(StandardCharsets.UTF_8), newXml.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private <T> void register(String name, T mbean, Class<T> type) throws Exception {
+		ObjectName objectName = new ObjectName(name);
+		if (mbeanServer.isRegistered(objectName)) {
+			mbeanServer.unregisterMBean(objectName);
+		}
+		mbeanServer.registerMBean(new StandardMBean(mbean, type), objectName);
+	}
+
+	private void registerRoute(final String routeId, final String state) throws Exception {
+		CamelRouteMBean route = (CamelRouteMBean)Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { CamelRouteMBean.class },
+				(proxy, method, args) -> {
+					switch (method.getName()) {
+					case "getRouteId":
+						return routeId;
+					case "getState":
+						return state;
+					default:
+						return null;
+					}
+				});
+		register("org.apache.camel:context=12-ctx,type=routes,name=\"" + routeId + "\"", route, CamelRouteMBean.class);
+	}
+
+	/**
+	 * records the route updates and registers the updated routes in the given state
+	 */
+	private class FakeCamelContext implements InvocationHandler {
+		private final List<String> updates = new ArrayList<>();
+		private String stateOfUpdatedRoutes = "Started";
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			switch (method.getName()) {
+			case "getCamelId":
+				return "ctx";
+			case "getManagementName":
+				return "12-ctx";
+			case "addOrUpdateRoutesFromXml":
+				updates.add((String)args[0]);
+				Matcher m = Pattern.compile("<route[^>]* id=\"([^\"]+)\"").matcher((String)args[0]);
+				while (m.find()) {
+					registerRoute(m.group(1), stateOfUpdatedRoutes);
+				}
+				return null;
+			default:
+				return null;
+			}
+		}
+	}
+}
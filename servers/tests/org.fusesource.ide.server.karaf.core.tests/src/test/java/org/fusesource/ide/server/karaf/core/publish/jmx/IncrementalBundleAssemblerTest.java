@@ -0,0 +1,250 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.server.karaf.core.publish.jmx;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+import org.fusesource.ide.server.karaf.core.publish.jmx.IncrementalBundleAssembler.Outcome;
+import org.fusesource.ide.server.karaf.core.publish.jmx.IncrementalBundleAssembler.Result;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class IncrementalBundleAssemblerTest {
+
+	private static final String FINGERPRINT = "pom-1";
+	private static final String ROUTE = "OSGI-INF/blueprint/camel-context.xml";
+	private static final String SAMPLE_CLASS = Sample.class.getName().replace('.', '/') + ".class";
+	private static final String TEST_CLASS = IncrementalBundleAssemblerTest.class.getName().replace('.', '/') + ".class";
+	private static final String EMBEDDED = "lib/embedded-dependency.jar";
+	private static final int RESOURCE_COUNT = 300;
+
+	@Rule
+	public TemporaryFolder tmp = new TemporaryFolder();
+
+	private File classesDir;
+	private File bundleJar;
+
+	@Before
+	public void setup() throws Exception {
+		File target = tmp.newFolder("target");
+		classesDir = new File(target, "classes");
+		bundleJar = new File(target, "my-route-1.0.0.jar");
+		write(ROUTE, "<blueprint><camelContext/></blueprint>");
+		write(SAMPLE_CLASS, readClass(SAMPLE_CLASS));
+		for (int i = 0; i < RESOURCE_COUNT; i++) {
+			write("data/resource-" + i + ".txt", "resource " + i);
+		}
+		buildJar("org.osgi.service.blueprint;version=\"[1.0.0,2.0.0)\",org.apache.camel;version=\"[2.17,3)\"");
+	}
+
+	@Test
+	public void testMavenRequiredWithoutRecordedBuild() throws Exception {
+		Result result = new IncrementalBundleAssembler(classesDir, bundleJar).assemble(FINGERPRINT);
+
+		assertThat(result.getOutcome()).isEqualTo(Outcome.MAVEN_BUILD_REQUIRED);
+	}
+
+	@Test
+	public void testSingleFileChangeIsAssembled() throws Exception {
+		IncrementalBundleAssembler assembler = new IncrementalBundleAssembler(classesDir, bundleJar);
+		assembler.recordBuild(FINGERPRINT);
+		touch(ROUTE, "<blueprint><camelContext id=\"changed\"/></blueprint>");
+
+		Result result = assembler.assemble(FINGERPRINT);
+
+		assertThat(result.getOutcome()).isEqualTo(Outcome.ASSEMBLED);
+		assertThat(result.getChangedFiles()).containsExactly(ROUTE);
+		// a single file change has to stay far below the cost of a maven build
+		assertThat(result.getDuration()).isLessThan(2000);
+		try (JarFile jar = new JarFile(bundleJar)) {
+			assertThat(jar.getManifest().getMainAttributes().getValue("Bnd-LastModified")).isEqualTo("42");
+			assertThat(read(jar, ROUTE)).contains("changed");
+			assertThat(jar.getEntry(EMBEDDED)).isNotNull();
+			assertThat(jar.getEntry(SAMPLE_CLASS)).isNotNull();
+			assertThat(jar.getEntry("data/resource-" + (RESOURCE_COUNT - 1) + ".txt")).isNotNull();
+		}
+		assertThat(assembler.assemble(FINGERPRINT).getOutcome()).isEqualTo(Outcome.UP_TO_DATE);
+	}
+
+	@Test
+	public void testFingerprintChangeRequiresMaven() throws Exception {
+		IncrementalBundleAssembler assembler = new IncrementalBundleAssembler(classesDir, bundleJar);
+		assembler.recordBuild(FINGERPRINT);
+		touch(ROUTE, "<blueprint/>");
+
+		assertThat(assembler.assemble("pom-2").getOutcome()).isEqualTo(Outcome.MAVEN_BUILD_REQUIRED);
+	}
+
+	@Test
+	public void testDeletedFileIsRemovedFromJar() throws Exception {
+		IncrementalBundleAssembler assembler = new IncrementalBundleAssembler(classesDir, bundleJar);
+		assembler.recordBuild(FINGERPRINT);
+		Files.delete(new File(classesDir, "data/resource-0.txt").toPath());
+
+		Result result = assembler.assemble(FINGERPRINT);
+
+		assertThat(result.getOutcome()).isEqualTo(Outcome.ASSEMBLED);
+		assertThat(result.getRemovedFiles()).containsExactly("data/resource-0.txt");
+		try (JarFile jar = new JarFile(bundleJar)) {
+			assertThat(jar.getEntry("data/resource-0.txt")).isNull();
+			assertThat(jar.getEntry(EMBEDDED)).isNotNull();
+		}
+	}
+
+	@Test
+	public void testChangedClassWithKnownImportsIsAssembled() throws Exception {
+		IncrementalBundleAssembler assembler = new IncrementalBundleAssembler(classesDir, bundleJar);
+		assembler.recordBuild(FINGERPRINT);
+		File sample = new File(classesDir, SAMPLE_CLASS);
+		sample.setLastModified(sample.lastModified() + 2000);
+
+		assertThat(assembler.assemble(FINGERPRINT).getOutcome()).isEqualTo(Outcome.ASSEMBLED);
+	}
+
+	@Test
+	public void testClassWithNewImportRequiresMaven() throws Exception {
+		IncrementalBundleAssembler assembler = new IncrementalBundleAssembler(classesDir, bundleJar);
+		assembler.recordBuild(FINGERPRINT);
+		// this test references junit and assertj, which the bundle doesn't import
+		write(TEST_CLASS, readClass(TEST_CLASS));
+
+		Result result = assembler.assemble(FINGERPRINT);
+
+		assertThat(result.getOutcome()).isEqualTo(Outcome.MAVEN_BUILD_REQUIRED);
+		assertThat(result.getReason()).contains("is not imported");
+	}
+
+	@Test
+	public void testBlueprintBeanFromNewPackageRequiresMaven() throws Exception {
+		IncrementalBundleAssembler assembler = new IncrementalBundleAssembler(classesDir, bundleJar);
+		assembler.recordBuild(FINGERPRINT);
+		touch(ROUTE, "<blueprint><bean id=\"b\" class=\"com.acme.beans.MyBean\"/><camelContext/></blueprint>");
+
+		Result result = assembler.assemble(FINGERPRINT);
+
+		assertThat(result.getOutcome()).isEqualTo(Outcome.MAVEN_BUILD_REQUIRED);
+		assertThat(result.getReason()).contains("com.acme.beans");
+	}
+
+	@Test
+	public void testParsePackageNames() throws Exception {
+		assertThat(IncrementalBundleAssembler.parsePackageNames("a.b;version=\"[1,2)\",c.d;e.f;resolution:=optional,g.h"))
+			.containsOnly("a.b", "c.d", "e.f", "g.h");
+		assertThat(IncrementalBundleAssembler.parsePackageNames(null)).isEmpty();
+	}
+
+	@Test
+	public void testReferencedPackagesOfClass() throws Exception {
+		assertThat(IncrementalBundleAssembler.getReferencedPackages(readClass(TEST_CLASS)))
+			.contains("org.junit", "org.assertj.core.api", "java.util.jar");
+	}
+
+	private void buildJar(String importPackage) throws IOException {
+		Manifest manifest = new Manifest();
+		Attributes attributes = manifest.getMainAttributes();
+		attributes.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		attributes.putValue("Bundle-SymbolicName", "my-route");
+		attributes.putValue("Import-Package", importPackage);
+		attributes.putValue("Bnd-LastModified", "42");
+		List<String> files = new ArrayList<>();
+		collect(classesDir, "", files);
+		Collections.sort(files);
+		try (JarOutputStream out = new JarOutputStream(new FileOutputStream(bundleJar), manifest)) {
+			for (String name : files) {
+				out.putNextEntry(new JarEntry(name));
+				out.write(Files.readAllBytes(new File(classesDir, name).toPath()));
+				out.closeEntry();
+			}
+			out.putNextEntry(new JarEntry(EMBEDDED));
+			out.write(new byte[] { 1, 2, 3 });
+			out.closeEntry();
+		}
+	}
+
+	private static void collect(File dir, String prefix, List<String> files) {
+		for (File child : dir.listFiles()) {
+			if (child.isDirectory()) {
+				collect(child, prefix + child.getName() + "/", files);
+			} else {
+				files.add(prefix + child.getName());
+			}
+		}
+	}
+
+	private void write(String path, String content) throws IOException {
+		write(path, content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private void write(String path, byte[] content) throws IOException {
+		File file = new File(classesDir, path);
+		file.getParentFile().mkdirs();
+		Files.write(file.toPath(), content);
+	}
+
+	private void touch(String path, String content) throws IOException {
+		File file = new File(classesDir, path);
+		long before = file.lastModified();
+		write(path, content);
+		// file systems with a coarse timestamp resolution
+		file.setLastModified(before + 2000);
+	}
+
+	private static byte[] readClass(String path) throws IOException {
+		try (InputStream in = IncrementalBundleAssemblerTest.class.getClassLoader().getResourceAsStream(path)) {
+			return toBytes(in);
+		}
+	}
+
+	private static String read(JarFile jar, String name) throws IOException {
+		try (InputStream in = jar.getInputStream(jar.getEntry(name))) {
+			return new String(toBytes(in), StandardCharsets.UTF_8);
+		}
+	}
+
+	private static byte[] toBytes(InputStream in) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] buffer = new byte[4096];
+		int read;
+		while ((read = in.read(buffer)) != -1) {
+			out.write(buffer, 0, read);
+		}
+		return out.toByteArray();
+	}
+
+	/**
+	 * a class which only references java packages
+	 */
+	static class Sample {
+		private final List<String> values = new ArrayList<>();
+
+		int size() {
+			return values.size();
+		}
+	}
+}
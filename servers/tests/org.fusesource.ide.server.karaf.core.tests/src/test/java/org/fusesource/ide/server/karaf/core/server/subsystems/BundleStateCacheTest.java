@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.fusesource.ide.server.karaf.core.server.subsystems;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.CompositeDataSupport;
+import javax.management.openmbean.CompositeType;
+import javax.management.openmbean.OpenType;
+import javax.management.openmbean.SimpleType;
+import javax.management.openmbean.TabularDataSupport;
+import javax.management.openmbean.TabularType;
+
+import org.eclipse.wst.server.core.IServer;
+import org.fusesource.ide.server.karaf.core.server.subsystems.BundleStateCache.BundleChange;
+import org.junit.Test;
+
+public class BundleStateCacheTest {
+
+	private static final String[] BUNDLE_ITEMS = { "Identifier", "SymbolicName", "Version", "State" };
+	private static final String[] EVENT_ITEMS = { "Identifier", "SymbolicName", "EventType" };
+
+	@Test
+	public void testLookupAfterRefresh() throws Exception {
+		BundleStateCache cache = new BundleStateCache();
+
+		cache.refresh(bundles(bundle(10, "my.bundle", "1.0.0", "ACTIVE"), bundle(11, "my.bundle", "2.0.0", "RESOLVED")));
+
+		assertThat(cache.getBundleId("my.bundle", "2.0.0")).isEqualTo(11);
+		assertThat(cache.getBundleId("my.bundle", "3.0.0")).isEqualTo(-1);
+		assertThat(cache.getBundleId("other.bundle", null)).isEqualTo(-1);
+		assertThat(cache.getBundleStatus(10)).isEqualTo(IServer.STATE_STARTED);
+		assertThat(cache.getBundleStatus(11)).isEqualTo(IServer.STATE_STOPPED);
+		assertThat(cache.isStale(60000)).isFalse();
+	}
+
+	@Test
+	public void testRefreshReturnsOnlyChangedBundles() throws Exception {
+		BundleStateCache cache = new BundleStateCache();
+		cache.refresh(bundles(bundle(1, "a", "1.0", "ACTIVE"), bundle(2, "b", "1.0", "RESOLVED"), bundle(3, "c", "1.0", "ACTIVE")));
+
+		List<BundleChange> changes = cache.refresh(bundles(bundle(1, "a", "1.0", "ACTIVE"), bundle(2, "b", "1.0", "ACTIVE"), bundle(4, "d", "1.0", "INSTALLED")));
+
+		assertThat(changes).extracting("bundleId").containsOnly(2L, 3L, 4L);
+		for (BundleChange change : changes) {
+			if (change.getBundleId() == 3) {
+				assertThat(change.getNewEntry()).isNull();
+				assertThat(change.getNewStatus()).isEqualTo(IServer.STATE_UNKNOWN);
+			} else if (change.getBundleId() == 2) {
+				assertThat(change.getNewStatus()).isEqualTo(IServer.STATE_STARTED);
+			}
+		}
+	}
+
+	@Test
+	public void testBundleEventsUpdateState() throws Exception {
+		BundleStateCache cache = new BundleStateCache();
+		cache.refresh(bundles(bundle(5, "e", "1.0", "RESOLVED")));
+
+		BundleChange started = cache.applyBundleEvent(event(5, "e", 2));
+		BundleChange duplicate = cache.applyBundleEvent(event(5, "e", 2));
+		BundleChange uninstalled = cache.applyBundleEvent(event(5, "e", 16));
+
+		assertThat(started.getNewStatus()).isEqualTo(IServer.STATE_STARTED);
+		assertThat(duplicate).isNull();
+		assertThat(uninstalled.getNewEntry()).isNull();
+		assertThat(cache.getBundleId("e", null)).isEqualTo(-1);
+	}
+
+	@Test
+	public void testInvalidateKeepsEntries() throws Exception {
+		BundleStateCache cache = new BundleStateCache();
+		cache.refresh(bundles(bundle(7, "f", "1.0", "ACTIVE")));
+
+		cache.invalidate();
+
+		assertThat(cache.isStale(Long.MAX_VALUE)).isTrue();
+		assertThat(cache.getBundleId("f", "1.0")).isEqualTo(7);
+	}
+
+	@Test
+	public void testAwaitBundleStatusIsWokenUpByEvent() throws Exception {
+		final BundleStateCache cache = new BundleStateCache();
+		cache.refresh(bundles(bundle(8, "g", "1.0", "RESOLVED")));
+		final CompositeData started = event(8, "g", 2);
+
+		Thread events = new Thread(() -> {
+			try {
+				Thread.sleep(200);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			cache.applyBundleEvent(started);
+		});
+		events.start();
+		long start = System.currentTimeMillis();
+		boolean done = cache.awaitBundleStatus(8, IServer.STATE_STARTED, 10000);
+		events.join();
+
+		assertThat(done).isTrue();
+		assertThat(System.currentTimeMillis() - start).isLessThan(5000);
+		assertThat(cache.awaitBundleStatus(9, IServer.STATE_STARTED, 50)).isFalse();
+	}
+
+	private static TabularDataSupport bundles(CompositeData... rows) throws Exception {
+		TabularType type = new TabularType("bundles", "bundles", rows[0].getCompositeType(), new String[] { "Identifier" });
+		TabularDataSupport data = new TabularDataSupport(type);
+		for (CompositeData row : rows) {
+			data.put(row);
+		}
+		return data;
+	}
+
+	private static CompositeData bundle(long id, String symbolicName, String version, String state) throws Exception {
+		CompositeType type = new CompositeType("bundle", "bundle", BUNDLE_ITEMS, BUNDLE_ITEMS,
+				new OpenType<?>[] { SimpleType.LONG, SimpleType.STRING, SimpleType.STRING, SimpleType.STRING });
+		return new CompositeDataSupport(type, BUNDLE_ITEMS, new Object[] { id, symbolicName, version, state });
+	}
+
+	private static CompositeData event(long id, String symbolicName, int eventType) throws Exception {
+		CompositeType type = new CompositeType("event", "event", EVENT_ITEMS, EVENT_ITEMS,
+				new OpenType<?>[] { SimpleType.LONG, SimpleType.STRING, SimpleType.INTEGER });
+		return new CompositeDataSupport(type, EVENT_ITEMS, new Object[] { id, symbolicName, eventType });
+	}
+}
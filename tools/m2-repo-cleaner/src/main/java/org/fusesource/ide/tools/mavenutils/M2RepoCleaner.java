@@ -13,35 +13,101 @@ package org.fusesource.ide.tools.mavenutils;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
-import java.util.Enumeration;
+import java.util.Collection;
 import java.util.List;
-import java.util.zip.ZipEntry;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.zip.ZipFile;
 
 /**
+ * Finds corrupted archives in local Maven repositories and deletes them, so Maven downloads them again.
+ * <p>
+ * Archives and poms with a <code>.sha1</code> or <code>.md5</code> checksum next to them are verified against the checksum,
+ * other archives by reading their central directory. Only the corrupted files are deleted, together with their checksums and
+ * the <code>_remote.repositories</code> and <code>.lastUpdated</code> markers Maven uses to decide whether to download them.
+ * <p>
+ * Options are passed as system properties:
+ * <ul>
+ * <li>FUSE_REPO_CLEANER_PATHS - additional repository folders, separated by ';'</li>
+ * <li>FUSE_REPO_CLEANER_DELETELASTUPDATED - delete all <code>.lastUpdated</code> files (default false)</li>
+ * <li>FUSE_REPO_CLEANER_DRYRUN - only report what would be deleted (default false)</li>
+ * <li>FUSE_REPO_CLEANER_REPORT - file the JSON report is written to, '-' for the standard output, in which case all other
+ * output goes to the standard error</li>
+ * <li>FUSE_REPO_CLEANER_THREADS - number of threads verifying files (default number of processors)</li>
+ * </ul>
+ *
  * @author lheinema
  */
 public class M2RepoCleaner {
 
 	public static final String DEFAULT_REPO_FOLDER = System.getProperty("user.home") + File.separator + ".m2" + File.separator + "repository" + File.separator;
-	
+
 	private static final String ARG_PATHS = "FUSE_REPO_CLEANER_PATHS";
 	private static final String ARG_DELETE_LASTUPDATED = "FUSE_REPO_CLEANER_DELETELASTUPDATED";
-	
-	private static long checkedFiles = 0;
-	private static long checkedFolders = 0;
-	private static List<String> corruptedFiles = new ArrayList<>();
-	private static List<String> lastUpdatedFileDeleted = new ArrayList<>();
-	
-	private static boolean deleteLastUpdatedFiles = Boolean.parseBoolean(System.getProperty(ARG_DELETE_LASTUPDATED, "false"));
-	
+	private static final String ARG_DRY_RUN = "FUSE_REPO_CLEANER_DRYRUN";
+	private static final String ARG_REPORT = "FUSE_REPO_CLEANER_REPORT";
+	private static final String ARG_THREADS = "FUSE_REPO_CLEANER_THREADS";
+
+	private static final String LAST_UPDATED = ".lastupdated";
+	private static final String REMOTE_REPOSITORIES = "_remote.repositories";
+	private static final String[] CHECKSUMS = { "sha1", "md5" };
+	private static final String[] CHECKSUM_ALGORITHMS = { "SHA-1", "MD5" };
+
+	private final boolean deleteLastUpdatedFiles;
+	private final boolean dryRun;
+	private final int threads;
+
+	private final LongAdder checkedFiles = new LongAdder();
+	private final LongAdder checkedFolders = new LongAdder();
+	private final LongAdder verifiedByChecksum = new LongAdder();
+	private final LongAdder verifiedByCentralDirectory = new LongAdder();
+	private final Queue<Corruption> corruptedFiles = new ConcurrentLinkedQueue<>();
+	// sets, since corrupted files in the same folder share their _remote.repositories marker
+	private final Set<String> deletedFiles = new ConcurrentSkipListSet<>();
+	private final Set<String> lastUpdatedFileDeleted = new ConcurrentSkipListSet<>();
+	private final Queue<String> failures = new ConcurrentLinkedQueue<>();
+
+	private static final class Corruption {
+
+		final String path;
+		final String reason;
+
+		Corruption(String path, String reason) {
+			this.path = path;
+			this.reason = reason;
+		}
+	}
+
+	public M2RepoCleaner(boolean deleteLastUpdatedFiles, boolean dryRun, int threads) {
+		this.deleteLastUpdatedFiles = deleteLastUpdatedFiles;
+		this.dryRun = dryRun;
+		this.threads = threads;
+	}
+
 	/**
 	 * @param args
 	 */
 	public static void main(String[] args) {
-		String reposPath; 
+		String reposPath;
 		if (args.length>0) {
 			reposPath = args[0];
 		} else {
@@ -53,88 +119,312 @@ public class M2RepoCleaner {
 			reposPath += ";" + repoPathsVar;
 		}
 
-		System.out.println("Using repo folders: " + reposPath);
-		
-		String[] paths = reposPath.split(";");
-		for (String path : paths) {
+		String report = System.getProperty(ARG_REPORT, "").trim();
+		// keep the standard output clean for the report
+		PrintStream out = "-".equals(report) ? System.err : System.out;
+		out.println("Using repo folders: " + reposPath);
+
+		List<Path> repoFolders = new ArrayList<>();
+		for (String path : reposPath.split(";")) {
 			if (path.trim().isEmpty()) {
 				continue;
 			}
-			
+
 			File repoFolder = new File(path);
 			if (!repoFolder.exists() || !repoFolder.isDirectory()) {
 				System.err.println("The given folder " + path + " does not exist or is not a directory. Also make sure you have the rights to access it.");
 			} else {
-				findCorruptedJarFiles(repoFolder);
+				repoFolders.add(repoFolder.toPath());
 			}
 		}
-		System.out.println("FINISHED - We checked " + checkedFiles + " files in " + checkedFolders + " folders with " + corruptedFiles.size() + " corrupted files detected!");
-		corruptedFiles.forEach(System.err::println);
-		
-		if (deleteLastUpdatedFiles) {
-			if(lastUpdatedFileDeleted.isEmpty()){
-				System.out.println("No .lastUpdated file found and deleted.");
-			} else {
-				System.out.println("Deleted "+ lastUpdatedFileDeleted.size() + " .lastupdated file.");
-				lastUpdatedFileDeleted.forEach(System.err::println);
+
+		boolean deleteLastUpdated = Boolean.parseBoolean(System.getProperty(ARG_DELETE_LASTUPDATED, "false"));
+		boolean dryRun = Boolean.parseBoolean(System.getProperty(ARG_DRY_RUN, "false"));
+		int threads = Integer.getInteger(ARG_THREADS, Runtime.getRuntime().availableProcessors());
+		M2RepoCleaner cleaner = new M2RepoCleaner(deleteLastUpdated, dryRun, Math.max(1, threads));
+		long start = System.nanoTime();
+		cleaner.clean(repoFolders);
+		long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		cleaner.printSummary(out, duration);
+		if (!report.isEmpty()) {
+			try {
+				cleaner.writeReport(report, repoFolders, duration, out);
+			} catch (IOException ex) {
+				System.err.println("Unable to write report " + report + ": " + ex.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * walks the given repository folders and verifies their files in parallel, returning when all files are verified
+	 *
+	 * @param repoFolders	the repository folders
+	 */
+	public void clean(Collection<Path> repoFolders) {
+		ForkJoinPool pool = new ForkJoinPool(threads);
+		try {
+			walk(repoFolders, pool);
+		} finally {
+			pool.shutdown();
+			try {
+				pool.awaitTermination(Long.MAX_VALUE, TimeUnit.DAYS);
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
 			}
 		}
 	}
-	
-	private static void findCorruptedJarFiles(File folder) {
-		checkedFolders++;
-		File[] files = folder.listFiles();
-		for (File f : files) {
-			if (f.isDirectory()) {
-				findCorruptedJarFiles(f);
-			} 
-			String fname = f.getName().toLowerCase();
-			if (f.isFile() && (fname.endsWith(".jar") || fname.endsWith(".zip"))) {
-				checkForCorruption(f);
-			} else if (f.isFile() && fname.endsWith(".lastupdated") && f.exists() && deleteLastUpdatedFiles) {
-				handleLastUpdatedFile(f);
+
+	private void walk(Collection<Path> repoFolders, ForkJoinPool pool) {
+		for (Path repoFolder : repoFolders) {
+			try {
+				Files.walkFileTree(repoFolder, new SimpleFileVisitor<Path>() {
+
+					@Override
+					public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+						checkedFolders.increment();
+						return FileVisitResult.CONTINUE;
+					}
+
+					@Override
+					public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+						String fname = file.getFileName().toString().toLowerCase(Locale.ENGLISH);
+						if (fname.endsWith(".jar") || fname.endsWith(".zip") || fname.endsWith(".pom")) {
+							pool.execute(() -> checkForCorruption(file, fname.endsWith(".pom")));
+						} else if (fname.endsWith(LAST_UPDATED) && deleteLastUpdatedFiles) {
+							handleLastUpdatedFile(file);
+						}
+						return FileVisitResult.CONTINUE;
+					}
+
+					@Override
+					public FileVisitResult visitFileFailed(Path file, IOException exc) {
+						failures.add(file + ": " + exc);
+						return FileVisitResult.CONTINUE;
+					}
+				});
+			} catch (IOException ex) {
+				failures.add(repoFolder + ": " + ex);
 			}
 		}
 	}
-	
-	private static void checkForCorruption(File file) {
-		checkedFiles++;
-		try (ZipFile zf = new ZipFile(file)) {
-			Enumeration<? extends ZipEntry> entries = zf.entries();
-			while (entries.hasMoreElements()) {
-				ZipEntry ze = entries.nextElement();
-				ze.getName();
-				try(InputStream inputStream = zf.getInputStream(ze)){
-					inputStream.read();
+
+	private void checkForCorruption(Path file, boolean pom) {
+		try {
+			Boolean matches = matchesChecksum(file);
+			if (matches != null) {
+				checkedFiles.increment();
+				if (matches) {
+					verifiedByChecksum.increment();
+				} else {
+					handleCorruptedFile(file, "checksum mismatch");
+				}
+			} else if (!pom) {
+				// no usable checksum, so at least make sure the archive can be opened
+				checkedFiles.increment();
+				// opening the archive reads its central directory
+				try (ZipFile ignored = new ZipFile(file.toFile())) {
+					verifiedByCentralDirectory.increment();
+				} catch (IOException ex) {
+					handleCorruptedFile(file, "invalid archive: " + ex.getMessage());
 				}
 			}
 		} catch (IOException ex) {
-			handleCorruptedZip(file);
+			failures.add(file + ": " + ex);
 		}
 	}
-	
-	private static void handleCorruptedZip(File file) {
-		corruptedFiles.add(file.getPath());
-		File parentFolder = file.getParentFile();
-		if (parentFolder != null && parentFolder.exists() && parentFolder.isDirectory()) {
-			try {
-				for (File f : parentFolder.listFiles()) {
-					if ("..".equals(f.getName())) {
-						continue;
-					}
-					Files.delete(f.toPath());
-				}
-				Files.delete(parentFolder.toPath());
-			} catch (IOException ex) {
-				ex.printStackTrace();
+
+	/**
+	 * compares a file to the first checksum found next to it
+	 *
+	 * @param file	the file to verify
+	 * @return	null if the file has no usable checksum, otherwise whether it matches the checksum
+	 * @throws IOException	error reading the file
+	 */
+	private Boolean matchesChecksum(Path file) throws IOException {
+		for (int i = 0; i < CHECKSUMS.length; i++) {
+			Path checksumFile = file.resolveSibling(file.getFileName() + "." + CHECKSUMS[i]);
+			if (!Files.isRegularFile(checksumFile)) {
+				continue;
+			}
+			String expected = readChecksum(checksumFile);
+			if (expected == null) {
+				continue;
 			}
+			return expected.equalsIgnoreCase(checksum(file, CHECKSUM_ALGORITHMS[i]));
 		}
+		return null;
 	}
-	
-	private static void handleLastUpdatedFile(File file) {
-		lastUpdatedFileDeleted.add(file.getPath());
-		if (file.isFile() && file.exists()) {
-			file.delete();
+
+	// checksum files contain the checksum, possibly followed by the file name
+	private static String readChecksum(Path checksumFile) throws IOException {
+		String content = new String(Files.readAllBytes(checksumFile), StandardCharsets.US_ASCII).trim();
+		String checksum = content.split("\\s+", 2)[0];
+		return !checksum.isEmpty() && checksum.matches("[0-9a-fA-F]+") ? checksum : null;
+	}
+
+	private static String checksum(Path file, String algorithm) throws IOException {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance(algorithm);
+		} catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
+		byte[] buffer = new byte[64 * 1024];
+		try (InputStream in = Files.newInputStream(file)) {
+			for (int count = in.read(buffer); count >= 0; count = in.read(buffer)) {
+				digest.update(buffer, 0, count);
+			}
+		}
+		StringBuilder checksum = new StringBuilder();
+		for (byte b : digest.digest()) {
+			checksum.append(String.format("%02x", b));
+		}
+		return checksum.toString();
+	}
+
+	/**
+	 * deletes a corrupted file with its checksums and the markers Maven keeps about it, so it gets downloaded again
+	 *
+	 * @param file		the corrupted file
+	 * @param reason	why the file is considered corrupted
+	 */
+	private void handleCorruptedFile(Path file, String reason) {
+		corruptedFiles.add(new Corruption(file.toString(), reason));
+		String fname = file.getFileName().toString();
+		List<Path> toDelete = new ArrayList<>();
+		toDelete.add(file);
+		for (String checksum : CHECKSUMS) {
+			toDelete.add(file.resolveSibling(fname + "." + checksum));
+		}
+		toDelete.add(file.resolveSibling(fname + ".lastUpdated"));
+		toDelete.add(file.resolveSibling(REMOTE_REPOSITORIES));
+		for (Path path : toDelete) {
+			delete(path, deletedFiles);
+		}
+	}
+
+	private void handleLastUpdatedFile(Path file) {
+		delete(file, lastUpdatedFileDeleted);
+	}
+
+	private void delete(Path path, Collection<String> deleted) {
+		if (!Files.isRegularFile(path)) {
+			return;
+		}
+		try {
+			if (!dryRun) {
+				Files.deleteIfExists(path);
+			}
+			deleted.add(path.toString());
+		} catch (IOException ex) {
+			failures.add(path + ": " + ex);
+		}
+	}
+
+	private void printSummary(PrintStream out, long duration) {
+		out.println((dryRun ? "FINISHED (dry run) - " : "FINISHED - ") + "We checked " + checkedFiles.sum() + " files in " + checkedFolders.sum() + " folders with " + corruptedFiles.size() + " corrupted files detected in " + duration + " ms!");
+		corruptedFiles.forEach(c -> out.println(c.path + " (" + c.reason + ")"));
+		if (!deletedFiles.isEmpty()) {
+			out.println((dryRun ? "Would delete " : "Deleted ") + deletedFiles.size() + " files of corrupted artifacts.");
+			deletedFiles.forEach(out::println);
+		}
+
+		if (deleteLastUpdatedFiles) {
+			if(lastUpdatedFileDeleted.isEmpty()){
+				out.println("No .lastUpdated file found and deleted.");
+			} else {
+				out.println((dryRun ? "Would delete " : "Deleted ") + lastUpdatedFileDeleted.size() + " .lastupdated file.");
+				lastUpdatedFileDeleted.forEach(out::println);
+			}
+		}
+		failures.forEach(f -> out.println("Unable to check " + f));
+	}
+
+	/**
+	 * writes a JSON report of the last run
+	 *
+	 * @param report		the report file or '-' for the standard output
+	 * @param repoFolders	the checked repository folders
+	 * @param duration		the duration of the run in milliseconds
+	 * @param out			the stream for messages about the report
+	 * @throws IOException	error writing the report
+	 */
+	private void writeReport(String report, Collection<Path> repoFolders, long duration, PrintStream out) throws IOException {
+		StringBuilder json = new StringBuilder();
+		json.append("{\n");
+		json.append("  \"repositories\": ");
+		appendStrings(json, paths(repoFolders));
+		json.append(",\n  \"dryRun\": ").append(dryRun);
+		json.append(",\n  \"durationMillis\": ").append(duration);
+		json.append(",\n  \"checkedFolders\": ").append(checkedFolders.sum());
+		json.append(",\n  \"checkedFiles\": ").append(checkedFiles.sum());
+		json.append(",\n  \"verifiedByChecksum\": ").append(verifiedByChecksum.sum());
+		json.append(",\n  \"verifiedByCentralDirectory\": ").append(verifiedByCentralDirectory.sum());
+		json.append(",\n  \"corrupted\": [");
+		String separator = "\n";
+		for (Corruption corruption : corruptedFiles) {
+			json.append(separator).append("    {\"path\": ");
+			appendString(json, corruption.path);
+			json.append(", \"reason\": ");
+			appendString(json, corruption.reason);
+			json.append('}');
+			separator = ",\n";
+		}
+		json.append(corruptedFiles.isEmpty() ? "]" : "\n  ]");
+		json.append(",\n  \"deleted\": ");
+		appendStrings(json, deletedFiles);
+		json.append(",\n  \"lastUpdatedDeleted\": ");
+		appendStrings(json, lastUpdatedFileDeleted);
+		json.append(",\n  \"failures\": ");
+		appendStrings(json, failures);
+		json.append("\n}\n");
+
+		if ("-".equals(report)) {
+			printUtf8(json.toString());
+		} else {
+			try (Writer writer = Files.newBufferedWriter(Paths.get(report), StandardCharsets.UTF_8)) {
+				writer.write(json.toString());
+			}
+			out.println("Report written to " + report);
+		}
+	}
+
+	private static void printUtf8(String text) throws UnsupportedEncodingException {
+		PrintStream out = new PrintStream(System.out, true, StandardCharsets.UTF_8.name());
+		out.print(text);
+		out.flush();
+	}
+
+	private static List<String> paths(Collection<Path> paths) {
+		List<String> strings = new ArrayList<>();
+		paths.forEach(p -> strings.add(p.toString()));
+		return strings;
+	}
+
+	private static void appendStrings(StringBuilder json, Collection<String> strings) {
+		json.append('[');
+		String separator = "";
+		for (String string : strings) {
+			json.append(separator);
+			appendString(json, string);
+			separator = ", ";
+		}
+		json.append(']');
+	}
+
+	private static void appendString(StringBuilder json, String string) {
+		json.append('"');
+		for (int i = 0; i < string.length(); i++) {
+			char c = string.charAt(i);
+			if (c == '"' || c == '\\') {
+				json.append('\\').append(c);
+			} else if (c < 0x20) {
+				json.append(String.format("\\u%04x", (int) c));
+			} else {
+				json.append(c);
+			}
 		}
+		json.append('"');
 	}
 }
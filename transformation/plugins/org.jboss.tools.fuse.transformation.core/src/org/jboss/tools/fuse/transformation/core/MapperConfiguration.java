@@ -83,6 +83,15 @@ public interface MapperConfiguration {
      */
     List<MappingOperation<?, ?>> getMappingsForTarget(Model target);
 
+    /**
+     * Get all mappings that use the specified variable as a source.
+     *
+     * @param variable
+     *        source variable
+     * @return list of mappings
+     */
+    List<MappingOperation<?, ?>> getMappingsForVariable(Variable variable);
+
     /**
      * Returns the source model for the mapping.
      *
@@ -11,6 +11,7 @@
 package org.jboss.tools.fuse.transformation.core.dozer;
 
 import java.util.List;
+import java.util.Set;
 
 import org.jboss.tools.fuse.transformation.core.dozer.config.Field;
 import org.jboss.tools.fuse.transformation.core.dozer.config.FieldDefinition;
@@ -21,6 +22,9 @@ public abstract class BaseDozerMapping {
 
     private Mapping mapping;
     private Field field;
+    private DozerMappingIndex index;
+    // Dozer mappings changed since the configuration was last saved, kept when the wrapper is replaced
+    private Set<Mapping> changes;
 
     protected BaseDozerMapping(Mapping mapping, Field field) {
         this.mapping = mapping;
@@ -32,6 +36,31 @@ public abstract class BaseDozerMapping {
      */
     public void delete() {
         mapping.getFieldOrFieldExclude().remove(field);
+        changed();
+        if (index != null) {
+            index.remove(this);
+        }
+    }
+
+    DozerMappingIndex getIndex() {
+        return index;
+    }
+
+    void setIndex(DozerMappingIndex index) {
+        this.index = index;
+    }
+
+    void setChanges(Set<Mapping> changes) {
+        this.changes = changes;
+    }
+
+    /**
+     * Records that the Dozer mapping underneath this object changed, so it is written when the configuration is saved.
+     */
+    void changed() {
+        if (changes != null) {
+            changes.add(mapping);
+        }
     }
 
     /**
@@ -72,10 +101,12 @@ public abstract class BaseDozerMapping {
     
     public void setFieldIndex(FieldDefinition field, Model model, String rootType, List<Integer> indexes) {
         field.setContent(DozerUtil.getFieldName(model, rootType, indexes));
+        changed();
     }
 
     public void setSourceDateFormat(String format) {
         field.getA().setDateFormat(format);
+        changed();
     }
     
     public String getSourceDateFormat() {
@@ -84,6 +115,7 @@ public abstract class BaseDozerMapping {
 
     public void setTargetDateFormat(String format) {
         field.getB().setDateFormat(format);
+        changed();
     }
     
     public String getTargetDateFormat() {
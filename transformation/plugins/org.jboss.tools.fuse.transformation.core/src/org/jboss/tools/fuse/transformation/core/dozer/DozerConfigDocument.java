@@ -0,0 +1,357 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.fuse.transformation.core.dozer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.xml.bind.JAXBException;
+
+import org.jboss.tools.fuse.transformation.core.dozer.config.Configuration;
+import org.jboss.tools.fuse.transformation.core.dozer.config.Mapping;
+import org.jboss.tools.fuse.transformation.core.dozer.config.Mappings;
+
+/**
+ * Text of a Dozer configuration as last loaded or saved, split into the top-level elements of its root element. Saving
+ * rewrites only the <code>configuration</code> and <code>mapping</code> elements whose content changed since, keeping the
+ * text of the rest of the document byte for byte. Mappings are only marshalled if they were reported as changed, the
+ * <code>configuration</code> element, whose variables can be edited without the configuration knowing, is marshalled on each
+ * save and compared against the one marshalled when the text was read.
+ * <p>
+ * Documents that can't be split reliably, such as documents not encoded in UTF-8 or with a DOCTYPE, aren't supported.
+ */
+final class DozerConfigDocument {
+
+    private static final String CONFIGURATION = "configuration"; //$NON-NLS-1$
+    private static final String MAPPING = "mapping"; //$NON-NLS-1$
+    private static final Pattern ENCODING = Pattern.compile("^<\\?xml[^>]*encoding\\s*=\\s*[\"']([^\"']+)[\"']"); //$NON-NLS-1$
+    private static final Pattern XMLNS = Pattern.compile("\\s+(xmlns(?::[^=\\s]+)?)\\s*=\\s*(\"[^\"]*\"|'[^']*')"); //$NON-NLS-1$
+    private static final String MARSHALLER_INDENT = "    "; //$NON-NLS-1$
+    private static final Pattern INDENTED_LINE = Pattern.compile("\\s*<.*"); //$NON-NLS-1$
+
+    // namespace declarations of the root element
+    private final Map<String, String> namespaces;
+    private final String lineSeparator;
+    private final String indent;
+    private String text;
+    private List<Segment> segments;
+    private Map<Object, Segment> segmentsByElement = new IdentityHashMap<>();
+
+    private DozerConfigDocument(String text, Map<String, String> namespaces, List<Segment> segments) {
+        this.text = text;
+        this.namespaces = namespaces;
+        this.segments = segments;
+        lineSeparator = text.contains("\r\n") ? "\r\n" : "\n"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        Segment first = segments.get(0);
+        int lineStart = text.lastIndexOf('\n', first.start - 1) + 1;
+        String firstIndent = text.substring(lineStart, first.start);
+        indent = !firstIndent.isEmpty() && firstIndent.trim().isEmpty() ? firstIndent : MARSHALLER_INDENT;
+    }
+
+    /**
+     * @param content content of a Dozer configuration file
+     * @param config configuration unmarshalled from the content
+     * @return the document or null if the content isn't supported
+     */
+    static DozerConfigDocument load(byte[] content, Mappings config) {
+        try {
+            DozerConfigDocument document = parse(new String(content, StandardCharsets.UTF_8));
+            return document != null && document.bind(config) ? document : null;
+        } catch (JAXBException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes the configuration, reusing the text of the elements that didn't change, and makes the written text the text
+     * of this document.
+     *
+     * @param config configuration
+     * @param changed mappings changed since the configuration was loaded or last written
+     * @param output stream the configuration is written to
+     * @return false if the configuration couldn't be written this way, in which case nothing has been written
+     * @throws IOException failure writing to the output stream
+     */
+    boolean write(Mappings config, Set<Mapping> changed, OutputStream output) throws IOException {
+        List<Object> elements = new ArrayList<>();
+        if (config.getConfiguration() != null) {
+            elements.add(config.getConfiguration());
+        }
+        elements.addAll(config.getMapping());
+        if (elements.isEmpty()) {
+            return false;
+        }
+        StringBuilder builder = new StringBuilder(text.length());
+        builder.append(text, 0, segments.get(0).start);
+        List<Segment> newSegments = new ArrayList<>(elements.size());
+        Map<Object, Segment> newSegmentsByElement = new IdentityHashMap<>();
+        Segment previous = null;
+        for (Object element : elements) {
+            Segment segment = segmentsByElement.get(element);
+            boolean unchanged = segment != null && element instanceof Mapping && !changed.contains(element);
+            String fragment = null;
+            byte[] digest = null;
+            if (!unchanged) {
+                try {
+                    fragment = fragment(element);
+                } catch (JAXBException e) {
+                    return false;
+                }
+                if (fragment == null) {
+                    return false;
+                }
+                digest = digest(fragment);
+            }
+            if (!newSegments.isEmpty()) {
+                if (previous != null && segment != null && segment.ndx == previous.ndx + 1) {
+                    builder.append(text, previous.end, segment.start);
+                } else {
+                    builder.append(lineSeparator).append(indent);
+                }
+            }
+            int start = builder.length();
+            if (unchanged || segment != null && Arrays.equals(segment.digest, digest)) {
+                builder.append(text, segment.start, segment.end);
+            } else {
+                appendIndented(builder, fragment);
+            }
+            Segment newSegment = new Segment(element instanceof Configuration ? CONFIGURATION : MAPPING, newSegments.size(),
+                    start, builder.length());
+            newSegment.digest = digest;
+            newSegments.add(newSegment);
+            newSegmentsByElement.put(element, newSegment);
+            previous = segment;
+        }
+        builder.append(text, segments.get(segments.size() - 1).end, text.length());
+        String newText = builder.toString();
+        output.write(newText.getBytes(StandardCharsets.UTF_8));
+        // the written text is the base of the next save
+        text = newText;
+        segments = newSegments;
+        segmentsByElement = newSegmentsByElement;
+        return true;
+    }
+
+    // Appends a fragment, replacing the marshaller's indentation of each line with the indentation used by the document
+    private void appendIndented(StringBuilder builder, String fragment) {
+        String[] lines = fragment.split("\n"); //$NON-NLS-1$
+        builder.append(lines[0]);
+        for (int ndx = 1; ndx < lines.length; ndx++) {
+            String line = lines[ndx];
+            int spaces = 0;
+            while (spaces < line.length() && line.charAt(spaces) == ' ') {
+                spaces++;
+            }
+            builder.append(lineSeparator).append(indent);
+            for (int level = 0; level < spaces / MARSHALLER_INDENT.length(); level++) {
+                builder.append(indent);
+            }
+            builder.append(line, spaces - spaces % MARSHALLER_INDENT.length(), line.length());
+        }
+    }
+
+    // Returns the text of an element without the namespace declarations of the root element, or null if the element
+    // declares other namespaces or contains multi-line text
+    private String fragment(Object element) throws JAXBException {
+        String fragment = DozerJaxb.marshalFragment(element);
+        int tagEnd = tagEnd(fragment, 0);
+        if (tagEnd < 0) {
+            return null;
+        }
+        String tag = fragment.substring(0, tagEnd + 1);
+        Matcher matcher = XMLNS.matcher(tag);
+        while (matcher.find()) {
+            String value = matcher.group(2);
+            if (!value.substring(1, value.length() - 1).equals(namespaces.get(matcher.group(1)))) {
+                return null;
+            }
+        }
+        fragment = matcher.replaceAll("") + fragment.substring(tagEnd + 1); //$NON-NLS-1$
+        fragment = fragment.replace("\r\n", "\n"); //$NON-NLS-1$ //$NON-NLS-2$
+        String[] lines = fragment.split("\n"); //$NON-NLS-1$
+        for (int ndx = 1; ndx < lines.length; ndx++) {
+            if (!INDENTED_LINE.matcher(lines[ndx]).matches()) {
+                return null;
+            }
+        }
+        return fragment;
+    }
+
+    private boolean bind(Mappings config) throws JAXBException {
+        List<Object> elements = new ArrayList<>();
+        int mappingNdx = 0;
+        for (Segment segment : segments) {
+            if (CONFIGURATION.equals(segment.name) && config.getConfiguration() != null && elements.isEmpty()) {
+                elements.add(config.getConfiguration());
+            } else if (MAPPING.equals(segment.name) && mappingNdx < config.getMapping().size()) {
+                elements.add(config.getMapping().get(mappingNdx++));
+            } else {
+                return false;
+            }
+        }
+        if (mappingNdx != config.getMapping().size()) {
+            return false;
+        }
+        for (int ndx = 0; ndx < segments.size(); ndx++) {
+            // mappings are only marshalled once they change
+            if (elements.get(ndx) instanceof Configuration) {
+                String fragment = fragment(elements.get(ndx));
+                if (fragment == null) {
+                    return false;
+                }
+                segments.get(ndx).digest = digest(fragment);
+            }
+            segmentsByElement.put(elements.get(ndx), segments.get(ndx));
+        }
+        return true;
+    }
+
+    // Splits the text into the top-level elements of its root element
+    private static DozerConfigDocument parse(String text) {
+        Matcher encoding = ENCODING.matcher(text);
+        if (encoding.find() && !StandardCharsets.UTF_8.name().equalsIgnoreCase(encoding.group(1))) {
+            return null;
+        }
+        Map<String, String> namespaces = null;
+        List<Segment> segments = new ArrayList<>();
+        int depth = 0;
+        int segmentStart = -1;
+        String segmentName = null;
+        for (int pos = text.indexOf('<'); pos >= 0; pos = text.indexOf('<', pos)) {
+            if (text.startsWith("<?", pos)) { //$NON-NLS-1$
+                pos = skip(text, pos, "?>"); //$NON-NLS-1$
+            } else if (text.startsWith("<!--", pos)) { //$NON-NLS-1$
+                pos = skip(text, pos, "-->"); //$NON-NLS-1$
+            } else if (text.startsWith("<![CDATA[", pos)) { //$NON-NLS-1$
+                pos = skip(text, pos, "]]>"); //$NON-NLS-1$
+            } else if (text.startsWith("<!", pos)) { //$NON-NLS-1$
+                // DOCTYPE
+                return null;
+            } else if (text.startsWith("</", pos)) { //$NON-NLS-1$
+                int end = text.indexOf('>', pos);
+                if (end < 0) {
+                    return null;
+                }
+                depth--;
+                if (depth == 1) {
+                    segments.add(new Segment(segmentName, segments.size(), segmentStart, end + 1));
+                } else if (depth == 0) {
+                    break;
+                }
+                pos = end + 1;
+            } else {
+                int end = tagEnd(text, pos);
+                if (end < 0) {
+                    return null;
+                }
+                boolean empty = text.charAt(end - 1) == '/';
+                String name = text.substring(pos + 1).split("[\\s/>]", 2)[0]; //$NON-NLS-1$
+                if (depth == 0) {
+                    if (empty) {
+                        return null;
+                    }
+                    namespaces = namespaces(text.substring(pos, end + 1));
+                } else if (depth == 1) {
+                    if (name.contains(":")) { //$NON-NLS-1$
+                        return null;
+                    }
+                    if (empty) {
+                        segments.add(new Segment(name, segments.size(), pos, end + 1));
+                    } else {
+                        segmentStart = pos;
+                        segmentName = name;
+                    }
+                }
+                if (!empty) {
+                    depth++;
+                }
+                pos = end + 1;
+            }
+            if (pos < 0) {
+                return null;
+            }
+        }
+        if (depth != 0 || namespaces == null || segments.isEmpty()) {
+            return null;
+        }
+        return new DozerConfigDocument(text, namespaces, segments);
+    }
+
+    private static Map<String, String> namespaces(String tag) {
+        Map<String, String> namespaces = new HashMap<>();
+        Matcher matcher = XMLNS.matcher(tag);
+        while (matcher.find()) {
+            String value = matcher.group(2);
+            namespaces.put(matcher.group(1), value.substring(1, value.length() - 1));
+        }
+        return namespaces;
+    }
+
+    // Returns the position after the end of a construct, or -1 if it isn't terminated
+    private static int skip(String text, int pos, String terminator) {
+        int end = text.indexOf(terminator, pos);
+        return end < 0 ? -1 : end + terminator.length();
+    }
+
+    // Returns the position of the '>' ending the tag starting at the supplied position, ignoring '>' in attribute values
+    private static int tagEnd(String text, int pos) {
+        char quote = 0;
+        for (int ndx = pos + 1; ndx < text.length(); ndx++) {
+            char chr = text.charAt(ndx);
+            if (quote != 0) {
+                if (chr == quote) {
+                    quote = 0;
+                }
+            } else if (chr == '"' || chr == '\'') {
+                quote = chr;
+            } else if (chr == '>') {
+                return ndx;
+            }
+        }
+        return -1;
+    }
+
+    private static byte[] digest(String fragment) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(fragment.getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class Segment {
+
+        final String name;
+        final int ndx;
+        final int start;
+        final int end;
+        byte[] digest;
+
+        Segment(String name, int ndx, int start, int end) {
+            this.name = name;
+            this.ndx = ndx;
+            this.start = start;
+            this.end = end;
+        }
+    }
+}
@@ -23,6 +23,8 @@ public class DozerExpression implements Expression {
 
     private static final String SEP = ":"; //$NON-NLS-1$
     private Field field;
+    // mapping of the expression, told about changes of the expression
+    private BaseDozerMapping mapping;
 
     /**
      * Create a new Expression.
@@ -41,6 +43,7 @@ public class DozerExpression implements Expression {
     @Override
     public void setLanguage(String language) {
         field.setCustomConverterArgument(language + SEP + emptyForNull(getExpression()));
+        changed();
     }
 
     @Override
@@ -59,6 +62,17 @@ public class DozerExpression implements Expression {
     @Override
     public void setExpression(String expression) {
         field.setCustomConverterArgument(emptyForNull(getLanguage()) + SEP + expression);
+        changed();
+    }
+
+    void setMapping(BaseDozerMapping mapping) {
+        this.mapping = mapping;
+    }
+
+    private void changed() {
+        if (mapping != null) {
+            mapping.changed();
+        }
     }
 
     @Override
@@ -37,6 +37,9 @@ public class DozerExpressionMapping extends BaseDozerMapping implements Expressi
         super(mapping, field);
         this.source = source;
         this.target = target;
+        if (source instanceof DozerExpression) {
+            ((DozerExpression)source).setMapping(this);
+        }
     }
 
     @Override
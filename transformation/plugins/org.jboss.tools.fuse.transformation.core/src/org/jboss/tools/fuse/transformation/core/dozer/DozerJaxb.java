@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.fuse.transformation.core.dozer;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+
+import org.jboss.tools.fuse.transformation.core.dozer.config.Mappings;
+import org.jboss.tools.fuse.transformation.core.dozer.config.ObjectFactory;
+
+/**
+ * JAXB context for the Dozer config model, shared by all configurations, with a small pool of marshallers and
+ * unmarshallers since those aren't thread safe but are costly to create.
+ */
+final class DozerJaxb {
+
+    private static final int POOL_SIZE = 4;
+
+    private static JAXBContext context;
+    // marshallers of whole configurations and of single elements
+    private static final BlockingQueue<Marshaller> MARSHALLERS = new ArrayBlockingQueue<>(POOL_SIZE);
+    private static final BlockingQueue<Marshaller> FRAGMENT_MARSHALLERS = new ArrayBlockingQueue<>(POOL_SIZE);
+    private static final BlockingQueue<Unmarshaller> UNMARSHALLERS = new ArrayBlockingQueue<>(POOL_SIZE);
+
+    private DozerJaxb() {
+    }
+
+    static synchronized JAXBContext getContext() {
+        if (context == null) {
+            try {
+                context = JAXBContext.newInstance(ObjectFactory.class);
+            } catch (final JAXBException jaxbEx) {
+                throw new RuntimeException(jaxbEx);
+            }
+        }
+        return context;
+    }
+
+    static Mappings unmarshal(byte[] content) throws JAXBException {
+        Unmarshaller unmarshaller = UNMARSHALLERS.poll();
+        if (unmarshaller == null) {
+            unmarshaller = getContext().createUnmarshaller();
+        }
+        try {
+            return (Mappings) unmarshaller.unmarshal(new ByteArrayInputStream(content));
+        } finally {
+            UNMARSHALLERS.offer(unmarshaller);
+        }
+    }
+
+    /**
+     * Writes a whole Dozer configuration.
+     *
+     * @param config Dozer configuration
+     * @param output stream the configuration is written to
+     * @throws JAXBException failure marshalling the configuration
+     */
+    static void marshal(Mappings config, OutputStream output) throws JAXBException {
+        Marshaller marshaller = MARSHALLERS.poll();
+        if (marshaller == null) {
+            marshaller = createMarshaller();
+            marshaller.setProperty(Marshaller.JAXB_SCHEMA_LOCATION,
+                    DozerMapperConfiguration.DOZER_6_1_XMLNS + " " + DozerMapperConfiguration.DOZER_6_1_SCHEMA_LOC); //$NON-NLS-1$
+        }
+        try {
+            marshaller.marshal(config, output);
+        } finally {
+            MARSHALLERS.offer(marshaller);
+        }
+    }
+
+    /**
+     * Returns the formatted text of an element of a Dozer configuration, without XML declaration.
+     *
+     * @param element JAXB object of an element with a root element declaration
+     * @return text of the element
+     * @throws JAXBException failure marshalling the element
+     */
+    static String marshalFragment(Object element) throws JAXBException {
+        Marshaller marshaller = FRAGMENT_MARSHALLERS.poll();
+        if (marshaller == null) {
+            marshaller = createMarshaller();
+            marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+        }
+        try {
+            StringWriter writer = new StringWriter();
+            marshaller.marshal(element, writer);
+            return writer.toString().trim();
+        } finally {
+            FRAGMENT_MARSHALLERS.offer(marshaller);
+        }
+    }
+
+    private static Marshaller createMarshaller() throws JAXBException {
+        Marshaller marshaller = getContext().createMarshaller();
+        marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        marshaller.setProperty(Marshaller.JAXB_ENCODING, StandardCharsets.UTF_8.name());
+        return marshaller;
+    }
+}
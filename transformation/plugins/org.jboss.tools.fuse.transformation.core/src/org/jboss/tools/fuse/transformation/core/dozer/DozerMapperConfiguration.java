@@ -10,17 +10,17 @@
  ******************************************************************************/
 package org.jboss.tools.fuse.transformation.core.dozer;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Marshaller;
 
 import org.jboss.tools.fuse.transformation.core.Expression;
 import org.jboss.tools.fuse.transformation.core.FieldMapping;
@@ -33,7 +33,6 @@ import org.jboss.tools.fuse.transformation.core.dozer.config.Field;
 import org.jboss.tools.fuse.transformation.core.dozer.config.FieldDefinition;
 import org.jboss.tools.fuse.transformation.core.dozer.config.Mapping;
 import org.jboss.tools.fuse.transformation.core.dozer.config.Mappings;
-import org.jboss.tools.fuse.transformation.core.dozer.config.ObjectFactory;
 import org.jboss.tools.fuse.transformation.core.dozer.config.Variables;
 import org.jboss.tools.fuse.transformation.core.model.Model;
 import org.jboss.tools.fuse.transformation.core.model.ModelBuilder;
@@ -79,12 +78,17 @@ public class DozerMapperConfiguration implements MapperConfiguration {
         dozerConfig.setWildcard(false);
         return config;
     }
-    // JAXB classes for Dozer config model
-    private JAXBContext jaxbCtx;
     private ClassLoader loader;
 
     private final Mappings mapConfig;
 
+    // text of the config as last loaded or saved, null if it has to be marshalled as a whole
+    private DozerConfigDocument document;
+
+    // wrappers of the mappings in mapConfig, filled on first access
+    private final DozerMappingIndex index = new DozerMappingIndex();
+    private boolean indexed;
+
     private Model sourceModel;
 
     private Model targetModel;
@@ -98,12 +102,16 @@ public class DozerMapperConfiguration implements MapperConfiguration {
                     .addChild("expression", java.lang.String.class.getName()); //$NON-NLS-1$
 
     private DozerMapperConfiguration(final File file, final ClassLoader loader) throws JAXBException {
-        mapConfig = (Mappings) getJAXBContext().createUnmarshaller().unmarshal(file);
-        this.loader = loader;
+        this(read(file), loader);
     }
 
     private DozerMapperConfiguration(final InputStream stream, final ClassLoader loader) throws JAXBException {
-        mapConfig = (Mappings) getJAXBContext().createUnmarshaller().unmarshal(stream);
+        this(read(stream), loader);
+    }
+
+    private DozerMapperConfiguration(final byte[] content, final ClassLoader loader) throws JAXBException {
+        mapConfig = DozerJaxb.unmarshal(content);
+        document = DozerConfigDocument.load(content, mapConfig);
         this.loader = loader;
     }
 
@@ -133,8 +141,11 @@ public class DozerMapperConfiguration implements MapperConfiguration {
         field.setA(createField(source, mapping.getClassA().getContent(), sourceIndex));
         field.setB(createField(target, mapping.getClassB().getContent(), targetIndex));
         mapping.getFieldOrFieldExclude().add(field);
+        index.changed(mapping);
 
-        return new DozerFieldMapping(source, target, mapping, field);
+        DozerFieldMapping fieldMapping = new DozerFieldMapping(source, target, mapping, field);
+        index.add(fieldMapping);
+        return fieldMapping;
     }
 
     @Override
@@ -207,10 +218,13 @@ public class DozerMapperConfiguration implements MapperConfiguration {
         return null;
     }
 
-	/**
-	 * /!\ Public for test purpose
-	 */
-	public Mappings getDozerConfig() {
+    /**
+     * Mappings changed directly in the returned configuration aren't written by {@link #saveConfig(OutputStream)}, changes
+     * have to go through this class or the {@link MappingOperation}s it returns.
+     *
+     * @return the underlying Dozer configuration, visible for tests
+     */
+    Mappings getDozerConfig() {
         return mapConfig;
     }
 
@@ -233,85 +247,110 @@ public class DozerMapperConfiguration implements MapperConfiguration {
         return mapping;
     }
 
-    private synchronized JAXBContext getJAXBContext() {
-        if (jaxbCtx == null) {
-            try {
-                jaxbCtx = JAXBContext.newInstance(ObjectFactory.class);
-            } catch (final JAXBException jaxbEx) {
-                throw new RuntimeException(jaxbEx);
+    private static byte[] read(final File file) throws JAXBException {
+        try {
+            return Files.readAllBytes(file.toPath());
+        } catch (final IOException ioEx) {
+            throw new JAXBException(ioEx);
+        }
+    }
+
+    private static byte[] read(final InputStream stream) throws JAXBException {
+        final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[8192];
+        try {
+            for (int count = stream.read(buffer); count >= 0; count = stream.read(buffer)) {
+                content.write(buffer, 0, count);
             }
+        } catch (final IOException ioEx) {
+            throw new JAXBException(ioEx);
         }
-        return jaxbCtx;
+        return content.toByteArray();
     }
 
     @Override
     public MappingOperation<?, ?> getMapping(Model source, Model target) {
-        MappingOperation<?, ?> mapping = null;
-        for (MappingOperation<?, ?> op : getMappings()) {
-            if (op.getSource().equals(source) && op.getTarget().equals(target)) {
-                mapping = op;
-                break;
+        String targetPath = DozerMappingIndex.path(target);
+        if (targetPath == null) {
+            return null;
+        }
+        for (MappingOperation<?, ?> op : getMappingsForSource(source)) {
+            if (targetPath.equals(DozerMappingIndex.path((Model) op.getTarget()))) {
+                return op;
             }
         }
-        return mapping;
+        return null;
+    }
+
+    // Returns the wrapper of a field mapping, it is only created the first
+    // time the field is accessed
+    private MappingOperation<?, ?> getMapping(Mapping mapping, Field field) {
+        MappingOperation<?, ?> op = index.get(field);
+        if (op == null) {
+            op = createMapping(mapping, field);
+            index.add(op);
+        }
+        return op;
     }
 
     @Override
     public List<MappingOperation<?, ?>> getMappings() {
         LinkedList<MappingOperation<?, ?>> mappings = new LinkedList<>();
         for (Mapping mapping : mapConfig.getMapping()) {
-            String targetType = mapping.getClassB().getContent();
-
             for (Object o : mapping.getFieldOrFieldExclude()) {
-                if (!(o instanceof Field)) {
-                    continue;
-                }
-                Field field = (Field) o;
-                Model targetModel = getModel(getTargetModel(), targetType, field.getB().getContent());
-
-                if (VARIABLE_MAPPER_ID.equals(field.getCustomConverterId())) {
-                    Variable variable = getVariable(DozerVariableMapping.unqualifyName(
-                            field.getCustomConverterArgument()));
-                    mappings.add(new DozerVariableMapping(variable, targetModel, mapping, field));
-                } else if (EXPRESSION_MAPPER_ID.equals(field.getCustomConverterId())) {
-                    Expression expression = new DozerExpression(field);
-                    mappings.add(new DozerExpressionMapping(expression, targetModel, mapping, field));
-                } else {
-                    String sourceType = mapping.getClassA().getContent();
-                    Model sourceModel = getModel(getSourceModel(), sourceType, field.getA().getContent());
-                    DozerFieldMapping fieldMapping =
-                            new DozerFieldMapping(sourceModel, targetModel, mapping, field);
-                    // check to see if this field mapping is customized
-                    if (CUSTOM_MAPPER_ID.equals(field.getCustomConverterId())) {
-                        fieldMapping = new DozerTransformationMapping(fieldMapping);
-                    }
-                    mappings.add(fieldMapping);
+                if (o instanceof Field) {
+                    mappings.add(getMapping(mapping, (Field) o));
                 }
             }
         }
+        indexed = true;
         return mappings;
     }
 
     @Override
     public List<MappingOperation<?, ?>> getMappingsForSource(Model source) {
-        List<MappingOperation<?, ?>> sourceMappings = new LinkedList<>();
-        for (MappingOperation<?, ?> op : getMappings()) {
-            if (op.getSource().equals(source)) {
-                sourceMappings.add(op);
-            }
-        }
-        return sourceMappings;
+        return getIndex().getForSource(source);
     }
 
     @Override
     public List<MappingOperation<?, ?>> getMappingsForTarget(Model target) {
-        List<MappingOperation<?, ?>> targetMappings = new LinkedList<>();
-        for (MappingOperation<?, ?> op : getMappings()) {
-            if (op.getTarget().equals(target)) {
-                targetMappings.add(op);
-            }
+        return getIndex().getForTarget(target);
+    }
+
+    @Override
+    public List<MappingOperation<?, ?>> getMappingsForVariable(Variable variable) {
+        return getIndex().getForVariable(variable.getName());
+    }
+
+    private MappingOperation<?, ?> createMapping(Mapping mapping, Field field) {
+        String targetType = mapping.getClassB().getContent();
+        Model targetModel = getModel(getTargetModel(), targetType, field.getB().getContent());
+
+        if (VARIABLE_MAPPER_ID.equals(field.getCustomConverterId())) {
+            Variable variable = getVariable(DozerVariableMapping.unqualifyName(
+                    field.getCustomConverterArgument()));
+            return new DozerVariableMapping(variable, targetModel, mapping, field);
+        } else if (EXPRESSION_MAPPER_ID.equals(field.getCustomConverterId())) {
+            Expression expression = new DozerExpression(field);
+            return new DozerExpressionMapping(expression, targetModel, mapping, field);
+        }
+        String sourceType = mapping.getClassA().getContent();
+        Model sourceModel = getModel(getSourceModel(), sourceType, field.getA().getContent());
+        DozerFieldMapping fieldMapping =
+                new DozerFieldMapping(sourceModel, targetModel, mapping, field);
+        // check to see if this field mapping is customized
+        if (CUSTOM_MAPPER_ID.equals(field.getCustomConverterId())) {
+            fieldMapping = new DozerTransformationMapping(fieldMapping);
         }
-        return targetMappings;
+        return fieldMapping;
+    }
+
+    // Wrappers of mappings loaded with the config are created on first use
+    private DozerMappingIndex getIndex() {
+        if (!indexed) {
+            getMappings();
+        }
+        return index;
     }
 
     private Model getModel(Model model, String type, String fieldName) {
@@ -469,8 +508,12 @@ public class DozerMapperConfiguration implements MapperConfiguration {
         dozerExpression.setLanguage(language);
         field.setCustomConverterId(EXPRESSION_MAPPER_ID);
         mapping.getFieldOrFieldExclude().add(field);
+        index.changed(mapping);
 
-        return new DozerExpressionMapping(dozerExpression, target, mapping, field);
+        DozerExpressionMapping expressionMapping =
+                new DozerExpressionMapping(dozerExpression, target, mapping, field);
+        index.add(expressionMapping);
+        return expressionMapping;
     }
 
     @Override
@@ -519,13 +562,17 @@ public class DozerMapperConfiguration implements MapperConfiguration {
         field.setCustomConverterId(VARIABLE_MAPPER_ID);
         field.setCustomConverterArgument(DozerVariableMapping.qualifyName(variable.getName()));
         mapping.getFieldOrFieldExclude().add(field);
+        index.changed(mapping);
 
-        return new DozerVariableMapping(variable, target, mapping, field);
+        DozerVariableMapping variableMapping = new DozerVariableMapping(variable, target, mapping, field);
+        index.add(variableMapping);
+        return variableMapping;
     }
 
     @Override
     public void removeAllMappings() {
         mapConfig.getMapping().clear();
+        index.clear();
     }
 
     @Override
@@ -564,11 +611,16 @@ public class DozerMapperConfiguration implements MapperConfiguration {
 
     @Override
     public void saveConfig(final OutputStream output) throws Exception {
-        final Marshaller m = getJAXBContext().createMarshaller();
-        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-		m.setProperty(Marshaller.JAXB_ENCODING, StandardCharsets.UTF_8.name());
-        m.setProperty(Marshaller.JAXB_SCHEMA_LOCATION, DOZER_6_1_XMLNS + " " + DOZER_6_1_SCHEMA_LOC);
-        m.marshal(mapConfig, output);
+        // rewrite only the mappings changed since the config was loaded or last saved, if possible
+        if (document != null && document.write(mapConfig, index.getChanged(), output)) {
+            index.clearChanged();
+            return;
+        }
+        final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        DozerJaxb.marshal(mapConfig, content);
+        content.writeTo(output);
+        document = DozerConfigDocument.load(content.toByteArray(), mapConfig);
+        index.clearChanged();
     }
 
     @Override
@@ -579,7 +631,10 @@ public class DozerMapperConfiguration implements MapperConfiguration {
 
         DozerFieldMapping fieldMapping = (DozerFieldMapping)mapping;
         fieldMapping.getField().setCustomConverterId(CUSTOM_MAPPER_ID);
+        index.changed(fieldMapping.getMapping());
         DozerTransformationMapping xfromMapping = new DozerTransformationMapping(fieldMapping);
+        // the transformation takes the place of the field mapping
+        index.add(xfromMapping);
         xfromMapping.setTransformationClass(transformationClass);
         xfromMapping.setTransformationName(transformationName);
         xfromMapping.addTransformationArguments(transformationArguments);
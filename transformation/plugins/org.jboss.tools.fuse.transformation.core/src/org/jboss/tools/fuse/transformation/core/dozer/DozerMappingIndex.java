@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.fuse.transformation.core.dozer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.tools.fuse.transformation.core.MappingOperation;
+import org.jboss.tools.fuse.transformation.core.dozer.config.Field;
+import org.jboss.tools.fuse.transformation.core.dozer.config.Mapping;
+import org.jboss.tools.fuse.transformation.core.model.Model;
+
+/**
+ * Keeps the mapping wrappers of a Dozer configuration, one per field
+ * definition, and looks them up by source path, target path and variable
+ * name. The configuration updates the index whenever it adds, replaces or
+ * removes a mapping. The index also records which Dozer mappings were
+ * changed, through the configuration or the wrappers, since the
+ * configuration was last saved.
+ */
+class DozerMappingIndex {
+
+    private final Map<Field, MappingOperation<?, ?>> byField = new IdentityHashMap<>();
+    private final Map<String, List<MappingOperation<?, ?>>> bySource = new HashMap<>();
+    private final Map<String, List<MappingOperation<?, ?>>> byTarget = new HashMap<>();
+    private final Map<String, List<MappingOperation<?, ?>>> byVariable = new HashMap<>();
+    private final Set<Mapping> changed = Collections.newSetFromMap(new IdentityHashMap<Mapping, Boolean>());
+
+    /**
+     * Returns the path of a model from its root, without collection indexes.
+     *
+     * @param model model
+     * @return path of the model or null if the model is null
+     */
+    static String path(Model model) {
+        if (model == null) {
+            return null;
+        }
+        StringBuilder path = new StringBuilder(model.getName());
+        for (Model parent = model.getParent(); parent != null; parent = parent.getParent()) {
+            path.insert(0, '.').insert(0, parent.getName());
+        }
+        return path.toString();
+    }
+
+    /**
+     * Adds a mapping, replacing the one registered for the same field.
+     *
+     * @param mapping mapping to add
+     */
+    void add(MappingOperation<?, ?> mapping) {
+        BaseDozerMapping dozerMapping = (BaseDozerMapping) mapping;
+        MappingOperation<?, ?> previous = byField.put(dozerMapping.getField(), mapping);
+        if (previous != null) {
+            unregister(previous);
+        }
+        dozerMapping.setIndex(this);
+        dozerMapping.setChanges(changed);
+        if (mapping instanceof DozerVariableMapping) {
+            put(byVariable, variableName((DozerVariableMapping) mapping), mapping);
+        } else if (mapping.getSource() instanceof Model) {
+            put(bySource, path((Model) mapping.getSource()), mapping);
+        }
+        put(byTarget, path((Model) mapping.getTarget()), mapping);
+    }
+
+    void clear() {
+        for (MappingOperation<?, ?> mapping : byField.values()) {
+            ((BaseDozerMapping) mapping).setIndex(null);
+        }
+        byField.clear();
+        bySource.clear();
+        byTarget.clear();
+        byVariable.clear();
+    }
+
+    /**
+     * Records that a Dozer mapping changed.
+     *
+     * @param mapping changed mapping
+     */
+    void changed(Mapping mapping) {
+        changed.add(mapping);
+    }
+
+    /**
+     * @return Dozer mappings changed since the last call to {@link #clearChanged()}
+     */
+    Set<Mapping> getChanged() {
+        return changed;
+    }
+
+    void clearChanged() {
+        changed.clear();
+    }
+
+    MappingOperation<?, ?> get(Field field) {
+        return byField.get(field);
+    }
+
+    List<MappingOperation<?, ?>> getForSource(Model source) {
+        return get(bySource, path(source));
+    }
+
+    List<MappingOperation<?, ?>> getForTarget(Model target) {
+        return get(byTarget, path(target));
+    }
+
+    List<MappingOperation<?, ?>> getForVariable(String name) {
+        return get(byVariable, name);
+    }
+
+    void remove(BaseDozerMapping mapping) {
+        MappingOperation<?, ?> registered = byField.remove(mapping.getField());
+        if (registered != null) {
+            unregister(registered);
+        }
+    }
+
+    /**
+     * Moves a variable mapping to the key of the variable it references now.
+     *
+     * @param mapping variable mapping
+     * @param oldName name of the variable referenced before
+     */
+    void variableChanged(DozerVariableMapping mapping, String oldName) {
+        if (byField.get(mapping.getField()) == mapping) {
+            delete(byVariable, oldName, mapping);
+            put(byVariable, variableName(mapping), mapping);
+        }
+    }
+
+    private void unregister(MappingOperation<?, ?> mapping) {
+        ((BaseDozerMapping) mapping).setIndex(null);
+        if (mapping instanceof DozerVariableMapping) {
+            delete(byVariable, variableName((DozerVariableMapping) mapping), mapping);
+        } else if (mapping.getSource() instanceof Model) {
+            delete(bySource, path((Model) mapping.getSource()), mapping);
+        }
+        delete(byTarget, path((Model) mapping.getTarget()), mapping);
+    }
+
+    private static String variableName(DozerVariableMapping mapping) {
+        String argument = mapping.getField().getCustomConverterArgument();
+        return argument != null ? DozerVariableMapping.unqualifyName(argument) : null;
+    }
+
+    private static List<MappingOperation<?, ?>> get(Map<String, List<MappingOperation<?, ?>>> map, String key) {
+        List<MappingOperation<?, ?>> mappings = key != null ? map.get(key) : null;
+        return mappings != null ? new ArrayList<>(mappings) : new ArrayList<MappingOperation<?, ?>>();
+    }
+
+    private static void put(Map<String, List<MappingOperation<?, ?>>> map, String key, MappingOperation<?, ?> mapping) {
+        if (key == null) {
+            return;
+        }
+        List<MappingOperation<?, ?>> mappings = map.get(key);
+        if (mappings == null) {
+            mappings = new ArrayList<>(1);
+            map.put(key, mappings);
+        }
+        mappings.add(mapping);
+    }
+
+    private static void delete(Map<String, List<MappingOperation<?, ?>>> map, String key, MappingOperation<?, ?> mapping) {
+        List<MappingOperation<?, ?>> mappings = key != null ? map.get(key) : null;
+        if (mappings != null && mappings.remove(mapping) && mappings.isEmpty()) {
+            map.remove(key);
+        }
+    }
+}
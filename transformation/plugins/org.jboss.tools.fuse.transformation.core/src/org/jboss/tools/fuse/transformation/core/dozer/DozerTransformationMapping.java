@@ -56,6 +56,7 @@ public class DozerTransformationMapping extends DozerFieldMapping implements Tra
         builder.append("="); //$NON-NLS-1$
         builder.append(emptyForNull(value));
         getField().setCustomConverterArgument(builder.toString());
+        changed();
     }
 
     @Override
@@ -69,6 +70,7 @@ public class DozerTransformationMapping extends DozerFieldMapping implements Tra
             builder.append(arg);
         }
         getField().setCustomConverterArgument(builder.toString());
+        changed();
     }
 
     @Override
@@ -103,6 +105,7 @@ public class DozerTransformationMapping extends DozerFieldMapping implements Tra
             builder.append(parts[ndx]);
         }
         getField().setCustomConverterArgument(builder.toString());
+        changed();
     }
 
     @Override
@@ -116,5 +119,6 @@ public class DozerTransformationMapping extends DozerFieldMapping implements Tra
             builder.append(parts[ndx]);
         }
         getField().setCustomConverterArgument(builder.toString());
+        changed();
     }
 }
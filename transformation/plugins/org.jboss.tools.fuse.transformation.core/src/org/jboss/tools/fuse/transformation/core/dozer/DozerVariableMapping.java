@@ -72,10 +72,15 @@ public class DozerVariableMapping extends BaseDozerMapping implements VariableMa
 
     @Override
     public void setVariable(Variable variable) {
+        String oldName = getField().getCustomConverterArgument();
         source = variable;
         // update the dozer config to reference the new variable name
         getField().setCustomConverterArgument(
                 DozerVariableMapping.qualifyName(variable.getName()));
+        changed();
+        if (getIndex() != null) {
+            getIndex().variableChanged(this, oldName != null ? unqualifyName(oldName) : null);
+        }
     }
     
     @Override
@@ -25,6 +25,8 @@ public class Model {
     private String type;
     private Model parent;
     private HashMap<String, Model> children = new HashMap<>();
+    // Class whose fields become the children of this model once they are accessed
+    private Class<?> childClass;
     private boolean isCollection;
 
     public Model(String name, String type) {
@@ -37,7 +39,7 @@ public class Model {
         node.parent = this;
         node.name = name;
         node.type = type;
-        children.put(name, node);
+        children().put(name, node);
         return node;
     }
 
@@ -52,13 +54,13 @@ public class Model {
                 int idx = nodeName.indexOf('.'); //$NON-NLS-1$
                 String parentNodeName = nodeName.substring(0, idx);
                 String child = nodeName.substring(idx + 1, nodeName.length());
-                Model parentModel = children.get(parentNodeName);
+                Model parentModel = children().get(parentNodeName);
                 if (parentModel != null) {
                     model = parentModel.get(child);
                 }
             }
         } else {
-            return children.get(nodeName);
+            return children().get(nodeName);
         }
         return model;
     }
@@ -80,6 +82,9 @@ public class Model {
     }
     
     public boolean hasChildren() {
+        if (childClass != null) {
+            return ModelBuilder.hasFields(childClass);
+        }
         return children.size() > 0;
     }
 
@@ -89,19 +94,19 @@ public class Model {
     }
 
     public List<Model> getChildren() {
-        return new ArrayList<>(children.values());
+        return new ArrayList<>(children().values());
     }
 
     public List<String> listFields() {
         List<String> fields = new LinkedList<>();
-        return listFields(fields, this.children.values(), ""); //$NON-NLS-1$
+        return listFields(fields, children().values(), ""); //$NON-NLS-1$
     }
 
     public List<String> listFields(List<String> fieldList, 
             Collection<Model> fields, String prefix) {
         for (Model field : fields) {
             fieldList.add(prefix + field.getName());
-            listFields(fieldList, field.children.values(), prefix + field.getName() + "."); //$NON-NLS-1$
+            listFields(fieldList, field.children().values(), prefix + field.getName() + "."); //$NON-NLS-1$
         }
         return fieldList;
     }
@@ -124,12 +129,14 @@ public class Model {
         return isEqual(modelClass, comp.getModelClass())
                 && isEqual(name, comp.getName())
                 && isEqual(type, comp.type)
-                && isEqual(children, comp.children);
+                && isEqual(parentPath(), comp.parentPath())
+                && isEqualChildren(comp);
     }
 
     @Override
     public int hashCode() {
-        return hash(modelClass, name, type, children);
+        // children are left out so hashing never expands the type graph
+        return hash(modelClass, name, type, parentPath());
     }
 
     public Class<?> getModelClass() {
@@ -140,9 +147,22 @@ public class Model {
         this.modelClass = modelClass;
     }
 
+    void setChildClass(Class<?> childClass) {
+        this.childClass = childClass;
+    }
+
+    private HashMap<String, Model> children() {
+        if (childClass != null) {
+            Class<?> clazz = childClass;
+            childClass = null;
+            ModelBuilder.addChildren(this, clazz);
+        }
+        return children;
+    }
+
     private void printModel(Model node, int depth, PrintStream out) {
         out.println(format(node, depth));
-        for (Model child : node.children.values()) {
+        for (Model child : node.children().values()) {
             printModel(child, depth + 1, out);
         }
     }
@@ -152,7 +172,7 @@ public class Model {
         for (int i = 0; i < depth; i++) {
             sb.append("  "); //$NON-NLS-1$
         }
-        sb.append(node.children.isEmpty() ? "- " : "* "); //$NON-NLS-1$ //$NON-NLS-2$
+        sb.append(node.hasChildren() ? "* " : "- "); //$NON-NLS-1$ //$NON-NLS-2$
         sb.append(node.name + " : " + node.type); //$NON-NLS-1$
         return sb.toString();
     }
@@ -168,6 +188,24 @@ public class Model {
         }
     }
 
+    private boolean isEqualChildren(Model comp) {
+        // children are only compared once both sides are expanded
+        if (childClass != null && comp.childClass != null) {
+            return childClass.equals(comp.childClass);
+        } else if (childClass != null || comp.childClass != null) {
+            return true;
+        }
+        return children.equals(comp.children);
+    }
+
+    private List<String> parentPath() {
+        LinkedList<String> path = new LinkedList<>();
+        for (Model node = parent; node != null; node = node.parent) {
+            path.addFirst(node.name);
+        }
+        return path;
+    }
+
     private int hash(Object... vals) {
         int hash = 7;
         for (Object val : vals) {
@@ -13,17 +13,41 @@ package org.jboss.tools.fuse.transformation.core.model;
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
+import java.util.Collections;
 import java.util.List;
 
 public class ModelBuilder {
 
+    // Descriptors of the fields of each class, including inherited fields. Being stored with the
+    // class, they are dropped along with the class loader that loaded it.
+    private static final ClassValue<List<FieldDescriptor>> FIELDS = new ClassValue<List<FieldDescriptor>>() {
+
+        @Override
+        protected List<FieldDescriptor> computeValue(Class<?> type) {
+            List<FieldDescriptor> descriptors = new ArrayList<>();
+            for (Class<?> clazz = type; clazz != null && !Object.class.equals(clazz); clazz = clazz.getSuperclass()) {
+                for (Field field : clazz.getDeclaredFields()) {
+                    if (!field.isSynthetic()) {
+                        descriptors.add(new FieldDescriptor(field));
+                    }
+                }
+            }
+            return Collections.unmodifiableList(descriptors);
+        }
+    };
+
+    /**
+     * Returns the model of a Java class. The children of each model are only created when first
+     * accessed, so only the parts of the class graph in use are built.
+     *
+     * @param javaClass
+     * @return model of the class
+     */
     public static Model fromJavaClass(Class<?> javaClass) {
         Model model = new Model(javaClass.getSimpleName(), javaClass.getName());
-        List<Field> fields = new LinkedList<Field>();
-        getFields(javaClass, fields);
-        addFieldsToModel(fields, model);
+        model.setChildClass(javaClass);
         model.setModelClass(javaClass);
         return model;
     }
@@ -55,69 +79,31 @@ public class ModelBuilder {
         return listName.split("\\[")[1].split("\\]")[0]; //$NON-NLS-1$ //$NON-NLS-2$
     }
 
-    private static void addFieldsToModel(List<Field> fields, Model model) {
-        for (Field field : fields) {
-            Class<?> fieldClass;
-            boolean isCollection = false;
-
-            if (field.getType().isArray()) {
-                isCollection = true;
-                fieldClass = field.getType().getComponentType();
-            } else if (Collection.class.isAssignableFrom(field.getType())) {
-                isCollection = true;
-                Type ft = field.getGenericType();
-                if (ft instanceof ParameterizedType) {
-                    fieldClass = (Class<?>) ((ParameterizedType) ft).getActualTypeArguments()[0];
-                } else {
-                    fieldClass = Object.class;
-                }
-            } else {
-                fieldClass = field.getType();
-            }
-            
-            // Create the model for this field
-            String fieldTypeName = isCollection ? getListName(fieldClass) : fieldClass.getName();
-            Model child = model.addChild(field.getName(), fieldTypeName);
-            child.setIsCollection(isCollection);
-
-            // Deal with child fields if necessary
-            if (parseChildren(fieldClass)) {
-                addFieldsToModel(getFields(fieldClass, model), child);
+    static boolean hasFields(Class<?> clazz) {
+        return !FIELDS.get(clazz).isEmpty();
+    }
+
+    static void addChildren(Model model, Class<?> clazz) {
+        for (FieldDescriptor field : FIELDS.get(clazz)) {
+            Model child = model.addChild(field.name, field.typeName);
+            child.setIsCollection(field.isCollection);
+            // Deal with child fields if necessary, unless a child field references an ancestor
+            if (field.parseChildren && !cycle(field.fieldClass, model)) {
+                child.setChildClass(field.fieldClass);
             }
         }
     }
 
-    private static List<Field> getFields(Class<?> clazz, Model parent) {
-        LinkedList<Field> fields = new LinkedList<Field>();
-        boolean cycle = false;
-        // convenient place to check for a cycle where a child field references an ancestor
+    private static boolean cycle(Class<?> clazz, Model parent) {
         for (Model pm = parent; pm != null; pm = pm.getParent()) {
             String parentType = pm.isCollection() ? getListType(pm.getType()) : pm.getType();
             if (clazz.getName().equals(parentType)) {
-                cycle = true;
-                break;
+                return true;
             }
         }
-        if (!cycle) {
-            getFields(clazz, fields);
-        }
-        return fields;
+        return false;
     }
 
-    private static void getFields(Class<?> clazz, List<Field> fields) {
-        // check if we've hit rock bottom
-        if (clazz == null || Object.class.equals(clazz)) {
-            return;
-        }
-
-        for (Field field : clazz.getDeclaredFields()) {
-            if (!field.isSynthetic()) {
-                fields.add(field);
-            }
-        }
-        getFields(clazz.getSuperclass(), fields);
-    }
-    
     private static boolean parseChildren(Class<?> fieldClass) {
         boolean excluded = 
             fieldClass.isPrimitive()
@@ -128,4 +114,21 @@ public class ModelBuilder {
         
         return !excluded;
     }
+
+    private static final class FieldDescriptor {
+
+        final String name;
+        final String typeName;
+        final Class<?> fieldClass;
+        final boolean isCollection;
+        final boolean parseChildren;
+
+        FieldDescriptor(Field field) {
+            name = field.getName();
+            fieldClass = getFieldType(field);
+            isCollection = field.getType().isArray() || Collection.class.isAssignableFrom(field.getType());
+            typeName = isCollection ? getListName(fieldClass) : fieldClass.getName();
+            parseChildren = parseChildren(fieldClass);
+        }
+    }
 }
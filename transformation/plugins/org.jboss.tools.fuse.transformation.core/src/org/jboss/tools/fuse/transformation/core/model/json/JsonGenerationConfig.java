@@ -18,10 +18,16 @@ import org.jsonschema2pojo.SourceType;
  */
 public class JsonGenerationConfig extends DefaultGenerationConfig {
 
+    /**
+     * Default maximum number of items of each array inspected when generating a model from an instance document
+     */
+    public static final int DEFAULT_SAMPLE_LIMIT = 1000;
+
     private boolean includeHashcodeAndEquals;
     private boolean includeToString;
     private boolean usePrimitives = true;
     private SourceType sourceType = SourceType.JSONSCHEMA;
+    private int sampleLimit = DEFAULT_SAMPLE_LIMIT;
 
     @Override
     public boolean isIncludeHashcodeAndEquals() {
@@ -62,4 +68,19 @@ public class JsonGenerationConfig extends DefaultGenerationConfig {
         this.sourceType = sourceType;
         return this;
     }
+
+    /**
+     * @return maximum number of items of each array inspected when generating a model from an instance document
+     */
+    public int getSampleLimit() {
+        return sampleLimit;
+    }
+
+    public JsonGenerationConfig setSampleLimit(int sampleLimit) {
+        if (sampleLimit < 1) {
+            throw new IllegalArgumentException("Sample limit must be positive: " + sampleLimit); //$NON-NLS-1$
+        }
+        this.sampleLimit = sampleLimit;
+        return this;
+    }
 }
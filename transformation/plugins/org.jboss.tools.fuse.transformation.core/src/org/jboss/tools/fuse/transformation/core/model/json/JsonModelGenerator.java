@@ -15,6 +15,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.net.URL;
+import java.nio.file.Files;
 
 import org.jsonschema2pojo.Jackson2Annotator;
 import org.jsonschema2pojo.SchemaGenerator;
@@ -22,6 +23,7 @@ import org.jsonschema2pojo.SchemaMapper;
 import org.jsonschema2pojo.SourceType;
 import org.jsonschema2pojo.rules.RuleFactory;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sun.codemodel.JCodeModel;
 
 /**
@@ -65,7 +67,9 @@ public class JsonModelGenerator {
 
     /**
      * Generates Java classes in targetPath directory given a JSON instance
-     * document.
+     * document. The schema of the document is inferred while streaming
+     * through it, inspecting at most the configured sample limit of items of
+     * each array.
      * 
      * @param className name of the top-level class used for the generated model
      * @param packageName package name for generated model classes
@@ -76,8 +80,16 @@ public class JsonModelGenerator {
     public JCodeModel generateFromInstance(final String className, final String packageName,
             final URL instanceUrl, final File targetPath) throws IOException {
 
-        config.setSourceType(SourceType.JSON);
-        return generate(className, packageName, instanceUrl, targetPath);
+        // Class names may be shorter than the three characters required for a prefix
+        final File schemaFile = File.createTempFile("jsonschema", ".json"); //$NON-NLS-1$ //$NON-NLS-2$
+        try {
+            new ObjectMapper().writeValue(schemaFile,
+                    JsonSchemaInference.inferSchema(instanceUrl, config.getSampleLimit()));
+            config.setSourceType(SourceType.JSONSCHEMA);
+            return generate(className, packageName, schemaFile.toURI().toURL(), targetPath);
+        } finally {
+            Files.deleteIfExists(schemaFile.toPath());
+        }
     }
 
     private JCodeModel generate(final String className, final String packageName,
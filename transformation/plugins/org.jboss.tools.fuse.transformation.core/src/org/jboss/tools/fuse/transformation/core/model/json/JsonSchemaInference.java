@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.fuse.transformation.core.model.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Infers a JSON schema from a JSON instance document while streaming through it, so the document is never held in memory.
+ * The schema has the form jsonschema2pojo infers from examples, except that all inspected items of an array are merged into
+ * one item schema. Only the first items of each array, up to a sample limit, are inspected.
+ */
+final class JsonSchemaInference {
+
+    private static final String TYPE = "type"; //$NON-NLS-1$
+    private static final String PROPERTIES = "properties"; //$NON-NLS-1$
+    private static final String ITEMS = "items"; //$NON-NLS-1$
+    private static final String OBJECT = "object"; //$NON-NLS-1$
+    private static final String ARRAY = "array"; //$NON-NLS-1$
+    private static final String INTEGER = "integer"; //$NON-NLS-1$
+    private static final String NUMBER = "number"; //$NON-NLS-1$
+    private static final String NULL = "null"; //$NON-NLS-1$
+
+    private final JsonNodeFactory factory = JsonNodeFactory.instance;
+    private final int sampleLimit;
+
+    private JsonSchemaInference(int sampleLimit) {
+        this.sampleLimit = sampleLimit;
+    }
+
+    /**
+     * @param instanceUrl
+     *        URL of a JSON instance document
+     * @param sampleLimit
+     *        maximum number of items of each array inspected
+     * @return schema of the instance document
+     * @throws IOException
+     *         failure reading the instance document
+     */
+    static ObjectNode inferSchema(URL instanceUrl, int sampleLimit) throws IOException {
+        try (InputStream in = instanceUrl.openStream(); JsonParser parser = new JsonFactory().createParser(in)) {
+            if (parser.nextToken() == null) {
+                throw new JsonParseException("Empty JSON document", parser.getCurrentLocation()); //$NON-NLS-1$
+            }
+            return new JsonSchemaInference(sampleLimit).read(parser, null);
+        }
+    }
+
+    // Returns the schema of the current value merged into the supplied schema
+    private ObjectNode read(JsonParser parser, ObjectNode schema) throws IOException {
+        switch (parser.getCurrentToken()) {
+        case START_OBJECT: {
+            ObjectNode properties;
+            if (schema != null && OBJECT.equals(schema.path(TYPE).asText())) {
+                properties = (ObjectNode)schema.get(PROPERTIES);
+            } else {
+                schema = typeSchema(OBJECT);
+                properties = schema.putObject(PROPERTIES);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                parser.nextToken();
+                JsonNode property = properties.get(name);
+                properties.set(name, read(parser, property instanceof ObjectNode ? (ObjectNode)property : null));
+            }
+            return schema;
+        }
+        case START_ARRAY: {
+            if (schema == null || !ARRAY.equals(schema.path(TYPE).asText())) {
+                schema = typeSchema(ARRAY);
+            }
+            JsonNode items = schema.get(ITEMS);
+            for (int count = 0; parser.nextToken() != JsonToken.END_ARRAY; count++) {
+                if (count < sampleLimit) {
+                    items = read(parser, items instanceof ObjectNode ? (ObjectNode)items : null);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (items != null) {
+                schema.set(ITEMS, items);
+            }
+            return schema;
+        }
+        case VALUE_STRING:
+            return merge(schema, "string"); //$NON-NLS-1$
+        case VALUE_NUMBER_INT:
+            return merge(schema, INTEGER);
+        case VALUE_NUMBER_FLOAT:
+            return merge(schema, NUMBER);
+        case VALUE_TRUE:
+        case VALUE_FALSE:
+            return merge(schema, "boolean"); //$NON-NLS-1$
+        case VALUE_NULL:
+            return merge(schema, NULL);
+        default:
+            throw new JsonParseException("Unexpected token " + parser.getCurrentToken(), parser.getCurrentLocation()); //$NON-NLS-1$
+        }
+    }
+
+    // Merges a simple type into the schema inferred from other values at the same location
+    private ObjectNode merge(ObjectNode schema, String type) {
+        if (schema == null) {
+            return typeSchema(type);
+        }
+        String schemaType = schema.path(TYPE).asText();
+        if (NULL.equals(schemaType) || INTEGER.equals(schemaType) && NUMBER.equals(type)) {
+            return typeSchema(type);
+        }
+        return schema;
+    }
+
+    private ObjectNode typeSchema(String type) {
+        ObjectNode schema = factory.objectNode();
+        schema.put(TYPE, type);
+        return schema;
+    }
+}
@@ -0,0 +1,392 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.fuse.transformation.core.model.xml;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.xml.XMLConstants;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.jboss.tools.fuse.transformation.core.internal.DataTransformationCoreActivator;
+import com.sun.codemodel.JCodeModel;
+import com.sun.tools.xjc.api.S2JJAXBModel;
+
+/**
+ * Keeps the most recently compiled schemas, keyed by a hash of the content of the schema and the schemas it imports or
+ * includes and the compile options, so choosing the same schema or root element again doesn't compile the schema again. The
+ * sources generated from a schema are kept in a folder named after the same key and copied to the requested target folder.
+ * Folders outlive the session, a later session compiling the same schema reuses them, unless they are older than
+ * {@link #MAX_FOLDER_AGE} or more than {@link #MAX_FOLDERS} folders exist.
+ */
+final class CompiledSchemaCache {
+
+    private static final int MAX_ENTRIES = 8;
+    static final int MAX_FOLDERS = 32;
+    static final long MAX_FOLDER_AGE = 30L * 24 * 60 * 60 * 1000;
+    private static final String FOLDER = "schemaCache"; //$NON-NLS-1$
+    private static final Set<String> REFERENCES = new HashSet<>(Arrays.asList("import", "include", "redefine", "override")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+    private static final String SCHEMA_LOCATION = "schemaLocation"; //$NON-NLS-1$
+
+    static final CompiledSchemaCache INSTANCE = new CompiledSchemaCache();
+
+    static final class Entry {
+
+        final String key;
+        // Schema and compile options the entry was compiled for
+        final String source;
+        final S2JJAXBModel model;
+        final List<QName> elements;
+        // First problem reported while compiling the schema
+        final Exception exception;
+        JCodeModel codeModel;
+        File sourceFolder;
+
+        Entry(String key, String source, S2JJAXBModel model, List<QName> elements, Exception exception) {
+            this.key = key;
+            this.source = source;
+            this.model = model;
+            this.elements = elements;
+            this.exception = exception;
+        }
+    }
+
+    private final Map<String, Entry> entries = new LinkedHashMap<String, Entry>(MAX_ENTRIES, 0.75f, true) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            if (size() <= MAX_ENTRIES) {
+                return false;
+            }
+            keyBySource.remove(eldest.getValue().source, eldest.getKey());
+            evicted.add(eldest.getValue());
+            return true;
+        }
+    };
+    private final Map<String, String> keyBySource = new HashMap<>();
+    // Entries removed from the cache whose folders still have to be deleted
+    private final List<Entry> evicted = new ArrayList<>();
+    private boolean foldersEvicted;
+
+    private CompiledSchemaCache() {
+    }
+
+    /**
+     * Returns the key of a schema. Besides the content of the schema, the key covers its location and the locations and content
+     * of all schemas it imports or includes, directly or indirectly.
+     *
+     * @param schemaFile
+     *        schema
+     * @param content
+     *        content of the schema
+     * @param packageName
+     *        package forced on the generated classes, may be null
+     * @return key of the compiled schema
+     */
+    static String key(File schemaFile, byte[] content, String packageName) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        URI location = schemaFile.getAbsoluteFile().toURI();
+        digest.update(content);
+        update(digest, location.toString());
+        update(digest, packageName == null ? "" : packageName); //$NON-NLS-1$
+        // The generated sources depend on the version of the generator
+        update(digest, version());
+        Set<URI> visited = new HashSet<>();
+        visited.add(location);
+        updateReferences(digest, location, content, visited);
+        StringBuilder key = new StringBuilder();
+        for (byte b : digest.digest()) {
+            key.append(String.format("%02x", b)); //$NON-NLS-1$
+        }
+        return key.toString();
+    }
+
+    /**
+     * Returns the source of a schema, i.e., what identifies the schema and compile options independent of their content.
+     *
+     * @param schemaFile
+     *        schema
+     * @param packageName
+     *        package forced on the generated classes, may be null
+     * @return source of the compiled schema
+     */
+    static String source(File schemaFile, String packageName) {
+        return schemaFile.getAbsoluteFile().toURI().toString() + '|' + (packageName == null ? "" : packageName); //$NON-NLS-1$
+    }
+
+    // Adds the locations and content of the schemas referenced by a schema, and the ones they reference, to the digest
+    private static void updateReferences(MessageDigest digest, URI base, byte[] content, Set<URI> visited) {
+        for (String reference : references(content)) {
+            URI location;
+            try {
+                location = base.resolve(reference).normalize();
+            } catch (IllegalArgumentException e) {
+                update(digest, reference);
+                continue;
+            }
+            if (!visited.add(location)) {
+                continue;
+            }
+            update(digest, location.toString());
+            if (!"file".equals(location.getScheme())) { //$NON-NLS-1$
+                continue;
+            }
+            byte[] referencedContent;
+            try {
+                referencedContent = Files.readAllBytes(Paths.get(location));
+            } catch (IOException | RuntimeException e) {
+                // A missing schema fails the compilation, but is part of the key nonetheless
+                update(digest, e.getClass().getName());
+                continue;
+            }
+            digest.update(referencedContent);
+            updateReferences(digest, location, referencedContent, visited);
+        }
+    }
+
+    // Returns the schema locations of the imports and includes of a schema
+    private static List<String> references(byte[] content) {
+        List<String> references = new ArrayList<>();
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        try {
+            XMLStreamReader reader = factory.createXMLStreamReader(new ByteArrayInputStream(content));
+            try {
+                while (reader.hasNext()) {
+                    if (reader.next() == XMLStreamConstants.START_ELEMENT
+                        && XMLConstants.W3C_XML_SCHEMA_NS_URI.equals(reader.getNamespaceURI())
+                        && REFERENCES.contains(reader.getLocalName())) {
+                        String reference = reader.getAttributeValue(null, SCHEMA_LOCATION);
+                        if (reference != null && !reference.trim().isEmpty()) {
+                            references.add(reference.trim());
+                        }
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            // The schema compiler reports the problem, the references found so far are enough for the key
+        }
+        return references;
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update((byte)0);
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    synchronized Entry get(String key) {
+        return entries.get(key);
+    }
+
+    /**
+     * Adds an entry, replacing the entry compiled for an older version of the same schema.
+     *
+     * @param entry
+     *        entry to add
+     */
+    void put(Entry entry) {
+        List<Entry> removed;
+        synchronized (this) {
+            String previousKey = keyBySource.put(entry.source, entry.key);
+            if (previousKey != null && !previousKey.equals(entry.key)) {
+                Entry previous = entries.remove(previousKey);
+                if (previous != null) {
+                    evicted.add(previous);
+                }
+            }
+            entries.put(entry.key, entry);
+            removed = new ArrayList<>(evicted);
+            evicted.clear();
+        }
+        // Outside of the cache lock, copying the sources of a removed entry may take a while
+        for (Entry previous : removed) {
+            synchronized (previous) {
+                // Unless the same schema was compiled again meanwhile, using the same folder
+                if (get(previous.key) == null) {
+                    delete(previous.sourceFolder);
+                }
+                previous.sourceFolder = null;
+            }
+        }
+    }
+
+    // Deletes the source folders of earlier sessions not used by an entry that are too old or too many, newest kept first
+    private synchronized void evictFolders() {
+        if (foldersEvicted) {
+            return;
+        }
+        foldersEvicted = true;
+        File[] folders = root().listFiles();
+        if (folders == null) {
+            return;
+        }
+        final Map<File, Long> modified = new HashMap<>();
+        for (File folder : folders) {
+            modified.put(folder, folder.lastModified());
+        }
+        Arrays.sort(folders, new Comparator<File>() {
+
+            @Override
+            public int compare(File folder1, File folder2) {
+                return Long.compare(modified.get(folder2), modified.get(folder1));
+            }
+        });
+        long oldest = System.currentTimeMillis() - MAX_FOLDER_AGE;
+        int kept = 0;
+        for (File folder : folders) {
+            if (folder.getName().indexOf('.') >= 0) {
+                // Left by a build that didn't complete
+                delete(folder);
+            } else if (entries.containsKey(folder.getName())) {
+                kept++;
+            } else if (kept < MAX_FOLDERS && modified.get(folder) >= oldest) {
+                kept++;
+            } else {
+                delete(folder);
+            }
+        }
+    }
+
+    /**
+     * Builds the code model of an entry into its source folder, unless already done in this or an earlier session, and copies
+     * the sources to the target path.
+     *
+     * @param entry
+     *        entry with a code model
+     * @param targetPath
+     *        directory where class source will be generated
+     * @throws IOException
+     *         failure writing the sources
+     */
+    void copySources(Entry entry, File targetPath) throws IOException {
+        evictFolders();
+        // The folder of an entry removed from the cache is deleted while holding the same lock
+        synchronized (entry) {
+            if (entry.sourceFolder == null || !entry.sourceFolder.isDirectory()) {
+                File folder = new File(root(), entry.key);
+                if (!folder.isDirectory()) {
+                    build(entry, folder);
+                }
+                entry.sourceFolder = folder;
+            }
+            // Marks the folder as recently used for the eviction in later sessions
+            entry.sourceFolder.setLastModified(System.currentTimeMillis());
+            copy(entry.sourceFolder.toPath(), targetPath.toPath());
+        }
+    }
+
+    // Builds the sources into a new folder and renames it, so a folder named after a key always has all sources
+    private static void build(Entry entry, File folder) throws IOException {
+        File parent = folder.getParentFile();
+        if (!parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("Unable to create " + parent); //$NON-NLS-1$
+        }
+        Path building = Files.createTempDirectory(parent.toPath(), entry.key + '.');
+        try {
+            try (PrintStream status = new PrintStream(new ByteArrayOutputStream())) {
+                entry.codeModel.build(building.toFile(), status);
+            }
+            Files.move(building, folder.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException | DirectoryNotEmptyException e) {
+            // Built meanwhile for another entry of the same schema
+            if (!folder.isDirectory()) {
+                throw e;
+            }
+        } finally {
+            delete(building.toFile());
+        }
+    }
+
+    private static void copy(final Path source, final Path target) throws IOException {
+        Files.walkFileTree(source, new SimpleFileVisitor<Path>() {
+
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                Files.createDirectories(target.resolve(source.relativize(dir).toString()));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                Files.copy(file, target.resolve(source.relativize(file).toString()), StandardCopyOption.REPLACE_EXISTING);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private static String version() {
+        DataTransformationCoreActivator plugin = DataTransformationCoreActivator.getDefault();
+        if (plugin != null && plugin.getBundle() != null) {
+            return plugin.getBundle().getVersion().toString();
+        }
+        return ""; //$NON-NLS-1$
+    }
+
+    private static File root() {
+        DataTransformationCoreActivator plugin = DataTransformationCoreActivator.getDefault();
+        if (plugin != null && plugin.getBundle() != null) {
+            return plugin.getStateLocation().append(FOLDER).toFile();
+        }
+        return new File(System.getProperty("java.io.tmpdir"), DataTransformationCoreActivator.PLUGIN_ID + '.' + FOLDER); //$NON-NLS-1$
+    }
+
+    private static void delete(File file) {
+        if (file == null || !file.exists()) {
+            return;
+        }
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        if (!file.delete()) {
+            file.deleteOnExit();
+        }
+    }
+}
@@ -10,13 +10,14 @@
  ******************************************************************************/
 package org.jboss.tools.fuse.transformation.core.model.xml;
 
-import java.io.ByteArrayOutputStream;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileNotFoundException;
-import java.io.PrintStream;
+import java.io.InputStream;
 import java.io.StringWriter;
 import java.net.URI;
+import java.nio.file.Files;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -24,10 +25,15 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.xml.XMLConstants;
 import javax.xml.bind.annotation.XmlElementDecl;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.namespace.QName;
 import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
@@ -37,6 +43,7 @@ import org.apache.xmlbeans.impl.inst2xsd.Inst2Xsd;
 import org.apache.xmlbeans.impl.inst2xsd.Inst2XsdOptions;
 import org.apache.xmlbeans.impl.xb.xsdschema.SchemaDocument;
 import org.jboss.tools.fuse.transformation.core.internal.DataTransformationCoreActivator;
+import org.jboss.tools.fuse.transformation.core.model.xml.CompiledSchemaCache.Entry;
 import org.w3c.dom.Attr;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -71,6 +78,33 @@ public class XmlModelGenerator {
 
 	private static final String JAVAX_XML_ACCESS_EXTERNAL_SCHEMA = "javax.xml.accessExternalSchema"; //$NON-NLS-1$
 
+    /**
+     * Default maximum number of occurrences of each element inspected when generating a schema from an instance document
+     */
+    public static final int DEFAULT_SAMPLE_LIMIT = 1000;
+
+    private int sampleLimit = DEFAULT_SAMPLE_LIMIT;
+
+    /**
+     * @return maximum number of occurrences of each element inspected when generating a schema from an instance document
+     */
+    public int getSampleLimit() {
+        return sampleLimit;
+    }
+
+    /**
+     * @param sampleLimit
+     *        maximum number of occurrences of each element inspected when generating a schema from an instance document
+     * @return this generator
+     */
+    public XmlModelGenerator setSampleLimit(int sampleLimit) {
+        if (sampleLimit < 1) {
+            throw new IllegalArgumentException("Sample limit must be positive: " + sampleLimit); //$NON-NLS-1$
+        }
+        this.sampleLimit = sampleLimit;
+        return this;
+    }
+
     void addMissingSettersForLists(Iterator<JDefinedClass> iterator,
                                    JPrimitiveType voidType) {
         while (iterator.hasNext()) {
@@ -146,35 +180,61 @@ public class XmlModelGenerator {
         }
     }
 
-    private SchemaCompiler createSchemaCompiler(final File schemaFile) throws FileNotFoundException {
+    // Returns the compiled schema from the cache, compiling the schema if necessary
+    private Entry compile(final File schemaFile, final String packageName) throws Exception {
+        final byte[] content = Files.readAllBytes(schemaFile.toPath());
+        final String key = CompiledSchemaCache.key(schemaFile, content, packageName);
+        Entry entry = CompiledSchemaCache.INSTANCE.get(key);
+        if (entry != null) {
+            return entry;
+        }
         final SchemaCompiler sc = XJC.createSchemaCompiler();
-        final FileInputStream schemaStream = new FileInputStream(schemaFile);
-        final InputSource is = new InputSource(schemaStream);
+        final InputSource is = new InputSource(new ByteArrayInputStream(content));
         is.setSystemId(schemaFile.toURI().toString());
+        final AtomicReference<Exception> problem = new AtomicReference<>();
         sc.setErrorListener(new ErrorListener() {
 
 			@Override
 			public void warning(SAXParseException arg0) {
+				problem.compareAndSet(null, arg0);
 				DataTransformationCoreActivator.pluginLog().logWarning(arg0);
 			}
 
 			@Override
 			public void info(SAXParseException arg0) {
+				problem.compareAndSet(null, arg0);
 				DataTransformationCoreActivator.pluginLog().logInfo("Info while parsing the xsd", arg0);
 			}
 
 			@Override
 			public void fatalError(SAXParseException arg0) {
+				problem.compareAndSet(null, arg0);
 				DataTransformationCoreActivator.pluginLog().logError(arg0);
 			}
 
 			@Override
 			public void error(SAXParseException arg0) {
+				problem.compareAndSet(null, arg0);
 				DataTransformationCoreActivator.pluginLog().logError(arg0);
 			}
 		});
         sc.parseSchema(is);
-        return sc;
+        // Only problems binding the schema fail the code generation
+        problem.set(null);
+        if (packageName != null) {
+            sc.forcePackageName(packageName);
+        }
+        final S2JJAXBModel s2 = sc.bind();
+        if (s2 == null) {
+            throw new Exception("Failed to parse schema into JAXB Model"); //$NON-NLS-1$
+        }
+        List<QName> elements = new LinkedList<>();
+        for (Mapping mapping : s2.getMappings()) {
+            elements.add(mapping.getElement());
+        }
+        entry = new Entry(key, CompiledSchemaCache.source(schemaFile, packageName), s2, elements, problem.get());
+        CompiledSchemaCache.INSTANCE.put(entry);
+        return entry;
     }
 
     /**
@@ -222,7 +282,9 @@ public class XmlModelGenerator {
 
     /**
      * Generates Java classes in targetPath directory given an XML instance document. This method generates a schema at the path
-     * specified by schemaFile and then calls generateFromSchema to generate Java classes.
+     * specified by schemaFile and then calls generateFromSchema to generate Java classes. The schema is inferred while streaming
+     * through the instance document, unless the document uses more than one namespace, in which case the document is loaded to
+     * generate a schema per namespace.
      *
      * @param instanceFile
      *        file containing XML instance document
@@ -243,6 +305,20 @@ public class XmlModelGenerator {
 		// Step 0 - avoid issue with schema loading on Java 8
 		final String initialValue_AccessExternalSchema = System.getProperty(JAVAX_XML_ACCESS_EXTERNAL_SCHEMA);
         // Step 1 - generate schema from instance doc
+        if (!XmlSchemaInference.generateSchema(instanceFile, schemaFile, sampleLimit)) {
+            generateSchemas(instanceFile, schemaFile);
+        }
+
+        // Step 2 - call generateFromSchema with generated schema
+		final JCodeModel generatedSchema = generateFromSchema(schemaFile, packageName, targetPath);
+
+		setBackAccessExternalSchemaProperty(initialValue_AccessExternalSchema);
+
+		return generatedSchema;
+    }
+
+    // Generates the schemas for an instance document using more than one namespace with Inst2Xsd
+    void generateSchemas(File instanceFile, File schemaFile) throws Exception {
         Inst2XsdOptions options = new Inst2XsdOptions();
         options.setDesign(Inst2XsdOptions.DESIGN_RUSSIAN_DOLL);
         XmlObject[] xml = new XmlObject[] {XmlObject.Factory.parse(instanceFile)};
@@ -308,13 +384,6 @@ public class XmlModelGenerator {
                 TransformerFactory.newInstance().newTransformer().transform(new DOMSource(doc), new StreamResult(file));
             }
         }
-
-        // Step 2 - call generateFromSchema with generated schema
-		final JCodeModel generatedSchema = generateFromSchema(schemaFile, packageName, targetPath);
-
-		setBackAccessExternalSchemaProperty(initialValue_AccessExternalSchema);
-
-		return generatedSchema;
     }
 
 	private void setBackAccessExternalSchemaProperty(final String initialValue_AccessExternalSchema) {
@@ -345,56 +414,26 @@ public class XmlModelGenerator {
 		final String initialValueAccessExternalSchema = System.getProperty(JAVAX_XML_ACCESS_EXTERNAL_SCHEMA);
 		System.setProperty(JAVAX_XML_ACCESS_EXTERNAL_SCHEMA, "all"); //$NON-NLS-1$
 
-        final SchemaCompiler sc = createSchemaCompiler(schemaFile);
-        if (packageName != null){
-        	sc.forcePackageName(packageName);
-        }
-        class SchemaErrorListener implements ErrorListener {
-
-            Exception exception;
-
-            @Override
-            public void warning(SAXParseException exception) {
-                this.exception = exception;
-            }
-
-            @Override
-            public void info(SAXParseException exception) {
-                this.exception = exception;
-            }
-
-            @Override
-            public void fatalError(SAXParseException exception) {
-                this.exception = exception;
+        try {
+            final Entry entry = compile(schemaFile, packageName);
+            if (entry.exception != null) {
+                throw entry.exception;
             }
-
-            @Override
-            public void error(SAXParseException exception) {
-                this.exception = exception;
+            // The code of a bound model can only be generated once
+            synchronized (entry) {
+                if (entry.codeModel == null) {
+                    final JCodeModel jcm = entry.model.generateCode(null, null);
+                    for (Iterator<JPackage> iter = jcm.packages(); iter.hasNext();) {
+                        addMissingSettersForLists(iter.next().classes(), jcm.VOID);
+                    }
+                    entry.codeModel = jcm;
+                }
             }
-        }
-        SchemaErrorListener listener = new SchemaErrorListener();
-        sc.setErrorListener(listener);
-        final S2JJAXBModel s2 = sc.bind();
-        if (listener.exception != null){
-        	setBackAccessExternalSchemaProperty(initialValueAccessExternalSchema);
-        	throw listener.exception;
-        }
-        if (s2 == null){
-        	setBackAccessExternalSchemaProperty(initialValueAccessExternalSchema);
-        	throw new Exception("Failed to parse schema into JAXB Model"); //$NON-NLS-1$
-        }
-        final JCodeModel jcm = s2.generateCode(null, null);
-        for (Iterator<JPackage> iter = jcm.packages(); iter.hasNext();) {
-            addMissingSettersForLists(iter.next().classes(), jcm.VOID);
-        }
-        try (PrintStream status = new PrintStream(new ByteArrayOutputStream())) {
-            jcm.build(targetPath, status);
+            CompiledSchemaCache.INSTANCE.copySources(entry, targetPath);
+            return entry.codeModel;
         } finally {
         	setBackAccessExternalSchemaProperty(initialValueAccessExternalSchema);
         }
-
-        return jcm;
     }
 
     private JAnnotationUse getAnnotation(JAnnotatable annotated,
@@ -431,18 +470,11 @@ public class XmlModelGenerator {
     public List<QName> getElementsFromSchema(final File schemaFile) throws Exception {
     	final String initialValueAccessExternalSchema = System.getProperty(JAVAX_XML_ACCESS_EXTERNAL_SCHEMA);
 		System.setProperty(JAVAX_XML_ACCESS_EXTERNAL_SCHEMA, "all"); //$NON-NLS-1$
-        List<QName> elements = new LinkedList<>();
-        SchemaCompiler sc = createSchemaCompiler(schemaFile);
-        final S2JJAXBModel s2 = sc.bind();
-        if (s2 == null) {
-        	setBackAccessExternalSchemaProperty(initialValueAccessExternalSchema);
-            throw new Exception("Failed to parse schema into JAXB Model"); //$NON-NLS-1$
-        }
-        for (Mapping mapping : s2.getMappings()) {
-            elements.add(mapping.getElement());
+        try {
+            return new LinkedList<>(compile(schemaFile, null).elements);
+        } finally {
+            setBackAccessExternalSchemaProperty(initialValueAccessExternalSchema);
         }
-        setBackAccessExternalSchemaProperty(initialValueAccessExternalSchema);
-        return elements;
     }
 
     /**
@@ -455,13 +487,23 @@ public class XmlModelGenerator {
      *         failed to parse instance document
      */
     public QName getRootElementName(final File instanceFile) throws Exception {
-        DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
-        dbf.setNamespaceAware(true);
-        Document doc = dbf.newDocumentBuilder().parse(instanceFile);
-        Element root = doc.getDocumentElement();
-        if (root == null) {
-            throw new Exception("Invalid instance document : no root element"); //$NON-NLS-1$
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        // Only read up to the root element, the document may be large
+        try (InputStream in = new BufferedInputStream(new FileInputStream(instanceFile))) {
+            XMLStreamReader reader = factory.createXMLStreamReader(in);
+            try {
+                while (reader.hasNext()) {
+                    if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                        return new QName(reader.getNamespaceURI() == null ? XMLConstants.NULL_NS_URI : reader.getNamespaceURI(),
+                                         reader.getLocalName());
+                    }
+                }
+            } finally {
+                reader.close();
+            }
         }
-        return new QName(root.getNamespaceURI(), root.getLocalName());
+        throw new Exception("Invalid instance document : no root element"); //$NON-NLS-1$
     }
 }
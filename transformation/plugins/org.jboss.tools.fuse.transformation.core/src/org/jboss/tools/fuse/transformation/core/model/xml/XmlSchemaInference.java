@@ -0,0 +1,415 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.fuse.transformation.core.model.xml;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+/**
+ * Infers a schema from an XML instance document while streaming through it, so the document is never held in memory. The
+ * structure of all occurrences of an element is merged into one local declaration, in the Russian doll design used by
+ * Inst2Xsd, with simple types inferred the same way. Only the first occurrences of each element, up to a sample limit, are
+ * inspected.
+ * <p>
+ * Documents whose elements or attributes belong to more than one namespace need a schema per namespace and aren't supported.
+ */
+final class XmlSchemaInference {
+
+    private static final String XS = XMLConstants.W3C_XML_SCHEMA_NS_URI;
+    private static final String XS_PREFIX = "xs"; //$NON-NLS-1$
+    // Text longer than this can only be a string
+    private static final int MAX_TEXT_LENGTH = 256;
+
+    private final int sampleLimit;
+    private String namespace;
+
+    private XmlSchemaInference(int sampleLimit) {
+        this.sampleLimit = sampleLimit;
+    }
+
+    /**
+     * Writes a schema for an XML instance document.
+     *
+     * @param instanceFile
+     *        XML instance document
+     * @param schemaFile
+     *        file where the schema is written
+     * @param sampleLimit
+     *        maximum number of occurrences of each element inspected
+     * @return false if the instance document isn't supported, in which case no schema is written
+     * @throws IOException
+     *         failure reading the instance document or writing the schema
+     * @throws XMLStreamException
+     *         instance document isn't well-formed
+     */
+    static boolean generateSchema(File instanceFile, File schemaFile, int sampleLimit) throws IOException, XMLStreamException {
+        XmlSchemaInference inference = new XmlSchemaInference(sampleLimit);
+        ElementInfo root = inference.read(instanceFile);
+        if (root == null) {
+            return false;
+        }
+        inference.write(root, schemaFile);
+        return true;
+    }
+
+    private ElementInfo read(File instanceFile) throws IOException, XMLStreamException {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        try (InputStream in = new BufferedInputStream(new FileInputStream(instanceFile))) {
+            XMLStreamReader reader = factory.createXMLStreamReader(in);
+            try {
+                ElementInfo root = null;
+                Deque<Frame> frames = new ArrayDeque<>();
+                while (reader.hasNext()) {
+                    switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT: {
+                        String elementNamespace = namespace(reader.getNamespaceURI());
+                        ElementInfo info;
+                        if (root == null) {
+                            namespace = elementNamespace;
+                            root = new ElementInfo(reader.getLocalName());
+                            info = root;
+                        } else if (!elementNamespace.equals(namespace)) {
+                            return null;
+                        } else {
+                            Frame parent = frames.peek();
+                            info = parent.child(reader.getLocalName());
+                            if (info.occurrences >= sampleLimit) {
+                                skipElement(reader);
+                                break;
+                            }
+                        }
+                        if (!readAttributes(reader, info)) {
+                            return null;
+                        }
+                        info.occurrences++;
+                        frames.push(new Frame(info));
+                        break;
+                    }
+                    case XMLStreamConstants.CHARACTERS:
+                    case XMLStreamConstants.CDATA:
+                        if (!frames.isEmpty()) {
+                            frames.peek().text(reader.getText());
+                        }
+                        break;
+                    case XMLStreamConstants.END_ELEMENT:
+                        frames.pop().end();
+                        break;
+                    default:
+                        break;
+                    }
+                }
+                return root;
+            } finally {
+                reader.close();
+            }
+        }
+    }
+
+    private boolean readAttributes(XMLStreamReader reader, ElementInfo info) {
+        for (int ndx = 0; ndx < reader.getAttributeCount(); ndx++) {
+            String attributeNamespace = namespace(reader.getAttributeNamespace(ndx));
+            if (XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI.equals(attributeNamespace)) {
+                continue;
+            }
+            if (!attributeNamespace.isEmpty()) {
+                return false;
+            }
+            String name = reader.getAttributeLocalName(ndx);
+            info.attributes.put(name, SimpleType.of(reader.getAttributeValue(ndx).trim()).merge(info.attributes.get(name)));
+        }
+        return true;
+    }
+
+    private static String namespace(String namespace) {
+        return namespace == null ? "" : namespace; //$NON-NLS-1$
+    }
+
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        for (int depth = 1; depth > 0;) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private void write(ElementInfo root, File schemaFile) throws IOException, XMLStreamException {
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(schemaFile))) {
+            XMLStreamWriter writer = XMLOutputFactory.newInstance().createXMLStreamWriter(out, "UTF-8"); //$NON-NLS-1$
+            try {
+                writer.writeStartDocument("UTF-8", "1.0"); //$NON-NLS-1$ //$NON-NLS-2$
+                writer.setPrefix(XS_PREFIX, XS);
+                start(writer, 0, "schema"); //$NON-NLS-1$
+                writer.writeNamespace(XS_PREFIX, XS);
+                writer.writeAttribute("attributeFormDefault", "unqualified"); //$NON-NLS-1$ //$NON-NLS-2$
+                writer.writeAttribute("elementFormDefault", "qualified"); //$NON-NLS-1$ //$NON-NLS-2$
+                if (!namespace.isEmpty()) {
+                    writer.writeAttribute("targetNamespace", namespace); //$NON-NLS-1$
+                }
+                writeElement(writer, 1, root, null);
+                end(writer, 0);
+                writer.writeCharacters("\n"); //$NON-NLS-1$
+                writer.writeEndDocument();
+            } finally {
+                writer.close();
+            }
+        }
+    }
+
+    private static void writeElement(XMLStreamWriter writer, int depth, ElementInfo info, ElementInfo parent) throws XMLStreamException {
+        boolean simple = info.children.isEmpty() && info.attributes.isEmpty();
+        if (simple) {
+            empty(writer, depth, "element"); //$NON-NLS-1$
+        } else {
+            start(writer, depth, "element"); //$NON-NLS-1$
+        }
+        if (simple) {
+            writer.writeAttribute("type", info.textType().qualifiedName()); //$NON-NLS-1$
+        }
+        writer.writeAttribute("name", info.name); //$NON-NLS-1$
+        if (parent != null && info.parentOccurrences < parent.occurrences) {
+            writer.writeAttribute("minOccurs", "0"); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        if (info.repeated) {
+            writer.writeAttribute("maxOccurs", "unbounded"); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        if (simple) {
+            return;
+        }
+        start(writer, depth + 1, "complexType"); //$NON-NLS-1$
+        if (info.children.isEmpty()) {
+            start(writer, depth + 2, "simpleContent"); //$NON-NLS-1$
+            start(writer, depth + 3, "extension"); //$NON-NLS-1$
+            writer.writeAttribute("base", info.textType().qualifiedName()); //$NON-NLS-1$
+            writeAttributes(writer, depth + 4, info);
+            end(writer, depth + 3);
+            end(writer, depth + 2);
+        } else {
+            if (info.mixed || info.textType != null) {
+                writer.writeAttribute("mixed", "true"); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+            start(writer, depth + 2, "sequence"); //$NON-NLS-1$
+            for (ElementInfo child : info.children.values()) {
+                writeElement(writer, depth + 3, child, info);
+            }
+            end(writer, depth + 2);
+            writeAttributes(writer, depth + 2, info);
+        }
+        end(writer, depth + 1);
+        end(writer, depth);
+    }
+
+    private static void writeAttributes(XMLStreamWriter writer, int depth, ElementInfo info) throws XMLStreamException {
+        for (Map.Entry<String, SimpleType> attribute : info.attributes.entrySet()) {
+            empty(writer, depth, "attribute"); //$NON-NLS-1$
+            writer.writeAttribute("type", attribute.getValue().qualifiedName()); //$NON-NLS-1$
+            writer.writeAttribute("name", attribute.getKey()); //$NON-NLS-1$
+        }
+    }
+
+    private static void start(XMLStreamWriter writer, int depth, String name) throws XMLStreamException {
+        indent(writer, depth);
+        writer.writeStartElement(XS_PREFIX, name, XS);
+    }
+
+    private static void empty(XMLStreamWriter writer, int depth, String name) throws XMLStreamException {
+        indent(writer, depth);
+        writer.writeEmptyElement(XS_PREFIX, name, XS);
+    }
+
+    private static void end(XMLStreamWriter writer, int depth) throws XMLStreamException {
+        indent(writer, depth);
+        writer.writeEndElement();
+    }
+
+    private static void indent(XMLStreamWriter writer, int depth) throws XMLStreamException {
+        StringBuilder indent = new StringBuilder("\n"); //$NON-NLS-1$
+        for (int ndx = 0; ndx < depth; ndx++) {
+            indent.append("  "); //$NON-NLS-1$
+        }
+        writer.writeCharacters(indent.toString());
+    }
+
+    /**
+     * Structure merged from all inspected occurrences of an element at one location in the document
+     */
+    private static final class ElementInfo {
+
+        final String name;
+        final Map<String, ElementInfo> children = new LinkedHashMap<>();
+        final Map<String, SimpleType> attributes = new LinkedHashMap<>();
+        // Inspected occurrences of this element
+        int occurrences;
+        // Inspected occurrences of the parent that contain this element
+        int parentOccurrences;
+        boolean repeated;
+        boolean mixed;
+        SimpleType textType;
+
+        ElementInfo(String name) {
+            this.name = name;
+        }
+
+        SimpleType textType() {
+            return textType == null ? SimpleType.STRING : textType;
+        }
+    }
+
+    /**
+     * State of an element being read
+     */
+    private static final class Frame {
+
+        final ElementInfo info;
+        final Map<ElementInfo, Integer> childCounts = new IdentityHashMap<>();
+        final StringBuilder text = new StringBuilder();
+        boolean textTooLong;
+
+        Frame(ElementInfo info) {
+            this.info = info;
+        }
+
+        ElementInfo child(String name) {
+            ElementInfo child = info.children.get(name);
+            if (child == null) {
+                child = new ElementInfo(name);
+                info.children.put(name, child);
+            }
+            Integer count = childCounts.get(child);
+            childCounts.put(child, count == null ? 1 : count + 1);
+            return child;
+        }
+
+        void text(String chars) {
+            if (textTooLong) {
+                return;
+            }
+            text.append(chars);
+            if (text.length() > MAX_TEXT_LENGTH) {
+                // Leading white space doesn't count, everything else makes the text too long
+                int start = 0;
+                while (start < text.length() && Character.isWhitespace(text.charAt(start))) {
+                    start++;
+                }
+                text.delete(0, start);
+                textTooLong = text.length() > MAX_TEXT_LENGTH;
+            }
+        }
+
+        void end() {
+            for (Map.Entry<ElementInfo, Integer> childCount : childCounts.entrySet()) {
+                ElementInfo child = childCount.getKey();
+                child.parentOccurrences++;
+                child.repeated |= childCount.getValue() > 1;
+            }
+            String value = textTooLong ? null : text.toString().trim();
+            if (value != null && value.isEmpty()) {
+                return;
+            }
+            if (childCounts.isEmpty()) {
+                SimpleType type = value == null ? SimpleType.STRING : SimpleType.of(value);
+                info.textType = type.merge(info.textType);
+            } else {
+                info.mixed = true;
+            }
+        }
+    }
+
+    /**
+     * Simple types inferred from text, in the order Inst2Xsd tries them
+     */
+    enum SimpleType {
+
+        BYTE("byte", null), //$NON-NLS-1$
+        SHORT("short", null), //$NON-NLS-1$
+        INT("int", null), //$NON-NLS-1$
+        LONG("long", null), //$NON-NLS-1$
+        INTEGER("integer", null), //$NON-NLS-1$
+        FLOAT("float", "[+-]?((\\d+(\\.\\d*)?)|(\\.\\d+))([eE][+-]?\\d+)?|-?INF|NaN"), //$NON-NLS-1$ //$NON-NLS-2$
+        DATE_TIME("dateTime", "-?\\d{4,}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}(\\.\\d+)?" + SimpleType.ZONE), //$NON-NLS-1$ //$NON-NLS-2$
+        TIME("time", "\\d{2}:\\d{2}:\\d{2}(\\.\\d+)?" + SimpleType.ZONE), //$NON-NLS-1$ //$NON-NLS-2$
+        DATE("date", "-?\\d{4,}-\\d{2}-\\d{2}" + SimpleType.ZONE), //$NON-NLS-1$ //$NON-NLS-2$
+        G_YEAR_MONTH("gYearMonth", "-?\\d{4,}-\\d{2}" + SimpleType.ZONE), //$NON-NLS-1$ //$NON-NLS-2$
+        G_MONTH_DAY("gMonthDay", "--\\d{2}-\\d{2}" + SimpleType.ZONE), //$NON-NLS-1$ //$NON-NLS-2$
+        G_DAY("gDay", "---\\d{2}" + SimpleType.ZONE), //$NON-NLS-1$ //$NON-NLS-2$
+        G_MONTH("gMonth", "--\\d{2}" + SimpleType.ZONE), //$NON-NLS-1$ //$NON-NLS-2$
+        DURATION("duration", "-?P(?=.)(\\d+Y)?(\\d+M)?(\\d+D)?(T(?=.)(\\d+H)?(\\d+M)?(\\d+(\\.\\d+)?S)?)?"), //$NON-NLS-1$ //$NON-NLS-2$
+        STRING("string", null); //$NON-NLS-1$
+
+        private static final String ZONE = "(Z|[+-]\\d{2}:\\d{2})?"; //$NON-NLS-1$
+        private static final Pattern INTEGER_PATTERN = Pattern.compile("[+-]?\\d+"); //$NON-NLS-1$
+
+        private final String name;
+        private final Pattern pattern;
+
+        SimpleType(String name, String pattern) {
+            this.name = name;
+            this.pattern = pattern == null ? null : Pattern.compile(pattern);
+        }
+
+        String qualifiedName() {
+            return XS_PREFIX + ':' + name;
+        }
+
+        static SimpleType of(String value) {
+            if (INTEGER_PATTERN.matcher(value).matches()) {
+                BigInteger integer = new BigInteger(value.startsWith("+") ? value.substring(1) : value); //$NON-NLS-1$
+                int bits = integer.bitLength();
+                return bits < 8 ? BYTE : bits < 16 ? SHORT : bits < 32 ? INT : bits < 64 ? LONG : INTEGER;
+            }
+            for (SimpleType type : values()) {
+                if (type.pattern != null && type.pattern.matcher(value).matches()) {
+                    return type;
+                }
+            }
+            return STRING;
+        }
+
+        /**
+         * @param type
+         *        type inferred from other text of the same element or attribute, may be null
+         * @return type covering this and the supplied type
+         */
+        SimpleType merge(SimpleType type) {
+            if (type == null || type == this) {
+                return this;
+            }
+            if (ordinal() <= FLOAT.ordinal() && type.ordinal() <= FLOAT.ordinal()) {
+                return ordinal() > type.ordinal() ? this : type;
+            }
+            return STRING;
+        }
+    }
+}
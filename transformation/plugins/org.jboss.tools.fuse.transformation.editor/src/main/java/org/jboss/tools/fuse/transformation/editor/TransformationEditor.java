@@ -269,6 +269,13 @@ public class TransformationEditor extends EditorPart implements ISaveablePart2,
      */
     @Override
     public void dispose() {
+        if (manager != null) {
+            try {
+                manager.flush();
+            } catch (final Exception e) {
+                Activator.error(e);
+            }
+        }
         super.dispose();
         if (loader != null) {
             try {
@@ -289,7 +296,12 @@ public class TransformationEditor extends EditorPart implements ISaveablePart2,
      */
     @Override
     public void doSave(final IProgressMonitor monitor) {
-    	// Save is done automatically after each modification
+    	// Save is done automatically after each modification, just write pending edits
+        try {
+            manager.flush();
+        } catch (final Exception e) {
+            Activator.error(e);
+        }
     }
 
     /**
@@ -384,7 +396,7 @@ public class TransformationEditor extends EditorPart implements ISaveablePart2,
      */
     @Override
     public boolean isDirty() {
-        return manager.hasMappingPlaceholders();
+        return manager.hasMappingPlaceholders() || manager.hasUnsavedChanges();
     }
 
     /**
@@ -408,10 +420,11 @@ public class TransformationEditor extends EditorPart implements ISaveablePart2,
      */
     @Override
     public int promptToSaveOnClose() {
-        return manager.hasMappingPlaceholders()
-               && !MessageDialog.openConfirm(mappingsViewer.getShell(), Messages.TransformationEditor_ConfirmDialogTtile,
-				Messages.TransformationEditor_messageDialogConfirmation)
-            ? CANCEL : NO;
+        if (manager.hasMappingPlaceholders()
+            && !MessageDialog.openConfirm(mappingsViewer.getShell(), Messages.TransformationEditor_ConfirmDialogTtile,
+				Messages.TransformationEditor_messageDialogConfirmation)) return CANCEL;
+        // Pending edits are written by doSave
+        return manager.hasUnsavedChanges() ? YES : NO;
     }
 
     /*
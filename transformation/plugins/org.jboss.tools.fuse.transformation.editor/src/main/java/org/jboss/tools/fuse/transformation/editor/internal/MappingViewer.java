@@ -152,8 +152,8 @@ abstract class MappingViewer {
         setTarget((Model)Util.draggedObject());
     }
 
-    boolean mappingsEqual(MappingOperation<?, ?> mapping,
-                          Object object) {
+    static boolean mappingsEqual(MappingOperation<?, ?> mapping,
+                                 Object object) {
         if (mapping == object) {
         	return true;
         }
@@ -176,7 +176,7 @@ abstract class MappingViewer {
         return true;
     }
 
-    String name(Object object) {
+    static String name(Object object) {
         if (object instanceof Model) {
         	return ((Model)object).getName();
         }
@@ -234,7 +234,7 @@ abstract class MappingViewer {
         }
     }
 
-    private String variableToolTip(Variable variable) {
+    static String variableToolTip(Variable variable) {
         return "\"" + variable.getValue() + "\""; //$NON-NLS-1$ //$NON-NLS-2$
     }
 
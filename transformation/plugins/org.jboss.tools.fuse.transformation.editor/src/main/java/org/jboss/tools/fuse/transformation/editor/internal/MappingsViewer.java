@@ -15,53 +15,78 @@ import java.util.ArrayList;
 import java.util.List;
 import org.eclipse.jface.layout.GridDataFactory;
 import org.eclipse.jface.layout.GridLayoutFactory;
+import org.eclipse.jface.util.LocalSelectionTransfer;
+import org.eclipse.jface.viewers.ColumnLabelProvider;
+import org.eclipse.jface.viewers.ColumnViewerToolTipSupport;
 import org.eclipse.jface.viewers.DecorationOverlayIcon;
 import org.eclipse.jface.viewers.IDecoration;
+import org.eclipse.jface.viewers.ILazyContentProvider;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.jface.viewers.TableViewerColumn;
+import org.eclipse.jface.viewers.Viewer;
 import org.eclipse.swt.SWT;
-import org.eclipse.swt.custom.ScrolledComposite;
+import org.eclipse.swt.dnd.DND;
+import org.eclipse.swt.dnd.DropTarget;
+import org.eclipse.swt.dnd.DropTargetAdapter;
+import org.eclipse.swt.dnd.DropTargetEvent;
+import org.eclipse.swt.events.ControlAdapter;
+import org.eclipse.swt.events.ControlEvent;
+import org.eclipse.swt.events.KeyAdapter;
+import org.eclipse.swt.events.KeyEvent;
 import org.eclipse.swt.events.SelectionAdapter;
 import org.eclipse.swt.events.SelectionEvent;
-import org.eclipse.swt.layout.GridData;
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.widgets.Composite;
-import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Label;
-import org.eclipse.swt.widgets.Listener;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableItem;
 import org.eclipse.swt.widgets.ToolBar;
 import org.eclipse.swt.widgets.ToolItem;
+import org.jboss.tools.fuse.transformation.core.Expression;
 import org.jboss.tools.fuse.transformation.core.MappingOperation;
 import org.jboss.tools.fuse.transformation.core.MappingType;
+import org.jboss.tools.fuse.transformation.core.TransformationMapping;
+import org.jboss.tools.fuse.transformation.core.Variable;
 import org.jboss.tools.fuse.transformation.editor.Activator;
 import org.jboss.tools.fuse.transformation.editor.TransformationEditor;
 import org.jboss.tools.fuse.transformation.editor.internal.l10n.Messages;
 import org.jboss.tools.fuse.transformation.editor.internal.util.TransformationManager;
 import org.jboss.tools.fuse.transformation.editor.internal.util.TransformationManager.Event;
+import org.jboss.tools.fuse.transformation.editor.internal.util.Util;
 import org.jboss.tools.fuse.transformation.editor.internal.util.Util.Colors;
 import org.jboss.tools.fuse.transformation.editor.internal.util.Util.Decorations;
 import org.jboss.tools.fuse.transformation.editor.internal.util.Util.Images;
 import org.jboss.tools.fuse.transformation.core.model.Model;
 
+/**
+ * Shows one row per mapping in a virtual table, so only the rows scrolled
+ * into view are ever populated. Properties can be dropped onto the source
+ * and target cells of a row to change the mapping.
+ */
 public class MappingsViewer extends Composite {
 
+    private static final int SOURCE_COLUMN = 0;
+    private static final int TARGET_COLUMN = 2;
+
+    private final TransformationManager manager;
     private final TransformationEditor editor;
     private final ToolItem deleteButton;
-    private ScrolledComposite scroller;
-    private Composite summaryPane;
-    Composite sourcePane;
-    Composite mapsToPane;
-    Composite targetPane;
-    private MappingSummary selectedMappingSummary;
-    private final List<MappingSummary> mappingSummaries = new ArrayList<>();
-    private final List<PotentialDropTarget> potentialDropTargets;
-    private final Listener focusListener;
-    private final Listener keyListener;
+    private final TableViewer tableViewer;
+    private final TableViewerColumn mapsToColumn;
+    private final TableViewerColumn sourceColumn;
+    private final TableViewerColumn targetColumn;
+    private final List<MappingOperation<?, ?>> mappings = new ArrayList<>();
+    private final PropertyChangeListener managerListener;
 
     public MappingsViewer(final TransformationManager manager,
                           TransformationEditor editor,
                           Composite parent,
                           List<PotentialDropTarget> potentialDropTargets) {
         super(parent, SWT.NONE);
+        this.manager = manager;
         this.editor = editor;
-        this.potentialDropTargets = potentialDropTargets;
 
         setLayout(GridLayoutFactory.fillDefaults().spacing(0, 0).create());
         setBackground(parent.getParent().getBackground());
@@ -91,114 +116,144 @@ public class MappingsViewer extends Composite {
 
             @Override
             public void widgetSelected(final SelectionEvent event) {
-                deleteSelectedMappingSummary(manager);
+                deleteSelectedMapping();
             }
         });
-        scroller = new ScrolledComposite(this, SWT.V_SCROLL);
-        scroller.setLayoutData(GridDataFactory.fillDefaults().grab(true, true).create());
-        scroller.setExpandHorizontal(true);
-        scroller.setExpandVertical(true);
-        scroller.setBackground(getBackground());
-        summaryPane = new Composite(scroller, SWT.NONE);
-        scroller.setContent(summaryPane);
-        summaryPane.setLayout(GridLayoutFactory.fillDefaults().numColumns(3).spacing(0, 0).create());
-        summaryPane.setBackground(getBackground());
-        sourcePane = new Composite(summaryPane, SWT.NONE);
-        sourcePane.setLayoutData(GridDataFactory.fillDefaults().grab(true, true).create());
-        sourcePane.setLayout(GridLayoutFactory.fillDefaults().spacing(0, 0).create());
-        sourcePane.setBackground(getBackground());
-        mapsToPane = new Composite(summaryPane, SWT.NONE);
-        mapsToPane.setLayout(GridLayoutFactory.fillDefaults().spacing(0, 0).create());
-        mapsToPane.setLayoutData(GridDataFactory.fillDefaults().grab(false, true).create());
-        mapsToPane.setBackground(getBackground());
-        targetPane = new Composite(summaryPane, SWT.NONE);
-        targetPane.setLayoutData(GridDataFactory.fillDefaults().grab(true, false).create());
-        targetPane.setLayout(GridLayoutFactory.fillDefaults().spacing(0, 0).create());
-        targetPane.setBackground(getBackground());
 
-        for (MappingOperation<?, ?> mapping : manager.mappings()) {
-            if (mapping.getType() == MappingType.EXPRESSION
-                || mapping.getType() == MappingType.VARIABLE
-                || !((Model)mapping.getSource()).isCollection()
-                || !((Model)mapping.getTarget()).isCollection()) {
-                mappingSummaries.add(new MappingSummary(manager, mapping, this, potentialDropTargets));
+        // Create table, rows are only populated once they become visible
+        tableViewer = new TableViewer(this, SWT.VIRTUAL | SWT.SINGLE | SWT.FULL_SELECTION | SWT.V_SCROLL | SWT.BORDER);
+        tableViewer.getTable().setLayoutData(GridDataFactory.fillDefaults().grab(true, true).create());
+        tableViewer.setContentProvider(new ContentProvider());
+        ColumnViewerToolTipSupport.enableFor(tableViewer);
+        sourceColumn = new TableViewerColumn(tableViewer, SWT.NONE);
+        sourceColumn.setLabelProvider(new PropertyLabelProvider(true));
+        mapsToColumn = new TableViewerColumn(tableViewer, SWT.CENTER);
+        mapsToColumn.setLabelProvider(new ColumnLabelProvider() {
+
+            @Override
+            public Image getImage(Object element) {
+                return Images.MAPPED;
             }
-        }
 
-        int width = Math.max(sourcePane.computeSize(SWT.DEFAULT, SWT.DEFAULT).x,
-                             targetPane.computeSize(SWT.DEFAULT, SWT.DEFAULT).x);
-        ((GridData)sourcePane.getLayoutData()).widthHint = width;
-        ((GridData)targetPane.getLayoutData()).widthHint = width;
+            @Override
+            public String getText(Object element) {
+                return ""; //$NON-NLS-1$
+            }
+
+            @Override
+            public String getToolTipText(Object element) {
+                MappingOperation<?, ?> mapping = (MappingOperation<?, ?>)element;
+                StringBuilder builder = new StringBuilder();
+                if (mapping.getType() == MappingType.TRANSFORMATION) {
+                    builder.append(((TransformationMapping)mapping).getTransformationName());
+                    builder.append('(');
+                }
+                builder.append(MappingViewer.name(mapping.getSource()));
+                if (mapping.getType() == MappingType.TRANSFORMATION) {
+                    builder.append(')');
+                }
+                builder.append(" => "); //$NON-NLS-1$
+                builder.append(MappingViewer.name(mapping.getTarget()));
+                return builder.toString();
+            }
+        });
+        targetColumn = new TableViewerColumn(tableViewer, SWT.NONE);
+        targetColumn.setLabelProvider(new PropertyLabelProvider(false));
 
-        scroller.setMinSize(summaryPane.computeSize(SWT.DEFAULT, SWT.DEFAULT));
+        // Wire
+        final Table table = tableViewer.getTable();
+        table.addSelectionListener(new SelectionAdapter() {
 
-        manager.addListener(new PropertyChangeListener() {
+            @Override
+            public void widgetSelected(SelectionEvent event) {
+                selectionChanged();
+            }
+        });
+        table.addKeyListener(new KeyAdapter() {
 
             @Override
-            public void propertyChange(PropertyChangeEvent event) {
-                if (!event.getPropertyName().equals(Event.MAPPING.name())) return;
-                MappingOperation<?, ?> mapping = (MappingOperation<?, ?>)event.getNewValue();
-                if (mapping != null) mappingSummaryAdded(manager, mapping);
+            public void keyPressed(KeyEvent event) {
+                keyEvent(event);
             }
         });
+        table.addControlListener(new ControlAdapter() {
 
-        focusListener = new Listener() {
+            @Override
+            public void controlResized(ControlEvent event) {
+                int mapsToWidth = Images.MAPPED.getBounds().width + 16;
+                int width = Math.max(0, (table.getClientArea().width - mapsToWidth) / 2);
+                sourceColumn.getColumn().setWidth(width);
+                mapsToColumn.getColumn().setWidth(mapsToWidth);
+                targetColumn.getColumn().setWidth(width);
+            }
+        });
+        DropTarget dropTarget = new DropTarget(table, DND.DROP_MOVE);
+        dropTarget.setTransfer(LocalSelectionTransfer.getTransfer());
+        dropTarget.addDropListener(new DropTargetAdapter() {
 
             @Override
-            public void handleEvent(org.eclipse.swt.widgets.Event event) {
-                if (selectedMappingSummary == null || selectedMappingSummary.mapsToLabel.isDisposed()) return;
-                selectedMappingSummary.setBackground(child((Control)event.widget) ? Colors.SELECTED : Colors.SELECTED_NO_FOCUS);
+            public void dragEnter(DropTargetEvent event) {
+                dragOver(event);
             }
-        };
-        getDisplay().addFilter(SWT.FocusIn, focusListener);
-        getDisplay().addFilter(SWT.MouseDown, focusListener);
-        keyListener = new Listener() {
 
             @Override
-            public void handleEvent(org.eclipse.swt.widgets.Event event) {
-                if (selectedMappingSummary == null || selectedMappingSummary.mapsToLabel.isDisposed()) return;
-                if (selectedMappingSummary.mapsToLabel.getBackground().equals(Colors.SELECTED_NO_FOCUS)) return;
-                switch (event.keyCode) {
-                    case SWT.ARROW_UP: {
-                        if ((event.stateMask & (SWT.COMMAND)) != 0) selectMappingSummary(0);
-                        else selectPreviousMappingSummary();
-                        break;
-                    }
-                    case SWT.ARROW_DOWN: {
-                        if ((event.stateMask & (SWT.COMMAND)) != 0) selectMappingSummary(mappingSummaries.size() - 1);
-                        else selectNextMappingSummary();
-                        break;
-                    }
-                    case SWT.BS:
-                    case SWT.DEL: {
-                        deleteSelectedMappingSummary(manager);
-                        break;
-                    }
-                    case '=': {
-                        if ((event.stateMask & (SWT.SHIFT)) == 0) break;
-                    }
-                    // $FALL-THROUGH$ if SHIFT-EQUAL ('+')
-                    case '+':
-                    case SWT.KEYPAD_ADD: {
-                        if ((event.stateMask & (SWT.SHIFT)) != 0) manager.newMapping();
-                        break;
-                    }
+            public void dragOver(DropTargetEvent event) {
+                event.feedback = DND.FEEDBACK_SCROLL;
+                if (dropColumn(event) < 0) {
+                    event.detail = DND.DROP_NONE;
+                } else {
+                    event.detail = DND.DROP_MOVE;
+                    event.feedback |= DND.FEEDBACK_SELECT;
                 }
-                event.type = SWT.NONE;
             }
-        };
-        getDisplay().addFilter(SWT.KeyDown, keyListener);
-    }
 
-    private boolean child(Control control) {
-        if (control.getParent() == null) return false;
-        if (control.getParent() == this) return true;
-        return child(control.getParent());
+            @Override
+            public void drop(DropTargetEvent event) {
+                try {
+                    int column = dropColumn(event);
+                    if (column < 0) return;
+                    MappingOperation<?, ?> mapping = (MappingOperation<?, ?>)event.item.getData();
+                    MappingOperation<?, ?> updated = column == SOURCE_COLUMN
+                                                     ? manager.setSource(mapping, Util.draggedObject())
+                                                     : manager.setTarget(mapping, (Model)Util.draggedObject());
+                    Util.updateDateFormat(getShell(), updated);
+                    manager.save();
+                } catch (final Exception e) {
+                    Activator.error(e);
+                }
+            }
+        });
+        potentialDropTargets.add(new PotentialDropTarget(table) {
+
+            @Override
+            public boolean valid() {
+                return !mappings.isEmpty()
+                       && (Util.draggingFromValidSource(manager) || Util.draggingFromValidTarget(manager));
+            }
+        });
+
+        // Populate
+        for (MappingOperation<?, ?> mapping : manager.mappings()) {
+            if (shown(mapping)) mappings.add(mapping);
+        }
+        tableViewer.setInput(mappings);
+        tableViewer.setItemCount(mappings.size());
+
+        managerListener = new PropertyChangeListener() {
+
+            @Override
+            public void propertyChange(PropertyChangeEvent event) {
+                managerEvent(event.getPropertyName(), event.getOldValue(), event.getNewValue());
+            }
+        };
+        manager.addListener(managerListener);
     }
 
-    private void deleteSelectedMappingSummary(TransformationManager manager) {
+    private void deleteSelectedMapping() {
+        MappingOperation<?, ?> mapping = selectedMapping();
+        if (mapping == null) return;
         try {
-            manager.unMap(selectedMappingSummary.mapping);
+            manager.unMap(mapping);
             manager.save();
         } catch (final Exception e) {
             Activator.error(e);
@@ -207,63 +262,218 @@ public class MappingsViewer extends Composite {
 
     @Override
     public void dispose() {
-        getDisplay().removeFilter(SWT.FocusIn, focusListener);
-        getDisplay().removeFilter(SWT.MouseDown, focusListener);
-        getDisplay().removeFilter(SWT.KeyDown, keyListener);
+        manager.removeListener(managerListener);
         super.dispose();
     }
 
-    void layoutPanes() {
-        sourcePane.layout();
-        mapsToPane.layout();
-        targetPane.layout();
+    // Returns the column of the row under the cursor the dragged object can
+    // be dropped onto, or -1 if it can't be dropped there
+    private int dropColumn(DropTargetEvent event) {
+        if (!(event.item instanceof TableItem)) return -1;
+        TableItem item = (TableItem)event.item;
+        MappingOperation<?, ?> mapping = (MappingOperation<?, ?>)item.getData();
+        if (mapping == null) return -1;
+        Point point = tableViewer.getTable().toControl(event.x, event.y);
+        if (item.getBounds(SOURCE_COLUMN).contains(point)) {
+            Object source = Util.draggedObject();
+            boolean valid = Util.draggingFromValidSource(manager)
+                            && Util.validSourceAndTarget(source, mapping.getTarget(), manager);
+            // Ensure property types are the same if old property is in transformation mapping
+            if (valid && mapping.getType() == MappingType.TRANSFORMATION) {
+                valid = source instanceof Model
+                        && ((Model)source).getType().equals(((Model)mapping.getSource()).getType());
+            }
+            return valid ? SOURCE_COLUMN : -1;
+        }
+        if (item.getBounds(TARGET_COLUMN).contains(point)
+            && Util.draggingFromValidTarget(manager)
+            && Util.validSourceAndTarget(mapping.getSource(), Util.draggedObject(), manager)) {
+            return TARGET_COLUMN;
+        }
+        return -1;
     }
 
-    void mappingSummaryAdded(TransformationManager manager,
-                             MappingOperation<?, ?> mapping) {
-        MappingSummary mappingSummary = new MappingSummary(manager, mapping, this, potentialDropTargets);
-        mappingSummaries.add(mappingSummary);
-        layoutPanes();
-        scroller.setMinSize(summaryPane.computeSize(SWT.DEFAULT, SWT.DEFAULT));
-        selected(mappingSummary);
+    private int indexOf(Object mapping) {
+        for (int ndx = 0; ndx < mappings.size(); ndx++) {
+            if (mappings.get(ndx) == mapping) return ndx;
+        }
+        for (int ndx = 0; ndx < mappings.size(); ndx++) {
+            if (MappingViewer.mappingsEqual(mappings.get(ndx), mapping)) return ndx;
+        }
+        return -1;
+    }
+
+    private void keyEvent(KeyEvent event) {
+        switch (event.keyCode) {
+            case SWT.ARROW_UP: {
+                // Plain arrow keys are handled by the table itself
+                if ((event.stateMask & (SWT.COMMAND)) == 0 || mappings.isEmpty()) return;
+                select(0);
+                break;
+            }
+            case SWT.ARROW_DOWN: {
+                if ((event.stateMask & (SWT.COMMAND)) == 0 || mappings.isEmpty()) return;
+                select(mappings.size() - 1);
+                break;
+            }
+            case SWT.BS:
+            case SWT.DEL: {
+                deleteSelectedMapping();
+                break;
+            }
+            case '=': {
+                if ((event.stateMask & (SWT.SHIFT)) == 0) return;
+            }
+            // $FALL-THROUGH$ if SHIFT-EQUAL ('+')
+            case '+':
+            case SWT.KEYPAD_ADD: {
+                if ((event.stateMask & (SWT.SHIFT)) != 0) manager.newMapping();
+                break;
+            }
+            default: {
+                return;
+            }
+        }
+        event.doit = false;
+    }
+
+    private void managerEvent(String eventType,
+                              Object oldValue,
+                              Object newValue) {
+        if (isDisposed()) return;
+        if (eventType.equals(Event.MAPPING.name())) {
+            if (newValue != null) {
+                mappingAdded((MappingOperation<?, ?>)newValue);
+            } else {
+                mappingRemoved(oldValue);
+            }
+        } else if (eventType.equals(Event.MAPPING_SOURCE.name())
+                   || eventType.equals(Event.MAPPING_TARGET.name())
+                   || eventType.equals(Event.MAPPING_TRANSFORMATION.name())) {
+            mappingUpdated(oldValue, (MappingOperation<?, ?>)newValue);
+        } else if (eventType.equals(Event.VARIABLE_NAME.name())) {
+            // Only rows in view have been populated, let them ask for their labels again
+            tableViewer.getTable().clearAll();
+        }
     }
 
-    /**
-     * Called by {@link MappingSummary#dispose(MappingOperation)}
-     *
-     * @param mappingSummary
-     */
-    void mappingSummaryDeleted(MappingSummary mappingSummary) {
-        mappingSummaries.remove(mappingSummary);
-        if (mappingSummary == selectedMappingSummary) {
-            selectedMappingSummary = null;
-            deleteButton.setEnabled(false);
+    private void mappingAdded(MappingOperation<?, ?> mapping) {
+        if (!shown(mapping)) return;
+        mappings.add(mapping);
+        tableViewer.setItemCount(mappings.size());
+        select(mappings.size() - 1);
+    }
+
+    private void mappingRemoved(Object mapping) {
+        int ndx = indexOf(mapping);
+        if (ndx < 0) return;
+        mappings.remove(ndx);
+        tableViewer.getTable().remove(ndx);
+        selectionChanged();
+    }
+
+    private void mappingUpdated(Object oldMapping,
+                                MappingOperation<?, ?> newMapping) {
+        if (!shown(newMapping)) {
+            mappingRemoved(oldMapping);
+            return;
         }
-        layoutPanes();
-        scroller.setMinSize(summaryPane.computeSize(SWT.DEFAULT, SWT.DEFAULT));
+        int ndx = indexOf(oldMapping);
+        if (ndx < 0) return;
+        mappings.set(ndx, newMapping);
+        tableViewer.replace(newMapping, ndx);
+    }
+
+    private void select(int index) {
+        Table table = tableViewer.getTable();
+        table.setFocus();
+        table.setSelection(index);
+        table.showSelection();
+        selectionChanged();
     }
 
-    void selected(MappingSummary mappingSummary) {
-        forceFocus();
-        if (selectedMappingSummary != null && mappingSummary != selectedMappingSummary) selectedMappingSummary.deselect();
-        selectedMappingSummary = mappingSummary;
-        selectedMappingSummary.select();
-        deleteButton.setEnabled(true);
-        editor.selected(mappingSummary.mapping);
-        scroller.showControl(selectedMappingSummary.mapsToLabel);
+    private MappingOperation<?, ?> selectedMapping() {
+        int ndx = tableViewer.getTable().getSelectionIndex();
+        return ndx >= 0 && ndx < mappings.size() ? mappings.get(ndx) : null;
     }
 
-    private void selectMappingSummary(int index) {
-        selected(mappingSummaries.get(index));
+    private void selectionChanged() {
+        MappingOperation<?, ?> mapping = selectedMapping();
+        deleteButton.setEnabled(mapping != null);
+        if (mapping != null) editor.selected(mapping);
     }
 
-    private void selectNextMappingSummary() {
-        int ndx = mappingSummaries.indexOf(selectedMappingSummary) + 1;
-        if (ndx < mappingSummaries.size()) selectMappingSummary(ndx);
+    private static boolean shown(MappingOperation<?, ?> mapping) {
+        // Mappings between collections are only there to support mappings of their items
+        return mapping.getType() == MappingType.EXPRESSION
+               || mapping.getType() == MappingType.VARIABLE
+               || !(mapping.getSource() instanceof Model && ((Model)mapping.getSource()).isCollection())
+               || !(mapping.getTarget() instanceof Model && ((Model)mapping.getTarget()).isCollection());
     }
 
-    private void selectPreviousMappingSummary() {
-        int ndx = mappingSummaries.indexOf(selectedMappingSummary) - 1;
-        if (ndx >= 0) selectMappingSummary(ndx);
+    private class ContentProvider implements ILazyContentProvider {
+
+        @Override
+        public void dispose() {
+            // Nothing to dispose
+        }
+
+        @Override
+        public void inputChanged(Viewer viewer,
+                                 Object oldInput,
+                                 Object newInput) {
+            // The mappings list is updated in place
+        }
+
+        @Override
+        public void updateElement(int index) {
+            if (index < mappings.size()) tableViewer.replace(mappings.get(index), index);
+        }
+    }
+
+    private static class PropertyLabelProvider extends ColumnLabelProvider {
+
+        private final boolean source;
+
+        PropertyLabelProvider(boolean source) {
+            this.source = source;
+        }
+
+        @Override
+        public Color getForeground(Object element) {
+            return property(element) instanceof Expression ? Colors.EXPRESSION : Colors.FOREGROUND;
+        }
+
+        @Override
+        public Image getImage(Object element) {
+            Object property = property(element);
+            if (source && ((MappingOperation<?, ?>)element).getType() == MappingType.TRANSFORMATION) {
+                return Images.TRANSFORMATION;
+            }
+            if (property instanceof Model) return Images.PROPERTY;
+            if (property instanceof Variable) return Images.VARIABLE;
+            return null;
+        }
+
+        @Override
+        public String getText(Object element) {
+            return MappingViewer.name(property(element));
+        }
+
+        @Override
+        public String getToolTipText(Object element) {
+            Object property = property(element);
+            if (property instanceof Model) return Util.fullyQualifiedName((Model)property);
+            if (property instanceof Variable) return MappingViewer.variableToolTip((Variable)property);
+            if (property instanceof Expression) {
+                return ((Expression)property).getExpression().replace("\\${", "${"); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+            return null;
+        }
+
+        private Object property(Object element) {
+            MappingOperation<?, ?> mapping = (MappingOperation<?, ?>)element;
+            return source ? mapping.getSource() : mapping.getTarget();
+        }
     }
 }
@@ -15,6 +15,7 @@ import java.text.StringCharacterIterator;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -56,6 +57,7 @@ import org.eclipse.swt.widgets.Label;
 import org.eclipse.swt.widgets.Text;
 import org.eclipse.swt.widgets.ToolBar;
 import org.eclipse.swt.widgets.ToolItem;
+import org.jboss.tools.fuse.transformation.core.MappingOperation;
 import org.jboss.tools.fuse.transformation.core.model.Model;
 import org.jboss.tools.fuse.transformation.editor.Activator;
 import org.jboss.tools.fuse.transformation.editor.internal.l10n.Messages;
@@ -79,12 +81,18 @@ public class ModelViewer extends Composite {
     boolean showTypes;
     boolean hideMappedProperties;
     final Map<String, List<Model>> searchMap = new HashMap<>();
+    // The search map covers the whole model, so it is only built once the user searches
+    private boolean searchMapBuilt;
     final Set<Model> searchResults = new HashSet<>();
     private Text searchText;
     private Label searchLabel;
     private Label clearSearchLabel;
     protected final TreeViewer treeViewer;
     private Model prevSelectedModel;
+    // Mapped states of the tree's models, computed when first needed and
+    // updated along the ancestor path of the models of changed mappings
+    private final Map<Model, Boolean> mappedStates = new IdentityHashMap<>();
+    private final Map<Model, Boolean> fullyMappedStates = new IdentityHashMap<>();
 
     /**
      * @param parent
@@ -113,8 +121,6 @@ public class ModelViewer extends Composite {
         this.manager = manager;
         this.rootModel = rootModel;
 
-        updateSearchMap(rootModel);
-
         setLayout(GridLayoutFactory.swtDefaults().numColumns(2).create());
         final IPreferenceStore prefs = Activator.plugin().getPreferenceStore();
 
@@ -299,7 +305,8 @@ public class ModelViewer extends Composite {
             @Override
             public void modifyText(final ModifyEvent event) {
                 searchResults.clear();
-                final List<Model> models = searchMap.get(searchText.getText().trim().toLowerCase());
+                final String text = searchText.getText().trim().toLowerCase();
+                final List<Model> models = text.isEmpty() ? null : searchMap().get(text);
                 if (models != null) {
                     for (final Model model : models) {
                         searchResults.add(model);
@@ -320,9 +327,14 @@ public class ModelViewer extends Composite {
             manager.addListener(new PropertyChangeListener() {
                 @Override
                 public void propertyChange(final PropertyChangeEvent event) {
-					if (event.getPropertyName().equals(Event.MAPPING.name())) {
+                    String eventType = event.getPropertyName();
+					if (eventType.equals(Event.MAPPING.name())
+                        || eventType.equals(Event.MAPPING_SOURCE.name())
+                        || eventType.equals(Event.MAPPING_TARGET.name())
+                        || eventType.equals(Event.MAPPING_TRANSFORMATION.name())) {
                         if (!treeViewer.getControl().isDisposed()) {
-                            treeViewer.refresh();
+                            mappingChanged(event.getOldValue());
+                            mappingChanged(event.getNewValue());
                         }
                     }
                 }
@@ -342,36 +354,76 @@ public class ModelViewer extends Composite {
         treeViewer.expandToLevel(model, 0);
     }
 
+    private boolean mapped(final Model model) {
+        Boolean mapped = mappedStates.get(model);
+        if (mapped == null) {
+            mapped = manager.mapped(model);
+            mappedStates.put(model, mapped);
+        }
+        return mapped;
+    }
+
     private boolean mappedOrFullyMappedParent(final Model model) {
-        final List<Model> children = model.getChildren();
-        for (final Model child : children) {
-            if (!mappedOrFullyMappedParent(child)) {
-                return false;
+        Boolean fullyMapped = fullyMappedStates.get(model);
+        if (fullyMapped == null) {
+            final List<Model> children = model.getChildren();
+            fullyMapped = mapped(model) || !children.isEmpty();
+            for (final Model child : children) {
+                if (!fullyMapped) {
+                    break;
+                }
+                fullyMapped = mappedOrFullyMappedParent(child);
+            }
+            fullyMappedStates.put(model, fullyMapped);
+        }
+        return fullyMapped;
+    }
+
+    private void mappingChanged(final Object mapping) {
+        if (mapping instanceof MappingOperation<?, ?>) {
+            mappingChanged(((MappingOperation<?, ?>)mapping).getSource());
+            mappingChanged(((MappingOperation<?, ?>)mapping).getTarget());
+        } else if (mapping instanceof Model) {
+            final Model model = treeModel((Model)mapping);
+            if (model == null) {
+                return;
+            }
+            mappedStates.remove(model);
+            // Find the topmost model that has to be shown or hidden now
+            Model changed = null;
+            for (Model ancestor = model; ancestor != null; ancestor = ancestor.getParent()) {
+                final Boolean fullyMapped = fullyMappedStates.remove(ancestor);
+                if (fullyMapped == null || fullyMapped != mappedOrFullyMappedParent(ancestor)) {
+                    changed = ancestor;
+                }
+            }
+            if (!hideMappedProperties || changed == null) {
+                treeViewer.update(model, null);
+            } else if (changed.getParent() == null) {
+                treeViewer.refresh();
+            } else {
+                treeViewer.refresh(changed.getParent());
             }
         }
-        return (manager.mapped(model)) ? true : !children.isEmpty();
     }
 
     void select(final Model model) {
         if (model == null) {
             return;
         }
-        final List<Model> models = searchMap.get(model.getName().toLowerCase());
-        if (models == null) {
-            return;
-        }
-        for (final Model actualModel : models) {
-            if (actualModel.equals(model)) {
-                expand(actualModel.getParent());
-                treeViewer.setSelection(new StructuredSelection(actualModel), true);
-                return;
-            }
+        final Model actualModel = treeModel(model);
+        if (actualModel != null) {
+            expand(actualModel.getParent());
+            treeViewer.setSelection(new StructuredSelection(actualModel), true);
         }
     }
 
     public void setModel(final Model model) {
         rootModel = model;
-        updateSearchMap(model);
+        mappedStates.clear();
+        fullyMappedStates.clear();
+        searchMap.clear();
+        searchMapBuilt = false;
         treeViewer.setInput(model == null ? null : "root"); //$NON-NLS-1$
     }
 
@@ -383,6 +435,24 @@ public class ModelViewer extends Composite {
         return !searching || searchResults.contains(element);
     }
 
+    // Returns the model of this tree with the same path as the supplied model
+    private Model treeModel(final Model model) {
+        if (model.getParent() == null) {
+            return model == rootModel
+                   || rootModel != null && rootModel.getName().equals(model.getName()) ? rootModel : null;
+        }
+        final Model parent = treeModel(model.getParent());
+        return parent == null ? null : parent.get(model.getName());
+    }
+
+    private Map<String, List<Model>> searchMap() {
+        if (!searchMapBuilt) {
+            searchMapBuilt = true;
+            updateSearchMap(rootModel);
+        }
+        return searchMap;
+    }
+
     private void updateSearchMap(final Model model) {
         if (model == null) {
             return;
@@ -442,8 +512,8 @@ public class ModelViewer extends Composite {
             final Model model = (Model)element;
             if (manager != null) {
                 if (model.getChildren() != null && !model.getChildren().isEmpty())
-                    return manager.mapped(model) ? Images.MAPPED_NODE : Images.NODE;
-                return manager.mapped(model) ? Images.MAPPED_PROPERTY : Images.PROPERTY;
+                    return mapped(model) ? Images.MAPPED_NODE : Images.NODE;
+                return mapped(model) ? Images.MAPPED_PROPERTY : Images.PROPERTY;
             }
             // if we are hosting the viewer on a wizard page, we don't have the manager
             // so just default to parent (node) or node (property) in the tree
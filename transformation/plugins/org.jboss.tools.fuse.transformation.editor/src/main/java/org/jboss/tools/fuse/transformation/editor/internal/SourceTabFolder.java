@@ -93,7 +93,6 @@ public class SourceTabFolder extends ModelTabFolder {
 
             @Override
             public void propertyChange(final PropertyChangeEvent event) {
-                if (event.getPropertyName().equals(Event.MAPPING_SOURCE.name())) viewer.treeViewer.refresh();
                 if (event.getPropertyName().equals(Event.VARIABLE.name())
                     || event.getPropertyName().equals(Event.VARIABLE_NAME.name())
                     || event.getPropertyName().equals(Event.VARIABLE_VALUE.name())) variablesViewer.tableViewer.refresh();
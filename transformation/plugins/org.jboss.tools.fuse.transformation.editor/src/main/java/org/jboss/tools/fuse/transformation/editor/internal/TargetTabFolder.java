@@ -10,8 +10,6 @@
 
 package org.jboss.tools.fuse.transformation.editor.internal;
 
-import java.beans.PropertyChangeEvent;
-import java.beans.PropertyChangeListener;
 import java.util.List;
 import org.eclipse.jface.util.LocalSelectionTransfer;
 import org.eclipse.jface.viewers.IStructuredSelection;
@@ -26,13 +24,10 @@ import org.jboss.tools.fuse.transformation.editor.Activator;
 import org.jboss.tools.fuse.transformation.editor.internal.l10n.Messages;
 import org.jboss.tools.fuse.transformation.editor.internal.util.TransformationManager;
 import org.jboss.tools.fuse.transformation.editor.internal.util.Util;
-import org.jboss.tools.fuse.transformation.editor.internal.util.TransformationManager.Event;
 import org.jboss.tools.fuse.transformation.core.model.Model;
 
 public final class TargetTabFolder extends ModelTabFolder {
 
-    private PropertyChangeListener managerListener;
-
     public TargetTabFolder(final TransformationManager manager,
                            final Composite parent,
                            final List<PotentialDropTarget> potentialDropTargets) {
@@ -81,20 +76,6 @@ public final class TargetTabFolder extends ModelTabFolder {
                 return Util.draggingFromValidSource(manager);
             }
         });
-        managerListener = new PropertyChangeListener() {
-
-            @Override
-            public void propertyChange(final PropertyChangeEvent event) {
-                if (event.getPropertyName().equals(Event.MAPPING_TARGET.name())) viewer.treeViewer.refresh();
-            }
-        };
-        manager.addListener(managerListener);
         return viewer;
     }
-
-    @Override
-    public void dispose() {
-        manager.removeListener(managerListener);
-        super.dispose();
-    }
 }
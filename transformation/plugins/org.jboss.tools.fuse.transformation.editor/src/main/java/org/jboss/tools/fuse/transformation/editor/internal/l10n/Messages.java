@@ -214,6 +214,7 @@ public class Messages extends NLS {
 	public static String TransformationEditor_tooltipShowSourceVariableViewers;
 	public static String TransformationEditor_tooltipShowTargetViewers;
 	public static String TransformationEditorUnableToOpenIncompatibleTransformationFile;
+	public static String TransformationManager_saveJobName;
 	public static String TransformTestWizardPage_Browse;
 	public static String TransformTestWizardPage_BrowseTooltip;
 	public static String TransformTestWizardPage_description;
@@ -11,8 +11,9 @@ package org.jboss.tools.fuse.transformation.editor.internal.util;
 
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.net.URLClassLoader;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -24,6 +25,12 @@ import javax.xml.bind.JAXBException;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.swt.widgets.Display;
 import org.jboss.tools.fuse.transformation.core.Expression;
 import org.jboss.tools.fuse.transformation.core.FieldMapping;
 import org.jboss.tools.fuse.transformation.core.MapperConfiguration;
@@ -34,13 +41,23 @@ import org.jboss.tools.fuse.transformation.core.Variable;
 import org.jboss.tools.fuse.transformation.core.VariableMapping;
 import org.jboss.tools.fuse.transformation.core.dozer.DozerMapperConfiguration;
 import org.jboss.tools.fuse.transformation.core.model.Model;
+import org.jboss.tools.fuse.transformation.editor.Activator;
+import org.jboss.tools.fuse.transformation.editor.internal.l10n.Messages;
 
 public class TransformationManager {
 
+    // edits made within this many milliseconds of each other are saved together
+    private static final int SAVE_DELAY = 500;
+
     private final IFile file;
     private final MapperConfiguration delegate;
     private final List<PropertyChangeListener> listeners = new CopyOnWriteArrayList<>();
     private final List<MappingPlaceholder> mappingPlaceholders = new ArrayList<>();
+    private final Runnable saveTask = this::scheduleSave;
+    private final SaveJob saveJob = new SaveJob();
+    // edit counters, only accessed from the UI thread
+    private int edits;
+    private int savedEdits;
 
     public TransformationManager(IFile file, URLClassLoader loader) throws JAXBException {
         this.file = file;
@@ -120,12 +137,7 @@ public class TransformationManager {
      * @return <code>true</code> if the supplied variable has been mapped at least once
      */
     public boolean mapped(Variable variable) {
-        for (MappingOperation<?, ?> mapping : mappings()) {
-            if (mappingContainsVariable(mapping, variable)) {
-                return true;
-            }
-        }
-        return false;
+        return !delegate.getMappingsForVariable(variable).isEmpty();
     }
 
     /**
@@ -184,8 +196,8 @@ public class TransformationManager {
     }
 
     public boolean removeVariable(Variable variable) {
-        for (final MappingOperation<?, ?> mapping : mappings()) {
-            if (mappingContainsVariable(mapping, variable)) unMap(mapping);
+        for (final MappingOperation<?, ?> mapping : delegate.getMappingsForVariable(variable)) {
+            unMap(mapping);
         }
         boolean removed = delegate.removeVariable(variable);
         fireEvent(Event.VARIABLE, variable, null);
@@ -201,15 +213,69 @@ public class TransformationManager {
     }
 
     /**
+     * Saves the transformation in the background after a short delay, so
+     * consecutive edits are written to the file only once. Has to be called
+     * from the UI thread.
+     *
      * @throws Exception
      */
     public void save() throws Exception {
-        try (FileOutputStream stream = new FileOutputStream(new File(file.getLocationURI()))) {
-            delegate.saveConfig(stream);
-            project().refreshLocal(IResource.DEPTH_INFINITE, null);
+        if (edits++ == savedEdits) fireEvent(Event.SAVE, Boolean.FALSE, Boolean.TRUE);
+        Display.getDefault().timerExec(SAVE_DELAY, saveTask);
+    }
+
+    /**
+     * Writes pending edits to the file immediately. Has to be called from the
+     * UI thread, e.g. before the editor is closed.
+     *
+     * @throws Exception
+     */
+    public void flush() throws Exception {
+        Display.getDefault().timerExec(-1, saveTask);
+        saveJob.cancel();
+        saveJob.join();
+        if (hasUnsavedChanges()) {
+            int flushedEdits = edits;
+            write(serialize(), null);
+            saved(flushedEdits);
+        }
+    }
+
+    /**
+     * @return <code>true</code> if edits have not been written to the file yet
+     */
+    public boolean hasUnsavedChanges() {
+        return edits != savedEdits;
+    }
+
+    private void scheduleSave() {
+        try {
+            saveJob.schedule(serialize(), edits);
+        } catch (final Exception e) {
+            Activator.error(e);
         }
     }
 
+    private byte[] serialize() throws Exception {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        delegate.saveConfig(stream);
+        return stream.toByteArray();
+    }
+
+    private void write(byte[] content,
+                       IProgressMonitor monitor) throws CoreException {
+        // The editor is closed if the file gets deleted, its edits are dropped
+        if (!file.exists()) return;
+        // Only the file is refreshed, not the whole project
+        file.setContents(new ByteArrayInputStream(content), IResource.FORCE | IResource.KEEP_HISTORY, monitor);
+    }
+
+    private void saved(int savedEdits) {
+        if (savedEdits <= this.savedEdits) return;
+        this.savedEdits = savedEdits;
+        if (!hasUnsavedChanges()) fireEvent(Event.SAVE, Boolean.TRUE, Boolean.FALSE);
+    }
+
     public MappingOperation<?, ?> setExpression(MappingOperation<?, ?> mapping,
                                                 String language,
                                                 String expression) {
@@ -284,7 +350,8 @@ public class TransformationManager {
     }
 
     public boolean source(Model model) {
-        return Util.root(model).equals(rootSourceModel());
+        Model root = Util.root(model);
+        return root == rootSourceModel() || root.equals(rootSourceModel());
     }
 
     public void unMap(MappingOperation<?, ?> mapping) {
@@ -401,6 +468,48 @@ public class TransformationManager {
         /**
          * Property change event type for changing a variable's value
          */
-        VARIABLE_VALUE
+        VARIABLE_VALUE,
+
+        /**
+         * Property change event type for changing whether there are unsaved edits
+         */
+        SAVE
+    }
+
+    private class SaveJob extends Job {
+
+        private byte[] content;
+        private int contentEdits;
+
+        SaveJob() {
+            super(Messages.TransformationManager_saveJobName);
+            setSystem(true);
+        }
+
+        synchronized void schedule(byte[] content,
+                                   int contentEdits) {
+            this.content = content;
+            this.contentEdits = contentEdits;
+            schedule();
+        }
+
+        @Override
+        protected IStatus run(IProgressMonitor monitor) {
+            byte[] content;
+            int contentEdits;
+            synchronized (this) {
+                content = this.content;
+                contentEdits = this.contentEdits;
+                this.content = null;
+            }
+            if (content == null) return Status.OK_STATUS;
+            try {
+                write(content, monitor);
+            } catch (final CoreException e) {
+                return new Status(IStatus.ERROR, Activator.PLUGIN_ID, e.getMessage(), e);
+            }
+            Display.getDefault().asyncExec(() -> saved(contentEdits));
+            return Status.OK_STATUS;
+        }
     }
 }
@@ -70,6 +70,28 @@ public class ModelBuilderIT {
         Assert.assertEquals(7, model.listFields().size());
     }
 
+    @Test
+    public void hashIgnoresExpansion() {
+        Model model = ModelBuilder.fromJavaClass(Parent.class);
+        Model child = model.get("child");
+        int hash = child.hashCode();
+        Assert.assertNotNull(model.get("child.grandchild.grandparent"));
+        Assert.assertEquals(hash, child.hashCode());
+        Assert.assertEquals(child, ModelBuilder.fromJavaClass(Parent.class).get("child"));
+        Assert.assertNotEquals(child, ModelBuilder.fromJavaClass(Child.class));
+    }
+
+    @Test
+    public void childrenBuiltOnAccess() {
+        Model model = ModelBuilder.fromJavaClass(Parent.class);
+        Assert.assertTrue(model.hasChildren());
+        Model grandchild = model.get("child.grandchild");
+        Assert.assertNotNull(grandchild);
+        Assert.assertTrue(grandchild.hasChildren());
+        Assert.assertFalse(grandchild.get("grandparent").hasChildren());
+        Assert.assertEquals(model, ModelBuilder.fromJavaClass(Parent.class));
+    }
+
     @Test
     public void listsOfStringsAndNumbers() {
         Model model = ModelBuilder.fromJavaClass(ListOfStringsAndNumbers.class);
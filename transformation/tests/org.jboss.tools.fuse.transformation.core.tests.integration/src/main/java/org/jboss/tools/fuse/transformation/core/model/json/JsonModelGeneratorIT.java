@@ -17,10 +17,18 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+import org.jsonschema2pojo.SourceType;
 import org.junit.Assert;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
+import com.sun.codemodel.JCodeModel;
+import com.sun.codemodel.JDefinedClass;
+import com.sun.codemodel.JFieldVar;
+import com.sun.codemodel.JPackage;
 
 public class JsonModelGeneratorIT {
 
@@ -29,6 +37,7 @@ public class JsonModelGeneratorIT {
 
 	private static String JSON_INST_PATH = "xyz-order.json";
 	private static String JSON_SCHEMA_PATH = "xyz-order-schema.json";
+	private static String JSON_INST_PATH_2 = "many-orders.json";
 
     @Test
     public void generateFromInstance() throws Exception {
@@ -43,6 +52,44 @@ public class JsonModelGeneratorIT {
         Assert.assertTrue(new File(genDir, "XYZOrder.java").exists());
     }
 
+    @Test
+    public void generateFromInstanceMatchesExampleMode() throws Exception {
+		File jsonInst = getFile(JSON_INST_PATH);
+        JCodeModel inferred = new JsonModelGenerator().generateFromInstance(
+                "XYZOrder", "jsonmodelgen.inferred", jsonInst.toURI().toURL(), tmpFolder.newFolder("inferred"));
+        JCodeModel example = generateFromExample("XYZOrder", "jsonmodelgen.example", jsonInst);
+
+        Map<String, Map<String, String>> signature = signature(inferred, "jsonmodelgen.inferred");
+        Assert.assertEquals("java.util.List<LineItem>", signature.get("XYZOrder").get("lineItems"));
+        Assert.assertEquals(signature(example, "jsonmodelgen.example"), signature);
+    }
+
+    @Test
+    public void generateFromInstanceWithSampleLimit() throws Exception {
+		File jsonInst = getFile(JSON_INST_PATH_2);
+        JsonModelGenerator modelGen = new JsonModelGenerator(new JsonGenerationConfig().setSampleLimit(1));
+		File targetFolder = tmpFolder.newFolder("target");
+		JCodeModel limited = modelGen.generateFromInstance("Orders", "jsonmodelgen.generateFromInstanceWithSampleLimit", jsonInst.toURI().toURL(), targetFolder);
+		JCodeModel example = generateFromExample("Orders", "jsonmodelgen.example", jsonInst);
+
+		File genDir = new File(targetFolder, "jsonmodelgen/generateFromInstanceWithSampleLimit");
+        Assert.assertTrue(new File(genDir, "Order.java").exists());
+        // all orders have the same form, the ones beyond the limit add nothing
+        Map<String, Map<String, String>> signature = signature(limited, "jsonmodelgen.generateFromInstanceWithSampleLimit");
+        Assert.assertEquals(signature(example, "jsonmodelgen.example"), signature);
+    }
+
+    @Test
+    public void generateFromInstanceWithOneLetterClassName() throws Exception {
+		File jsonInst = getFile(JSON_INST_PATH);
+        JsonModelGenerator modelGen = new JsonModelGenerator();
+		File targetFolder = tmpFolder.newFolder("target");
+		modelGen.generateFromInstance("A", "jsonmodelgen.generateFromInstanceWithOneLetterClassName", jsonInst.toURI().toURL(), targetFolder);
+
+		File genDir = new File(targetFolder, "jsonmodelgen/generateFromInstanceWithOneLetterClassName");
+        Assert.assertTrue(new File(genDir, "A.java").exists());
+    }
+
     @Test
     public void generateFromSchema() throws Exception {
 		File jsonSchmea = getFile(JSON_SCHEMA_PATH);
@@ -56,6 +103,28 @@ public class JsonModelGeneratorIT {
         Assert.assertTrue(new File(genDir, "XYZOrder.java").exists());
     }
 
+    // Generates the model with jsonschema2pojo inferring the schema from the instance itself
+    private JCodeModel generateFromExample(String className, String packageName, File jsonInst) throws IOException {
+        JsonModelGenerator modelGen = new JsonModelGenerator(new JsonGenerationConfig().setSourceType(SourceType.JSON));
+        return modelGen.generateFromSchema(className, packageName, jsonInst.toURI().toURL(), tmpFolder.newFolder());
+    }
+
+    // The types of the fields by class, both named relative to the package
+    private static Map<String, Map<String, String>> signature(JCodeModel model, String packageName) {
+        Map<String, Map<String, String>> classes = new TreeMap<>();
+        for (Iterator<JPackage> packages = model.packages(); packages.hasNext();) {
+            for (Iterator<JDefinedClass> iter = packages.next().classes(); iter.hasNext();) {
+                JDefinedClass definedClass = iter.next();
+                Map<String, String> fields = new TreeMap<>();
+                for (Map.Entry<String, JFieldVar> field : definedClass.fields().entrySet()) {
+                    fields.put(field.getKey(), field.getValue().type().fullName().replace(packageName + '.', ""));
+                }
+                classes.put(definedClass.fullName().replace(packageName + '.', ""), fields);
+            }
+        }
+        return classes;
+    }
+
 	private File getFile(String fileName) {
 		File tmpFile = null;
 		try {
@@ -19,6 +19,7 @@ import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
 import java.util.List;
@@ -61,6 +62,31 @@ public class XmlModelGeneratorIT {
         Assert.assertTrue(new File(genDir, "ABCOrder.java").exists());
     }
 
+    @Test
+    public void schemaKeyCoversImportedSchemas() throws Exception {
+        File schemaFolder = tmpFolder.newFolder("schemas");
+        File commonFolder = tmpFolder.newFolder("common");
+        File common = new File(commonFolder, "common.xsd");
+        Files.write(common.toPath(), schema("urn:common", "", "<xs:element name=\"id\" type=\"xs:string\"/>").getBytes(StandardCharsets.UTF_8));
+        File order = new File(schemaFolder, "order.xsd");
+        byte[] orderContent = schema("urn:order",
+            "<xs:import namespace=\"urn:common\" schemaLocation=\"../common/common.xsd\"/>",
+            "<xs:element name=\"order\" type=\"xs:string\"/>").getBytes(StandardCharsets.UTF_8);
+        Files.write(order.toPath(), orderContent);
+        String key = CompiledSchemaCache.key(order, orderContent, null);
+
+        Files.write(new File(schemaFolder, "unrelated.xsd").toPath(), schema("urn:other", "", "").getBytes(StandardCharsets.UTF_8));
+        assertThat(CompiledSchemaCache.key(order, orderContent, null)).isEqualTo(key);
+
+        Files.write(common.toPath(), schema("urn:common", "", "<xs:element name=\"code\" type=\"xs:string\"/>").getBytes(StandardCharsets.UTF_8));
+        assertThat(CompiledSchemaCache.key(order, orderContent, null)).isNotEqualTo(key);
+    }
+
+    private static String schema(String namespace, String references, String elements) {
+        return "<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\" targetNamespace=\"" + namespace + "\">"
+            + references + elements + "</xs:schema>";
+    }
+
     @Test
     public void generateFromInstanceWithMultipleNamespaces() throws Exception {
 		// The test need to be launched in an OSGi platform to have a real check
@@ -173,6 +199,20 @@ public class XmlModelGeneratorIT {
 
     }
 
+    @Test
+    public void generateFromSameSchemaReusesCompiledSchema() throws Exception {
+		File xmlSchema = getFile(XML_SCHEMA_PATH_2);
+		File targetFolder1 = tmpFolder.newFolder("target1");
+		File targetFolder2 = tmpFolder.newFolder("target2");
+        XmlModelGenerator modelGen = new XmlModelGenerator();
+        JCodeModel codeModel1 = modelGen.generateFromSchema(xmlSchema, "test.generateFromSameSchema", targetFolder1);
+        JCodeModel codeModel2 = modelGen.generateFromSchema(xmlSchema, "test.generateFromSameSchema", targetFolder2);
+        Assert.assertSame(codeModel1, codeModel2);
+        Assert.assertTrue(new File(targetFolder1, "test/generateFromSameSchema/ABCOrder.java").exists());
+        Assert.assertTrue(new File(targetFolder2, "test/generateFromSameSchema/ABCOrder.java").exists());
+        Assert.assertEquals(modelGen.getElementsFromSchema(xmlSchema), modelGen.getElementsFromSchema(xmlSchema));
+    }
+
     @Test
     public void getRootElement() throws Exception {
         XmlModelGenerator modelGen = new XmlModelGenerator();
@@ -330,6 +330,51 @@ public class DozerMapperConfigurationTest {
         Assert.assertEquals(0, config.getMappings().size());
     }
 
+    @Test
+    public void getMappingsReturnsSameInstances() throws Exception {
+		DozerMapperConfiguration config = DozerMapperConfiguration.loadConfig(getFile(EXAMPLE_MAP), this.getClass().getClassLoader());
+
+        MappingOperation<?,?> first = config.getMappings().get(0);
+        Assert.assertSame(first, config.getMappings().get(0));
+        Model source = config.getSourceModel().get("header").get("customerNum");
+        Assert.assertSame(first, config.getMappingsForSource(source).get(0));
+        Assert.assertSame(first, config.getMapping(source, config.getTargetModel().get("custId")));
+    }
+
+    @Test
+    public void mappingIndexFollowsChanges() throws Exception {
+        DozerMapperConfiguration config = loadConfig("emptyDozerMapping.xml");
+        Model source = modelA.get("A1");
+        Model target = modelB.get("B1");
+        FieldMapping mapping = config.mapField(source, target);
+        Assert.assertSame(mapping, config.getMappingsForSource(source).get(0));
+        Assert.assertSame(mapping, config.getMappingsForTarget(target).get(0));
+        Assert.assertSame(mapping, config.getMapping(source, target));
+
+        TransformationMapping custom = config.setTransformation(mapping, CUSTOM_CLASS, CUSTOM_OPERATION);
+        Assert.assertSame(custom, config.getMappingsForTarget(target).get(0));
+        Assert.assertSame(custom, config.getMappings().get(0));
+
+        config.removeMapping(custom);
+        Assert.assertTrue(config.getMappingsForSource(source).isEmpty());
+        Assert.assertTrue(config.getMappingsForTarget(target).isEmpty());
+        Assert.assertNull(config.getMapping(source, target));
+    }
+
+    @Test
+    public void getVariableMappings() throws Exception {
+        DozerMapperConfiguration config = loadConfig("emptyDozerMapping.xml");
+        Variable var1 = config.addVariable("VAR1", "ABC-VAL");
+        Variable var2 = config.addVariable("VAR2", "XYZ-VAL");
+        VariableMapping mapping = config.mapVariable(var1, modelB.get("B1"));
+        Assert.assertSame(mapping, config.getMappingsForVariable(var1).get(0));
+        Assert.assertTrue(config.getMappingsForVariable(var2).isEmpty());
+
+        mapping.setVariable(var2);
+        Assert.assertTrue(config.getMappingsForVariable(var1).isEmpty());
+        Assert.assertSame(mapping, config.getMappingsForVariable(var2).get(0));
+    }
+
     @Test
     public void setTransformation() throws Exception {
         final String transformationClass = "org.foo.TestCustomizer";
@@ -494,6 +539,34 @@ public class DozerMapperConfigurationTest {
         compareConfig(config, "abc2abc.xml");
     }
 
+    @Test
+    public void saveKeepsTextOfUnchangedMappings() throws Exception {
+        File file = getFile("fieldAndVariableMapping.xml");
+        String original = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+        DozerMapperConfiguration config =
+                DozerMapperConfiguration.loadConfig(file, this.getClass().getClassLoader());
+        for (MappingOperation<?, ?> mapping : config.getMappings()) {
+            if (mapping instanceof VariableMapping) {
+                ((VariableMapping)mapping).setVariable(config.getVariable("VAR2"));
+            }
+        }
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        config.saveConfig(bos);
+        String saved = bos.toString(StandardCharsets.UTF_8.name());
+        // everything up to the edited mapping is untouched
+        String unchanged = original.substring(0, original.indexOf("    <mapping>"));
+        Assert.assertTrue(saved.startsWith(unchanged));
+        Assert.assertTrue(saved.contains("${VAR2}"));
+        Assert.assertFalse(saved.contains("${VAR1}"));
+        Assert.assertTrue(saved.endsWith(original.substring(original.lastIndexOf("</mapping>") + "</mapping>".length())));
+
+        // saving again without changes writes the same text
+        bos.reset();
+        config.saveConfig(bos);
+        Assert.assertEquals(saved, bos.toString(StandardCharsets.UTF_8.name()));
+    }
+
     private DozerMapperConfiguration loadConfig(String configName) throws Exception {
 		return DozerMapperConfiguration.loadConfig(getFile(configName), this.getClass().getClassLoader());
     }
@@ -0,0 +1,130 @@
+/******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.fuse.transformation.core.model.xml;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.sun.codemodel.JCodeModel;
+import com.sun.codemodel.JDefinedClass;
+import com.sun.codemodel.JFieldVar;
+import com.sun.codemodel.JPackage;
+
+/**
+ * Compares the model generated from the schema inferred by {@link XmlSchemaInference} with the model generated from the
+ * schema Inst2Xsd infers for the same instance document.
+ */
+public class XmlSchemaInferenceTest {
+
+    @Rule
+    public TemporaryFolder tmpFolder = new TemporaryFolder();
+
+    @Test
+    public void inferredModelMatchesInst2Xsd() throws Exception {
+        File instance = copy("abc-order.xml", tmpFolder.newFolder("instance")); //$NON-NLS-1$ //$NON-NLS-2$
+
+        Map<String, Map<String, String>> inferred = inferred(new XmlModelGenerator(), instance, "test.inferred"); //$NON-NLS-1$
+        Map<String, Map<String, String>> inst2Xsd = inst2Xsd(instance, "test.inst2xsd"); //$NON-NLS-1$
+
+        assertThat(inferred).containsKeys("ABCOrder", "ABCOrder.Header", "ABCOrder.OrderItems", "ABCOrder.OrderItems.Item"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+        assertThat(inferred).isEqualTo(inst2Xsd);
+    }
+
+    @Test
+    public void inferredModelMatchesInst2XsdBeyondSampleLimit() throws Exception {
+        StringBuilder orders = new StringBuilder("<orders>"); //$NON-NLS-1$
+        for (int ndx = 1; ndx <= 5; ndx++) {
+            orders.append("<order id=\"O").append(ndx).append("\"><item>pickle</item><quantity>").append(ndx) //$NON-NLS-1$ //$NON-NLS-2$
+                  .append("</quantity><price>").append(ndx).append(".25</price></order>"); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        orders.append("</orders>"); //$NON-NLS-1$
+        File instance = new File(tmpFolder.newFolder("instance"), "orders.xml"); //$NON-NLS-1$ //$NON-NLS-2$
+        Files.write(instance.toPath(), orders.toString().getBytes(StandardCharsets.UTF_8));
+
+        Map<String, Map<String, String>> inferred = inferred(new XmlModelGenerator().setSampleLimit(2), instance, "test.limited"); //$NON-NLS-1$
+        Map<String, Map<String, String>> inst2Xsd = inst2Xsd(instance, "test.unlimited"); //$NON-NLS-1$
+
+        assertThat(inferred.get("Orders")).containsEntry("order", "java.util.List<Orders.Order>"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        assertThat(inferred).isEqualTo(inst2Xsd);
+    }
+
+    @Test
+    public void modelOfMultipleNamespacesMatchesInst2Xsd() throws Exception {
+        File instance = copy("doc-with-multiple-namespaces.xml", tmpFolder.newFolder("instance")); //$NON-NLS-1$ //$NON-NLS-2$
+
+        Map<String, Map<String, String>> inferred = inferred(new XmlModelGenerator(), instance, null);
+        Map<String, Map<String, String>> inst2Xsd = inst2Xsd(instance, null);
+
+        assertThat(inferred).containsKeys("com.bogus.a.Element1", "com.bogus.b.Element2", "com.bogus.c.Root"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        assertThat(inferred).isEqualTo(inst2Xsd);
+    }
+
+    private Map<String, Map<String, String>> inferred(XmlModelGenerator generator, File instance, String packageName) throws Exception {
+        File schema = new File(tmpFolder.newFolder(), "inferred.xsd"); //$NON-NLS-1$
+        JCodeModel model = generator.generateFromInstance(instance, schema, packageName, tmpFolder.newFolder());
+        return signature(model, packageName);
+    }
+
+    private Map<String, Map<String, String>> inst2Xsd(File instance, String packageName) throws Exception {
+        File schema = new File(tmpFolder.newFolder(), "inst2xsd.xsd"); //$NON-NLS-1$
+        XmlModelGenerator generator = new XmlModelGenerator();
+        generator.generateSchemas(instance, schema);
+        JCodeModel model = generator.generateFromSchema(schema, packageName, tmpFolder.newFolder());
+        return signature(model, packageName);
+    }
+
+    /**
+     * @return the types of the fields by class, both named relative to the package
+     */
+    private static Map<String, Map<String, String>> signature(JCodeModel model, String packageName) {
+        Map<String, Map<String, String>> classes = new TreeMap<>();
+        for (Iterator<JPackage> packages = model.packages(); packages.hasNext();) {
+            for (Iterator<JDefinedClass> iter = packages.next().classes(); iter.hasNext();) {
+                addClass(iter.next(), packageName, classes);
+            }
+        }
+        return classes;
+    }
+
+    private static void addClass(JDefinedClass definedClass, String packageName, Map<String, Map<String, String>> classes) {
+        Map<String, String> fields = new TreeMap<>();
+        for (Map.Entry<String, JFieldVar> field : definedClass.fields().entrySet()) {
+            fields.put(field.getKey(), relative(field.getValue().type().fullName(), packageName));
+        }
+        classes.put(relative(definedClass.fullName(), packageName), fields);
+        for (Iterator<JDefinedClass> iter = definedClass.classes(); iter.hasNext();) {
+            addClass(iter.next(), packageName, classes);
+        }
+    }
+
+    private static String relative(String name, String packageName) {
+        return packageName == null ? name : name.replace(packageName + '.', ""); //$NON-NLS-1$
+    }
+
+    private File copy(String name, File folder) throws Exception {
+        File file = new File(folder, name);
+        try (InputStream in = getClass().getResourceAsStream(name)) {
+            Files.copy(in, file.toPath());
+        }
+        return file;
+    }
+}